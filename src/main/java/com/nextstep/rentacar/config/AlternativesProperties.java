@@ -0,0 +1,48 @@
+package com.nextstep.rentacar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.alternatives")
+public class AlternativesProperties {
+
+    /**
+     * Number of nearest branches kept per branch in the precomputed proximity table
+     */
+    private int nearbyBranches = 5;
+
+    /**
+     * Branches further away than this are never suggested
+     */
+    private double maxDistanceKm = 100;
+
+    /**
+     * Largest shift (in days, both directions) tried for the requested dates
+     */
+    private int maxDayShift = 3;
+
+    /**
+     * Number of categories above the requested one tried as upgrades
+     */
+    private int maxUpgradeSteps = 2;
+
+    /**
+     * Maximum number of suggestions returned
+     */
+    private int maxSuggestions = 10;
+
+    /**
+     * Ranking penalties: lower totals rank first, ties go to the cheaper suggestion
+     */
+    private double penaltyPerKm = 0.2;
+    private double penaltyPerUpgradeStep = 4;
+    private double penaltyPerShiftedDay = 3;
+
+    /**
+     * Candidates outside the in-memory availability horizon query the database; this caps how many do so at once
+     */
+    private int maxDatabaseConcurrency = 4;
+}
@@ -0,0 +1,21 @@
+package com.nextstep.rentacar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.assignment")
+public class AssignmentProperties {
+
+    /**
+     * Category bookings picking up within this many days are bound to a car by the scheduled assignment job
+     */
+    private int leadDays = 1;
+
+    /**
+     * Whether the scheduled assignment job runs on this instance
+     */
+    private boolean enabled = true;
+}
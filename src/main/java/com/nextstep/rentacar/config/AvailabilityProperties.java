@@ -0,0 +1,22 @@
+package com.nextstep.rentacar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.availability")
+public class AvailabilityProperties {
+
+    /**
+     * Number of days ahead (from today) covered by the in-memory fleet availability grid
+     */
+    private int horizonDays = 730;
+
+    /**
+     * Whether searches are answered from the in-memory grid. The grid only sees changes made on this node, so
+     * deployments with several nodes turn it off and search the database instead
+     */
+    private boolean inMemory = true;
+}
@@ -0,0 +1,30 @@
+package com.nextstep.rentacar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.booking")
+public class BookingProperties {
+
+    /**
+     * Booking lock strategy: local (striped in-process locks), advisory (Postgres advisory locks) or none
+     */
+    private String lockMode = "local";
+
+    /**
+     * True when the reservations_no_overlap exclusion constraint is installed (Postgres only).
+     * The overlap query is then skipped and constraint violations are reported as conflicts.
+     * Leave it false on partitioned tables (V12): the per-partition constraints miss overlaps across months
+     */
+    private boolean databaseExclusion = false;
+
+    /**
+     * How long a checkout hold keeps a car/date interval reserved before it expires
+     */
+    private Duration holdTtl = Duration.ofMinutes(10);
+}
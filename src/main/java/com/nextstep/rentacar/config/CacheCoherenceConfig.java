@@ -0,0 +1,57 @@
+package com.nextstep.rentacar.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nextstep.rentacar.repository.CacheVersionRepository;
+import com.nextstep.rentacar.service.cache.CacheCoherenceBus;
+import com.nextstep.rentacar.service.cache.InMemoryInvalidationChannel;
+import com.nextstep.rentacar.service.cache.InvalidationChannel;
+import com.nextstep.rentacar.service.cache.PostgresInvalidationChannel;
+import com.nextstep.rentacar.service.cache.ReferenceDataCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.DriverManager;
+
+/**
+ * Broadcasts reference cache invalidations between nodes when {@code app.cache-coherence.enabled} is set. The
+ * Postgres listener connects with the primary's {@code spring.datasource.*} credentials, outside the pool.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.cache-coherence", name = "enabled", havingValue = "true")
+public class CacheCoherenceConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache-coherence", name = "transport", havingValue = "postgres")
+    public PostgresInvalidationChannel postgresInvalidationChannel(JdbcTemplate jdbcTemplate,
+                                                                   DataSourceProperties dataSourceProperties,
+                                                                   CacheCoherenceProperties properties) {
+        return new PostgresInvalidationChannel(
+                jdbcTemplate,
+                () -> DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                        dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword()),
+                properties.getChannel(),
+                properties.getCoalesceWindow(),
+                properties.getReconnectDelay());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache-coherence", name = "transport", havingValue = "in-memory", matchIfMissing = true)
+    public InMemoryInvalidationChannel inMemoryInvalidationChannel() {
+        return new InMemoryInvalidationChannel();
+    }
+
+    @Bean
+    public CacheCoherenceBus cacheCoherenceBus(ReferenceDataCache referenceDataCache,
+                                               InvalidationChannel invalidationChannel,
+                                               CacheVersionRepository cacheVersionRepository,
+                                               ObjectMapper objectMapper,
+                                               CacheCoherenceProperties properties,
+                                               PlatformTransactionManager transactionManager) {
+        return new CacheCoherenceBus(referenceDataCache, invalidationChannel, cacheVersionRepository, objectMapper,
+                properties, transactionManager);
+    }
+}
@@ -0,0 +1,48 @@
+package com.nextstep.rentacar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.cache-coherence")
+public class CacheCoherenceProperties {
+
+    /**
+     * Whether reference cache invalidations are broadcast to (and received from) the other nodes
+     */
+    private boolean enabled = false;
+
+    /**
+     * Invalidation transport: postgres (LISTEN/NOTIFY) or in-memory (single process stand-in for local runs and tests)
+     */
+    private String transport = "in-memory";
+
+    /**
+     * Postgres notification channel
+     */
+    private String channel = "cache_invalidation";
+
+    /**
+     * How long the listener keeps collecting after a notification before applying the burst in one go
+     */
+    private Duration coalesceWindow = Duration.ofMillis(50);
+
+    /**
+     * Keys per cache above which a message (sent or coalesced) drops the whole cache instead
+     */
+    private int maxKeysPerMessage = 200;
+
+    /**
+     * Pause before the listener reconnects after losing its connection
+     */
+    private Duration reconnectDelay = Duration.ofSeconds(2);
+
+    /**
+     * How often versions are compared with the table to catch invalidations whose notification never arrived
+     */
+    private Duration resyncInterval = Duration.ofSeconds(30);
+}
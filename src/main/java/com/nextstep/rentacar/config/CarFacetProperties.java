@@ -0,0 +1,26 @@
+package com.nextstep.rentacar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.car-facets")
+public class CarFacetProperties {
+
+    /**
+     * Ascending daily price boundaries of the price facet buckets; each bucket runs from one boundary (inclusive)
+     * to the next (exclusive), with open-ended buckets below the first and above the last
+     */
+    private List<BigDecimal> priceBuckets = List.of(
+            new BigDecimal("50"), new BigDecimal("100"), new BigDecimal("150"), new BigDecimal("250"));
+
+    /**
+     * Ascending seat count boundaries of the seats facet buckets, bucketed like the prices
+     */
+    private List<Integer> seatBuckets = List.of(3, 5, 6, 8);
+}
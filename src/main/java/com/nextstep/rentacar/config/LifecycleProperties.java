@@ -0,0 +1,28 @@
+package com.nextstep.rentacar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.lifecycle")
+public class LifecycleProperties {
+
+    /**
+     * Reservations selected and updated per statement (and per transaction) by bulk transitions
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Unpaid PENDING reservations created longer ago than this are expired
+     */
+    private Duration pendingTtl = Duration.ofHours(48);
+
+    /**
+     * Whether the nightly lifecycle jobs run on this instance
+     */
+    private boolean enabled = true;
+}
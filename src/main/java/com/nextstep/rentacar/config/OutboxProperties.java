@@ -0,0 +1,33 @@
+package com.nextstep.rentacar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+
+    /**
+     * Whether this instance drains the outbox. Run the relay on a single instance per database.
+     */
+    private boolean relayEnabled = true;
+
+    /**
+     * Maximum number of events handed to listeners per batch
+     */
+    private int batchSize = 200;
+
+    /**
+     * Failed deliveries after which an event is parked and no longer holds back the listener that fails on it
+     */
+    private int maxAttempts = 10;
+
+    /**
+     * How long published events are kept; replays rebuild projections from this window
+     */
+    private Duration retention = Duration.ofDays(30);
+}
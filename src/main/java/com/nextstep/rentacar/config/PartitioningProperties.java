@@ -0,0 +1,31 @@
+package com.nextstep.rentacar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.partitioning")
+public class PartitioningProperties {
+
+    /**
+     * Monthly partitions kept ready beyond the current month
+     */
+    private int monthsAhead = 3;
+
+    /**
+     * Months of history kept attached; older partitions are detached into the archive schema
+     */
+    private int retentionMonths = 24;
+
+    /**
+     * Schema receiving detached partitions
+     */
+    private String archiveSchema = "archive";
+
+    /**
+     * Whether partition maintenance runs on this instance (it is skipped anyway on unpartitioned databases)
+     */
+    private boolean enabled = true;
+}
@@ -0,0 +1,16 @@
+package com.nextstep.rentacar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.pricing")
+public class PricingProperties {
+
+    /**
+     * ISO currency of car daily prices and of every quote (amounts are held with two decimals)
+     */
+    private String currency = "USD";
+}
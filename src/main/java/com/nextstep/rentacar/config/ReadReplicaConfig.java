@@ -0,0 +1,112 @@
+package com.nextstep.rentacar.config;
+
+import com.nextstep.rentacar.config.datasource.ReadYourWritesTracker;
+import com.nextstep.rentacar.config.datasource.ReplicaLagMonitor;
+import com.nextstep.rentacar.config.datasource.ReplicaRoutingDataSource;
+import com.nextstep.rentacar.service.support.ReadFromPrimary;
+import com.nextstep.rentacar.service.support.ReadFromPrimaryInterceptor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured data source with primary/replica routing when {@code app.read-replicas.enabled}
+ * is set. The primary pool keeps the usual {@code spring.datasource.*} settings; each replica gets its own Hikari
+ * pool. Flyway always migrates the primary.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor readFromPrimaryAdvisor() {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(null, ReadFromPrimary.class, true))
+                .union(new AnnotationMatchingPointcut(ReadFromPrimary.class, true));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new ReadFromPrimaryInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 200);
+        return advisor;
+    }
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReadReplicaProperties properties) {
+        // Reads may be served up to maxLag behind, so a shorter window would not guarantee read-your-writes
+        Duration window = properties.getStickiness().compareTo(properties.getMaxLag()) >= 0
+                ? properties.getStickiness()
+                : properties.getMaxLag();
+        return new ReadYourWritesTracker(window);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReadReplicaProperties properties,
+                                                             ReadYourWritesTracker readYourWritesTracker) {
+        List<ReadReplicaProperties.Pool> pools = properties.getPools();
+        if (pools.isEmpty()) {
+            throw new IllegalStateException("app.read-replicas.enabled requires at least one entry in app.read-replicas.pools");
+        }
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < pools.size(); i++) {
+            ReadReplicaProperties.Pool pool = pools.get(i);
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setJdbcUrl(pool.getUrl());
+            replica.setUsername(pool.getUsername());
+            replica.setPassword(pool.getPassword());
+            replica.setMaximumPoolSize(pool.getMaximumPoolSize());
+            replica.setMinimumIdle(pool.getMinimumIdle());
+            replica.setReadOnly(true);
+            replicas.put(replica.getPoolName(), replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                               ReadYourWritesTracker readYourWritesTracker,
+                                               ReadReplicaProperties properties) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource, readYourWritesTracker, properties.getMaxLag());
+    }
+
+    /**
+     * The data source used by JPA, JdbcTemplate and the transaction manager. Connections are fetched on first use,
+     * after the transaction has declared whether it is read-only.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+}
@@ -0,0 +1,54 @@
+package com.nextstep.rentacar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.read-replicas")
+public class ReadReplicaProperties {
+
+    /**
+     * Whether read-only transactions are routed to the replica pools below
+     */
+    private boolean enabled = false;
+
+    /**
+     * Replicas further behind the primary than this stop receiving reads until they catch up
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * After a user's write commits, that user's reads stay on the primary for this long (never less than maxLag)
+     */
+    private Duration stickiness = Duration.ofSeconds(5);
+
+    /**
+     * Pause between replica lag checks
+     */
+    private Duration lagCheckInterval = Duration.ofSeconds(2);
+
+    /**
+     * Replica connection pools, each sized independently of the primary pool (spring.datasource.hikari)
+     */
+    private List<Pool> pools = new ArrayList<>();
+
+    @Data
+    public static class Pool {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 20;
+
+        private int minimumIdle = 5;
+    }
+}
@@ -0,0 +1,31 @@
+package com.nextstep.rentacar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.rebalancing")
+public class RebalancingProperties {
+
+    /**
+     * Number of days, starting today, over which branch inventory is projected
+     */
+    private int horizonDays = 14;
+
+    /**
+     * Cars of each category a branch should keep on hand on every day of the horizon
+     */
+    private int safetyStock = 0;
+
+    /**
+     * Transfers between branches further apart than this are never proposed
+     */
+    private double maxTransferKm = 500;
+
+    /**
+     * Whether the scheduled rebalancing planner runs on this instance
+     */
+    private boolean enabled = true;
+}
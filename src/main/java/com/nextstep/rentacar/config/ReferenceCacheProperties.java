@@ -0,0 +1,56 @@
+package com.nextstep.rentacar.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.reference-cache")
+public class ReferenceCacheProperties {
+
+    /**
+     * Whether car, branch and role lookups are served from the in-memory reference cache
+     */
+    private boolean enabled = true;
+
+    /**
+     * Car details by id
+     */
+    private Limits cars = new Limits(10_000, Duration.ofMinutes(10));
+
+    /**
+     * Branch details by id
+     */
+    private Limits branches = new Limits(1_000, Duration.ofMinutes(30));
+
+    /**
+     * Branch lists by city and by country (bounded separately)
+     */
+    private Limits branchLookups = new Limits(1_000, Duration.ofMinutes(30));
+
+    /**
+     * Roles by name
+     */
+    private Limits roles = new Limits(100, Duration.ofHours(1));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limits {
+
+        /**
+         * Maximum number of entries
+         */
+        private long maxEntries;
+
+        /**
+         * Upper bound on the age of an entry; writes through the services evict affected entries before that
+         */
+        private Duration ttl;
+    }
+}
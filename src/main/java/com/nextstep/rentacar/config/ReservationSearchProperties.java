@@ -0,0 +1,26 @@
+package com.nextstep.rentacar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.reservation-search")
+public class ReservationSearchProperties {
+
+    /**
+     * Reservations loaded and written per transaction when projecting or rebuilding
+     */
+    private int batchSize = 500;
+
+    /**
+     * Largest page a search may request
+     */
+    private int maxPageSize = 200;
+
+    /**
+     * Whether the nightly rebuild runs on this instance; it picks up customer, car and branch renames
+     */
+    private boolean rebuildEnabled = true;
+}
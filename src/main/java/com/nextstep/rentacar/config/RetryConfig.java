@@ -0,0 +1,31 @@
+package com.nextstep.rentacar.config;
+
+import com.nextstep.rentacar.service.support.OptimisticLockRetryInterceptor;
+import com.nextstep.rentacar.service.support.RetryOnOptimisticLock;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers the optimistic lock retry advice. It is ordered ahead of the transaction interceptor
+ * so that each attempt runs in its own transaction.
+ */
+@Configuration
+public class RetryConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor optimisticLockRetryAdvisor() {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(null, RetryOnOptimisticLock.class, true))
+                .union(new AnnotationMatchingPointcut(RetryOnOptimisticLock.class, true));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new OptimisticLockRetryInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return advisor;
+    }
+}
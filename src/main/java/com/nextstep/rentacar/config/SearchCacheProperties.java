@@ -0,0 +1,28 @@
+package com.nextstep.rentacar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.search-cache")
+public class SearchCacheProperties {
+
+    /**
+     * Whether availability searches and quotes are served from the short-lived result cache
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of cached results per cache (availability searches and quotes are bounded separately)
+     */
+    private long maxEntries = 10_000;
+
+    /**
+     * Upper bound on the age of a cached result; mutations invalidate affected entries before that
+     */
+    private Duration ttl = Duration.ofSeconds(5);
+}
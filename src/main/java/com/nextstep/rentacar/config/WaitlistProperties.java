@@ -0,0 +1,37 @@
+package com.nextstep.rentacar.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.waitlist")
+public class WaitlistProperties {
+
+    /**
+     * Whether freed cars are matched by the background worker. When off, matching only runs on demand.
+     */
+    private boolean asyncMatching = true;
+
+    /**
+     * Order in which waiting customers are offered a freed car: fifo (registration order) or priority
+     * (highest priority first, registration order among equals)
+     */
+    private Ordering ordering = Ordering.FIFO;
+
+    /**
+     * Maximum number of freed-car signals matched per transaction
+     */
+    private int batchSize = 500;
+
+    /**
+     * Failed matching attempts after which a signal is left in waitlist_signals for inspection instead of retried
+     */
+    private int maxAttempts = 5;
+
+    public enum Ordering {
+        FIFO,
+        PRIORITY
+    }
+}
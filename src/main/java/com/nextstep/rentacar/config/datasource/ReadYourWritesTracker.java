@@ -0,0 +1,50 @@
+package com.nextstep.rentacar.config.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers which users committed a write recently, so their next reads can be kept on the primary until the
+ * replicas have had time to replay the change.
+ */
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    ReadYourWritesTracker(Duration window, LongSupplier nanoClock) {
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public void recordWrite(String user) {
+        stickyUntil.put(user, nanoClock.getAsLong() + windowNanos);
+    }
+
+    public boolean recentlyWrote(String user) {
+        Long until = stickyUntil.get(user);
+        if (until == null) {
+            return false;
+        }
+        if (until - nanoClock.getAsLong() > 0) {
+            return true;
+        }
+        stickyUntil.remove(user, until);
+        return false;
+    }
+
+    /**
+     * Drops users whose window has passed; called periodically so idle users do not accumulate.
+     */
+    public void purgeExpired() {
+        long now = nanoClock.getAsLong();
+        stickyUntil.entrySet().removeIf(entry -> entry.getValue() - now <= 0);
+    }
+}
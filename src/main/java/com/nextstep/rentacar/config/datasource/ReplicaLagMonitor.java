@@ -0,0 +1,65 @@
+package com.nextstep.rentacar.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Measures how far each replica trails the primary and keeps only replicas within the allowed lag in the read
+ * rotation. A replica that cannot be reached, or whose WAL receiver lost the primary, is taken out as well.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    /**
+     * Seconds since the last replayed transaction, or 0 when the replica has replayed everything it received
+     * (an idle primary would otherwise look like growing lag). NULL when the WAL receiver is not streaming: a
+     * disconnected replica has replayed everything it received too, but no longer receives anything. Seeing the
+     * receiver status takes pg_read_all_stats; without it every replica reads as disconnected.
+     */
+    static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END
+            """;
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final ReadYourWritesTracker writesTracker;
+    private final Duration maxLag;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource,
+                             ReadYourWritesTracker writesTracker,
+                             Duration maxLag) {
+        this.routingDataSource = routingDataSource;
+        this.writesTracker = writesTracker;
+        this.maxLag = maxLag;
+    }
+
+    @Scheduled(fixedDelayString = "${app.read-replicas.lag-check-interval:PT2S}")
+    public void checkLag() {
+        for (Map.Entry<String, DataSource> replica : routingDataSource.replicas().entrySet()) {
+            boolean healthy;
+            try {
+                Double lagSeconds = new JdbcTemplate(replica.getValue()).queryForObject(LAG_QUERY, Double.class);
+                healthy = lagSeconds != null && lagSeconds * 1000 <= maxLag.toMillis();
+                if (lagSeconds == null) {
+                    log.warn("Replica {} is not streaming WAL from the primary", replica.getKey());
+                } else if (!healthy) {
+                    log.warn("Replica {} is {}s behind the primary", replica.getKey(), lagSeconds);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Replica {} lag check failed: {}", replica.getKey(), e.getMessage());
+                healthy = false;
+            }
+            routingDataSource.markHealthy(replica.getKey(), healthy);
+        }
+        writesTracker.purgeExpired();
+    }
+}
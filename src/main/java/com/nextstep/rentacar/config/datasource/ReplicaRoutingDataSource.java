@@ -0,0 +1,108 @@
+package com.nextstep.rentacar.config.datasource;
+
+import com.nextstep.rentacar.service.support.ReadFromPrimaryInterceptor;
+import com.nextstep.rentacar.service.support.TransactionHooks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections of read-only transactions to a replica and everything else to the primary.
+ * <p>
+ * The routing key is resolved when the connection is actually fetched, so this data source must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}; by then the transaction's read-only
+ * flag is known. Read-only transactions use the healthy replicas round-robin and fall back to the primary when none
+ * is healthy, when the current user committed a write within the stickiness window (read-your-writes) or inside
+ * {@link com.nextstep.rentacar.service.support.ReadFromPrimary} methods. A read-only method joining a read-write
+ * transaction stays on that transaction's primary connection.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final Map<String, DataSource> replicas;
+    private final ReadYourWritesTracker writesTracker;
+    private final Set<String> healthy = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private volatile List<String> routable = List.of();
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    Map<String, DataSource> replicas,
+                                    ReadYourWritesTracker writesTracker) {
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.writesTracker = writesTracker;
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public Map<String, DataSource> replicas() {
+        return replicas;
+    }
+
+    /**
+     * Adds or removes a replica from the read rotation; driven by {@link ReplicaLagMonitor}.
+     */
+    public void markHealthy(String replica, boolean isHealthy) {
+        boolean changed = isHealthy ? healthy.add(replica) : healthy.remove(replica);
+        if (changed) {
+            List<String> rotation = new ArrayList<>(replicas.keySet());
+            rotation.retainAll(healthy);
+            routable = List.copyOf(rotation);
+            log.info("Replica {} {} the read rotation", replica, isHealthy ? "joined" : "left");
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionHooks.afterCommit(() -> writesTracker.recordWrite(user));
+            }
+            return PRIMARY;
+        }
+        if (ReadFromPrimaryInterceptor.isActive() || (user != null && writesTracker.recentlyWrote(user))) {
+            return PRIMARY;
+        }
+        List<String> rotation = routable;
+        if (rotation.isEmpty()) {
+            return PRIMARY;
+        }
+        return rotation.get(Math.floorMod(nextReplica.getAndIncrement(), rotation.size()));
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -2,14 +2,17 @@ package com.nextstep.rentacar.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Entity representing a rental branch location.
+ * Batch-fetched so that lazy branch proxies outside an entity graph (e.g. native car queries) load together.
  */
 @Entity
+@BatchSize(size = 50)
 @Table(name = "branches")
 @Getter
 @Setter
@@ -41,6 +44,12 @@ public class Branch extends BaseEntity {
     @Column(name = "opening_hours", columnDefinition = "TEXT")
     private String openingHours;
 
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @OneToMany(mappedBy = "branch", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Car> cars = new ArrayList<>();
 
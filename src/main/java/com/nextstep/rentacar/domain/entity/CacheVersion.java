@@ -0,0 +1,27 @@
+package com.nextstep.rentacar.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Invalidation counter of one reference cache, bumped by every committed invalidation. Nodes compare it with the
+ * last version they applied to detect missed notifications.
+ */
+@Entity
+@Table(name = "cache_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString
+public class CacheVersion {
+
+    @Id
+    @Column(name = "cache_name", length = 50)
+    @EqualsAndHashCode.Include
+    private String cacheName;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+}
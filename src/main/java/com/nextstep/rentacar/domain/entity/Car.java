@@ -84,6 +84,10 @@ public class Car extends BaseEntity {
     @Column(name = "deleted", nullable = false)
     private Boolean deleted = false;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "car", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Reservation> reservations = new ArrayList<>();
 
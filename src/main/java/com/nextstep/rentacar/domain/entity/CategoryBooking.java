@@ -0,0 +1,83 @@
+package com.nextstep.rentacar.domain.entity;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.domain.enums.CategoryBookingStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * A booking of any car of a category at the pickup branch. Capacity is reserved at booking time; the concrete car
+ * is chosen close to pickup by the assignment job, which then creates the car's {@link Reservation}.
+ */
+@Entity
+@Table(name = "category_bookings",
+        indexes = @Index(name = "idx_category_bookings_pool", columnList = "pickup_branch_id, category, status, start_date"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@ToString(callSuper = true, exclude = {"customer", "pickupBranch", "dropoffBranch", "reservation"})
+public class CategoryBooking extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "customer_id", nullable = false)
+    private Customer customer;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "pickup_branch_id", nullable = false)
+    private Branch pickupBranch;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "dropoff_branch_id", nullable = false)
+    private Branch dropoffBranch;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", nullable = false, length = 50)
+    @EqualsAndHashCode.Include
+    private CarCategory category;
+
+    @Column(name = "start_date", nullable = false)
+    @EqualsAndHashCode.Include
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    @EqualsAndHashCode.Include
+    private LocalDate endDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private CategoryBookingStatus status = CategoryBookingStatus.PENDING;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reservation_id", unique = true)
+    private Reservation reservation;
+
+    @Column(name = "notes", columnDefinition = "TEXT")
+    private String notes;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    public boolean isPending() {
+        return status == CategoryBookingStatus.PENDING;
+    }
+
+    public void assign(Reservation reservation) {
+        if (!isPending()) {
+            throw new IllegalStateException("Category booking cannot be assigned in current status: " + status);
+        }
+        this.status = CategoryBookingStatus.ASSIGNED;
+        this.reservation = reservation;
+    }
+
+    public void cancel() {
+        if (status == CategoryBookingStatus.CANCELLED) {
+            throw new IllegalStateException("Category booking is already cancelled");
+        }
+        this.status = CategoryBookingStatus.CANCELLED;
+    }
+}
@@ -57,6 +57,10 @@ public class Maintenance extends BaseEntity {
     @Column(name = "notes", columnDefinition = "TEXT")
     private String notes;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public Maintenance(Car car, MaintenanceType maintenanceType, String description, LocalDate scheduledDate) {
         this.car = car;
         this.maintenanceType = maintenanceType;
@@ -0,0 +1,36 @@
+package com.nextstep.rentacar.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Precomputed proximity row: {@code nearbyBranch} is the {@code proximityRank}-th closest branch to {@code branch}.
+ * The whole table is derived from branch coordinates and rebuilt whenever branches change.
+ */
+@Entity
+@Table(name = "nearby_branches",
+        uniqueConstraints = @UniqueConstraint(name = "uk_nearby_branches_pair", columnNames = {"branch_id", "nearby_branch_id"}),
+        indexes = @Index(name = "idx_nearby_branches_rank", columnList = "branch_id, proximity_rank"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@ToString(callSuper = true, exclude = {"branch", "nearbyBranch"})
+public class NearbyBranch extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "branch_id", nullable = false)
+    private Branch branch;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "nearby_branch_id", nullable = false)
+    private Branch nearbyBranch;
+
+    @Column(name = "distance_km", nullable = false)
+    private double distanceKm;
+
+    @Column(name = "proximity_rank", nullable = false)
+    @EqualsAndHashCode.Include
+    private int proximityRank;
+}
@@ -0,0 +1,29 @@
+package com.nextstep.rentacar.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Records that one listener has processed one outbox event, so a redelivered batch skips the listeners that
+ * already have it. Rows are written in the listener's own transaction, together with any writes it makes.
+ */
+@Entity
+@Table(name = "outbox_deliveries", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_outbox_deliveries_event_listener", columnNames = {"event_id", "listener"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@ToString(callSuper = true)
+public class OutboxDelivery extends BaseEntity {
+
+    @Column(name = "event_id", nullable = false)
+    @EqualsAndHashCode.Include
+    private Long eventId;
+
+    @Column(name = "listener", nullable = false, length = 100)
+    @EqualsAndHashCode.Include
+    private String listener;
+}
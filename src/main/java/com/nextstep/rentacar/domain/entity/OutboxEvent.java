@@ -0,0 +1,54 @@
+package com.nextstep.rentacar.domain.entity;
+
+import com.nextstep.rentacar.domain.enums.OutboxEventType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A lifecycle event written in the same transaction as the state change it describes.
+ * {@code publishedAt} is set once the relay has handed the event to every in-process listener; {@code parkedAt} once
+ * a listener has failed on it {@code app.outbox.max-attempts} times, after which the relay skips it.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_unpublished", columnList = "published_at, id"),
+        @Index(name = "idx_outbox_events_aggregate", columnList = "aggregate_type, aggregate_id"),
+        @Index(name = "idx_outbox_events_parked", columnList = "parked_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@ToString(callSuper = true, exclude = {"payload"})
+public class OutboxEvent extends BaseEntity {
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    @EqualsAndHashCode.Include
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 50)
+    @EqualsAndHashCode.Include
+    private OutboxEventType eventType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "published_at")
+    private OffsetDateTime publishedAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "parked_at")
+    private OffsetDateTime parkedAt;
+}
@@ -47,19 +47,35 @@ public class Payment extends BaseEntity {
     @EqualsAndHashCode.Include
     private String transactionRef;
 
-    @Column(name = "payment_date")
+    /**
+     * Creation time until the payment is authorized or captured; never null because it partitions payments.
+     */
+    @Column(name = "payment_date", nullable = false)
     private OffsetDateTime paymentDate;
 
     @Column(name = "notes", columnDefinition = "TEXT")
     private String notes;
 
+    /**
+     * The reservation must already be saved: on partitioned Postgres payments.reservation_id has no foreign key.
+     */
     public Payment(Reservation reservation, BigDecimal amount, PaymentMethod paymentMethod) {
+        if (reservation == null || reservation.getId() == null) {
+            throw new IllegalArgumentException("Payment requires a saved reservation");
+        }
         this.reservation = reservation;
         this.amount = amount;
         this.paymentMethod = paymentMethod;
         this.currency = reservation.getCurrency();
     }
 
+    @PrePersist
+    void defaultPaymentDate() {
+        if (paymentDate == null) {
+            paymentDate = createdAt != null ? createdAt : OffsetDateTime.now();
+        }
+    }
+
     public boolean isPaid() {
         return status == PaymentStatus.CAPTURED || status == PaymentStatus.AUTHORIZED;
     }
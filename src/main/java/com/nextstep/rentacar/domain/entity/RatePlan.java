@@ -0,0 +1,51 @@
+package com.nextstep.rentacar.domain.entity;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * A pricing rule applied on top of a car's daily price. A plan is scoped to an optional branch, category and
+ * recurring season ("MM-DD" bounds, inclusive, may wrap the year end) and to a rental-length tier.
+ * The rate is expressed in basis points of the daily price (10000 = unchanged).
+ */
+@Entity
+@Table(name = "rate_plans")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@ToString(callSuper = true, exclude = {"branch"})
+public class RatePlan extends BaseEntity {
+
+    @Column(name = "name", nullable = false, length = 100)
+    @EqualsAndHashCode.Include
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", length = 50)
+    private CarCategory category;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "branch_id")
+    private Branch branch;
+
+    @Column(name = "season_start", length = 5)
+    private String seasonStart;
+
+    @Column(name = "season_end", length = 5)
+    private String seasonEnd;
+
+    @Column(name = "min_days", nullable = false)
+    private int minDays = 1;
+
+    @Column(name = "max_days")
+    private Integer maxDays;
+
+    @Column(name = "rate_bps", nullable = false)
+    private int rateBps = 10_000;
+
+    @Column(name = "priority", nullable = false)
+    private int priority;
+}
@@ -0,0 +1,162 @@
+package com.nextstep.rentacar.domain.entity;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.domain.enums.ReservationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Denormalized search row for one reservation (CQRS read model). Keyed by the reservation id rather than a generated
+ * id, so projecting a reservation again overwrites its row. Index declarations mirror the Flyway migration.
+ */
+@Entity
+@Table(name = "reservation_search", indexes = {
+        @Index(name = "idx_reservation_search_start", columnList = "start_date, reservation_id"),
+        @Index(name = "idx_reservation_search_status_start", columnList = "status, start_date"),
+        @Index(name = "idx_reservation_search_customer", columnList = "customer_id, start_date"),
+        @Index(name = "idx_reservation_search_car", columnList = "car_id, start_date"),
+        @Index(name = "idx_reservation_search_pickup", columnList = "pickup_branch_id, start_date"),
+        @Index(name = "idx_reservation_search_dropoff", columnList = "dropoff_branch_id, start_date"),
+        @Index(name = "idx_reservation_search_email", columnList = "customer_email")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString
+public class ReservationSearchEntry implements Persistable<Long> {
+
+    @Id
+    @Column(name = "reservation_id")
+    @EqualsAndHashCode.Include
+    private Long reservationId;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Column(name = "customer_name", nullable = false, length = 201)
+    private String customerName;
+
+    @Column(name = "customer_email", nullable = false)
+    private String customerEmail;
+
+    @Column(name = "car_id", nullable = false)
+    private Long carId;
+
+    @Column(name = "car_name", nullable = false, length = 120)
+    private String carName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "car_category", nullable = false, length = 50)
+    private CarCategory carCategory;
+
+    @Column(name = "license_plate", length = 20)
+    private String licensePlate;
+
+    @Column(name = "pickup_branch_id", nullable = false)
+    private Long pickupBranchId;
+
+    @Column(name = "pickup_branch_name", nullable = false)
+    private String pickupBranchName;
+
+    @Column(name = "dropoff_branch_id", nullable = false)
+    private Long dropoffBranchId;
+
+    @Column(name = "dropoff_branch_name", nullable = false)
+    private String dropoffBranchName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReservationStatus status;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(name = "total_price", nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalPrice;
+
+    @Column(name = "currency", length = 3)
+    private String currency;
+
+    /**
+     * Lower-cased names, email, plate and branch names, matched by the free-text filter.
+     */
+    @Column(name = "search_text", nullable = false, columnDefinition = "TEXT")
+    private String searchText;
+
+    @Column(name = "reserved_at", nullable = false)
+    private OffsetDateTime reservedAt;
+
+    @Column(name = "projected_at", nullable = false)
+    private OffsetDateTime projectedAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private boolean fresh = true;
+
+    public ReservationSearchEntry(Long reservationId) {
+        this.reservationId = reservationId;
+    }
+
+    /**
+     * Copies the current state of {@code reservation} and its associations, which must be initialized.
+     */
+    public void project(Reservation reservation, OffsetDateTime now) {
+        Customer customer = reservation.getCustomer();
+        Car car = reservation.getCar();
+        customerId = customer.getId();
+        customerName = customer.getFirstName() + " " + customer.getLastName();
+        customerEmail = customer.getEmail();
+        carId = car.getId();
+        carName = car.getMake() + " " + car.getModel() + " " + car.getYear();
+        carCategory = car.getCategory();
+        licensePlate = car.getLicensePlate();
+        pickupBranchId = reservation.getPickupBranch().getId();
+        pickupBranchName = reservation.getPickupBranch().getName();
+        dropoffBranchId = reservation.getDropoffBranch().getId();
+        dropoffBranchName = reservation.getDropoffBranch().getName();
+        status = reservation.getStatus();
+        startDate = reservation.getStartDate();
+        endDate = reservation.getEndDate();
+        totalPrice = reservation.getTotalPrice();
+        currency = reservation.getCurrency();
+        searchText = Stream.of(customerName, customerEmail, carName, licensePlate, pickupBranchName, dropoffBranchName)
+                .filter(value -> value != null && !value.isBlank())
+                .map(value -> value.toLowerCase(Locale.ROOT))
+                .collect(Collectors.joining(" "));
+        reservedAt = reservation.getCreatedAt();
+        projectedAt = now;
+    }
+
+    @Override
+    public Long getId() {
+        return reservationId;
+    }
+
+    /**
+     * The id is assigned, so Spring Data cannot infer newness from it; rows loaded or saved once are updates.
+     */
+    @Override
+    public boolean isNew() {
+        return fresh;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        fresh = false;
+    }
+}
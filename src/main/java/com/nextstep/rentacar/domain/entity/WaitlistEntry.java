@@ -0,0 +1,115 @@
+package com.nextstep.rentacar.domain.entity;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.domain.enums.WaitlistStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * A customer's standing interest in any car of a category at a branch for an inclusive date range.
+ * When a matching car frees up the entry is offered a checkout hold on it.
+ */
+@Entity
+@Table(name = "waitlist_entries",
+        indexes = {
+                @Index(name = "idx_waitlist_entries_status", columnList = "status, offer_expires_at"),
+                @Index(name = "idx_waitlist_entries_customer", columnList = "customer_id")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@ToString(callSuper = true, exclude = {"customer", "branch", "offeredCar"})
+public class WaitlistEntry extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "customer_id", nullable = false)
+    private Customer customer;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "branch_id", nullable = false)
+    private Branch branch;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", nullable = false, length = 50)
+    @EqualsAndHashCode.Include
+    private CarCategory category;
+
+    @Column(name = "start_date", nullable = false)
+    @EqualsAndHashCode.Include
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    @EqualsAndHashCode.Include
+    private LocalDate endDate;
+
+    @Column(name = "priority", nullable = false)
+    private int priority;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private WaitlistStatus status = WaitlistStatus.WAITING;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "offered_car_id")
+    private Car offeredCar;
+
+    @Column(name = "hold_token", length = 36)
+    private String holdToken;
+
+    @Column(name = "offer_expires_at")
+    private OffsetDateTime offerExpiresAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    public WaitlistEntry(Customer customer, Branch branch, CarCategory category,
+                         LocalDate startDate, LocalDate endDate, int priority) {
+        this.customer = customer;
+        this.branch = branch;
+        this.category = category;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.priority = priority;
+    }
+
+    public boolean isWaiting() {
+        return status == WaitlistStatus.WAITING;
+    }
+
+    public void offer(Car car, String holdToken, OffsetDateTime expiresAt) {
+        if (!isWaiting()) {
+            throw new IllegalStateException("Waitlist entry cannot be offered a car in current status: " + status);
+        }
+        this.status = WaitlistStatus.OFFERED;
+        this.offeredCar = car;
+        this.holdToken = holdToken;
+        this.offerExpiresAt = expiresAt;
+    }
+
+    public void fulfil() {
+        if (status != WaitlistStatus.OFFERED) {
+            throw new IllegalStateException("Waitlist entry cannot be fulfilled in current status: " + status);
+        }
+        this.status = WaitlistStatus.FULFILLED;
+    }
+
+    public void expire() {
+        if (status != WaitlistStatus.OFFERED) {
+            throw new IllegalStateException("Waitlist entry cannot expire in current status: " + status);
+        }
+        this.status = WaitlistStatus.EXPIRED;
+    }
+
+    public void cancel() {
+        if (status != WaitlistStatus.WAITING && status != WaitlistStatus.OFFERED) {
+            throw new IllegalStateException("Waitlist entry cannot be cancelled in current status: " + status);
+        }
+        this.status = WaitlistStatus.CANCELLED;
+    }
+}
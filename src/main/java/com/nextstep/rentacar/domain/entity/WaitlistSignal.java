@@ -0,0 +1,56 @@
+package com.nextstep.rentacar.domain.entity;
+
+import com.nextstep.rentacar.domain.enums.WaitlistSignalType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * A queued input of waitlist matching: a car that became free over an inclusive range ({@code null} bounds: every
+ * date), or a booking by a customer who may hold an offer for it. Deleted by the matching transaction that handles it.
+ */
+@Entity
+@Table(name = "waitlist_signals", indexes = {
+        @Index(name = "idx_waitlist_signals_attempts", columnList = "attempts, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@ToString(callSuper = true)
+public class WaitlistSignal extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "signal_type", nullable = false, length = 10)
+    @EqualsAndHashCode.Include
+    private WaitlistSignalType signalType;
+
+    @Column(name = "car_id", nullable = false)
+    @EqualsAndHashCode.Include
+    private Long carId;
+
+    @Column(name = "customer_id")
+    @EqualsAndHashCode.Include
+    private Long customerId;
+
+    @Column(name = "start_date")
+    @EqualsAndHashCode.Include
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    @EqualsAndHashCode.Include
+    private LocalDate endDate;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    public static WaitlistSignal freed(Long carId, LocalDate startDate, LocalDate endDate) {
+        return new WaitlistSignal(WaitlistSignalType.FREED, carId, null, startDate, endDate, 0);
+    }
+
+    public static WaitlistSignal booked(Long customerId, Long carId, LocalDate startDate, LocalDate endDate) {
+        return new WaitlistSignal(WaitlistSignalType.BOOKED, carId, customerId, startDate, endDate, 0);
+    }
+}
@@ -0,0 +1,10 @@
+package com.nextstep.rentacar.domain.enums;
+
+/**
+ * How a suggested alternative differs from the original availability search.
+ */
+public enum AlternativeType {
+    NEARBY_BRANCH,
+    UPGRADE,
+    SHIFTED_DATES
+}
@@ -0,0 +1,7 @@
+package com.nextstep.rentacar.domain.enums;
+
+public enum CategoryBookingStatus {
+    PENDING,
+    ASSIGNED,
+    CANCELLED
+}
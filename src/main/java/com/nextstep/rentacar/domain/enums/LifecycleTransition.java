@@ -0,0 +1,13 @@
+package com.nextstep.rentacar.domain.enums;
+
+/**
+ * Bulk reservation transitions run by the nightly lifecycle jobs.
+ */
+public enum LifecycleTransition {
+    /** PENDING reservations whose captured payments cover the total price become CONFIRMED */
+    CONFIRM_PAID,
+    /** CONFIRMED reservations ending on the given date become COMPLETED */
+    COMPLETE_ENDED,
+    /** Unpaid PENDING reservations that are too old or past their start date become CANCELLED */
+    EXPIRE_STALE
+}
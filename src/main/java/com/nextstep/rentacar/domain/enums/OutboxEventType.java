@@ -0,0 +1,37 @@
+package com.nextstep.rentacar.domain.enums;
+
+import com.nextstep.rentacar.domain.event.CarEvent;
+import com.nextstep.rentacar.domain.event.MaintenanceEvent;
+import com.nextstep.rentacar.domain.event.ReservationEvent;
+
+/**
+ * Lifecycle events recorded in the transactional outbox, with the aggregate they belong to and their payload type.
+ */
+public enum OutboxEventType {
+    RESERVATION_CREATED("Reservation", ReservationEvent.class),
+    RESERVATION_UPDATED("Reservation", ReservationEvent.class),
+    RESERVATION_CONFIRMED("Reservation", ReservationEvent.class),
+    RESERVATION_CANCELLED("Reservation", ReservationEvent.class),
+    RESERVATION_COMPLETED("Reservation", ReservationEvent.class),
+    MAINTENANCE_SCHEDULED("Maintenance", MaintenanceEvent.class),
+    MAINTENANCE_STARTED("Maintenance", MaintenanceEvent.class),
+    MAINTENANCE_COMPLETED("Maintenance", MaintenanceEvent.class),
+    MAINTENANCE_CANCELLED("Maintenance", MaintenanceEvent.class),
+    CAR_ADDED("Car", CarEvent.class);
+
+    private final String aggregateType;
+    private final Class<? extends Record> payloadType;
+
+    OutboxEventType(String aggregateType, Class<? extends Record> payloadType) {
+        this.aggregateType = aggregateType;
+        this.payloadType = payloadType;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public Class<? extends Record> getPayloadType() {
+        return payloadType;
+    }
+}
@@ -0,0 +1,9 @@
+package com.nextstep.rentacar.domain.enums;
+
+/**
+ * Kinds of waitlist matching signals: a car became free over a date range, or an offered customer booked it.
+ */
+public enum WaitlistSignalType {
+    FREED,
+    BOOKED
+}
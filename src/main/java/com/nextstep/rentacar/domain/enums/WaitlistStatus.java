@@ -0,0 +1,9 @@
+package com.nextstep.rentacar.domain.enums;
+
+public enum WaitlistStatus {
+    WAITING,
+    OFFERED,
+    FULFILLED,
+    EXPIRED,
+    CANCELLED
+}
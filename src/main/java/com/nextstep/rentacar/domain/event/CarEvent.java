@@ -0,0 +1,18 @@
+package com.nextstep.rentacar.domain.event;
+
+import com.nextstep.rentacar.domain.entity.Car;
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.domain.enums.CarStatus;
+
+/**
+ * Outbox payload describing a car that joined a branch's fleet.
+ */
+public record CarEvent(Long carId,
+                       Long branchId,
+                       CarCategory category,
+                       CarStatus status) {
+
+    public static CarEvent of(Car car) {
+        return new CarEvent(car.getId(), car.getBranch().getId(), car.getCategory(), car.getStatus());
+    }
+}
@@ -0,0 +1,25 @@
+package com.nextstep.rentacar.domain.event;
+
+import com.nextstep.rentacar.domain.entity.Maintenance;
+import com.nextstep.rentacar.domain.enums.MaintenanceStatus;
+import com.nextstep.rentacar.domain.enums.MaintenanceType;
+
+import java.time.LocalDate;
+
+/**
+ * Outbox payload describing a maintenance record right after a lifecycle change.
+ */
+public record MaintenanceEvent(Long maintenanceId,
+                               Long carId,
+                               MaintenanceType maintenanceType,
+                               MaintenanceStatus status,
+                               LocalDate scheduledDate) {
+
+    public static MaintenanceEvent of(Maintenance maintenance) {
+        return new MaintenanceEvent(maintenance.getId(),
+                maintenance.getCar().getId(),
+                maintenance.getMaintenanceType(),
+                maintenance.getStatus(),
+                maintenance.getScheduledDate());
+    }
+}
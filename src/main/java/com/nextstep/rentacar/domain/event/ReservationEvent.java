@@ -0,0 +1,33 @@
+package com.nextstep.rentacar.domain.event;
+
+import com.nextstep.rentacar.domain.entity.Reservation;
+import com.nextstep.rentacar.domain.enums.ReservationStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Outbox payload describing a reservation right after a lifecycle change.
+ */
+public record ReservationEvent(Long reservationId,
+                               Long customerId,
+                               Long carId,
+                               Long pickupBranchId,
+                               LocalDate startDate,
+                               LocalDate endDate,
+                               ReservationStatus status,
+                               BigDecimal totalPrice,
+                               String currency) {
+
+    public static ReservationEvent of(Reservation reservation) {
+        return new ReservationEvent(reservation.getId(),
+                reservation.getCustomer().getId(),
+                reservation.getCar().getId(),
+                reservation.getPickupBranch().getId(),
+                reservation.getStartDate(),
+                reservation.getEndDate(),
+                reservation.getStatus(),
+                reservation.getTotalPrice(),
+                reservation.getCurrency());
+    }
+}
@@ -0,0 +1,20 @@
+package com.nextstep.rentacar.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchReservationRequestDto {
+
+    @NotEmpty(message = "At least one reservation is required")
+    @Size(max = 200, message = "A batch may contain at most 200 reservations")
+    private List<@Valid ReservationRequestDto> reservations;
+}
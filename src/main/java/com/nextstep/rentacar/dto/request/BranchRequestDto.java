@@ -38,4 +38,22 @@ public class BranchRequestDto {
     private String openingHours;
 
     private boolean active = true;
+
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
+    public BranchRequestDto(String name, String address, String city, String country,
+                            String phone, String email, String openingHours, boolean active) {
+        this(name, address, city, country, phone, email, openingHours, active, null, null);
+    }
+
+    @AssertTrue(message = "Latitude and longitude must be given together")
+    public boolean isCoordinatesComplete() {
+        return (latitude == null) == (longitude == null);
+    }
 }
@@ -13,6 +13,7 @@ import java.time.LocalDate;
 @Getter
 @Setter
 public class CarFilterDto {
+    private Long branchId;
     private CarCategory category;
     private TransmissionType transmission;
     private FuelType fuelType;
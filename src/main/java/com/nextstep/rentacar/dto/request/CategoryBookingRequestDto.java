@@ -0,0 +1,46 @@
+package com.nextstep.rentacar.dto.request;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryBookingRequestDto {
+
+    @NotNull(message = "Customer ID is required")
+    private Long customerId;
+
+    @NotNull(message = "Category is required")
+    private CarCategory category;
+
+    @NotNull(message = "Start date is required")
+    @FutureOrPresent(message = "Start date must be today or in the future")
+    private LocalDate startDate;
+
+    @NotNull(message = "End date is required")
+    @Future(message = "End date must be in the future")
+    private LocalDate endDate;
+
+    @NotNull(message = "Pickup branch ID is required")
+    private Long pickupBranchId;
+
+    @NotNull(message = "Dropoff branch ID is required")
+    private Long dropoffBranchId;
+
+    @Size(max = 1000, message = "Notes should not exceed 1000 characters")
+    private String notes;
+
+    @AssertTrue(message = "End date must be after start date")
+    public boolean isEndDateAfterStartDate() {
+        if (startDate == null || endDate == null) {
+            return true; // Let @NotNull handle null validation
+        }
+        return endDate.isAfter(startDate);
+    }
+}
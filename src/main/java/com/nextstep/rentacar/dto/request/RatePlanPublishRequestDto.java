@@ -0,0 +1,23 @@
+package com.nextstep.rentacar.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The complete set of rate plans to publish; it replaces all current plans. An empty list reverts to plain daily prices.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatePlanPublishRequestDto {
+
+    @NotNull(message = "Plans are required")
+    @Size(max = 1000, message = "At most 1000 rate plans can be published")
+    private List<@Valid RatePlanRequestDto> plans;
+}
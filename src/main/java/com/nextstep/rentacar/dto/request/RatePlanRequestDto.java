@@ -0,0 +1,52 @@
+package com.nextstep.rentacar.dto.request;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatePlanRequestDto {
+
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name should not exceed 100 characters")
+    private String name;
+
+    // Null means the plan applies to every category
+    private CarCategory category;
+
+    // Null means the plan applies to every branch
+    private Long branchId;
+
+    @Pattern(regexp = "^(0[1-9]|1[0-2])-(0[1-9]|[12]\\d|3[01])$", message = "Season start must be MM-DD")
+    private String seasonStart;
+
+    @Pattern(regexp = "^(0[1-9]|1[0-2])-(0[1-9]|[12]\\d|3[01])$", message = "Season end must be MM-DD")
+    private String seasonEnd;
+
+    @Min(value = 1, message = "Minimum rental days must be at least 1")
+    private Integer minDays = 1;
+
+    @Min(value = 1, message = "Maximum rental days must be at least 1")
+    private Integer maxDays;
+
+    @NotNull(message = "Rate is required")
+    @Min(value = 1, message = "Rate must be positive")
+    @Max(value = 1_000_000, message = "Rate should not exceed 1000000 basis points")
+    private Integer rateBps;
+
+    private int priority;
+
+    @AssertTrue(message = "Season start and end must be given together")
+    public boolean isSeasonComplete() {
+        return (seasonStart == null) == (seasonEnd == null);
+    }
+
+    @AssertTrue(message = "Maximum rental days must not be below minimum rental days")
+    public boolean isLengthTierValid() {
+        return maxDays == null || minDays == null || maxDays >= minDays;
+    }
+}
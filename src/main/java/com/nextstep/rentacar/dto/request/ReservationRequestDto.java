@@ -35,6 +35,16 @@ public class ReservationRequestDto {
     @Size(max = 1000, message = "Notes should not exceed 1000 characters")
     private String notes;
 
+    /**
+     * Optional token of a hold placed for the same car and dates; converts the hold into the reservation.
+     */
+    private String holdToken;
+
+    public ReservationRequestDto(Long customerId, Long carId, LocalDate startDate, LocalDate endDate,
+                                 Long pickupBranchId, Long dropoffBranchId, String notes) {
+        this(customerId, carId, startDate, endDate, pickupBranchId, dropoffBranchId, notes, null);
+    }
+
     @AssertTrue(message = "End date must be after start date")
     public boolean isEndDateAfterStartDate() {
         if (startDate == null || endDate == null) {
@@ -0,0 +1,35 @@
+package com.nextstep.rentacar.dto.request;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.domain.enums.ReservationStatus;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Back-office reservation search; every field is optional and present fields are combined with AND.
+ * {@code from}/{@code to} select reservations overlapping the window, {@code q} matches names, email, car and
+ * plate as a case-insensitive substring.
+ */
+@Getter
+@Setter
+public class ReservationSearchFilterDto {
+    private String q;
+    private Long customerId;
+    private String customerEmail;
+    private Long carId;
+    private CarCategory carCategory;
+    private Long pickupBranchId;
+    private Long dropoffBranchId;
+    private List<ReservationStatus> status;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+}
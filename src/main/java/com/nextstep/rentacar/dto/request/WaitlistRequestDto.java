@@ -0,0 +1,45 @@
+package com.nextstep.rentacar.dto.request;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistRequestDto {
+
+    @NotNull(message = "Customer ID is required")
+    private Long customerId;
+
+    @NotNull(message = "Branch ID is required")
+    private Long branchId;
+
+    @NotNull(message = "Category is required")
+    private CarCategory category;
+
+    @NotNull(message = "Start date is required")
+    @FutureOrPresent(message = "Start date must be today or in the future")
+    private LocalDate startDate;
+
+    @NotNull(message = "End date is required")
+    @Future(message = "End date must be in the future")
+    private LocalDate endDate;
+
+    // Only used when the waitlist is ordered by priority; higher is offered first
+    @Min(value = 0, message = "Priority must not be negative")
+    @Max(value = 100, message = "Priority should not exceed 100")
+    private int priority;
+
+    @AssertTrue(message = "End date must be after start date")
+    public boolean isEndDateAfterStartDate() {
+        if (startDate == null || endDate == null) {
+            return true; // Let @NotNull handle null validation
+        }
+        return endDate.isAfter(startDate);
+    }
+}
@@ -0,0 +1,32 @@
+package com.nextstep.rentacar.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.nextstep.rentacar.domain.enums.AlternativeType;
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A variation of an empty search that has available cars. Only the fields relevant to the type are set.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AlternativeSuggestionDto {
+
+    private AlternativeType type;
+    private Long branchId;
+    private String branchName;
+    private CarCategory category;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Double distanceKm;
+    private Integer dayShift;
+    private int availableCars;
+    private BigDecimal lowestDailyPrice;
+}
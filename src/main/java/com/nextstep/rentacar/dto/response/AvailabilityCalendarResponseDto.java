@@ -0,0 +1,29 @@
+package com.nextstep.rentacar.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Run-length encoded availability over a date range. For a single car {@code available} is 0 or 1;
+ * for a branch it is the number of free cars out of {@code fleetSize}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AvailabilityCalendarResponseDto {
+
+    private Long carId;
+    private Long branchId;
+    private CarCategory category;
+    private LocalDate from;
+    private LocalDate to;
+    private int fleetSize;
+    private List<AvailabilityRunDto> runs;
+}
@@ -0,0 +1,20 @@
+package com.nextstep.rentacar.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * A run of consecutive days (inclusive) with the same number of available cars.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityRunDto {
+
+    private LocalDate from;
+    private LocalDate to;
+    private int available;
+}
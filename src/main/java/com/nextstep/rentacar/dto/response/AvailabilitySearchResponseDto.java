@@ -0,0 +1,26 @@
+package com.nextstep.rentacar.dto.response;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * First page of cars matching a search, or ranked alternatives (best first) when nothing matches.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilitySearchResponseDto {
+
+    private Long branchId;
+    private CarCategory category;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private long totalAvailable;
+    private List<CarListResponseDto> cars;
+    private List<AlternativeSuggestionDto> alternatives;
+}
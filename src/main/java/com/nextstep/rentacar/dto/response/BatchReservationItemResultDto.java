@@ -0,0 +1,27 @@
+package com.nextstep.rentacar.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a single item of a batch reservation request, in request order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchReservationItemResultDto {
+
+    private int index;
+    private boolean created;
+    private ReservationResponseDto reservation;
+    private String error;
+
+    public static BatchReservationItemResultDto created(int index, ReservationResponseDto reservation) {
+        return new BatchReservationItemResultDto(index, true, reservation, null);
+    }
+
+    public static BatchReservationItemResultDto rejected(int index, String error) {
+        return new BatchReservationItemResultDto(index, false, null, error);
+    }
+}
@@ -0,0 +1,17 @@
+package com.nextstep.rentacar.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchReservationResponseDto {
+
+    private int createdCount;
+    private int rejectedCount;
+    private List<BatchReservationItemResultDto> results;
+}
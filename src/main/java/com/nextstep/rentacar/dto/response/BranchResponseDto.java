@@ -20,6 +20,8 @@ public class BranchResponseDto {
     private String email;
     private String openingHours;
     private boolean active;
+    private Double latitude;
+    private Double longitude;
     private OffsetDateTime createdAt;
     private OffsetDateTime updatedAt;
 }
@@ -0,0 +1,22 @@
+package com.nextstep.rentacar.dto.response;
+
+import com.nextstep.rentacar.domain.enums.LifecycleTransition;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTransitionResultDto {
+
+    private LifecycleTransition transition;
+    // Eligible rows selected
+    private int selected;
+    // Rows the update changed; one event was emitted for each
+    private int transitioned;
+    // Selected rows changed concurrently before the update reached them
+    private int skipped;
+    private int chunks;
+    private long elapsedMs;
+}
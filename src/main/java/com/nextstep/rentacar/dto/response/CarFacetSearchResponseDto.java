@@ -0,0 +1,22 @@
+package com.nextstep.rentacar.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of cars matching a filter plus the counts behind the filter chips: per facet (category, transmission,
+ * fuelType, seats, dailyPrice) and value, the number of matching cars if that facet's own filter were set to it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarFacetSearchResponseDto {
+
+    private long totalMatching;
+    private List<CarListResponseDto> cars;
+    private Map<String, Map<String, Long>> facets;
+}
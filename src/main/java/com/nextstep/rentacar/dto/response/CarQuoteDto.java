@@ -0,0 +1,19 @@
+package com.nextstep.rentacar.dto.response;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarQuoteDto {
+
+    private Long carId;
+    private CarCategory category;
+    private BigDecimal dailyPrice;
+    private BigDecimal totalPrice;
+}
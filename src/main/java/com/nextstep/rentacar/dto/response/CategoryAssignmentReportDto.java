@@ -0,0 +1,36 @@
+package com.nextstep.rentacar.dto.response;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Outcome of one assignment run over a (branch, category) pool. Utilization is the booked share of all car-days in
+ * the window; orphan days are one-day holes between bookings, which can never be rented. The baseline figures are
+ * what first-fit in booking order would have produced, so the gain is what deferred assignment bought.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryAssignmentReportDto {
+
+    private Long branchId;
+    private CarCategory category;
+    private LocalDate windowStart;
+    private LocalDate windowEnd;
+    private int cars;
+    private int pendingBookings;
+    private int assigned;
+    private int deferred;
+    private int unplaced;
+    private double utilizationBefore;
+    private double utilizationAfter;
+    private int orphanDays;
+    private int baselineUnplaced;
+    private double baselineUtilization;
+    private int baselineOrphanDays;
+    private double utilizationGained;
+}
@@ -0,0 +1,32 @@
+package com.nextstep.rentacar.dto.response;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.domain.enums.CategoryBookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryBookingResponseDto {
+
+    private Long id;
+    private Long customerId;
+    private CarCategory category;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Long pickupBranchId;
+    private Long dropoffBranchId;
+    private CategoryBookingStatus status;
+    // Set once the booking has been assigned to a car
+    private Long reservationId;
+    private Long carId;
+    private BigDecimal totalPrice;
+    private String notes;
+    private OffsetDateTime createdAt;
+}
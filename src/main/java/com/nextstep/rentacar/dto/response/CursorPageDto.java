@@ -0,0 +1,23 @@
+package com.nextstep.rentacar.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset listing. {@code nextCursor} is absent on the last page; {@code totalCount} is
+ * only computed when explicitly requested.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPageDto<T> {
+
+    private List<T> content;
+    private String nextCursor;
+    private Long totalCount;
+}
@@ -0,0 +1,27 @@
+package com.nextstep.rentacar.dto.response;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Projected cars on hand of one category at one branch, one entry per day from {@code startDate}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryProjectionDto {
+
+    private Long branchId;
+    private String branchName;
+    private CarCategory category;
+    private LocalDate startDate;
+    private List<Integer> projected;
+    private int minimum;
+    // First day below the safety stock, null when the branch stays covered
+    private LocalDate firstShortageDate;
+}
@@ -0,0 +1,13 @@
+package com.nextstep.rentacar.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxRelayResultDto {
+
+    private long events;
+}
@@ -0,0 +1,23 @@
+package com.nextstep.rentacar.dto.response;
+
+import com.nextstep.rentacar.domain.enums.OutboxEventType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Lifecycle counters projected from relayed outbox events.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxStatisticsDto {
+
+    private Map<OutboxEventType, Long> eventCounts;
+    private BigDecimal confirmedValue;
+    private long pendingEvents;
+    private long parkedEvents;
+}
@@ -0,0 +1,28 @@
+package com.nextstep.rentacar.dto.response;
+
+import com.nextstep.rentacar.domain.enums.PaymentMethod;
+import com.nextstep.rentacar.domain.enums.PaymentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentResponseDto {
+
+    private Long id;
+    private Long reservationId;
+    private BigDecimal amount;
+    private String currency;
+    private PaymentStatus status;
+    private PaymentMethod paymentMethod;
+    private String provider;
+    private String transactionRef;
+    private OffsetDateTime paymentDate;
+    private String notes;
+    private OffsetDateTime createdAt;
+}
@@ -0,0 +1,26 @@
+package com.nextstep.rentacar.dto.response;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Priced availability for one branch and date range, cheapest first.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteResponseDto {
+
+    private Long branchId;
+    private CarCategory category;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int rentalDays;
+    private String currency;
+    private List<CarQuoteDto> quotes;
+}
@@ -0,0 +1,23 @@
+package com.nextstep.rentacar.dto.response;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatePlanResponseDto {
+
+    private Long id;
+    private String name;
+    private CarCategory category;
+    private Long branchId;
+    private String seasonStart;
+    private String seasonEnd;
+    private int minDays;
+    private Integer maxDays;
+    private int rateBps;
+    private int priority;
+}
@@ -0,0 +1,24 @@
+package com.nextstep.rentacar.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RebalancingPlanDto {
+
+    private LocalDate startDate;
+    private int horizonDays;
+    private int safetyStock;
+    // Reservations and pending category bookings fed into the projection
+    private int flows;
+    private List<RebalancingTransferDto> transfers;
+    private int carsMoved;
+    private double totalDistanceKm;
+    private List<RebalancingShortageDto> shortages;
+}
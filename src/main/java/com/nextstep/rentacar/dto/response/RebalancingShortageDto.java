@@ -0,0 +1,23 @@
+package com.nextstep.rentacar.dto.response;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Cars a branch still lacks after the proposed transfers.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RebalancingShortageDto {
+
+    private CarCategory category;
+    private Long branchId;
+    private String branchName;
+    private int missingCars;
+    private LocalDate firstShortageDate;
+}
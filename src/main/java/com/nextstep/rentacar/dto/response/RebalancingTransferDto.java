@@ -0,0 +1,26 @@
+package com.nextstep.rentacar.dto.response;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * A proposed move of {@code cars} cars of a category between two branches.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RebalancingTransferDto {
+
+    private CarCategory category;
+    private Long fromBranchId;
+    private String fromBranchName;
+    private Long toBranchId;
+    private String toBranchName;
+    private int cars;
+    private double distanceKm;
+    private LocalDate neededBy;
+}
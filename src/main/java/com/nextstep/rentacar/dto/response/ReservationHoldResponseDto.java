@@ -0,0 +1,20 @@
+package com.nextstep.rentacar.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationHoldResponseDto {
+
+    private String token;
+    private Long carId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private OffsetDateTime expiresAt;
+}
@@ -0,0 +1,38 @@
+package com.nextstep.rentacar.dto.response;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.domain.enums.ReservationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationSearchResultDto {
+
+    private Long reservationId;
+    private Long customerId;
+    private String customerName;
+    private String customerEmail;
+    private Long carId;
+    private String carName;
+    private CarCategory carCategory;
+    private String licensePlate;
+    private Long pickupBranchId;
+    private String pickupBranchName;
+    private Long dropoffBranchId;
+    private String dropoffBranchName;
+    private ReservationStatus status;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private BigDecimal totalPrice;
+    private String currency;
+    private OffsetDateTime reservedAt;
+    // The row reflects the reservation as of this instant; the read model trails writes by the relay interval
+    private OffsetDateTime projectedAt;
+}
@@ -0,0 +1,30 @@
+package com.nextstep.rentacar.dto.response;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.domain.enums.WaitlistStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistEntryResponseDto {
+
+    private Long id;
+    private Long customerId;
+    private Long branchId;
+    private CarCategory category;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int priority;
+    private WaitlistStatus status;
+    // Set while an offer is open: book the car with this hold token before it expires
+    private Long offeredCarId;
+    private String holdToken;
+    private OffsetDateTime offerExpiresAt;
+    private OffsetDateTime createdAt;
+}
@@ -23,6 +23,7 @@ public interface CarMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "branch", ignore = true)
     @Mapping(target = "reservations", ignore = true)
     @Mapping(target = "maintenanceRecords", ignore = true)
@@ -34,6 +35,7 @@ public interface CarMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "branch", ignore = true)
     @Mapping(target = "reservations", ignore = true)
     @Mapping(target = "maintenanceRecords", ignore = true)
@@ -0,0 +1,18 @@
+package com.nextstep.rentacar.mapper;
+
+import com.nextstep.rentacar.domain.entity.CategoryBooking;
+import com.nextstep.rentacar.dto.response.CategoryBookingResponseDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface CategoryBookingMapper {
+
+    @Mapping(target = "customerId", source = "customer.id")
+    @Mapping(target = "pickupBranchId", source = "pickupBranch.id")
+    @Mapping(target = "dropoffBranchId", source = "dropoffBranch.id")
+    @Mapping(target = "reservationId", source = "reservation.id")
+    @Mapping(target = "carId", source = "reservation.car.id")
+    @Mapping(target = "totalPrice", source = "reservation.totalPrice")
+    CategoryBookingResponseDto toResponseDto(CategoryBooking booking);
+}
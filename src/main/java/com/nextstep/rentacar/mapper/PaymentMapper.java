@@ -0,0 +1,13 @@
+package com.nextstep.rentacar.mapper;
+
+import com.nextstep.rentacar.domain.entity.Payment;
+import com.nextstep.rentacar.dto.response.PaymentResponseDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface PaymentMapper {
+
+    @Mapping(target = "reservationId", source = "reservation.id")
+    PaymentResponseDto toResponseDto(Payment payment);
+}
@@ -0,0 +1,21 @@
+package com.nextstep.rentacar.mapper;
+
+import com.nextstep.rentacar.domain.entity.RatePlan;
+import com.nextstep.rentacar.dto.request.RatePlanRequestDto;
+import com.nextstep.rentacar.dto.response.RatePlanResponseDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface RatePlanMapper {
+
+    @Mapping(target = "branchId", source = "branch.id")
+    RatePlanResponseDto toResponseDto(RatePlan ratePlan);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "branch", ignore = true)
+    @Mapping(target = "minDays", defaultValue = "1")
+    RatePlan toEntity(RatePlanRequestDto ratePlanRequestDto);
+}
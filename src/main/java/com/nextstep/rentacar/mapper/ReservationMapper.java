@@ -21,6 +21,7 @@ public interface ReservationMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "customer", ignore = true)
     @Mapping(target = "car", ignore = true)
     @Mapping(target = "pickupBranch", ignore = true)
@@ -34,6 +35,7 @@ public interface ReservationMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "customer", ignore = true)
     @Mapping(target = "car", ignore = true)
     @Mapping(target = "pickupBranch", ignore = true)
@@ -0,0 +1,11 @@
+package com.nextstep.rentacar.mapper;
+
+import com.nextstep.rentacar.domain.entity.ReservationSearchEntry;
+import com.nextstep.rentacar.dto.response.ReservationSearchResultDto;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface ReservationSearchMapper {
+
+    ReservationSearchResultDto toResultDto(ReservationSearchEntry entry);
+}
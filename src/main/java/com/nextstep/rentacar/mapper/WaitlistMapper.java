@@ -0,0 +1,15 @@
+package com.nextstep.rentacar.mapper;
+
+import com.nextstep.rentacar.domain.entity.WaitlistEntry;
+import com.nextstep.rentacar.dto.response.WaitlistEntryResponseDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface WaitlistMapper {
+
+    @Mapping(target = "customerId", source = "customer.id")
+    @Mapping(target = "branchId", source = "branch.id")
+    @Mapping(target = "offeredCarId", source = "offeredCar.id")
+    WaitlistEntryResponseDto toResponseDto(WaitlistEntry entry);
+}
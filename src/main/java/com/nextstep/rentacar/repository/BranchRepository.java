@@ -26,4 +26,6 @@ public interface BranchRepository extends JpaRepository<Branch, Long> {
     List<Branch> findByCityAndCountry(@Param("city") String city, @Param("country") String country);
 
     boolean existsByNameAndCity(String name, String city);
+
+    List<Branch> findByLatitudeIsNotNullAndLongitudeIsNotNull();
 }
@@ -0,0 +1,25 @@
+package com.nextstep.rentacar.repository;
+
+import com.nextstep.rentacar.domain.entity.CacheVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for the per-cache invalidation counters.
+ */
+@Repository
+public interface CacheVersionRepository extends JpaRepository<CacheVersion, String> {
+
+    /**
+     * Row-locks the counter until the transaction ends, so versions commit in increasing order per cache.
+     */
+    @Modifying
+    @Query("UPDATE CacheVersion v SET v.version = v.version + 1 WHERE v.cacheName = :cacheName")
+    int increment(@Param("cacheName") String cacheName);
+
+    @Query("SELECT v.version FROM CacheVersion v WHERE v.cacheName = :cacheName")
+    long findVersion(@Param("cacheName") String cacheName);
+}
@@ -5,8 +5,11 @@ import com.nextstep.rentacar.domain.enums.CarCategory;
 import com.nextstep.rentacar.domain.enums.CarStatus;
 import com.nextstep.rentacar.domain.enums.FuelType;
 import com.nextstep.rentacar.domain.enums.TransmissionType;
+import com.nextstep.rentacar.service.rebalancing.FleetCount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -15,6 +18,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +30,18 @@ public interface CarRepository extends JpaRepository<Car, Long>, JpaSpecificatio
 
     Optional<Car> findByVin(String vin);
 
+    /**
+     * Listing queries fetch the branch with the car because CarListResponseDto carries branch.name.
+     */
+    @Override
+    @EntityGraph(attributePaths = "branch")
+    Page<Car> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = "branch")
+    Page<Car> findAll(Specification<Car> spec, Pageable pageable);
+
+    @EntityGraph(attributePaths = "branch")
     Page<Car> findByBranchId(Long branchId, Pageable pageable);
 
     Page<Car> findByCategory(CarCategory category, Pageable pageable);
@@ -34,6 +50,12 @@ public interface CarRepository extends JpaRepository<Car, Long>, JpaSpecificatio
 
     List<Car> findByBranchIdAndStatus(Long branchId, CarStatus status);
 
+    @EntityGraph(attributePaths = "branch")
+    Page<Car> findByIdIn(Collection<Long> ids, Pageable pageable);
+
+    @EntityGraph(attributePaths = "branch")
+    List<Car> findByIdIn(Collection<Long> ids);
+
     /**
      * Find available cars for the given date range and branch.
      */
@@ -55,6 +77,7 @@ public interface CarRepository extends JpaRepository<Car, Long>, JpaSpecificatio
     /**
      * Find available cars with filters.
      */
+    @EntityGraph(attributePaths = "branch")
     @Query("""
         SELECT c FROM Car c 
         WHERE c.branch.id = :branchId 
@@ -87,6 +110,30 @@ public interface CarRepository extends JpaRepository<Car, Long>, JpaSpecificatio
     @Query("SELECT c FROM Car c WHERE c.nextServiceDate <= :date AND c.status != 'OUT_OF_SERVICE'")
     List<Car> findCarsNeedingService(@Param("date") LocalDate date);
 
+    /**
+     * Ids of the cars of a branch that can be rented at all, optionally of one category.
+     */
+    @Query("""
+        SELECT c.id FROM Car c
+        WHERE c.branch.id = :branchId
+        AND c.status <> 'OUT_OF_SERVICE'
+        AND (:category IS NULL OR c.category = :category)
+        ORDER BY c.id
+        """)
+    List<Long> findRentableIdsByBranch(@Param("branchId") Long branchId,
+                                       @Param("category") CarCategory category);
+
+    /**
+     * Rentable cars per home branch and category.
+     */
+    @Query("""
+        SELECT new com.nextstep.rentacar.service.rebalancing.FleetCount(c.branch.id, c.category, COUNT(c))
+        FROM Car c
+        WHERE c.status <> 'OUT_OF_SERVICE'
+        GROUP BY c.branch.id, c.category
+        """)
+    List<FleetCount> countRentableByBranchAndCategory();
+
     boolean existsByVin(String vin);
 
     // Override to include soft-deleted cars when needed
@@ -0,0 +1,62 @@
+package com.nextstep.rentacar.repository;
+
+import com.nextstep.rentacar.domain.entity.CategoryBooking;
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.service.rebalancing.ReservationFlow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for CategoryBooking entity.
+ */
+@Repository
+public interface CategoryBookingRepository extends JpaRepository<CategoryBooking, Long> {
+
+    /**
+     * Pending bookings of a (branch, category) pool overlapping the inclusive range.
+     */
+    @Query("""
+        SELECT b FROM CategoryBooking b
+        WHERE b.pickupBranch.id = :branchId
+        AND b.category = :category
+        AND b.status = 'PENDING'
+        AND b.startDate <= :endDate AND b.endDate >= :startDate
+        ORDER BY b.id
+        """)
+    List<CategoryBooking> findPendingOverlapping(@Param("branchId") Long branchId,
+                                                 @Param("category") CarCategory category,
+                                                 @Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate);
+
+    @Query("""
+        SELECT b FROM CategoryBooking b
+        WHERE b.pickupBranch.id = :branchId
+        AND b.status = 'PENDING'
+        ORDER BY b.id
+        """)
+    List<CategoryBooking> findPendingByBranch(@Param("branchId") Long branchId);
+
+    @Query("""
+        SELECT DISTINCT b.pickupBranch.id FROM CategoryBooking b
+        WHERE b.status = 'PENDING' AND b.startDate <= :through
+        """)
+    List<Long> findBranchIdsWithPendingStartingBy(@Param("through") LocalDate through);
+
+    /**
+     * Pickup and drop-off flows of the pending bookings touching a date window, for the rebalancing projection.
+     */
+    @Query("""
+        SELECT new com.nextstep.rentacar.service.rebalancing.ReservationFlow(
+            b.pickupBranch.id, b.dropoffBranch.id, b.category, b.startDate, b.endDate)
+        FROM CategoryBooking b
+        WHERE b.status = 'PENDING'
+        AND b.startDate <= :endDate AND b.endDate >= :startDate
+        """)
+    List<ReservationFlow> findPendingFlows(@Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate);
+}
@@ -3,6 +3,8 @@ package com.nextstep.rentacar.repository;
 import com.nextstep.rentacar.domain.entity.Maintenance;
 import com.nextstep.rentacar.domain.enums.MaintenanceStatus;
 import com.nextstep.rentacar.domain.enums.MaintenanceType;
+import com.nextstep.rentacar.service.availability.MaintenanceWindow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,6 +13,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -96,4 +99,58 @@ public interface MaintenanceRepository extends JpaRepository<Maintenance, Long>
         """)
     List<Maintenance> findUpcomingMaintenance(@Param("today") LocalDate today,
                                             @Param("futureDate") LocalDate futureDate);
+
+    /**
+     * Open maintenance of several cars that can block days up to the given date.
+     */
+    @Query("""
+        SELECT new com.nextstep.rentacar.service.availability.MaintenanceWindow(m.car.id, m.scheduledDate, m.status)
+        FROM Maintenance m
+        WHERE m.car.id IN :carIds
+        AND m.status IN ('SCHEDULED', 'IN_PROGRESS')
+        AND m.scheduledDate <= :endDate
+        """)
+    List<MaintenanceWindow> findOpenWindows(@Param("carIds") Collection<Long> carIds,
+                                            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Keyset page ordered by {@code (scheduledDate, id)} descending, seeking past the given position.
+     */
+    @Query("""
+        SELECT m FROM Maintenance m
+        WHERE (:carId IS NULL OR m.car.id = :carId)
+        AND (:employeeId IS NULL OR m.employee.id = :employeeId)
+        AND (:status IS NULL OR m.status = :status)
+        AND (:maintenanceType IS NULL OR m.maintenanceType = :maintenanceType)
+        AND (:branchId IS NULL OR m.car.branch.id = :branchId)
+        AND m.scheduledDate >= :fromDate
+        AND (m.scheduledDate < :afterDate OR (m.scheduledDate = :afterDate AND m.id < :afterId))
+        ORDER BY m.scheduledDate DESC, m.id DESC
+        """)
+    List<Maintenance> findPageAfter(@Param("carId") Long carId,
+                                    @Param("employeeId") Long employeeId,
+                                    @Param("status") MaintenanceStatus status,
+                                    @Param("maintenanceType") MaintenanceType maintenanceType,
+                                    @Param("branchId") Long branchId,
+                                    @Param("fromDate") LocalDate fromDate,
+                                    @Param("afterDate") LocalDate afterDate,
+                                    @Param("afterId") Long afterId,
+                                    Limit limit);
+
+    @Query("""
+        SELECT COUNT(m) FROM Maintenance m
+        WHERE (:carId IS NULL OR m.car.id = :carId)
+        AND (:employeeId IS NULL OR m.employee.id = :employeeId)
+        AND (:status IS NULL OR m.status = :status)
+        AND (:maintenanceType IS NULL OR m.maintenanceType = :maintenanceType)
+        AND (:branchId IS NULL OR m.car.branch.id = :branchId)
+        AND m.scheduledDate BETWEEN :fromDate AND :toDate
+        """)
+    long countInWindow(@Param("carId") Long carId,
+                       @Param("employeeId") Long employeeId,
+                       @Param("status") MaintenanceStatus status,
+                       @Param("maintenanceType") MaintenanceType maintenanceType,
+                       @Param("branchId") Long branchId,
+                       @Param("fromDate") LocalDate fromDate,
+                       @Param("toDate") LocalDate toDate);
 }
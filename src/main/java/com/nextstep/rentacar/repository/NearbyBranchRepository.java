@@ -0,0 +1,35 @@
+package com.nextstep.rentacar.repository;
+
+import com.nextstep.rentacar.domain.entity.NearbyBranch;
+import com.nextstep.rentacar.service.search.NearbyBranchView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for the precomputed nearest-branches table.
+ */
+@Repository
+public interface NearbyBranchRepository extends JpaRepository<NearbyBranch, Long> {
+
+    @Query("""
+            SELECT new com.nextstep.rentacar.service.search.NearbyBranchView(nb.id, nb.name, n.distanceKm)
+            FROM NearbyBranch n JOIN n.nearbyBranch nb
+            WHERE n.branch.id = :branchId
+            ORDER BY n.proximityRank
+            """)
+    List<NearbyBranchView> findNearest(@Param("branchId") Long branchId, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM NearbyBranch n")
+    void deleteAllRows();
+
+    @Modifying
+    @Query("DELETE FROM NearbyBranch n WHERE n.branch.id = :branchId OR n.nearbyBranch.id = :branchId")
+    void deleteInvolving(@Param("branchId") Long branchId);
+}
@@ -0,0 +1,22 @@
+package com.nextstep.rentacar.repository;
+
+import com.nextstep.rentacar.domain.entity.OutboxEvent;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Custom fragment for appending many outbox rows with one JDBC batch.
+ */
+public interface OutboxBatchRepository {
+
+    /**
+     * Inserts all events with a single JDBC batch, in list order so the relay sees them in that order.
+     */
+    void insertAll(List<OutboxEvent> events);
+
+    /**
+     * Records that the listener has processed the events, with a single JDBC batch.
+     */
+    void insertDeliveries(String listener, Collection<Long> eventIds);
+}
@@ -0,0 +1,61 @@
+package com.nextstep.rentacar.repository;
+
+import com.nextstep.rentacar.domain.entity.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+class OutboxBatchRepositoryImpl implements OutboxBatchRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, attempts, created_at, updated_at)
+        VALUES (:aggregateType, :aggregateId, :eventType, :payload, 0, :now, :now)
+        """;
+
+    private static final String INSERT_DELIVERY_SQL = """
+        INSERT INTO outbox_deliveries (event_id, listener, created_at, updated_at)
+        VALUES (:eventId, :listener, :now, :now)
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        // Auditing listeners do not run for JDBC writes, so timestamps are set here
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        SqlParameterSource[] batch = events.stream()
+                .map(e -> new MapSqlParameterSource()
+                        .addValue("aggregateType", e.getAggregateType())
+                        .addValue("aggregateId", e.getAggregateId())
+                        .addValue("eventType", e.getEventType().name())
+                        .addValue("payload", e.getPayload())
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+    }
+
+    @Override
+    public void insertDeliveries(String listener, Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        SqlParameterSource[] batch = eventIds.stream()
+                .map(id -> new MapSqlParameterSource()
+                        .addValue("eventId", id)
+                        .addValue("listener", listener)
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_DELIVERY_SQL, batch);
+    }
+}
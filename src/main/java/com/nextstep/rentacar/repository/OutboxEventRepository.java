@@ -0,0 +1,73 @@
+package com.nextstep.rentacar.repository;
+
+import com.nextstep.rentacar.domain.entity.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for OutboxEvent entity.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>, OutboxBatchRepository {
+
+    List<OutboxEvent> findByPublishedAtIsNullAndParkedAtIsNullOrderByIdAsc(Limit limit);
+
+    List<OutboxEvent> findByPublishedAtIsNotNullAndIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    List<OutboxEvent> findByAggregateTypeAndAggregateIdOrderByIdAsc(String aggregateType, Long aggregateId);
+
+    long countByPublishedAtIsNullAndParkedAtIsNull();
+
+    long countByParkedAtIsNotNull();
+
+    long countByPublishedAtIsNotNull();
+
+    /**
+     * Flushes first: listeners run in the same transaction and their pending writes must survive the clear.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") OffsetDateTime publishedAt);
+
+    /**
+     * Counts a failed delivery and parks the event once it has failed {@code maxAttempts} times.
+     */
+    @Modifying
+    @Query("""
+        UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error,
+            e.parkedAt = CASE WHEN e.attempts + 1 >= :maxAttempts THEN :now ELSE NULL END
+        WHERE e.id = :id
+        """)
+    int recordFailure(@Param("id") Long id, @Param("error") String error, @Param("maxAttempts") int maxAttempts,
+                      @Param("now") OffsetDateTime now);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.parkedAt = :now, e.lastError = :error WHERE e.id = :id")
+    int park(@Param("id") Long id, @Param("error") String error, @Param("now") OffsetDateTime now);
+
+    /**
+     * Returns parked events to the relay with a fresh attempt budget.
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.parkedAt = NULL, e.attempts = 0 WHERE e.parkedAt IS NOT NULL")
+    int requeueParked();
+
+    @Query("SELECT d.eventId FROM OutboxDelivery d WHERE d.listener = :listener AND d.eventId IN :eventIds")
+    List<Long> findDeliveredEventIds(@Param("listener") String listener, @Param("eventIds") Collection<Long> eventIds);
+
+    @Modifying
+    @Query("DELETE FROM OutboxDelivery d WHERE d.eventId IN (SELECT e.id FROM OutboxEvent e WHERE e.publishedAt < :before)")
+    int deleteDeliveriesPublishedBefore(@Param("before") OffsetDateTime before);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") OffsetDateTime before);
+}
@@ -3,6 +3,7 @@ package com.nextstep.rentacar.repository;
 import com.nextstep.rentacar.domain.entity.Payment;
 import com.nextstep.rentacar.domain.enums.PaymentMethod;
 import com.nextstep.rentacar.domain.enums.PaymentStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -84,5 +85,43 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
                                  @Param("endDate") OffsetDateTime endDate,
                                  Pageable pageable);
 
+    /**
+     * Keyset page ordered by {@code (paymentDate, id)} descending, seeking past the given position.
+     * Payments not yet authorized are positioned by their creation time, which they carry as payment date.
+     */
+    @Query("""
+        SELECT p FROM Payment p
+        WHERE (:reservationId IS NULL OR p.reservation.id = :reservationId)
+        AND (:status IS NULL OR p.status = :status)
+        AND (:paymentMethod IS NULL OR p.paymentMethod = :paymentMethod)
+        AND (:customerId IS NULL OR p.reservation.customer.id = :customerId)
+        AND p.paymentDate >= :fromDate
+        AND (p.paymentDate < :afterDate OR (p.paymentDate = :afterDate AND p.id < :afterId))
+        ORDER BY p.paymentDate DESC, p.id DESC
+        """)
+    List<Payment> findPageAfter(@Param("reservationId") Long reservationId,
+                                @Param("status") PaymentStatus status,
+                                @Param("paymentMethod") PaymentMethod paymentMethod,
+                                @Param("customerId") Long customerId,
+                                @Param("fromDate") OffsetDateTime fromDate,
+                                @Param("afterDate") OffsetDateTime afterDate,
+                                @Param("afterId") Long afterId,
+                                Limit limit);
+
+    @Query("""
+        SELECT COUNT(p) FROM Payment p
+        WHERE (:reservationId IS NULL OR p.reservation.id = :reservationId)
+        AND (:status IS NULL OR p.status = :status)
+        AND (:paymentMethod IS NULL OR p.paymentMethod = :paymentMethod)
+        AND (:customerId IS NULL OR p.reservation.customer.id = :customerId)
+        AND p.paymentDate BETWEEN :fromDate AND :toDate
+        """)
+    long countInWindow(@Param("reservationId") Long reservationId,
+                       @Param("status") PaymentStatus status,
+                       @Param("paymentMethod") PaymentMethod paymentMethod,
+                       @Param("customerId") Long customerId,
+                       @Param("fromDate") OffsetDateTime fromDate,
+                       @Param("toDate") OffsetDateTime toDate);
+
     boolean existsByTransactionRef(String transactionRef);
 }
@@ -0,0 +1,18 @@
+package com.nextstep.rentacar.repository;
+
+import com.nextstep.rentacar.domain.entity.RatePlan;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for RatePlan entity.
+ */
+@Repository
+public interface RatePlanRepository extends JpaRepository<RatePlan, Long> {
+
+    @Modifying
+    @Query("DELETE FROM RatePlan p")
+    void deleteAllPlans();
+}
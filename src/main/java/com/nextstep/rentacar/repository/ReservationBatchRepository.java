@@ -0,0 +1,40 @@
+package com.nextstep.rentacar.repository;
+
+import com.nextstep.rentacar.domain.entity.Reservation;
+import com.nextstep.rentacar.service.lifecycle.LifecycleCandidate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Custom fragment for set-based reservation writes that bypass per-entity persistence.
+ * <p>
+ * The lifecycle transitions update each candidate only while it is still at the version it was selected at, with one
+ * JDBC batch per chunk, and tell from the per-row update counts which rows they changed. A concurrent confirm or
+ * cancel, or the same job on another node, bumps the version first and the row is left to it.
+ */
+public interface ReservationBatchRepository {
+
+    /**
+     * Inserts all reservations with a single JDBC batch and returns the generated ids in input order.
+     */
+    List<Long> insertAll(List<Reservation> reservations);
+
+    /**
+     * Confirms the candidates that are still PENDING and paid. Returns the candidates whose row changed.
+     */
+    List<LifecycleCandidate> confirmPaid(List<LifecycleCandidate> candidates, OffsetDateTime now);
+
+    /**
+     * Completes the candidates that are still CONFIRMED and end on the date. Returns the candidates whose row changed.
+     */
+    List<LifecycleCandidate> completeEndingOn(List<LifecycleCandidate> candidates, LocalDate date, OffsetDateTime now);
+
+    /**
+     * Cancels the candidates that are still PENDING, stale and without an authorized or captured payment. Returns the
+     * candidates whose row changed.
+     */
+    List<LifecycleCandidate> expireStale(List<LifecycleCandidate> candidates, OffsetDateTime createdBefore,
+                                         LocalDate today, OffsetDateTime now);
+}
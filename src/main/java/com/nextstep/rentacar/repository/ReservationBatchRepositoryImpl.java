@@ -0,0 +1,134 @@
+package com.nextstep.rentacar.repository;
+
+import com.nextstep.rentacar.domain.entity.Reservation;
+import com.nextstep.rentacar.domain.enums.ReservationStatus;
+import com.nextstep.rentacar.service.lifecycle.LifecycleCandidate;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+class ReservationBatchRepositoryImpl implements ReservationBatchRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO reservations (customer_id, car_id, start_date, end_date, pickup_branch_id, dropoff_branch_id,
+                                  status, total_price, currency, notes, version, created_at, updated_at)
+        VALUES (:customerId, :carId, :startDate, :endDate, :pickupBranchId, :dropoffBranchId,
+                :status, :totalPrice, :currency, :notes, 0, :now, :now)
+        """;
+
+    /**
+     * Shared prefix of the lifecycle transitions. The start date is the candidate's own and lets Postgres prune the
+     * update to one partition.
+     */
+    private static final String TRANSITION_SQL = """
+        UPDATE reservations r SET status = :target, version = version + 1, updated_at = :now
+        WHERE r.id = :id AND r.version = :version AND r.start_date = :startDate
+        """;
+
+    private static final String CONFIRM_PAID_SQL = TRANSITION_SQL + """
+        AND r.status = 'PENDING'
+        AND (SELECT COALESCE(SUM(p.amount), 0) FROM payments p
+             WHERE p.reservation_id = r.id AND p.status = 'CAPTURED') >= r.total_price
+        """;
+
+    private static final String COMPLETE_SQL = TRANSITION_SQL + """
+        AND r.status = 'CONFIRMED'
+        AND r.end_date = :date
+        """;
+
+    private static final String EXPIRE_SQL = TRANSITION_SQL + """
+        AND r.status = 'PENDING'
+        AND (r.created_at < :createdBefore OR r.start_date < :today)
+        AND NOT EXISTS (SELECT 1 FROM payments p
+                        WHERE p.reservation_id = r.id AND p.status IN ('AUTHORIZED', 'CAPTURED'))
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Long> insertAll(List<Reservation> reservations) {
+        if (reservations.isEmpty()) {
+            return List.of();
+        }
+        // Auditing listeners do not run for JDBC writes, so timestamps are set here
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        SqlParameterSource[] batch = reservations.stream()
+                .map(r -> new MapSqlParameterSource()
+                        .addValue("customerId", r.getCustomer().getId())
+                        .addValue("carId", r.getCar().getId())
+                        .addValue("startDate", r.getStartDate())
+                        .addValue("endDate", r.getEndDate())
+                        .addValue("pickupBranchId", r.getPickupBranch().getId())
+                        .addValue("dropoffBranchId", r.getDropoffBranch().getId())
+                        .addValue("status", r.getStatus().name())
+                        .addValue("totalPrice", r.getTotalPrice())
+                        .addValue("currency", r.getCurrency())
+                        .addValue("notes", r.getNotes())
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, keyHolder, new String[]{"id"});
+        return keyHolder.getKeyList().stream()
+                .map(Map::values)
+                .map(values -> ((Number) values.iterator().next()).longValue())
+                .toList();
+    }
+
+    @Override
+    public List<LifecycleCandidate> confirmPaid(List<LifecycleCandidate> candidates, OffsetDateTime now) {
+        return transition(CONFIRM_PAID_SQL, candidates, ReservationStatus.CONFIRMED, now, Map.of());
+    }
+
+    @Override
+    public List<LifecycleCandidate> completeEndingOn(List<LifecycleCandidate> candidates, LocalDate date,
+                                                     OffsetDateTime now) {
+        return transition(COMPLETE_SQL, candidates, ReservationStatus.COMPLETED, now, Map.of("date", date));
+    }
+
+    @Override
+    public List<LifecycleCandidate> expireStale(List<LifecycleCandidate> candidates, OffsetDateTime createdBefore,
+                                                LocalDate today, OffsetDateTime now) {
+        return transition(EXPIRE_SQL, candidates, ReservationStatus.CANCELLED, now,
+                Map.of("createdBefore", createdBefore, "today", today));
+    }
+
+    private List<LifecycleCandidate> transition(String sql, List<LifecycleCandidate> candidates,
+                                                ReservationStatus target, OffsetDateTime now,
+                                                Map<String, Object> params) {
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        // Same contract as a clearing @Modifying query: pending entity changes go first, stale entities go after
+        entityManager.flush();
+        SqlParameterSource[] batch = candidates.stream()
+                .map(c -> new MapSqlParameterSource(params)
+                        .addValue("target", target.name())
+                        .addValue("now", now)
+                        .addValue("id", c.id())
+                        .addValue("version", c.version())
+                        .addValue("startDate", c.startDate()))
+                .toArray(SqlParameterSource[]::new);
+        int[] counts = jdbcTemplate.batchUpdate(sql, batch);
+        entityManager.clear();
+        List<LifecycleCandidate> changed = new ArrayList<>(candidates.size());
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                changed.add(candidates.get(i));
+            }
+        }
+        return changed;
+    }
+}
@@ -2,46 +2,192 @@ package com.nextstep.rentacar.repository;
 
 import com.nextstep.rentacar.domain.entity.Reservation;
 import com.nextstep.rentacar.domain.enums.ReservationStatus;
+import com.nextstep.rentacar.service.availability.ReservationSlot;
+import com.nextstep.rentacar.service.lifecycle.LifecycleCandidate;
+import com.nextstep.rentacar.service.rebalancing.ReservationFlow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import jakarta.persistence.LockModeType;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Repository interface for Reservation entity with overlap prevention.
+ * <p>
+ * Queries over active or overlapping reservations also bound {@code startDate} from below with
+ * {@link Reservation#earliestOverlappingStart}. The bound is implied by the overlap itself (rentals never exceed
+ * {@link Reservation#MAX_RENTAL_DAYS}), so results are unchanged, but it lets Postgres prune the monthly partitions
+ * of reservations down to the recent ones.
  */
 @Repository
-public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+public interface ReservationRepository extends JpaRepository<Reservation, Long>, JpaSpecificationExecutor<Reservation>,
+        ReservationBatchRepository {
 
+    /**
+     * Associations read by {@code ReservationMapper.toResponseDto}; listings fetch them in the page query
+     * instead of one lazy select per row and association.
+     */
+    String[] RESPONSE_GRAPH = {"customer", "car", "car.branch", "pickupBranch", "dropoffBranch"};
+
+    @EntityGraph(attributePaths = {"customer", "car", "car.branch", "pickupBranch", "dropoffBranch"})
     Page<Reservation> findByCustomerId(Long customerId, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"customer", "car", "car.branch", "pickupBranch", "dropoffBranch"})
     Page<Reservation> findByCarId(Long carId, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"customer", "car", "car.branch", "pickupBranch", "dropoffBranch"})
     Page<Reservation> findByStatus(ReservationStatus status, Pageable pageable);
 
+    @Override
+    @EntityGraph(attributePaths = {"customer", "car", "car.branch", "pickupBranch", "dropoffBranch"})
+    Page<Reservation> findAll(Specification<Reservation> spec, Pageable pageable);
+
     List<Reservation> findByCustomerIdAndStatus(Long customerId, ReservationStatus status);
 
     /**
-     * Check for overlapping reservations - critical for preventing double booking.
-     * Uses pessimistic locking for consistency.
+     * Find overlapping active reservations of a car.
+     * Double booking is prevented by the per-car booking coordinator, not by row locks.
      */
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    default List<Reservation> findOverlappingReservations(Long carId, LocalDate startDate, LocalDate endDate) {
+        return findOverlappingReservations(carId, startDate, endDate, Reservation.earliestOverlappingStart(startDate));
+    }
+
     @Query("""
         SELECT r FROM Reservation r 
         WHERE r.car.id = :carId 
         AND r.status IN ('PENDING', 'CONFIRMED')
         AND ((r.startDate <= :endDate) AND (r.endDate >= :startDate))
+        AND r.startDate >= :earliestStart
         """)
     List<Reservation> findOverlappingReservations(@Param("carId") Long carId,
                                                  @Param("startDate") LocalDate startDate,
-                                                 @Param("endDate") LocalDate endDate);
+                                                 @Param("endDate") LocalDate endDate,
+                                                 @Param("earliestStart") LocalDate earliestStart);
+
+    /**
+     * Existence check used by the booking path; avoids materializing overlapping rows.
+     */
+    default boolean existsOverlappingReservation(Long carId, LocalDate startDate, LocalDate endDate, Long excludeId) {
+        return existsOverlappingReservation(carId, startDate, endDate, Reservation.earliestOverlappingStart(startDate),
+                excludeId);
+    }
+
+    @Query("""
+        SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END FROM Reservation r
+        WHERE r.car.id = :carId
+        AND r.status IN ('PENDING', 'CONFIRMED')
+        AND ((r.startDate <= :endDate) AND (r.endDate >= :startDate))
+        AND r.startDate >= :earliestStart
+        AND (:excludeId IS NULL OR r.id <> :excludeId)
+        """)
+    boolean existsOverlappingReservation(@Param("carId") Long carId,
+                                         @Param("startDate") LocalDate startDate,
+                                         @Param("endDate") LocalDate endDate,
+                                         @Param("earliestStart") LocalDate earliestStart,
+                                         @Param("excludeId") Long excludeId);
+
+    /**
+     * Active reservation intervals of several cars within a date window, fetched in one round trip.
+     */
+    default List<ReservationSlot> findActiveSlots(Collection<Long> carIds, LocalDate startDate, LocalDate endDate) {
+        return findActiveSlots(carIds, startDate, endDate, Reservation.earliestOverlappingStart(startDate));
+    }
+
+    @Query("""
+        SELECT new com.nextstep.rentacar.service.availability.ReservationSlot(r.id, r.car.id, r.startDate, r.endDate)
+        FROM Reservation r
+        WHERE r.car.id IN :carIds
+        AND r.status IN ('PENDING', 'CONFIRMED')
+        AND ((r.startDate <= :endDate) AND (r.endDate >= :startDate))
+        AND r.startDate >= :earliestStart
+        """)
+    List<ReservationSlot> findActiveSlots(@Param("carIds") Collection<Long> carIds,
+                                          @Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate,
+                                          @Param("earliestStart") LocalDate earliestStart);
+
+    /**
+     * Pickup and drop-off flows of the active reservations touching a date window, for the rebalancing projection.
+     */
+    default List<ReservationFlow> findActiveFlows(LocalDate startDate, LocalDate endDate) {
+        return findActiveFlows(startDate, endDate, Reservation.earliestOverlappingStart(startDate));
+    }
+
+    @Query("""
+        SELECT new com.nextstep.rentacar.service.rebalancing.ReservationFlow(
+            r.pickupBranch.id, r.dropoffBranch.id, c.category, r.startDate, r.endDate)
+        FROM Reservation r JOIN r.car c
+        WHERE r.status IN ('PENDING', 'CONFIRMED')
+        AND ((r.startDate <= :endDate) AND (r.endDate >= :startDate))
+        AND r.startDate >= :earliestStart
+        """)
+    List<ReservationFlow> findActiveFlows(@Param("startDate") LocalDate startDate,
+                                         @Param("endDate") LocalDate endDate,
+                                         @Param("earliestStart") LocalDate earliestStart);
+
+    /**
+     * PENDING reservations whose captured payments cover the total price, in id order after {@code afterId}.
+     */
+    @Query("""
+        SELECT new com.nextstep.rentacar.service.lifecycle.LifecycleCandidate(r.id, r.version, r.customer.id,
+            r.car.id, r.pickupBranch.id, r.startDate, r.endDate, r.totalPrice, r.currency)
+        FROM Reservation r
+        WHERE r.id > :afterId
+        AND r.status = 'PENDING'
+        AND (SELECT COALESCE(SUM(p.amount), 0) FROM Payment p
+             WHERE p.reservation = r AND p.status = 'CAPTURED') >= r.totalPrice
+        ORDER BY r.id
+        """)
+    List<LifecycleCandidate> findConfirmable(@Param("afterId") long afterId, Limit limit);
+
+    /**
+     * CONFIRMED reservations ending on the date, in id order after {@code afterId}. Pass
+     * {@link Reservation#earliestOverlappingStart} of the date as {@code earliestStart}.
+     */
+    @Query("""
+        SELECT new com.nextstep.rentacar.service.lifecycle.LifecycleCandidate(r.id, r.version, r.customer.id,
+            r.car.id, r.pickupBranch.id, r.startDate, r.endDate, r.totalPrice, r.currency)
+        FROM Reservation r
+        WHERE r.id > :afterId
+        AND r.status = 'CONFIRMED'
+        AND r.endDate = :date
+        AND r.startDate >= :earliestStart
+        ORDER BY r.id
+        """)
+    List<LifecycleCandidate> findCompletable(@Param("date") LocalDate date,
+                                             @Param("earliestStart") LocalDate earliestStart,
+                                             @Param("afterId") long afterId,
+                                             Limit limit);
+
+    /**
+     * PENDING reservations without an authorized or captured payment that were created before the cutoff or
+     * should already have been picked up, in id order after {@code afterId}.
+     */
+    @Query("""
+        SELECT new com.nextstep.rentacar.service.lifecycle.LifecycleCandidate(r.id, r.version, r.customer.id,
+            r.car.id, r.pickupBranch.id, r.startDate, r.endDate, r.totalPrice, r.currency)
+        FROM Reservation r
+        WHERE r.id > :afterId
+        AND r.status = 'PENDING'
+        AND (r.createdAt < :createdBefore OR r.startDate < :today)
+        AND NOT EXISTS (SELECT 1 FROM Payment p
+                        WHERE p.reservation = r AND p.status IN ('AUTHORIZED', 'CAPTURED'))
+        ORDER BY r.id
+        """)
+    List<LifecycleCandidate> findStale(@Param("createdBefore") OffsetDateTime createdBefore,
+                                       @Param("today") LocalDate today,
+                                       @Param("afterId") long afterId,
+                                       Limit limit);
 
     /**
      * Find reservations for a date range with filters.
@@ -64,16 +210,35 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
                                                  Pageable pageable);
 
     /**
-     * Find active reservations (PENDING or CONFIRMED).
+     * Find active reservations (PENDING or CONFIRMED) that have not ended yet.
      */
-    @Query("SELECT r FROM Reservation r WHERE r.status IN ('PENDING', 'CONFIRMED')")
-    List<Reservation> findActiveReservations();
+    default List<Reservation> findActiveReservations() {
+        LocalDate today = LocalDate.now();
+        return findActiveReservations(today, Reservation.earliestOverlappingStart(today));
+    }
+
+    @Query("""
+        SELECT r FROM Reservation r
+        WHERE r.status IN ('PENDING', 'CONFIRMED')
+        AND r.endDate >= :today
+        AND r.startDate >= :earliestStart
+        """)
+    List<Reservation> findActiveReservations(@Param("today") LocalDate today,
+                                             @Param("earliestStart") LocalDate earliestStart);
 
     /**
      * Find reservations ending today (for completion).
      */
-    @Query("SELECT r FROM Reservation r WHERE r.endDate = :date AND r.status = 'CONFIRMED'")
-    List<Reservation> findReservationsEndingOnDate(@Param("date") LocalDate date);
+    @Query("""
+        SELECT r FROM Reservation r
+        WHERE r.endDate = :date AND r.startDate >= :earliestStart AND r.status = 'CONFIRMED'
+        """)
+    List<Reservation> findReservationsEndingOnDate(@Param("date") LocalDate date,
+                                                   @Param("earliestStart") LocalDate earliestStart);
+
+    default List<Reservation> findReservationsEndingOnDate(LocalDate date) {
+        return findReservationsEndingOnDate(date, Reservation.earliestOverlappingStart(date));
+    }
 
     /**
      * Find upcoming reservations (starting tomorrow).
@@ -87,6 +252,27 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     @Query("SELECT r.status, COUNT(r) FROM Reservation r GROUP BY r.status")
     List<Object[]> getReservationCountByStatus();
 
+    /**
+     * Reservations with every association the search projection reads, fetched in one query.
+     */
+    @Query("""
+        SELECT r FROM Reservation r
+        JOIN FETCH r.customer JOIN FETCH r.car JOIN FETCH r.pickupBranch JOIN FETCH r.dropoffBranch
+        WHERE r.id IN :ids
+        """)
+    List<Reservation> findForSearchProjection(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Keyset walk over all reservations for rebuilding the search projection.
+     */
+    @Query("""
+        SELECT r FROM Reservation r
+        JOIN FETCH r.customer JOIN FETCH r.car JOIN FETCH r.pickupBranch JOIN FETCH r.dropoffBranch
+        WHERE r.id > :afterId
+        ORDER BY r.id
+        """)
+    List<Reservation> findForSearchProjectionAfter(@Param("afterId") Long afterId, Limit limit);
+
     /**
      * Find reservations with comprehensive filters.
      */
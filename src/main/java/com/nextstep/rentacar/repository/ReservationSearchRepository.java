@@ -0,0 +1,33 @@
+package com.nextstep.rentacar.repository;
+
+import com.nextstep.rentacar.domain.entity.ReservationSearchEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Repository interface for the denormalized reservation search table. Every filter is a column of the row,
+ * so searches never join.
+ */
+@Repository
+public interface ReservationSearchRepository extends JpaRepository<ReservationSearchEntry, Long>,
+        JpaSpecificationExecutor<ReservationSearchEntry> {
+
+    @Override
+    Page<ReservationSearchEntry> findAll(Specification<ReservationSearchEntry> spec, Pageable pageable);
+
+    /**
+     * Removes rows a rebuild did not touch, i.e. whose reservation no longer exists in the source tables.
+     */
+    @Modifying
+    @Query("DELETE FROM ReservationSearchEntry e WHERE e.projectedAt < :rebuildStartedAt")
+    int deleteProjectedBefore(@Param("rebuildStartedAt") OffsetDateTime rebuildStartedAt);
+}
@@ -0,0 +1,31 @@
+package com.nextstep.rentacar.repository;
+
+import com.nextstep.rentacar.domain.entity.WaitlistEntry;
+import com.nextstep.rentacar.domain.enums.WaitlistStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for WaitlistEntry entity.
+ */
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    List<WaitlistEntry> findByStatus(WaitlistStatus status);
+
+    List<WaitlistEntry> findByStatusAndOfferExpiresAtBefore(WaitlistStatus status, OffsetDateTime before);
+
+    List<WaitlistEntry> findByCustomerIdAndOfferedCarIdAndStartDateAndEndDateAndStatus(Long customerId,
+                                                                                      Long carId,
+                                                                                      LocalDate startDate,
+                                                                                      LocalDate endDate,
+                                                                                      WaitlistStatus status);
+
+    Page<WaitlistEntry> findByCustomerIdOrderByIdDesc(Long customerId, Pageable pageable);
+}
@@ -0,0 +1,24 @@
+package com.nextstep.rentacar.repository;
+
+import com.nextstep.rentacar.domain.entity.WaitlistSignal;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for WaitlistSignal entity.
+ */
+@Repository
+public interface WaitlistSignalRepository extends JpaRepository<WaitlistSignal, Long> {
+
+    List<WaitlistSignal> findByAttemptsLessThanOrderByIdAsc(int maxAttempts, Limit limit);
+
+    @Modifying
+    @Query("UPDATE WaitlistSignal s SET s.attempts = s.attempts + 1 WHERE s.id = :id")
+    int recordFailure(@Param("id") Long id);
+}
@@ -0,0 +1,13 @@
+package com.nextstep.rentacar.service;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.dto.response.AvailabilityCalendarResponseDto;
+
+import java.time.LocalDate;
+
+public interface AvailabilityCalendarService {
+
+    AvailabilityCalendarResponseDto carCalendar(Long carId, LocalDate from, LocalDate to);
+
+    AvailabilityCalendarResponseDto branchCalendar(Long branchId, CarCategory category, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,26 @@
+package com.nextstep.rentacar.service;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.domain.enums.FuelType;
+import com.nextstep.rentacar.domain.enums.TransmissionType;
+import com.nextstep.rentacar.dto.response.AvailabilitySearchResponseDto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface AvailabilitySearchService {
+
+    /**
+     * Runs the availability search and, when it comes back empty, suggests the same search at nearby branches,
+     * with an upgraded category, or with the dates shifted by a few days.
+     */
+    AvailabilitySearchResponseDto searchWithAlternatives(Long branchId,
+                                                         LocalDate startDate,
+                                                         LocalDate endDate,
+                                                         CarCategory category,
+                                                         TransmissionType transmission,
+                                                         FuelType fuelType,
+                                                         Integer minSeats,
+                                                         BigDecimal maxPrice,
+                                                         int size);
+}
@@ -5,6 +5,7 @@ import com.nextstep.rentacar.domain.enums.FuelType;
 import com.nextstep.rentacar.domain.enums.TransmissionType;
 import com.nextstep.rentacar.dto.request.CarFilterDto;
 import com.nextstep.rentacar.dto.request.CarRequestDto;
+import com.nextstep.rentacar.dto.response.CarFacetSearchResponseDto;
 import com.nextstep.rentacar.dto.response.CarListResponseDto;
 import com.nextstep.rentacar.dto.response.CarResponseDto;
 import org.springframework.data.domain.Page;
@@ -42,4 +43,6 @@ public interface CarService {
                                            Pageable pageable);
 
     Page<CarListResponseDto> list(CarFilterDto filter, Pageable pageable);
+
+    CarFacetSearchResponseDto facets(CarFilterDto filter, Pageable pageable);
 }
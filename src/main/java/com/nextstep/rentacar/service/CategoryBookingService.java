@@ -0,0 +1,30 @@
+package com.nextstep.rentacar.service;
+
+import com.nextstep.rentacar.dto.request.CategoryBookingRequestDto;
+import com.nextstep.rentacar.dto.response.CategoryAssignmentReportDto;
+import com.nextstep.rentacar.dto.response.CategoryBookingResponseDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Bookings by category and branch with the concrete car assigned close to pickup.
+ */
+public interface CategoryBookingService {
+
+    CategoryBookingResponseDto book(CategoryBookingRequestDto request);
+
+    CategoryBookingResponseDto getById(Long id);
+
+    /**
+     * Cancels the booking and, once assigned, its reservation.
+     */
+    void cancel(Long id);
+
+    /**
+     * Plans all pending bookings of the branch per category and binds those picking up on or before
+     * {@code through} ({@code null}: the configured lead time from today) to cars. Returns one report per
+     * category pool.
+     */
+    List<CategoryAssignmentReportDto> assign(Long branchId, LocalDate through);
+}
@@ -3,6 +3,7 @@ package com.nextstep.rentacar.service;
 import com.nextstep.rentacar.domain.entity.Maintenance;
 import com.nextstep.rentacar.domain.enums.MaintenanceStatus;
 import com.nextstep.rentacar.domain.enums.MaintenanceType;
+import com.nextstep.rentacar.dto.response.CursorPageDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -28,5 +29,20 @@ public interface MaintenanceService {
                                     LocalDate endDate,
                                     Pageable pageable);
 
+    /**
+     * Keyset listing ordered by scheduled date then id, newest first. {@code cursor} is the token of the
+     * previous page (null for the first page); the total is only counted when requested.
+     */
+    CursorPageDto<Maintenance> scrollByFilters(Long carId,
+                                               Long employeeId,
+                                               MaintenanceStatus status,
+                                               MaintenanceType maintenanceType,
+                                               Long branchId,
+                                               LocalDate startDate,
+                                               LocalDate endDate,
+                                               String cursor,
+                                               Integer size,
+                                               boolean includeTotal);
+
     List<Maintenance> findScheduledForDate(LocalDate date);
 }
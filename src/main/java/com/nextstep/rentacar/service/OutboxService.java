@@ -0,0 +1,24 @@
+package com.nextstep.rentacar.service;
+
+import com.nextstep.rentacar.dto.response.OutboxRelayResultDto;
+import com.nextstep.rentacar.dto.response.OutboxStatisticsDto;
+
+public interface OutboxService {
+
+    /**
+     * Relays every pending event now instead of waiting for the scheduled relay.
+     */
+    OutboxRelayResultDto relayPending();
+
+    /**
+     * Rebuilds the in-memory projections from the retained published events.
+     */
+    OutboxRelayResultDto replay();
+
+    /**
+     * Returns parked events to the relay with a fresh attempt budget, once whatever made them fail has been fixed.
+     */
+    OutboxRelayResultDto requeueParked();
+
+    OutboxStatisticsDto statistics();
+}
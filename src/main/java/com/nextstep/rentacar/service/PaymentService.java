@@ -0,0 +1,25 @@
+package com.nextstep.rentacar.service;
+
+import com.nextstep.rentacar.domain.enums.PaymentMethod;
+import com.nextstep.rentacar.domain.enums.PaymentStatus;
+import com.nextstep.rentacar.dto.response.CursorPageDto;
+import com.nextstep.rentacar.dto.response.PaymentResponseDto;
+
+import java.time.OffsetDateTime;
+
+public interface PaymentService {
+
+    /**
+     * Keyset listing ordered by payment date then id, newest first. {@code cursor} is the token of the
+     * previous page (null for the first page); the total is only counted when requested.
+     */
+    CursorPageDto<PaymentResponseDto> scrollWithFilters(Long reservationId,
+                                                        PaymentStatus status,
+                                                        PaymentMethod paymentMethod,
+                                                        Long customerId,
+                                                        OffsetDateTime startDate,
+                                                        OffsetDateTime endDate,
+                                                        String cursor,
+                                                        Integer size,
+                                                        boolean includeTotal);
+}
@@ -0,0 +1,24 @@
+package com.nextstep.rentacar.service;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.dto.request.RatePlanRequestDto;
+import com.nextstep.rentacar.dto.response.QuoteResponseDto;
+import com.nextstep.rentacar.dto.response.RatePlanResponseDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface PricingService {
+
+    /**
+     * Prices every car available at the branch for the date range, optionally restricted to one category.
+     */
+    QuoteResponseDto quote(Long branchId, LocalDate startDate, LocalDate endDate, CarCategory category);
+
+    List<RatePlanResponseDto> listRatePlans();
+
+    /**
+     * Replaces all rate plans with the given set and publishes the compiled rates.
+     */
+    List<RatePlanResponseDto> publishRatePlans(List<RatePlanRequestDto> plans);
+}
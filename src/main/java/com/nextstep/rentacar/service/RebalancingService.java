@@ -0,0 +1,26 @@
+package com.nextstep.rentacar.service;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.dto.response.InventoryProjectionDto;
+import com.nextstep.rentacar.dto.response.RebalancingPlanDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Where cars will be, and which one-way imbalances to correct with branch transfers.
+ */
+public interface RebalancingService {
+
+    /**
+     * Projected inventory per branch and category starting {@code from} (default: today) for {@code days} days
+     * (default: the configured horizon). Branch and category narrow the result; pools no car or booking touches are
+     * left out.
+     */
+    List<InventoryProjectionDto> projectInventory(LocalDate from, Integer days, Long branchId, CarCategory category);
+
+    /**
+     * Transfers that keep every branch at its safety stock over the window, at minimum total distance.
+     */
+    RebalancingPlanDto plan(LocalDate from, Integer days);
+}
@@ -0,0 +1,25 @@
+package com.nextstep.rentacar.service;
+
+import com.nextstep.rentacar.dto.response.ReservationHoldResponseDto;
+
+import java.time.LocalDate;
+
+/**
+ * Short-lived, in-memory holds on a car/date interval used during checkout.
+ */
+public interface ReservationHoldService {
+
+    ReservationHoldResponseDto place(Long carId, LocalDate startDate, LocalDate endDate);
+
+    void release(String token);
+
+    /**
+     * Verifies that the token is a live hold for exactly this car and dates.
+     */
+    void verify(String token, Long carId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Returns true if a live hold other than {@code ownToken} overlaps the range.
+     */
+    boolean hasConflictingHold(Long carId, LocalDate startDate, LocalDate endDate, String ownToken);
+}
@@ -0,0 +1,29 @@
+package com.nextstep.rentacar.service;
+
+import com.nextstep.rentacar.dto.response.BulkTransitionResultDto;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * Set-based reservation transitions for the nightly jobs. Eligibility is checked in the database and rows are
+ * updated a chunk at a time, one transaction per chunk; one outbox event is written per row that changed.
+ */
+public interface ReservationLifecycleService {
+
+    /**
+     * Confirms PENDING reservations whose captured payments cover the total price.
+     */
+    BulkTransitionResultDto confirmPaid();
+
+    /**
+     * Completes CONFIRMED reservations ending on {@code date} ({@code null}: today).
+     */
+    BulkTransitionResultDto completeEndingOn(LocalDate date);
+
+    /**
+     * Cancels PENDING reservations without an authorized or captured payment that were created before
+     * {@code createdBefore} ({@code null}: the configured pending TTL ago) or whose start date has passed.
+     */
+    BulkTransitionResultDto expireStale(OffsetDateTime createdBefore);
+}
@@ -0,0 +1,24 @@
+package com.nextstep.rentacar.service;
+
+import com.nextstep.rentacar.dto.request.ReservationSearchFilterDto;
+import com.nextstep.rentacar.dto.response.ReservationSearchRebuildResultDto;
+import com.nextstep.rentacar.dto.response.ReservationSearchResultDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Back-office reservation search over the denormalized {@code reservation_search} read model. Results trail
+ * reservation writes by the outbox relay interval.
+ */
+public interface ReservationSearchService {
+
+    /**
+     * Searches with any combination of filters; sortable by any column of the result.
+     */
+    Page<ReservationSearchResultDto> search(ReservationSearchFilterDto filter, Pageable pageable);
+
+    /**
+     * Reprojects every reservation from the source tables.
+     */
+    ReservationSearchRebuildResultDto rebuild();
+}
@@ -2,16 +2,30 @@ package com.nextstep.rentacar.service;
 
 import com.nextstep.rentacar.domain.enums.ReservationStatus;
 import com.nextstep.rentacar.dto.request.ReservationRequestDto;
+import com.nextstep.rentacar.dto.response.BatchReservationResponseDto;
+import com.nextstep.rentacar.dto.response.CursorPageDto;
 import com.nextstep.rentacar.dto.response.ReservationResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.List;
 
 public interface ReservationService {
 
     ReservationResponseDto create(ReservationRequestDto request);
 
+    /**
+     * Creates the reservation that binds a category booking to a car. The pool capacity was reserved when the
+     * category booking was made, so only the car itself is checked.
+     */
+    ReservationResponseDto createForCategoryBooking(ReservationRequestDto request);
+
+    /**
+     * Creates many reservations with a single availability pass; each item reports its own outcome.
+     */
+    BatchReservationResponseDto createBatch(List<ReservationRequestDto> requests);
+
     ReservationResponseDto update(Long id, ReservationRequestDto request);
 
     ReservationResponseDto getById(Long id);
@@ -33,4 +47,18 @@ public interface ReservationService {
                                                  LocalDate startDate,
                                                  LocalDate endDate,
                                                  Pageable pageable);
+
+    /**
+     * Keyset listing ordered by start date then id, newest first. {@code cursor} is the token of the
+     * previous page (null for the first page); the total is only counted when requested.
+     */
+    CursorPageDto<ReservationResponseDto> scrollWithFilters(Long customerId,
+                                                            Long carId,
+                                                            ReservationStatus status,
+                                                            Long branchId,
+                                                            LocalDate startDate,
+                                                            LocalDate endDate,
+                                                            String cursor,
+                                                            Integer size,
+                                                            boolean includeTotal);
 }
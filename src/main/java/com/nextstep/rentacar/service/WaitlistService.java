@@ -0,0 +1,23 @@
+package com.nextstep.rentacar.service;
+
+import com.nextstep.rentacar.dto.request.WaitlistRequestDto;
+import com.nextstep.rentacar.dto.response.WaitlistEntryResponseDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Customers waiting for a car of a category at a branch. Freed cars are offered asynchronously as checkout holds.
+ */
+public interface WaitlistService {
+
+    WaitlistEntryResponseDto join(WaitlistRequestDto request);
+
+    WaitlistEntryResponseDto getById(Long id);
+
+    Page<WaitlistEntryResponseDto> listByCustomer(Long customerId, Pageable pageable);
+
+    /**
+     * Leaves the waitlist. An open offer is withdrawn and its car passed on to the next waiting request.
+     */
+    void cancel(Long id);
+}
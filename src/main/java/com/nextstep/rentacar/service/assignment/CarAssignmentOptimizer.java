@@ -0,0 +1,218 @@
+package com.nextstep.rentacar.service.assignment;
+
+import com.nextstep.rentacar.service.availability.ReservationSlot;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interval-scheduling optimizer that places category bookings on concrete cars of one pool.
+ * <p>
+ * Each car is a bitmap of occupied days over the planning window. Bookings are placed longest first
+ * (first-fit-decreasing); among the cars a booking fits on, the one left with the fewest unsellable holes and then the
+ * least idle time around the booking wins, which packs bookings back to back instead of scattering them. The
+ * arrival-order first-fit placement that per-car booking effectively performs is available as a baseline.
+ */
+public final class CarAssignmentOptimizer {
+
+    /**
+     * Under the inclusive date rule a rental occupies at least two calendar days, so a one-day hole can never be sold.
+     */
+    static final int MIN_BOOKABLE_DAYS = 2;
+
+    private CarAssignmentOptimizer() {
+    }
+
+    /**
+     * A booking to place, with inclusive dates.
+     */
+    public record Demand(Long id, LocalDate startDate, LocalDate endDate) {
+
+        long days() {
+            return ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        }
+    }
+
+    /**
+     * Outcome of a placement: car per placed demand, demands that fit on no car, and the resulting pool utilization
+     * (occupied share of all car-days in the window) and unsellable hole days.
+     */
+    public record Plan(Map<Long, Long> carByDemand, List<Long> unplaced, double utilization, int orphanDays) {
+    }
+
+    public static Plan firstFitDecreasing(List<Long> carIds, Collection<ReservationSlot> booked, List<Demand> demands) {
+        List<Demand> ordered = new ArrayList<>(demands);
+        ordered.sort(Comparator.comparingLong(Demand::days).reversed()
+                .thenComparing(Demand::startDate)
+                .thenComparing(Demand::id));
+        Fleet fleet = Fleet.of(carIds, booked, demands);
+        Map<Long, Long> carByDemand = new LinkedHashMap<>();
+        List<Long> unplaced = new ArrayList<>();
+        for (Demand demand : ordered) {
+            int start = fleet.dayOf(demand.startDate());
+            int end = fleet.dayOf(demand.endDate());
+            int best = -1;
+            long bestScore = Long.MAX_VALUE;
+            for (int car = 0; car < fleet.carIds.length; car++) {
+                if (fleet.fits(car, start, end)) {
+                    long score = fleet.score(car, start, end);
+                    if (score < bestScore) {
+                        best = car;
+                        bestScore = score;
+                    }
+                }
+            }
+            if (best < 0) {
+                unplaced.add(demand.id());
+            } else {
+                fleet.occupy(best, start, end);
+                carByDemand.put(demand.id(), fleet.carIds[best]);
+            }
+        }
+        return new Plan(carByDemand, unplaced, fleet.utilization(), fleet.orphanDays());
+    }
+
+    /**
+     * Baseline: demands in arrival (id) order, each on the first car (ascending id) that is free.
+     */
+    public static Plan firstFitInArrivalOrder(List<Long> carIds, Collection<ReservationSlot> booked, List<Demand> demands) {
+        List<Demand> ordered = new ArrayList<>(demands);
+        ordered.sort(Comparator.comparing(Demand::id));
+        Fleet fleet = Fleet.of(carIds, booked, demands);
+        Map<Long, Long> carByDemand = new LinkedHashMap<>();
+        List<Long> unplaced = new ArrayList<>();
+        for (Demand demand : ordered) {
+            int start = fleet.dayOf(demand.startDate());
+            int end = fleet.dayOf(demand.endDate());
+            int car = 0;
+            while (car < fleet.carIds.length && !fleet.fits(car, start, end)) {
+                car++;
+            }
+            if (car == fleet.carIds.length) {
+                unplaced.add(demand.id());
+            } else {
+                fleet.occupy(car, start, end);
+                carByDemand.put(demand.id(), fleet.carIds[car]);
+            }
+        }
+        return new Plan(carByDemand, unplaced, fleet.utilization(), fleet.orphanDays());
+    }
+
+    /**
+     * Utilization of the pool over the demands' window before anything is placed.
+     */
+    public static double utilization(List<Long> carIds, Collection<ReservationSlot> booked, List<Demand> demands) {
+        return Fleet.of(carIds, booked, demands).utilization();
+    }
+
+    /**
+     * Occupancy bitmaps of a car pool over the window spanned by the demands.
+     */
+    private static final class Fleet {
+
+        private final LocalDate from;
+        private final int days;
+        private final long[] carIds;
+        private final BitSet[] occupied;
+
+        private Fleet(LocalDate from, int days, long[] carIds) {
+            this.from = from;
+            this.days = days;
+            this.carIds = carIds;
+            this.occupied = new BitSet[carIds.length];
+            for (int i = 0; i < carIds.length; i++) {
+                occupied[i] = new BitSet(days);
+            }
+        }
+
+        static Fleet of(List<Long> carIds, Collection<ReservationSlot> booked, List<Demand> demands) {
+            LocalDate from = demands.stream().map(Demand::startDate).min(LocalDate::compareTo).orElse(LocalDate.now());
+            LocalDate to = demands.stream().map(Demand::endDate).max(LocalDate::compareTo).orElse(from);
+            Fleet fleet = new Fleet(from, (int) ChronoUnit.DAYS.between(from, to) + 1,
+                    carIds.stream().mapToLong(Long::longValue).toArray());
+            Map<Long, Integer> slotByCar = new HashMap<>();
+            for (int i = 0; i < fleet.carIds.length; i++) {
+                slotByCar.put(fleet.carIds[i], i);
+            }
+            for (ReservationSlot slot : booked) {
+                Integer car = slotByCar.get(slot.carId());
+                if (car != null && slot.overlaps(from, to)) {
+                    int start = Math.max(0, fleet.dayOf(slot.startDate()));
+                    int end = Math.min(fleet.days - 1, fleet.dayOf(slot.endDate()));
+                    fleet.occupy(car, start, end);
+                }
+            }
+            return fleet;
+        }
+
+        int dayOf(LocalDate date) {
+            return (int) ChronoUnit.DAYS.between(from, date);
+        }
+
+        boolean fits(int car, int start, int end) {
+            int next = occupied[car].nextSetBit(start);
+            return next < 0 || next > end;
+        }
+
+        void occupy(int car, int start, int end) {
+            occupied[car].set(start, end + 1);
+        }
+
+        /**
+         * Unsellable holes the placement would leave next to the booking (weighted first), then idle days around it.
+         * Holes reaching the window edge stay open to bookings outside the window and are not counted.
+         */
+        long score(int car, int start, int end) {
+            BitSet bits = occupied[car];
+            int previous = start == 0 ? -1 : bits.previousSetBit(start - 1);
+            int next = bits.nextSetBit(end + 1);
+            int before = previous < 0 ? -1 : start - previous - 1;
+            int after = next < 0 ? -1 : next - end - 1;
+            int holes = (isOrphan(before) ? 1 : 0) + (isOrphan(after) ? 1 : 0);
+            long idle = (before < 0 ? start : before) + (after < 0 ? days - end - 1 : after);
+            return (long) holes * days * 2 + idle;
+        }
+
+        double utilization() {
+            if (carIds.length == 0) {
+                return 0;
+            }
+            long used = 0;
+            for (BitSet bits : occupied) {
+                used += bits.cardinality();
+            }
+            return (double) used / ((long) carIds.length * days);
+        }
+
+        int orphanDays() {
+            int orphans = 0;
+            for (BitSet bits : occupied) {
+                int end = bits.nextSetBit(0);
+                while (end >= 0) {
+                    int gapStart = bits.nextClearBit(end);
+                    int gapEnd = bits.nextSetBit(gapStart);
+                    if (gapEnd < 0) {
+                        break;
+                    }
+                    if (isOrphan(gapEnd - gapStart)) {
+                        orphans += gapEnd - gapStart;
+                    }
+                    end = gapEnd;
+                }
+            }
+            return orphans;
+        }
+
+        private static boolean isOrphan(int gap) {
+            return gap > 0 && gap < MIN_BOOKABLE_DAYS;
+        }
+    }
+}
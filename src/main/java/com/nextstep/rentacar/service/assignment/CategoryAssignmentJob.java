@@ -0,0 +1,44 @@
+package com.nextstep.rentacar.service.assignment;
+
+import com.nextstep.rentacar.config.AssignmentProperties;
+import com.nextstep.rentacar.dto.response.CategoryAssignmentReportDto;
+import com.nextstep.rentacar.repository.CategoryBookingRepository;
+import com.nextstep.rentacar.service.CategoryBookingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Binds category bookings that pick up soon to cars, one branch per transaction.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryAssignmentJob {
+
+    private final CategoryBookingRepository categoryBookingRepository;
+    private final CategoryBookingService categoryBookingService;
+    private final AssignmentProperties properties;
+
+    @Scheduled(cron = "${app.assignment.cron:0 15 * * * *}")
+    public void assignDueBookings() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDate through = LocalDate.now().plusDays(properties.getLeadDays());
+        for (Long branchId : categoryBookingRepository.findBranchIdsWithPendingStartingBy(through)) {
+            try {
+                List<CategoryAssignmentReportDto> reports = categoryBookingService.assign(branchId, through);
+                int assigned = reports.stream().mapToInt(CategoryAssignmentReportDto::getAssigned).sum();
+                int unplaced = reports.stream().mapToInt(CategoryAssignmentReportDto::getUnplaced).sum();
+                log.info("Category assignment for branch {}: {} assigned, {} unplaced", branchId, assigned, unplaced);
+            } catch (RuntimeException e) {
+                log.error("Category assignment failed for branch {}", branchId, e);
+            }
+        }
+    }
+}
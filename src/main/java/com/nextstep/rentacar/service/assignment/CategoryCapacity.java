@@ -0,0 +1,101 @@
+package com.nextstep.rentacar.service.assignment;
+
+import com.nextstep.rentacar.domain.entity.Car;
+import com.nextstep.rentacar.domain.entity.CategoryBooking;
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.repository.CarRepository;
+import com.nextstep.rentacar.repository.CategoryBookingRepository;
+import com.nextstep.rentacar.repository.ReservationRepository;
+import com.nextstep.rentacar.service.availability.ReservationSlot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Day-level capacity of a (branch, category) car pool: rentable cars minus cars booked that day minus pending
+ * category bookings covering that day. Category bookings need one spare car on every day; a booking of a specific
+ * car must not take the last car a pending category booking is counting on.
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryCapacity {
+
+    private final CarRepository carRepository;
+    private final ReservationRepository reservationRepository;
+    private final CategoryBookingRepository categoryBookingRepository;
+
+    public List<Long> pool(Long branchId, CarCategory category) {
+        return carRepository.findRentableIdsByBranch(branchId, category);
+    }
+
+    /**
+     * Throws if some day of the inclusive range has no car left for one more category booking.
+     */
+    public void ensureSpareCar(Long branchId, CarCategory category, LocalDate start, LocalDate end) {
+        List<Long> pool = pool(branchId, category);
+        int[] spare = spareByDay(pool, categoryBookingRepository.findPendingOverlapping(branchId, category, start, end),
+                start, end, null);
+        for (int day = 0; day < spare.length; day++) {
+            if (spare[day] < 1) {
+                throw new IllegalStateException("No " + category + " car left at the branch on " + start.plusDays(day));
+            }
+        }
+    }
+
+    /**
+     * Throws if booking the car (already known to be free) would leave a pending category booking of its pool
+     * without a car on some day. Cheap when no category bookings are pending.
+     */
+    public void ensureCarBookable(Car car, LocalDate start, LocalDate end, Long excludeReservationId) {
+        Long branchId = car.getBranch().getId();
+        List<CategoryBooking> pending = categoryBookingRepository.findPendingOverlapping(branchId, car.getCategory(), start, end);
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Long> pool = pool(branchId, car.getCategory());
+        if (!pool.contains(car.getId())) {
+            return;
+        }
+        int[] spare = spareByDay(pool, pending, start, end, excludeReservationId);
+        for (int day = 0; day < spare.length; day++) {
+            // The car itself is among the free cars counted for the day
+            if (spare[day] < 1) {
+                throw new IllegalStateException("Car is held for pending " + car.getCategory()
+                        + " bookings on " + start.plusDays(day));
+            }
+        }
+    }
+
+    private int[] spareByDay(List<Long> pool,
+                             List<CategoryBooking> pending,
+                             LocalDate start,
+                             LocalDate end,
+                             Long excludeReservationId) {
+        int[] spare = new int[(int) ChronoUnit.DAYS.between(start, end) + 1];
+        Arrays.fill(spare, pool.size());
+        if (!pool.isEmpty()) {
+            for (ReservationSlot slot : reservationRepository.findActiveSlots(pool, start, end)) {
+                if (!Objects.equals(slot.reservationId(), excludeReservationId)) {
+                    subtract(spare, start, slot.startDate(), slot.endDate());
+                }
+            }
+        }
+        for (CategoryBooking booking : pending) {
+            subtract(spare, start, booking.getStartDate(), booking.getEndDate());
+        }
+        return spare;
+    }
+
+    private static void subtract(int[] spare, LocalDate start, LocalDate from, LocalDate to) {
+        int first = (int) Math.max(0, ChronoUnit.DAYS.between(start, from));
+        int last = (int) Math.min(spare.length - 1, ChronoUnit.DAYS.between(start, to));
+        for (int day = first; day <= last; day++) {
+            spare[day]--;
+        }
+    }
+}
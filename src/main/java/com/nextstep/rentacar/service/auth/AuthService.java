@@ -9,6 +9,8 @@ import com.nextstep.rentacar.dto.response.UserResponseDto;
 import com.nextstep.rentacar.mapper.UserMapper;
 import com.nextstep.rentacar.repository.RoleRepository;
 import com.nextstep.rentacar.repository.UserRepository;
+import com.nextstep.rentacar.service.cache.ReferenceDataCache;
+import com.nextstep.rentacar.service.support.ReadFromPrimary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -33,6 +35,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final UserMapper userMapper;
+    private final ReferenceDataCache referenceCache;
 
     @Transactional
     public UserResponseDto register(RegisterRequestDto registerRequest) {
@@ -53,8 +56,10 @@ public class AuthService {
         user.setPassword(passwordEncoder.encode(registerRequest.getPassword()));
 
         // Assign default CUSTOMER role
-        Role customerRole = roleRepository.findByName("CUSTOMER")
-                .orElseThrow(() -> new RuntimeException("Default CUSTOMER role not found"));
+        Role customerRole = referenceCache.role("CUSTOMER", () -> roleRepository.findByName("CUSTOMER").orElse(null));
+        if (customerRole == null) {
+            throw new RuntimeException("Default CUSTOMER role not found");
+        }
         user.setRoles(Set.of(customerRole));
 
         // Save user
@@ -64,6 +69,7 @@ public class AuthService {
         return userMapper.toResponseDto(savedUser);
     }
 
+    @ReadFromPrimary
     @Transactional(readOnly = true)
     public LoginResponseDto login(LoginRequestDto loginRequest) {
         log.info("User login attempt: {}", loginRequest.getEmail());
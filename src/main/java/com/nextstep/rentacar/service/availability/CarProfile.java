@@ -0,0 +1,37 @@
+package com.nextstep.rentacar.service.availability;
+
+import com.nextstep.rentacar.domain.entity.Car;
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.domain.enums.FuelType;
+import com.nextstep.rentacar.domain.enums.TransmissionType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Searchable attributes of a car, with the daily price held in minor units.
+ */
+public record CarProfile(Long carId,
+                         Long branchId,
+                         CarCategory category,
+                         TransmissionType transmission,
+                         FuelType fuelType,
+                         int seats,
+                         long dailyPriceMinor,
+                         boolean rentable) {
+
+    public static CarProfile of(Car car) {
+        return new CarProfile(car.getId(),
+                car.getBranch().getId(),
+                car.getCategory(),
+                car.getTransmission(),
+                car.getFuelType(),
+                car.getSeats(),
+                toMinorUnits(car.getDailyPrice(), RoundingMode.HALF_UP),
+                car.isAvailable());
+    }
+
+    public static long toMinorUnits(BigDecimal amount, RoundingMode roundingMode) {
+        return amount.movePointRight(2).setScale(0, roundingMode).longValueExact();
+    }
+}
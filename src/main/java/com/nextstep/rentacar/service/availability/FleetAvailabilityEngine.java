@@ -0,0 +1,352 @@
+package com.nextstep.rentacar.service.availability;
+
+import com.nextstep.rentacar.config.AvailabilityProperties;
+import com.nextstep.rentacar.domain.entity.Car;
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.domain.enums.FuelType;
+import com.nextstep.rentacar.domain.enums.TransmissionType;
+import com.nextstep.rentacar.repository.CarRepository;
+import com.nextstep.rentacar.service.support.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bitmap-based fleet availability engine.
+ * <p>
+ * Every car gets a slot number. Attribute bitmaps (branch, category, transmission, fuel type, seats,
+ * rentable) and one "booked" bitmap per day of a rolling horizon are kept over those slots, so a search
+ * is a handful of AND/ANDNOT operations followed by a price filter on a primitive array.
+ * Booked days are driven by {@link ReservationAvailabilityIndex}; car attributes are recorded by the
+ * car and maintenance services. The grid is rebuilt nightly to roll the horizon forward.
+ * Every change is forwarded to {@link FleetChangeListener}s after the write lock is released.
+ * <p>
+ * Like the index, the grid only sees this node's changes, so with {@code app.availability.in-memory=false}
+ * (several nodes) searches are not answered and callers query the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FleetAvailabilityEngine {
+
+    private static final int MAX_SEATS = 16;
+
+    private final CarRepository carRepository;
+    private final ReservationAvailabilityIndex availabilityIndex;
+    private final AvailabilityProperties properties;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<FleetChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private Grid grid;
+    private volatile boolean ready;
+
+    @PostConstruct
+    void registerListener() {
+        availabilityIndex.addListener(this::refreshBookings);
+    }
+
+    public void addListener(FleetChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * Rolls the horizon forward so that it always starts today.
+     */
+    @Scheduled(cron = "${app.availability.rebuild-cron:0 5 0 * * *}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<Car> cars = carRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            Grid next = new Grid(LocalDate.now(), properties.getHorizonDays());
+            for (Car car : cars) {
+                next.upsert(CarProfile.of(car));
+            }
+            grid = next;
+            for (Car car : cars) {
+                markBookings(car.getId(), next.baseDate, next.lastDate());
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        notifyListeners(null, null, null);
+        log.info("Fleet availability grid built for {} cars over {} days", cars.size(), properties.getHorizonDays());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Returns the ids (ascending) of rentable cars matching the filters and free on every day of the
+     * inclusive range, or empty if the range is outside the horizon (or in-memory search is off) and the caller
+     * must query the database.
+     */
+    public Optional<List<Long>> findAvailableCarIds(Long branchId,
+                                                    LocalDate startDate,
+                                                    LocalDate endDate,
+                                                    CarCategory category,
+                                                    TransmissionType transmission,
+                                                    FuelType fuelType,
+                                                    Integer minSeats,
+                                                    BigDecimal maxPrice) {
+        return findAvailableProfiles(branchId, startDate, endDate, category, transmission, fuelType, minSeats, maxPrice)
+                .map(profiles -> profiles.stream().map(CarProfile::carId).toList());
+    }
+
+    /**
+     * Same search as {@link #findAvailableCarIds}, returning the indexed profiles (ascending by car id) so callers
+     * such as quoting need no database round trip.
+     */
+    public Optional<List<CarProfile>> findAvailableProfiles(Long branchId,
+                                                            LocalDate startDate,
+                                                            LocalDate endDate,
+                                                            CarCategory category,
+                                                            TransmissionType transmission,
+                                                            FuelType fuelType,
+                                                            Integer minSeats,
+                                                            BigDecimal maxPrice) {
+        lock.readLock().lock();
+        try {
+            if (!properties.isInMemory() || !ready || !availabilityIndex.isReady() || !grid.covers(startDate, endDate)) {
+                return Optional.empty();
+            }
+            BitSet candidates = grid.matching(branchId, category, transmission, fuelType, minSeats);
+            int from = grid.dayOf(startDate);
+            int to = grid.dayOf(endDate);
+            for (int day = from; day <= to && !candidates.isEmpty(); day++) {
+                candidates.andNot(grid.bookedByDay[day]);
+            }
+            long maxPriceMinor = maxPrice != null ? CarProfile.toMinorUnits(maxPrice, RoundingMode.FLOOR) : Long.MAX_VALUE;
+            List<CarProfile> profiles = new ArrayList<>(candidates.cardinality());
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                if (grid.priceMinor[slot] <= maxPriceMinor) {
+                    profiles.add(grid.profiles.get(slot));
+                }
+            }
+            profiles.sort(Comparator.comparingLong(CarProfile::carId));
+            return Optional.of(profiles);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Synchronizes the searchable attributes of a car with its persisted state, undoing on rollback.
+     */
+    public void recordCar(Car car) {
+        CarProfile current = CarProfile.of(car);
+        CarProfile previous = applyProfile(current);
+        TransactionHooks.afterRollback(() -> {
+            if (previous != null) {
+                applyProfile(previous);
+            } else {
+                applyProfile(new CarProfile(current.carId(), current.branchId(), current.category(),
+                        current.transmission(), current.fuelType(), current.seats(), current.dailyPriceMinor(), false));
+            }
+        });
+    }
+
+    private CarProfile applyProfile(CarProfile profile) {
+        CarProfile previous = null;
+        lock.writeLock().lock();
+        try {
+            if (grid != null) {
+                boolean known = grid.slotByCar.containsKey(profile.carId());
+                previous = grid.upsert(profile);
+                if (!known) {
+                    markBookings(profile.carId(), grid.baseDate, grid.lastDate());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (previous != null && !previous.branchId().equals(profile.branchId())) {
+            notifyListeners(previous.branchId(), null, null);
+        }
+        notifyListeners(profile.branchId(), null, null);
+        return previous;
+    }
+
+    private void refreshBookings(Long carId, LocalDate start, LocalDate end) {
+        // Unknown cars (or a grid that is not built yet) may still be served by the database fallback
+        Long branchId = null;
+        lock.writeLock().lock();
+        try {
+            Integer slot = grid != null ? grid.slotByCar.get(carId) : null;
+            if (slot != null) {
+                branchId = grid.profiles.get(slot).branchId();
+                LocalDate from = start.isBefore(grid.baseDate) ? grid.baseDate : start;
+                LocalDate to = end.isAfter(grid.lastDate()) ? grid.lastDate() : end;
+                for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+                    grid.bookedByDay[grid.dayOf(day)].clear(slot);
+                }
+                markBookings(carId, from, to);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        notifyListeners(branchId, start, end);
+    }
+
+    private void notifyListeners(Long branchId, LocalDate start, LocalDate end) {
+        for (FleetChangeListener listener : listeners) {
+            listener.availabilityChanged(branchId, start, end);
+        }
+    }
+
+    /**
+     * Sets the booked bits of a car for all indexed reservations within the range. Caller holds the write lock.
+     */
+    private void markBookings(Long carId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return;
+        }
+        int slot = grid.slotByCar.get(carId);
+        for (ReservationSlot reservation : availabilityIndex.slotsForCar(carId, from, to)) {
+            LocalDate start = reservation.startDate().isBefore(from) ? from : reservation.startDate();
+            LocalDate end = reservation.endDate().isAfter(to) ? to : reservation.endDate();
+            for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+                grid.bookedByDay[grid.dayOf(day)].set(slot);
+            }
+        }
+    }
+
+    /**
+     * Mutable bitmap state for one horizon. Guarded by the engine lock.
+     */
+    private static final class Grid {
+
+        private final LocalDate baseDate;
+        private final int horizonDays;
+        private final BitSet[] bookedByDay;
+        private final Map<Long, Integer> slotByCar = new HashMap<>();
+        private final Map<Long, BitSet> byBranch = new HashMap<>();
+        private final Map<CarCategory, BitSet> byCategory = new EnumMap<>(CarCategory.class);
+        private final Map<TransmissionType, BitSet> byTransmission = new EnumMap<>(TransmissionType.class);
+        private final Map<FuelType, BitSet> byFuelType = new EnumMap<>(FuelType.class);
+        private final BitSet[] bySeats = new BitSet[MAX_SEATS + 1];
+        private final BitSet rentable = new BitSet();
+        private final List<CarProfile> profiles = new ArrayList<>();
+        private long[] priceMinor = new long[64];
+
+        Grid(LocalDate baseDate, int horizonDays) {
+            this.baseDate = baseDate;
+            this.horizonDays = horizonDays;
+            this.bookedByDay = new BitSet[horizonDays];
+            for (int i = 0; i < horizonDays; i++) {
+                bookedByDay[i] = new BitSet();
+            }
+            for (CarCategory c : CarCategory.values()) byCategory.put(c, new BitSet());
+            for (TransmissionType t : TransmissionType.values()) byTransmission.put(t, new BitSet());
+            for (FuelType f : FuelType.values()) byFuelType.put(f, new BitSet());
+            for (int i = 0; i <= MAX_SEATS; i++) bySeats[i] = new BitSet();
+        }
+
+        LocalDate lastDate() {
+            return baseDate.plusDays(horizonDays - 1L);
+        }
+
+        boolean covers(LocalDate start, LocalDate end) {
+            return !start.isBefore(baseDate) && !end.isAfter(lastDate());
+        }
+
+        int dayOf(LocalDate date) {
+            return (int) ChronoUnit.DAYS.between(baseDate, date);
+        }
+
+        CarProfile upsert(CarProfile profile) {
+            Integer existing = slotByCar.get(profile.carId());
+            int slot;
+            CarProfile previous = null;
+            if (existing != null) {
+                slot = existing;
+                previous = profiles.get(slot);
+                clear(slot, previous);
+                profiles.set(slot, profile);
+            } else {
+                slot = profiles.size();
+                profiles.add(profile);
+                slotByCar.put(profile.carId(), slot);
+                if (slot >= priceMinor.length) {
+                    priceMinor = Arrays.copyOf(priceMinor, priceMinor.length * 2);
+                }
+            }
+            priceMinor[slot] = profile.dailyPriceMinor();
+            byBranch.computeIfAbsent(profile.branchId(), id -> new BitSet()).set(slot);
+            byCategory.get(profile.category()).set(slot);
+            byTransmission.get(profile.transmission()).set(slot);
+            byFuelType.get(profile.fuelType()).set(slot);
+            bySeats[Math.min(profile.seats(), MAX_SEATS)].set(slot);
+            rentable.set(slot, profile.rentable());
+            return previous;
+        }
+
+        private void clear(int slot, CarProfile profile) {
+            BitSet branch = byBranch.get(profile.branchId());
+            if (branch != null) {
+                branch.clear(slot);
+            }
+            byCategory.get(profile.category()).clear(slot);
+            byTransmission.get(profile.transmission()).clear(slot);
+            byFuelType.get(profile.fuelType()).clear(slot);
+            bySeats[Math.min(profile.seats(), MAX_SEATS)].clear(slot);
+            rentable.clear(slot);
+        }
+
+        BitSet matching(Long branchId,
+                        CarCategory category,
+                        TransmissionType transmission,
+                        FuelType fuelType,
+                        Integer minSeats) {
+            BitSet result = (BitSet) rentable.clone();
+            BitSet branch = byBranch.get(branchId);
+            if (branch == null) {
+                return new BitSet();
+            }
+            result.and(branch);
+            if (category != null) result.and(byCategory.get(category));
+            if (transmission != null) result.and(byTransmission.get(transmission));
+            if (fuelType != null) result.and(byFuelType.get(fuelType));
+            if (minSeats != null) {
+                BitSet seats = new BitSet();
+                for (int s = Math.max(minSeats, 0); s <= MAX_SEATS; s++) {
+                    seats.or(bySeats[s]);
+                }
+                result.and(seats);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.nextstep.rentacar.service.availability;
+
+import java.time.LocalDate;
+
+/**
+ * Callback fired by {@link FleetAvailabilityEngine} whenever the availability of a branch may have changed.
+ * A {@code null} branch means "any branch"; {@code null} dates mean "any date".
+ */
+@FunctionalInterface
+public interface FleetChangeListener {
+
+    void availabilityChanged(Long branchId, LocalDate start, LocalDate end);
+}
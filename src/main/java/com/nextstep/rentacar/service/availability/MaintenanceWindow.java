@@ -0,0 +1,21 @@
+package com.nextstep.rentacar.service.availability;
+
+import com.nextstep.rentacar.domain.enums.MaintenanceStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of an open maintenance record that takes a car out of the rentable fleet.
+ */
+public record MaintenanceWindow(Long carId, LocalDate scheduledDate, MaintenanceStatus status) {
+
+    /**
+     * Scheduled work blocks its day; work in progress blocks from its scheduled day until today at least.
+     */
+    public LocalDate blockedUntil(LocalDate today) {
+        if (status == MaintenanceStatus.IN_PROGRESS && today.isAfter(scheduledDate)) {
+            return today;
+        }
+        return scheduledDate;
+    }
+}
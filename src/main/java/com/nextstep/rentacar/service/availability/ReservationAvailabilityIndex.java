@@ -0,0 +1,229 @@
+package com.nextstep.rentacar.service.availability;
+
+import com.nextstep.rentacar.config.AvailabilityProperties;
+import com.nextstep.rentacar.config.BookingProperties;
+import com.nextstep.rentacar.config.SearchCacheProperties;
+import com.nextstep.rentacar.domain.entity.Reservation;
+import com.nextstep.rentacar.repository.ReservationRepository;
+import com.nextstep.rentacar.service.support.ReadFromPrimary;
+import com.nextstep.rentacar.service.support.TransactionHooks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory index of active (PENDING/CONFIRMED) reservation intervals per car.
+ * <p>
+ * Answers "is this car free for these dates?" without touching the database, so conflicting
+ * bookings are rejected before the locking overlap query runs. Changes are applied as soon as the
+ * service records them and undone if the surrounding transaction rolls back.
+ * <p>
+ * It is read by the booking path with {@code app.booking.database-exclusion}, by the in-memory fleet grid
+ * ({@code app.availability.in-memory}) and, through the grid's change notifications, by the search cache
+ * ({@code app.search-cache.enabled}). With all three off the index is neither warmed nor maintained and never
+ * reports ready.
+ */
+@Slf4j
+@Component
+public class ReservationAvailabilityIndex {
+
+    private final ReservationRepository reservationRepository;
+    private final boolean enabled;
+
+    private final ConcurrentMap<Long, CarTimeline> timelines = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, ReservationSlot> slotsById = new ConcurrentHashMap<>();
+    private final List<ReservationSlotListener> listeners = new CopyOnWriteArrayList<>();
+    private volatile boolean ready;
+
+    public ReservationAvailabilityIndex(ReservationRepository reservationRepository,
+                                        BookingProperties bookingProperties,
+                                        AvailabilityProperties availabilityProperties,
+                                        SearchCacheProperties searchCacheProperties) {
+        this.reservationRepository = reservationRepository;
+        this.enabled = bookingProperties.isDatabaseExclusion() || availabilityProperties.isInMemory()
+                || searchCacheProperties.isEnabled();
+    }
+
+    public void addListener(ReservationSlotListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Loads all active reservations once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        if (!enabled) {
+            log.info("Reservation availability index disabled: no database exclusion, in-memory grid or search cache");
+            return;
+        }
+        List<Reservation> active = reservationRepository.findActiveReservations();
+        active.forEach(r -> put(ReservationSlot.of(r)));
+        ready = true;
+        log.info("Reservation availability index warmed with {} active reservations", active.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Returns true if an indexed reservation other than {@code excludeReservationId} overlaps the range.
+     * The index only sees this node's changes: a hit may be a reservation cancelled on another node and a
+     * miss may hide one booked there, so neither is final and callers confirm against the database.
+     */
+    public boolean hasConflict(Long carId, LocalDate start, LocalDate end, Long excludeReservationId) {
+        CarTimeline timeline = timelines.get(carId);
+        return timeline != null && timeline.hasConflict(start, end, excludeReservationId);
+    }
+
+    /**
+     * Returns the indexed slots of a car overlapping the given inclusive range.
+     */
+    public List<ReservationSlot> slotsForCar(Long carId, LocalDate start, LocalDate end) {
+        CarTimeline timeline = timelines.get(carId);
+        return timeline == null ? List.of() : timeline.overlapping(start, end);
+    }
+
+    /**
+     * Synchronizes the index with the persisted state of a reservation. Inactive reservations are removed.
+     */
+    public void record(Reservation reservation) {
+        if (!enabled) {
+            return;
+        }
+        Long id = reservation.getId();
+        ReservationSlot previous = slotsById.get(id);
+        if (reservation.isActive()) {
+            put(ReservationSlot.of(reservation));
+        } else {
+            remove(id);
+        }
+        TransactionHooks.afterRollback(() -> {
+            if (previous != null) {
+                put(previous);
+            } else {
+                remove(id);
+            }
+        });
+    }
+
+    /**
+     * Drops reservations that bulk updates moved out of PENDING/CONFIRMED, restoring them on rollback.
+     */
+    public void recordInactive(Collection<Long> reservationIds) {
+        if (!enabled) {
+            return;
+        }
+        List<ReservationSlot> previous = new ArrayList<>(reservationIds.size());
+        for (Long id : reservationIds) {
+            ReservationSlot slot = slotsById.get(id);
+            if (slot != null) {
+                previous.add(slot);
+                remove(id);
+            }
+        }
+        if (!previous.isEmpty()) {
+            TransactionHooks.afterRollback(() -> previous.forEach(this::put));
+        }
+    }
+
+    void put(ReservationSlot slot) {
+        ReservationSlot previous = slotsById.put(slot.reservationId(), slot);
+        if (previous != null) {
+            timelineOf(previous.carId()).remove(previous);
+            notifyListeners(previous);
+        }
+        timelineOf(slot.carId()).add(slot);
+        notifyListeners(slot);
+    }
+
+    void remove(Long reservationId) {
+        ReservationSlot previous = slotsById.remove(reservationId);
+        if (previous != null) {
+            timelineOf(previous.carId()).remove(previous);
+            notifyListeners(previous);
+        }
+    }
+
+    private void notifyListeners(ReservationSlot slot) {
+        for (ReservationSlotListener listener : listeners) {
+            listener.slotsChanged(slot.carId(), slot.startDate(), slot.endDate());
+        }
+    }
+
+    private CarTimeline timelineOf(Long carId) {
+        return timelines.computeIfAbsent(carId, id -> new CarTimeline());
+    }
+
+    /**
+     * Slots of a single car ordered by start date. The longest indexed interval bounds how far back
+     * a lookup has to scan, keeping conflict checks at O(log n + k).
+     */
+    private static final class CarTimeline {
+
+        private final NavigableMap<LocalDate, List<ReservationSlot>> byStart = new TreeMap<>();
+        private long longestDays;
+
+        synchronized void add(ReservationSlot slot) {
+            byStart.computeIfAbsent(slot.startDate(), d -> new ArrayList<>(1)).add(slot);
+            longestDays = Math.max(longestDays, ChronoUnit.DAYS.between(slot.startDate(), slot.endDate()));
+        }
+
+        synchronized void remove(ReservationSlot slot) {
+            List<ReservationSlot> slots = byStart.get(slot.startDate());
+            if (slots != null) {
+                slots.removeIf(s -> s.reservationId().equals(slot.reservationId()));
+                if (slots.isEmpty()) {
+                    byStart.remove(slot.startDate());
+                }
+            }
+        }
+
+        synchronized boolean hasConflict(LocalDate start, LocalDate end, Long excludeReservationId) {
+            LocalDate earliestStart = start.minusDays(longestDays);
+            for (Map.Entry<LocalDate, List<ReservationSlot>> entry : byStart.headMap(end, true).descendingMap().entrySet()) {
+                if (entry.getKey().isBefore(earliestStart)) {
+                    break;
+                }
+                for (ReservationSlot slot : entry.getValue()) {
+                    if (!slot.reservationId().equals(excludeReservationId) && slot.overlaps(start, end)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        synchronized List<ReservationSlot> overlapping(LocalDate start, LocalDate end) {
+            List<ReservationSlot> result = new ArrayList<>();
+            LocalDate earliestStart = start.minusDays(longestDays);
+            for (List<ReservationSlot> slots : byStart.subMap(earliestStart, true, end, true).values()) {
+                for (ReservationSlot slot : slots) {
+                    if (slot.overlaps(start, end)) {
+                        result.add(slot);
+                    }
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.nextstep.rentacar.service.availability;
+
+import com.nextstep.rentacar.domain.entity.Reservation;
+
+import java.time.LocalDate;
+
+/**
+ * Immutable view of the car/date interval an active reservation occupies.
+ * Both dates are inclusive, matching the overlap rule used by the repository queries.
+ */
+public record ReservationSlot(Long reservationId, Long carId, LocalDate startDate, LocalDate endDate) {
+
+    public static ReservationSlot of(Reservation reservation) {
+        return new ReservationSlot(reservation.getId(), reservation.getCar().getId(),
+                reservation.getStartDate(), reservation.getEndDate());
+    }
+
+    public boolean overlaps(LocalDate start, LocalDate end) {
+        return !startDate.isAfter(end) && !endDate.isBefore(start);
+    }
+}
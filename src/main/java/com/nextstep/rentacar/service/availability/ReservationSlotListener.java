@@ -0,0 +1,12 @@
+package com.nextstep.rentacar.service.availability;
+
+import java.time.LocalDate;
+
+/**
+ * Callback fired by {@link ReservationAvailabilityIndex} whenever the booked days of a car change.
+ */
+@FunctionalInterface
+public interface ReservationSlotListener {
+
+    void slotsChanged(Long carId, LocalDate start, LocalDate end);
+}
@@ -0,0 +1,36 @@
+package com.nextstep.rentacar.service.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * Cluster-safe coordinator using Postgres transaction-scoped advisory locks keyed by car id.
+ * <p>
+ * Other nodes cannot see this node's in-memory index, so the lock is held until the surrounding
+ * transaction ends and the next holder's overlap query sees the committed row.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.booking", name = "lock-mode", havingValue = "advisory")
+public class AdvisoryLockBookingCoordinator implements BookingCoordinator {
+
+    /** Namespace for the two-key advisory lock form, so car locks never clash with other advisory users. */
+    static final int CAR_LOCK_NAMESPACE = 0x52414352;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public <T> T withCarLock(Long carId, Supplier<T> work) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Advisory booking locks require an active transaction");
+        }
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(?, ?)::text", String.class,
+                CAR_LOCK_NAMESPACE, Long.hashCode(carId));
+        return work.get();
+    }
+}
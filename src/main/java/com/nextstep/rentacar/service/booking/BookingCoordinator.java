@@ -0,0 +1,44 @@
+package com.nextstep.rentacar.service.booking;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Serializes booking work per car so that the availability check and the insert happen atomically
+ * with respect to other bookings of the same car. Bookings of different cars never wait on each other
+ * (beyond rare stripe collisions).
+ */
+public interface BookingCoordinator {
+
+    <T> T withCarLock(Long carId, Supplier<T> work);
+
+    /**
+     * Position of the car's lock in the global lock order. Cars with the same position share one lock.
+     */
+    default long lockOrder(Long carId) {
+        return carId;
+    }
+
+    /**
+     * Locks several cars at once. Locks are taken in ascending {@link #lockOrder} and each shared lock only
+     * once, so that concurrent multi-car bookings cannot deadlock.
+     */
+    default <T> T withCarLocks(Collection<Long> carIds, Supplier<T> work) {
+        Map<Long, Long> carByLock = new TreeMap<>();
+        for (Long carId : carIds) {
+            carByLock.putIfAbsent(lockOrder(carId), carId);
+        }
+        return lockInOrder(new ArrayList<>(carByLock.values()), 0, work);
+    }
+
+    private <T> T lockInOrder(List<Long> carIds, int position, Supplier<T> work) {
+        if (position == carIds.size()) {
+            return work.get();
+        }
+        return withCarLock(carIds.get(position), () -> lockInOrder(carIds, position + 1, work));
+    }
+}
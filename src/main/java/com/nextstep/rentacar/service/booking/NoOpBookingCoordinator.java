@@ -0,0 +1,20 @@
+package com.nextstep.rentacar.service.booking;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Coordinator for deployments where the database exclusion constraint guarantees correctness
+ * and bookings run on the optimistic insert path.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.booking", name = "lock-mode", havingValue = "none")
+public class NoOpBookingCoordinator implements BookingCoordinator {
+
+    @Override
+    public <T> T withCarLock(Long carId, Supplier<T> work) {
+        return work.get();
+    }
+}
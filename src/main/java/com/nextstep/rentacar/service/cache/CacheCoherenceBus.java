@@ -0,0 +1,247 @@
+package com.nextstep.rentacar.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nextstep.rentacar.config.CacheCoherenceProperties;
+import com.nextstep.rentacar.domain.entity.CacheVersion;
+import com.nextstep.rentacar.repository.CacheVersionRepository;
+import com.nextstep.rentacar.service.support.TransactionHooks;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Keeps the {@link ReferenceDataCache} of every node coherent.
+ * <p>
+ * Invalidations made inside a transaction are collected per cache and published from {@code beforeCommit}: the
+ * cache's row in {@code cache_versions} is bumped (its row lock orders concurrent writers, so versions commit in
+ * increasing order) and a message carrying the new version and the keys goes out on the channel, which delivers it
+ * only if the transaction commits. A transaction touching many keys of one cache sends a single "drop all" instead.
+ * <p>
+ * Receivers coalesce each burst per cache and evict once. A version that skips ahead means messages were lost, as
+ * happens while the listener reconnects, so the whole cache is dropped; {@link #resync()} does the same from the
+ * table after every reconnect and periodically, which bounds staleness even if notifications stop altogether.
+ */
+@Slf4j
+public class CacheCoherenceBus implements ReferenceDataCache.InvalidationListener {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ReferenceDataCache cache;
+    private final InvalidationChannel channel;
+    private final CacheVersionRepository versionRepository;
+    private final ObjectMapper objectMapper;
+    private final CacheCoherenceProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+    private final Map<String, Long> seenVersions = new HashMap<>();
+
+    public CacheCoherenceBus(ReferenceDataCache cache,
+                             InvalidationChannel channel,
+                             CacheVersionRepository versionRepository,
+                             ObjectMapper objectMapper,
+                             CacheCoherenceProperties properties,
+                             PlatformTransactionManager transactionManager) {
+        this.cache = cache;
+        this.channel = channel;
+        this.versionRepository = versionRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        for (String name : cache.cacheNames()) {
+            ensureVersionRow(name);
+        }
+        cache.addListener(this);
+        channel.start(this::onMessages, this::resync);
+    }
+
+    @PreDestroy
+    public void stop() {
+        channel.stop();
+    }
+
+    @Override
+    public void invalidated(String cacheName, String key) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pendingChanges().add(cacheName, key);
+            return;
+        }
+        // No transaction to ride on: publish from one of our own once the caller's work (if any) is done
+        Pending single = new Pending();
+        single.add(cacheName, key);
+        TransactionHooks.afterCommit(() -> newTransactionTemplate.executeWithoutResult(status -> publish(single)));
+    }
+
+    /**
+     * Drops every cache whose version moved past the last one applied here; runs after every (re)connect of the
+     * listener and periodically as a safety net. Before the first sync nothing has been applied, so all caches go.
+     */
+    @Scheduled(fixedDelayString = "${app.cache-coherence.resync-interval:PT30S}",
+            initialDelayString = "${app.cache-coherence.resync-interval:PT30S}")
+    public synchronized void resync() {
+        List<CacheVersion> versions = transactionTemplate.execute(status -> versionRepository.findAll());
+        for (CacheVersion version : versions) {
+            Long seen = seenVersions.get(version.getCacheName());
+            if (seen == null || version.getVersion() > seen) {
+                if (seen != null) {
+                    log.info("Cache {} moved from version {} to {} unnoticed, dropping it",
+                            version.getCacheName(), seen, version.getVersion());
+                }
+                cache.applyCommitted(version.getCacheName(), null);
+                seenVersions.put(version.getCacheName(), version.getVersion());
+            }
+        }
+    }
+
+    synchronized void onMessages(List<String> payloads) {
+        Map<String, List<CacheInvalidation>> byCache = new LinkedHashMap<>();
+        for (String payload : payloads) {
+            try {
+                CacheInvalidation message = objectMapper.readValue(payload, CacheInvalidation.class);
+                byCache.computeIfAbsent(message.cache(), name -> new ArrayList<>()).add(message);
+            } catch (JsonProcessingException e) {
+                log.warn("Ignoring malformed cache invalidation: {}", payload);
+            }
+        }
+        byCache.forEach(this::apply);
+    }
+
+    private void apply(String cacheName, List<CacheInvalidation> messages) {
+        messages.sort(Comparator.comparingLong(CacheInvalidation::version));
+        Long seen = seenVersions.get(cacheName);
+        Set<String> keys = new LinkedHashSet<>();
+        boolean dropAll = false;
+        boolean changed = false;
+        for (CacheInvalidation message : messages) {
+            if (seen != null && message.version() <= seen) {
+                continue;
+            }
+            if (seen != null && message.version() > seen + 1) {
+                log.info("Missed invalidations of cache {} between versions {} and {}, dropping it",
+                        cacheName, seen, message.version());
+                dropAll = true;
+                changed = true;
+            } else if (!nodeId.equals(message.origin())) {
+                // Our own messages were applied locally when they were made; they only advance the version
+                if (message.keys() == null) {
+                    dropAll = true;
+                } else {
+                    keys.addAll(message.keys());
+                }
+                changed = true;
+            }
+            seen = message.version();
+        }
+        if (seen != null) {
+            seenVersions.put(cacheName, seen);
+        }
+        if (!changed) {
+            return;
+        }
+        if (dropAll || keys.size() > properties.getMaxKeysPerMessage()) {
+            cache.applyCommitted(cacheName, null);
+        } else {
+            cache.applyCommitted(cacheName, keys);
+        }
+    }
+
+    private Pending pendingChanges() {
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        Pending created = new Pending();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                publish(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CacheCoherenceBus.this);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * Bumps and announces each changed cache; caches in name order so concurrent writers lock rows consistently.
+     */
+    private void publish(Pending pending) {
+        pending.changes.forEach((cacheName, keys) -> {
+            if (versionRepository.increment(cacheName) == 0) {
+                versionRepository.saveAndFlush(new CacheVersion(cacheName, 1));
+            }
+            long version = versionRepository.findVersion(cacheName);
+            List<String> sent = keys == null || keys.size() > properties.getMaxKeysPerMessage()
+                    ? null
+                    : List.copyOf(keys);
+            try {
+                channel.publish(objectMapper.writeValueAsString(new CacheInvalidation(nodeId, cacheName, version, sent)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Cannot serialize cache invalidation", e);
+            }
+        });
+    }
+
+    private void ensureVersionRow(String cacheName) {
+        try {
+            newTransactionTemplate.executeWithoutResult(status -> {
+                if (!versionRepository.existsById(cacheName)) {
+                    versionRepository.saveAndFlush(new CacheVersion(cacheName, 0));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another node inserted it first
+        }
+    }
+
+    /**
+     * Keys changed per cache in one transaction; a {@code null} key set means the whole cache.
+     */
+    private static final class Pending {
+
+        private final Map<String, Set<String>> changes = new TreeMap<>();
+
+        void add(String cacheName, String key) {
+            if (key == null) {
+                changes.put(cacheName, null);
+            } else if (!changes.containsKey(cacheName) || changes.get(cacheName) != null) {
+                changes.computeIfAbsent(cacheName, name -> new LinkedHashSet<>()).add(key);
+            }
+        }
+    }
+
+    /**
+     * Wire format of one announced invalidation; {@code keys} is {@code null} when the whole cache was dropped.
+     */
+    public record CacheInvalidation(String origin, String cache, long version, List<String> keys) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.nextstep.rentacar.service.cache;
+
+import com.nextstep.rentacar.service.support.TransactionHooks;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+
+/**
+ * Embedded stand-in for the Postgres channel, for local runs on H2 and for tests. Channels created with
+ * {@link #peer()} share one hub and behave like separate nodes; {@link #disconnect()} and {@link #connect()}
+ * simulate a lost listener connection, during which messages are dropped as they would be by Postgres.
+ */
+public class InMemoryInvalidationChannel implements InvalidationChannel {
+
+    private final Set<InMemoryInvalidationChannel> hub;
+    private volatile Consumer<List<String>> onMessages;
+    private volatile Runnable onConnected;
+    private volatile boolean connected;
+
+    public InMemoryInvalidationChannel() {
+        this(new CopyOnWriteArraySet<>());
+    }
+
+    private InMemoryInvalidationChannel(Set<InMemoryInvalidationChannel> hub) {
+        this.hub = hub;
+    }
+
+    /**
+     * Another node on the same hub.
+     */
+    public InMemoryInvalidationChannel peer() {
+        return new InMemoryInvalidationChannel(hub);
+    }
+
+    @Override
+    public void publish(String payload) {
+        TransactionHooks.afterCommit(() -> {
+            for (InMemoryInvalidationChannel node : hub) {
+                node.deliver(payload);
+            }
+        });
+    }
+
+    @Override
+    public void start(Consumer<List<String>> onMessages, Runnable onConnected) {
+        this.onMessages = onMessages;
+        this.onConnected = onConnected;
+        hub.add(this);
+        connect();
+    }
+
+    @Override
+    public void stop() {
+        connected = false;
+        hub.remove(this);
+    }
+
+    public void disconnect() {
+        connected = false;
+    }
+
+    public void connect() {
+        connected = true;
+        onConnected.run();
+    }
+
+    private void deliver(String payload) {
+        if (connected) {
+            onMessages.accept(List.of(payload));
+        }
+    }
+}
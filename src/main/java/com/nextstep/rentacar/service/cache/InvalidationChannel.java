@@ -0,0 +1,24 @@
+package com.nextstep.rentacar.service.cache;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Carries serialized cache invalidations between nodes with Postgres NOTIFY semantics: a message published inside a
+ * transaction is delivered to every listening node (including the sender) only if and when that transaction commits.
+ */
+public interface InvalidationChannel {
+
+    /**
+     * Sends {@code payload} when the current transaction commits, or immediately outside a transaction.
+     */
+    void publish(String payload);
+
+    /**
+     * Starts listening. {@code onMessages} receives bursts in commit order; {@code onConnected} runs after every
+     * (re)connect, once listening, so the caller can resynchronize whatever it missed while disconnected.
+     */
+    void start(Consumer<List<String>> onMessages, Runnable onConnected);
+
+    void stop();
+}
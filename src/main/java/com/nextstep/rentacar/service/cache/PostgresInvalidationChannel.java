@@ -0,0 +1,138 @@
+package com.nextstep.rentacar.service.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Postgres LISTEN/NOTIFY transport. Publishing is a {@code pg_notify} on the writing transaction's own connection,
+ * so Postgres itself delivers it on commit and drops it on rollback.
+ * <p>
+ * Listening needs a session of its own for as long as the node runs, so it uses a dedicated connection outside the
+ * pool. After the first notification of a burst the listener keeps collecting for the coalesce window and hands the
+ * whole burst over at once. A broken connection is reopened after the reconnect delay; notifications sent in between
+ * are lost, which the {@code onConnected} callback makes up for.
+ */
+@Slf4j
+public class PostgresInvalidationChannel implements InvalidationChannel {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final int POLL_MILLIS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConnectionFactory listenerConnections;
+    private final String channel;
+    private final Duration coalesceWindow;
+    private final Duration reconnectDelay;
+    private volatile boolean running;
+    private Thread listener;
+
+    public PostgresInvalidationChannel(JdbcTemplate jdbcTemplate,
+                                       ConnectionFactory listenerConnections,
+                                       String channel,
+                                       Duration coalesceWindow,
+                                       Duration reconnectDelay) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid notification channel name: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.listenerConnections = listenerConnections;
+        this.channel = channel;
+        this.coalesceWindow = coalesceWindow;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @Override
+    public void publish(String payload) {
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)::text", String.class, channel, payload);
+    }
+
+    @Override
+    public synchronized void start(Consumer<List<String>> onMessages, Runnable onConnected) {
+        running = true;
+        listener = Thread.ofPlatform().daemon().name("cache-invalidation-listener")
+                .start(() -> listen(onMessages, onConnected));
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    private void listen(Consumer<List<String>> onMessages, Runnable onConnected) {
+        while (running) {
+            try (Connection connection = listenerConnections.open()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                log.info("Listening for cache invalidations on channel {}", channel);
+                onConnected.run();
+                PGConnection notifications = connection.unwrap(PGConnection.class);
+                while (running) {
+                    List<String> burst = receive(notifications, POLL_MILLIS);
+                    if (burst.isEmpty()) {
+                        continue;
+                    }
+                    long deadline = System.nanoTime() + coalesceWindow.toNanos();
+                    long remaining;
+                    while ((remaining = deadline - System.nanoTime()) > 0) {
+                        burst.addAll(receive(notifications, (int) Math.max(1, remaining / 1_000_000)));
+                    }
+                    onMessages.accept(burst);
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (running) {
+                    log.warn("Cache invalidation listener lost its connection, reconnecting in {}: {}",
+                            reconnectDelay, e.getMessage());
+                    pause();
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits up to {@code timeoutMillis} and returns the payloads received. Polling rather than blocking indefinitely
+     * lets {@link #stop()} take effect.
+     */
+    private static List<String> receive(PGConnection connection, int timeoutMillis) throws SQLException {
+        PGNotification[] received = connection.getNotifications(timeoutMillis);
+        List<String> payloads = new ArrayList<>();
+        if (received != null) {
+            for (PGNotification notification : received) {
+                payloads.add(notification.getParameter());
+            }
+        }
+        return payloads;
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(reconnectDelay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    /**
+     * Opens the listener's dedicated connection.
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+
+        Connection open() throws SQLException;
+    }
+}
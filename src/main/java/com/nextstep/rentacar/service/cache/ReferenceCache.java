@@ -0,0 +1,116 @@
+package com.nextstep.rentacar.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nextstep.rentacar.config.ReferenceCacheProperties;
+import com.nextstep.rentacar.service.support.TransactionHooks;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Size- and TTL-bounded cache for rarely changing reference data.
+ * <p>
+ * Loads run outside Caffeine's per-key lock, so a slow query never blocks writers. An invalidation bumps the
+ * generation before dropping entries; a load that started under an older generation hands its value back but does not
+ * cache it, so a read racing a write cannot resurrect the old value. Invalidations apply immediately (the writer's own
+ * transaction must not read its old value back) and again after commit (a concurrent reader may have cached the
+ * still-committed old value in between). Entries loaded or invalidated inside a transaction that rolls back are
+ * dropped, since they may reflect its uncommitted writes. {@code null} results are not cached.
+ */
+public final class ReferenceCache<K, V> {
+
+    private final String name;
+    private final Function<String, K> keyParser;
+    private final Cache<K, V> entries;
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * {@code keyParser} turns the string form of a key (as sent between nodes) back into a key.
+     */
+    public ReferenceCache(String name, Function<String, K> keyParser, ReferenceCacheProperties.Limits limits) {
+        this.name = name;
+        this.keyParser = keyParser;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(limits.getMaxEntries())
+                .expireAfterWrite(limits.getTtl())
+                .recordStats()
+                .build();
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        V cached = entries.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadGeneration = generation.get();
+        V value = loader.get();
+        if (value != null && loadGeneration == generation.get()) {
+            entries.put(key, value);
+            if (loadGeneration != generation.get()) {
+                entries.invalidate(key);
+            }
+            TransactionHooks.afterRollback(() -> evict(key));
+        }
+        return value;
+    }
+
+    /**
+     * Drops the entry now and again once the current transaction completes.
+     */
+    public void invalidate(K key) {
+        evict(key);
+        TransactionHooks.afterCommit(() -> evict(key));
+        TransactionHooks.afterRollback(() -> evict(key));
+    }
+
+    /**
+     * Drops every entry now and again once the current transaction completes.
+     */
+    public void invalidateAll() {
+        evictAll();
+        TransactionHooks.afterCommit(this::evictAll);
+        TransactionHooks.afterRollback(this::evictAll);
+    }
+
+    /**
+     * Applies an invalidation committed elsewhere: drops the entries now, without transaction hooks.
+     */
+    public void evictCommitted(Collection<String> keys) {
+        for (String key : keys) {
+            evict(keyParser.apply(key));
+        }
+    }
+
+    public void evictAllCommitted() {
+        evictAll();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Cache<K, V> entries() {
+        return entries;
+    }
+
+    public long invalidationCount() {
+        return invalidations.sum();
+    }
+
+    private void evict(K key) {
+        generation.incrementAndGet();
+        invalidations.increment();
+        entries.invalidate(key);
+    }
+
+    private void evictAll() {
+        generation.incrementAndGet();
+        invalidations.increment();
+        entries.invalidateAll();
+    }
+}
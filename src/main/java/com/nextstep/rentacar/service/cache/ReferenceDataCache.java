@@ -0,0 +1,195 @@
+package com.nextstep.rentacar.service.cache;
+
+import com.nextstep.rentacar.config.ReferenceCacheProperties;
+import com.nextstep.rentacar.domain.entity.Role;
+import com.nextstep.rentacar.dto.response.BranchResponseDto;
+import com.nextstep.rentacar.dto.response.CarResponseDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-memory caches for reference data read on nearly every request: car details, branches and roles.
+ * <p>
+ * Entries are evicted by the create/update/delete/restore paths of the owning services (and by maintenance, which
+ * changes car status); the TTL only bounds staleness for changes made outside the application. Car details embed
+ * their branch, so any branch change drops all cars. Exported per cache as the standard {@code cache.*} Caffeine
+ * meters plus {@code cache.invalidations} and {@code cache.hit.ratio}.
+ * <p>
+ * Local invalidations are reported to {@link InvalidationListener}s, which is how they reach other nodes;
+ * invalidations from other nodes come back in through {@link #applyCommitted}, which also tells the
+ * {@link CommittedInvalidationListener}s so that indexes derived from the same rows can catch up.
+ */
+@Component
+public class ReferenceDataCache {
+
+    public static final String CARS = "cars";
+    public static final String BRANCHES = "branches";
+    public static final String BRANCHES_BY_CITY = "branches-by-city";
+    public static final String BRANCHES_BY_COUNTRY = "branches-by-country";
+    public static final String ROLES = "roles";
+
+    private final boolean enabled;
+    private final ReferenceLoader loader;
+    private final ReferenceCache<Long, CarResponseDto> cars;
+    private final ReferenceCache<Long, BranchResponseDto> branches;
+    private final ReferenceCache<String, List<BranchResponseDto>> branchesByCity;
+    private final ReferenceCache<String, List<BranchResponseDto>> branchesByCountry;
+    private final ReferenceCache<String, Role> roles;
+    private final Map<String, ReferenceCache<?, ?>> byName = new LinkedHashMap<>();
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+    private final List<CommittedInvalidationListener> committedListeners = new CopyOnWriteArrayList<>();
+
+    public ReferenceDataCache(ReferenceCacheProperties properties, ReferenceLoader loader, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.loader = loader;
+        this.cars = new ReferenceCache<>(CARS, Long::valueOf, properties.getCars());
+        this.branches = new ReferenceCache<>(BRANCHES, Long::valueOf, properties.getBranches());
+        this.branchesByCity = new ReferenceCache<>(BRANCHES_BY_CITY, Function.identity(), properties.getBranchLookups());
+        this.branchesByCountry = new ReferenceCache<>(BRANCHES_BY_COUNTRY, Function.identity(), properties.getBranchLookups());
+        this.roles = new ReferenceCache<>(ROLES, Function.identity(), properties.getRoles());
+        for (ReferenceCache<?, ?> cache : List.of(cars, branches, branchesByCity, branchesByCountry, roles)) {
+            byName.put(cache.name(), cache);
+            bindMetrics(meterRegistry, cache);
+        }
+    }
+
+    /**
+     * Car details, loaded with {@code query} on a miss; {@code null} when the car does not exist.
+     */
+    public CarResponseDto car(Long id, Supplier<CarResponseDto> query) {
+        return lookup(cars, id, query);
+    }
+
+    public BranchResponseDto branch(Long id, Supplier<BranchResponseDto> query) {
+        return lookup(branches, id, query);
+    }
+
+    public List<BranchResponseDto> branchesByCity(String city, Supplier<List<BranchResponseDto>> query) {
+        return lookup(branchesByCity, city, query);
+    }
+
+    public List<BranchResponseDto> branchesByCountry(String country, Supplier<List<BranchResponseDto>> query) {
+        return lookup(branchesByCountry, country, query);
+    }
+
+    /**
+     * The role as a detached entity, only to be referenced from associations (it is never modified).
+     */
+    public Role role(String name, Supplier<Role> query) {
+        return lookup(roles, name, query);
+    }
+
+    public void evictCar(Long id) {
+        invalidate(cars, id);
+    }
+
+    /**
+     * A branch was created: only the lists can contain it.
+     */
+    public void evictBranchLists() {
+        invalidateAll(branchesByCity);
+        invalidateAll(branchesByCountry);
+    }
+
+    /**
+     * A branch was updated or deleted; its old city and country are unknown here, so all lists go too.
+     */
+    public void evictBranch(Long id) {
+        invalidate(branches, id);
+        evictBranchLists();
+        invalidateAll(cars);
+    }
+
+    public void addListener(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    public void addCommittedListener(CommittedInvalidationListener listener) {
+        committedListeners.add(listener);
+    }
+
+    public Set<String> cacheNames() {
+        return byName.keySet();
+    }
+
+    /**
+     * Applies an invalidation committed on another node; {@code keys} is {@code null} to drop the whole cache.
+     * Invalidation listeners are not told, committed listeners are. Unknown cache names (from a newer node) are
+     * ignored.
+     */
+    public void applyCommitted(String cache, Collection<String> keys) {
+        ReferenceCache<?, ?> target = byName.get(cache);
+        if (target == null) {
+            return;
+        }
+        if (keys == null) {
+            target.evictAllCommitted();
+        } else {
+            target.evictCommitted(keys);
+        }
+        committedListeners.forEach(listener -> listener.committed(cache, keys));
+    }
+
+    private <K> void invalidate(ReferenceCache<K, ?> cache, K key) {
+        cache.invalidate(key);
+        listeners.forEach(listener -> listener.invalidated(cache.name(), String.valueOf(key)));
+    }
+
+    private void invalidateAll(ReferenceCache<?, ?> cache) {
+        cache.invalidateAll();
+        listeners.forEach(listener -> listener.invalidated(cache.name(), null));
+    }
+
+    private <K, V> V lookup(ReferenceCache<K, V> cache, K key, Supplier<V> query) {
+        Supplier<V> load = () -> loader.load(query);
+        return enabled ? cache.get(key, load) : load.get();
+    }
+
+    private static void bindMetrics(MeterRegistry registry, ReferenceCache<?, ?> cache) {
+        CaffeineCacheMetrics.monitor(registry, cache.entries(), cache.name());
+        FunctionCounter.builder("cache.invalidations", cache, ReferenceCache::invalidationCount)
+                .tag("cache", cache.name())
+                .description("Invalidations applied to the cache")
+                .register(registry);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.entries().stats().hitRate())
+                .tag("cache", cache.name())
+                .description("Fraction of lookups answered from the cache")
+                .register(registry);
+    }
+
+    /**
+     * Told about every invalidation made on this node, inside the writing transaction when there is one.
+     */
+    @FunctionalInterface
+    public interface InvalidationListener {
+
+        /**
+         * {@code key} is the string form of the key, or {@code null} when the whole cache was dropped.
+         */
+        void invalidated(String cache, String key);
+    }
+
+    /**
+     * Told about every invalidation committed on another node, after it was applied to this node's caches.
+     */
+    @FunctionalInterface
+    public interface CommittedInvalidationListener {
+
+        /**
+         * {@code keys} are the string forms of the keys, or {@code null} when the whole cache was dropped.
+         */
+        void committed(String cache, Collection<String> keys);
+    }
+}
@@ -0,0 +1,21 @@
+package com.nextstep.rentacar.service.cache;
+
+import com.nextstep.rentacar.service.support.ReadFromPrimary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs reference cache misses in a read-only transaction, so cached lookups only open one on a miss. Misses read
+ * the primary: an entry evicted after a commit must not be reloaded from a replica that has not replayed it yet.
+ */
+@Component
+public class ReferenceLoader {
+
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public <V> V load(Supplier<V> loader) {
+        return loader.get();
+    }
+}
@@ -0,0 +1,128 @@
+package com.nextstep.rentacar.service.impl;
+
+import com.nextstep.rentacar.domain.entity.Car;
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.domain.enums.CarStatus;
+import com.nextstep.rentacar.dto.response.AvailabilityCalendarResponseDto;
+import com.nextstep.rentacar.dto.response.AvailabilityRunDto;
+import com.nextstep.rentacar.repository.BranchRepository;
+import com.nextstep.rentacar.repository.CarRepository;
+import com.nextstep.rentacar.repository.MaintenanceRepository;
+import com.nextstep.rentacar.repository.ReservationRepository;
+import com.nextstep.rentacar.service.AvailabilityCalendarService;
+import com.nextstep.rentacar.service.availability.MaintenanceWindow;
+import com.nextstep.rentacar.service.availability.ReservationSlot;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds availability calendars from two range queries (reservations and open maintenance) over the
+ * cars in scope. Each car gets a per-day "blocked" bitmap; the free counts are then run-length encoded,
+ * so a quarter of mostly free days serializes to a handful of runs instead of one entry per day.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AvailabilityCalendarServiceImpl implements AvailabilityCalendarService {
+
+    static final int DEFAULT_MONTHS = 3;
+    static final int MAX_DAYS = 366;
+
+    private final CarRepository carRepository;
+    private final BranchRepository branchRepository;
+    private final ReservationRepository reservationRepository;
+    private final MaintenanceRepository maintenanceRepository;
+
+    @Override
+    public AvailabilityCalendarResponseDto carCalendar(Long carId, LocalDate from, LocalDate to) {
+        Car car = carRepository.findById(carId)
+                .orElseThrow(() -> new EntityNotFoundException("Car not found: " + carId));
+        LocalDate start = from != null ? from : LocalDate.now();
+        LocalDate end = resolveEnd(start, to);
+        List<Long> carIds = car.getStatus() == CarStatus.OUT_OF_SERVICE ? List.of() : List.of(carId);
+        List<AvailabilityRunDto> runs = encode(start, freeCounts(carIds, start, end));
+        return new AvailabilityCalendarResponseDto(carId, null, null, start, end, 1, runs);
+    }
+
+    @Override
+    public AvailabilityCalendarResponseDto branchCalendar(Long branchId, CarCategory category, LocalDate from, LocalDate to) {
+        if (!branchRepository.existsById(branchId)) {
+            throw new EntityNotFoundException("Branch not found: " + branchId);
+        }
+        LocalDate start = from != null ? from : LocalDate.now();
+        LocalDate end = resolveEnd(start, to);
+        List<Long> carIds = carRepository.findRentableIdsByBranch(branchId, category);
+        List<AvailabilityRunDto> runs = encode(start, freeCounts(carIds, start, end));
+        return new AvailabilityCalendarResponseDto(null, branchId, category, start, end, carIds.size(), runs);
+    }
+
+    private LocalDate resolveEnd(LocalDate start, LocalDate to) {
+        LocalDate end = to != null ? to : start.plusMonths(DEFAULT_MONTHS).minusDays(1);
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("Calendar end date must not be before start date");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_DAYS) {
+            throw new IllegalArgumentException("Calendar range must not exceed " + MAX_DAYS + " days");
+        }
+        return end;
+    }
+
+    /**
+     * Number of cars free on each day of the inclusive range.
+     */
+    private int[] freeCounts(List<Long> carIds, LocalDate start, LocalDate end) {
+        int days = (int) ChronoUnit.DAYS.between(start, end) + 1;
+        int[] free = new int[days];
+        if (carIds.isEmpty()) {
+            return free;
+        }
+        Map<Long, BitSet> blocked = new HashMap<>();
+        for (ReservationSlot slot : reservationRepository.findActiveSlots(carIds, start, end)) {
+            mark(blocked.computeIfAbsent(slot.carId(), id -> new BitSet(days)),
+                    start, days, slot.startDate(), slot.endDate());
+        }
+        LocalDate today = LocalDate.now();
+        for (MaintenanceWindow window : maintenanceRepository.findOpenWindows(carIds, end)) {
+            mark(blocked.computeIfAbsent(window.carId(), id -> new BitSet(days)),
+                    start, days, window.scheduledDate(), window.blockedUntil(today));
+        }
+        Arrays.fill(free, carIds.size());
+        for (BitSet carBlocked : blocked.values()) {
+            for (int day = carBlocked.nextSetBit(0); day >= 0; day = carBlocked.nextSetBit(day + 1)) {
+                free[day]--;
+            }
+        }
+        return free;
+    }
+
+    private static void mark(BitSet bits, LocalDate base, int days, LocalDate from, LocalDate to) {
+        int first = (int) Math.max(0, ChronoUnit.DAYS.between(base, from));
+        int last = (int) Math.min(days - 1L, ChronoUnit.DAYS.between(base, to));
+        if (first <= last) {
+            bits.set(first, last + 1);
+        }
+    }
+
+    static List<AvailabilityRunDto> encode(LocalDate base, int[] free) {
+        List<AvailabilityRunDto> runs = new ArrayList<>();
+        int runStart = 0;
+        for (int day = 1; day <= free.length; day++) {
+            if (day == free.length || free[day] != free[runStart]) {
+                runs.add(new AvailabilityRunDto(base.plusDays(runStart), base.plusDays(day - 1L), free[runStart]));
+                runStart = day;
+            }
+        }
+        return runs;
+    }
+}
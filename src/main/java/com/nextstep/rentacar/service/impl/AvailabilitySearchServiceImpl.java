@@ -0,0 +1,208 @@
+package com.nextstep.rentacar.service.impl;
+
+import com.nextstep.rentacar.config.AlternativesProperties;
+import com.nextstep.rentacar.domain.entity.Branch;
+import com.nextstep.rentacar.domain.enums.AlternativeType;
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.domain.enums.FuelType;
+import com.nextstep.rentacar.domain.enums.TransmissionType;
+import com.nextstep.rentacar.dto.response.AlternativeSuggestionDto;
+import com.nextstep.rentacar.dto.response.AvailabilitySearchResponseDto;
+import com.nextstep.rentacar.dto.response.CarListResponseDto;
+import com.nextstep.rentacar.repository.BranchRepository;
+import com.nextstep.rentacar.repository.CarRepository;
+import com.nextstep.rentacar.service.AvailabilitySearchService;
+import com.nextstep.rentacar.service.CarService;
+import com.nextstep.rentacar.service.availability.CarProfile;
+import com.nextstep.rentacar.service.availability.FleetAvailabilityEngine;
+import com.nextstep.rentacar.service.pricing.PricingEngine;
+import com.nextstep.rentacar.service.search.NearbyBranchTable;
+import com.nextstep.rentacar.service.search.NearbyBranchView;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Turns an empty availability search into ranked suggestions. Every candidate (nearby branch, upgraded category,
+ * shifted dates) is evaluated on its own virtual thread against the in-memory availability grid; candidates outside
+ * the grid horizon fall back to the database with bounded concurrency.
+ */
+@Service
+@Transactional(readOnly = true)
+public class AvailabilitySearchServiceImpl implements AvailabilitySearchService {
+
+    /**
+     * Passenger-car categories from cheapest to most expensive. SUVs and vans are not upgrades of each other.
+     */
+    private static final List<CarCategory> UPGRADE_LADDER = List.of(
+            CarCategory.ECONOMY, CarCategory.COMPACT, CarCategory.INTERMEDIATE, CarCategory.STANDARD,
+            CarCategory.FULL_SIZE, CarCategory.PREMIUM, CarCategory.LUXURY);
+
+    private final CarService carService;
+    private final CarRepository carRepository;
+    private final BranchRepository branchRepository;
+    private final NearbyBranchTable nearbyBranches;
+    private final FleetAvailabilityEngine fleetAvailability;
+    private final AlternativesProperties properties;
+    private final Semaphore databaseSlots;
+
+    public AvailabilitySearchServiceImpl(CarService carService,
+                                         CarRepository carRepository,
+                                         BranchRepository branchRepository,
+                                         NearbyBranchTable nearbyBranches,
+                                         FleetAvailabilityEngine fleetAvailability,
+                                         AlternativesProperties properties) {
+        this.carService = carService;
+        this.carRepository = carRepository;
+        this.branchRepository = branchRepository;
+        this.nearbyBranches = nearbyBranches;
+        this.fleetAvailability = fleetAvailability;
+        this.properties = properties;
+        this.databaseSlots = new Semaphore(Math.max(1, properties.getMaxDatabaseConcurrency()));
+    }
+
+    @Override
+    public AvailabilitySearchResponseDto searchWithAlternatives(Long branchId,
+                                                                LocalDate startDate,
+                                                                LocalDate endDate,
+                                                                CarCategory category,
+                                                                TransmissionType transmission,
+                                                                FuelType fuelType,
+                                                                Integer minSeats,
+                                                                BigDecimal maxPrice,
+                                                                int size) {
+        Branch branch = branchRepository.findById(branchId)
+                .orElseThrow(() -> new EntityNotFoundException("Branch not found: " + branchId));
+        Page<CarListResponseDto> page = carService.findAvailable(branchId, startDate, endDate,
+                category, transmission, fuelType, minSeats, maxPrice, PageRequest.of(0, size));
+        List<AlternativeSuggestionDto> alternatives = page.getTotalElements() > 0
+                ? List.of()
+                : evaluate(candidates(branch, startDate, endDate, category),
+                        new Filters(transmission, fuelType, minSeats, maxPrice));
+        return new AvailabilitySearchResponseDto(branchId, category, startDate, endDate,
+                page.getTotalElements(), page.getContent(), alternatives);
+    }
+
+    private List<Candidate> candidates(Branch branch, LocalDate startDate, LocalDate endDate, CarCategory category) {
+        List<Candidate> candidates = new ArrayList<>();
+        for (NearbyBranchView nearby : nearbyBranches.nearest(branch.getId())) {
+            candidates.add(new Candidate(AlternativeType.NEARBY_BRANCH, nearby.branchId(), nearby.name(), category,
+                    startDate, endDate, nearby.distanceKm(), null,
+                    nearby.distanceKm() * properties.getPenaltyPerKm()));
+        }
+        int rung = UPGRADE_LADDER.indexOf(category);
+        if (rung >= 0) {
+            int last = Math.min(UPGRADE_LADDER.size() - 1, rung + properties.getMaxUpgradeSteps());
+            for (int step = 1; rung + step <= last; step++) {
+                candidates.add(new Candidate(AlternativeType.UPGRADE, branch.getId(), branch.getName(),
+                        UPGRADE_LADDER.get(rung + step), startDate, endDate, null, null,
+                        step * properties.getPenaltyPerUpgradeStep()));
+            }
+        }
+        LocalDate today = LocalDate.now();
+        for (int shift = 1; shift <= properties.getMaxDayShift(); shift++) {
+            for (int dayShift : new int[]{-shift, shift}) {
+                LocalDate shiftedStart = startDate.plusDays(dayShift);
+                if (shiftedStart.isBefore(today)) {
+                    continue;
+                }
+                candidates.add(new Candidate(AlternativeType.SHIFTED_DATES, branch.getId(), branch.getName(), category,
+                        shiftedStart, endDate.plusDays(dayShift), null, dayShift,
+                        shift * properties.getPenaltyPerShiftedDay()));
+            }
+        }
+        return candidates;
+    }
+
+    private List<AlternativeSuggestionDto> evaluate(List<Candidate> candidates, Filters filters) {
+        List<Ranked> ranked = new ArrayList<>(candidates.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Ranked>> results = new ArrayList<>(candidates.size());
+            for (Candidate candidate : candidates) {
+                results.add(executor.submit(() -> evaluateCandidate(candidate, filters)));
+            }
+            for (Future<Ranked> result : results) {
+                Ranked suggestion = result.get();
+                if (suggestion != null) {
+                    ranked.add(suggestion);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while evaluating alternatives", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Failed to evaluate alternatives", e.getCause());
+        }
+        return ranked.stream()
+                .sorted(Comparator.comparingDouble(Ranked::penalty)
+                        .thenComparing(r -> r.suggestion().getLowestDailyPrice()))
+                .limit(properties.getMaxSuggestions())
+                .map(Ranked::suggestion)
+                .toList();
+    }
+
+    private Ranked evaluateCandidate(Candidate candidate, Filters filters) throws InterruptedException {
+        List<CarProfile> cars = fleetAvailability.findAvailableProfiles(candidate.branchId(),
+                        candidate.startDate(), candidate.endDate(), candidate.category(),
+                        filters.transmission(), filters.fuelType(), filters.minSeats(), filters.maxPrice())
+                .orElse(null);
+        if (cars == null) {
+            cars = queryDatabase(candidate, filters);
+        }
+        if (cars.isEmpty()) {
+            return null;
+        }
+        long lowestMinor = cars.stream().mapToLong(CarProfile::dailyPriceMinor).min().orElseThrow();
+        AlternativeSuggestionDto suggestion = new AlternativeSuggestionDto(candidate.type(), candidate.branchId(),
+                candidate.branchName(), candidate.category(), candidate.startDate(), candidate.endDate(),
+                candidate.distanceKm(), candidate.dayShift(), cars.size(), PricingEngine.toMajorUnits(lowestMinor));
+        return new Ranked(suggestion, candidate.penalty());
+    }
+
+    private List<CarProfile> queryDatabase(Candidate candidate, Filters filters) throws InterruptedException {
+        databaseSlots.acquire();
+        try {
+            return carRepository.findAvailableCarsWithFilters(candidate.branchId(), candidate.startDate(),
+                            candidate.endDate(), candidate.category(), filters.transmission(), filters.fuelType(),
+                            filters.minSeats(), filters.maxPrice(), Pageable.unpaged())
+                    .map(CarProfile::of)
+                    .getContent();
+        } finally {
+            databaseSlots.release();
+        }
+    }
+
+    private record Filters(TransmissionType transmission, FuelType fuelType, Integer minSeats, BigDecimal maxPrice) {
+    }
+
+    private record Candidate(AlternativeType type,
+                             Long branchId,
+                             String branchName,
+                             CarCategory category,
+                             LocalDate startDate,
+                             LocalDate endDate,
+                             Double distanceKm,
+                             Integer dayShift,
+                             double penalty) {
+    }
+
+    private record Ranked(AlternativeSuggestionDto suggestion, double penalty) {
+    }
+}
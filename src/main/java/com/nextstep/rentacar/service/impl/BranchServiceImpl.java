@@ -6,14 +6,18 @@ import com.nextstep.rentacar.dto.response.BranchResponseDto;
 import com.nextstep.rentacar.mapper.BranchMapper;
 import com.nextstep.rentacar.repository.BranchRepository;
 import com.nextstep.rentacar.service.BranchService;
+import com.nextstep.rentacar.service.cache.ReferenceDataCache;
+import com.nextstep.rentacar.service.search.NearbyBranchTable;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +26,8 @@ public class BranchServiceImpl implements BranchService {
 
     private final BranchRepository branchRepository;
     private final BranchMapper branchMapper;
+    private final NearbyBranchTable nearbyBranches;
+    private final ReferenceDataCache referenceCache;
 
     @Override
     public BranchResponseDto create(BranchRequestDto request) {
@@ -30,6 +36,10 @@ public class BranchServiceImpl implements BranchService {
         }
         Branch branch = branchMapper.toEntity(request);
         Branch saved = branchRepository.save(branch);
+        if (isLocated(saved)) {
+            nearbyBranches.rebuild();
+        }
+        referenceCache.evictBranchLists();
         return branchMapper.toResponseDto(saved);
     }
 
@@ -40,25 +50,42 @@ public class BranchServiceImpl implements BranchService {
         if (!branch.getName().equals(request.getName()) && branchRepository.existsByNameAndCity(request.getName(), request.getCity())) {
             throw new IllegalArgumentException("Branch with the same name already exists in this city");
         }
+        Double latitude = branch.getLatitude();
+        Double longitude = branch.getLongitude();
         branchMapper.updateEntityFromDto(request, branch);
         Branch saved = branchRepository.save(branch);
+        referenceCache.evictBranch(id);
+        if (!Objects.equals(latitude, saved.getLatitude()) || !Objects.equals(longitude, saved.getLongitude())) {
+            nearbyBranches.rebuild();
+        }
         return branchMapper.toResponseDto(saved);
     }
 
+    /**
+     * Served from the reference cache, like the city and country lookups; a hit does not open a transaction.
+     */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public BranchResponseDto getById(Long id) {
-        Branch branch = branchRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Branch not found: " + id));
-        return branchMapper.toResponseDto(branch);
+        BranchResponseDto branch = referenceCache.branch(id, () -> branchRepository.findById(id)
+                .map(branchMapper::toResponseDto)
+                .orElse(null));
+        if (branch == null) {
+            throw new EntityNotFoundException("Branch not found: " + id);
+        }
+        return branch;
     }
 
     @Override
     public void delete(Long id) {
-        if (!branchRepository.existsById(id)) {
-            throw new EntityNotFoundException("Branch not found: " + id);
+        Branch branch = branchRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Branch not found: " + id));
+        nearbyBranches.removeBranch(id);
+        branchRepository.delete(branch);
+        referenceCache.evictBranch(id);
+        if (isLocated(branch)) {
+            nearbyBranches.rebuild();
         }
-        branchRepository.deleteById(id);
     }
 
     @Override
@@ -74,14 +101,20 @@ public class BranchServiceImpl implements BranchService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<BranchResponseDto> findByCity(String city) {
-        return branchRepository.findByCity(city).stream().map(branchMapper::toResponseDto).toList();
+        return referenceCache.branchesByCity(city, () ->
+                branchRepository.findByCity(city).stream().map(branchMapper::toResponseDto).toList());
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<BranchResponseDto> findByCountry(String country) {
-        return branchRepository.findByCountry(country).stream().map(branchMapper::toResponseDto).toList();
+        return referenceCache.branchesByCountry(country, () ->
+                branchRepository.findByCountry(country).stream().map(branchMapper::toResponseDto).toList());
+    }
+
+    private static boolean isLocated(Branch branch) {
+        return branch.getLatitude() != null && branch.getLongitude() != null;
     }
 }
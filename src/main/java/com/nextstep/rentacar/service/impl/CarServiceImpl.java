@@ -4,21 +4,34 @@ import com.nextstep.rentacar.domain.entity.Branch;
 import com.nextstep.rentacar.domain.entity.Car;
 import com.nextstep.rentacar.domain.enums.CarCategory;
 import com.nextstep.rentacar.domain.enums.FuelType;
+import com.nextstep.rentacar.domain.enums.OutboxEventType;
 import com.nextstep.rentacar.domain.enums.TransmissionType;
+import com.nextstep.rentacar.domain.event.CarEvent;
 import com.nextstep.rentacar.dto.request.CarFilterDto;
 import com.nextstep.rentacar.dto.request.CarRequestDto;
+import com.nextstep.rentacar.dto.response.CarFacetSearchResponseDto;
 import com.nextstep.rentacar.dto.response.CarListResponseDto;
 import com.nextstep.rentacar.dto.response.CarResponseDto;
 import com.nextstep.rentacar.mapper.CarMapper;
 import com.nextstep.rentacar.repository.BranchRepository;
 import com.nextstep.rentacar.repository.CarRepository;
 import com.nextstep.rentacar.service.CarService;
+import com.nextstep.rentacar.service.availability.FleetAvailabilityEngine;
+import com.nextstep.rentacar.service.cache.ReferenceDataCache;
+import com.nextstep.rentacar.service.outbox.OutboxWriter;
+import com.nextstep.rentacar.service.search.AvailabilitySearchCache;
+import com.nextstep.rentacar.service.search.CarFacetIndex;
+import com.nextstep.rentacar.service.search.CarFacetResult;
+import com.nextstep.rentacar.service.search.SearchKey;
 import com.nextstep.rentacar.exception.DuplicateResourceException;
+import com.nextstep.rentacar.service.support.RetryOnOptimisticLock;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -26,6 +39,10 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
@@ -40,6 +57,11 @@ public class CarServiceImpl implements CarService {
     private final CarRepository carRepository;
     private final BranchRepository branchRepository;
     private final CarMapper carMapper;
+    private final FleetAvailabilityEngine fleetAvailability;
+    private final AvailabilitySearchCache searchCache;
+    private final ReferenceDataCache referenceCache;
+    private final CarFacetIndex facetIndex;
+    private final OutboxWriter outbox;
 
     @Override
     public CarResponseDto create(CarRequestDto request) {
@@ -51,16 +73,21 @@ public class CarServiceImpl implements CarService {
                 .orElseThrow(() -> new EntityNotFoundException("Branch not found: " + request.getBranchId()));
         car.setBranch(branch);
         Car saved = carRepository.save(car);
+        fleetAvailability.recordCar(saved);
+        facetIndex.recordCar(saved);
+        outbox.append(OutboxEventType.CAR_ADDED, saved.getId(), CarEvent.of(saved));
         return carMapper.toResponseDto(saved);
     }
 
     @Override
+    @RetryOnOptimisticLock
     public CarResponseDto update(Long id, CarRequestDto request) {
         Car car = carRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Car not found: " + id));
         if (!car.getVin().equals(request.getVin()) && carRepository.existsByVin(request.getVin())) {
             throw new DuplicateResourceException("Another car with VIN already exists: " + request.getVin());
         }
+        Long previousBranchId = car.getBranch().getId();
         carMapper.updateEntityFromDto(request, car);
         if (request.getBranchId() != null) {
             Branch branch = branchRepository.findById(request.getBranchId())
@@ -68,31 +95,53 @@ public class CarServiceImpl implements CarService {
             car.setBranch(branch);
         }
         Car saved = carRepository.save(car);
+        fleetAvailability.recordCar(saved);
+        facetIndex.recordCar(saved);
+        referenceCache.evictCar(id);
+        if (!saved.getBranch().getId().equals(previousBranchId)) {
+            // A transfer adds the car to the new branch's fleet
+            outbox.append(OutboxEventType.CAR_ADDED, saved.getId(), CarEvent.of(saved));
+        }
         return carMapper.toResponseDto(saved);
     }
 
     @Override
+    @RetryOnOptimisticLock
     public void delete(Long id) {
         Car car = carRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Car not found: " + id));
         car.softDelete();
         carRepository.save(car);
+        fleetAvailability.recordCar(car);
+        facetIndex.recordCar(car);
+        referenceCache.evictCar(id);
     }
 
     @Override
+    @RetryOnOptimisticLock
     public void restore(Long id) {
         Car car = carRepository.findByIdIncludingDeleted(id)
                 .orElseThrow(() -> new EntityNotFoundException("Car not found: " + id));
         car.restore();
         carRepository.save(car);
+        fleetAvailability.recordCar(car);
+        facetIndex.recordCar(car);
+        referenceCache.evictCar(id);
     }
 
+    /**
+     * Served from the reference cache; a hit does not open a transaction or touch the connection pool.
+     */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public CarResponseDto getById(Long id) {
-        Car car = carRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Car not found: " + id));
-        return carMapper.toResponseDto(car);
+        CarResponseDto car = referenceCache.car(id, () -> carRepository.findById(id)
+                .map(carMapper::toResponseDto)
+                .orElse(null));
+        if (car == null) {
+            throw new EntityNotFoundException("Car not found: " + id);
+        }
+        return car;
     }
 
     @Override
@@ -127,22 +176,67 @@ public class CarServiceImpl implements CarService {
         if (startDate == null || endDate == null || !endDate.isAfter(startDate)) {
             throw new IllegalArgumentException("Invalid date range: endDate must be after startDate");
         }
-        return carRepository.findAvailableCarsWithFilters(branchId, startDate, endDate,
-                category, transmission, fuelType, minSeats, maxPrice, pageable)
-                .map(carMapper::toListResponseDto);
+        SearchKey key = SearchKey.of(branchId, startDate, endDate, category, transmission, fuelType, minSeats, maxPrice);
+        List<Long> availableIds = searchCache.availableCarIds(key, () -> fleetAvailability.findAvailableCarIds(
+                branchId, startDate, endDate, category, transmission, fuelType, minSeats, maxPrice).orElse(null));
+        if (availableIds == null) {
+            // Outside the in-memory horizon (or not warmed yet): fall back to the database anti-join
+            return carRepository.findAvailableCarsWithFilters(branchId, startDate, endDate,
+                    category, transmission, fuelType, minSeats, maxPrice, pageable)
+                    .map(carMapper::toListResponseDto);
+        }
+        return findPageByIds(availableIds, pageable).map(carMapper::toListResponseDto);
     }
 
+    /**
+     * Loads only the requested page of cars from an ascending id list. Sorted requests are delegated to the database.
+     */
+    private Page<Car> findPageByIds(List<Long> ids, Pageable pageable) {
+        if (ids.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        if (pageable.getSort().isSorted()) {
+            return carRepository.findByIdIn(ids, pageable);
+        }
+        List<Long> pageIds = ids;
+        if (pageable.isPaged()) {
+            int from = (int) Math.min(pageable.getOffset(), ids.size());
+            int to = Math.min(from + pageable.getPageSize(), ids.size());
+            pageIds = ids.subList(from, to);
+        }
+        Map<Long, Car> byId = carRepository.findByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Car::getId, Function.identity()));
+        List<Car> content = pageIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(content, pageable, ids.size());
+    }
+
+    /**
+     * Answered from the facet index; the Criteria query only serves requests arriving before it is built.
+     */
     @Override
     @Transactional(readOnly = true)
     public Page<CarListResponseDto> list(CarFilterDto filter, Pageable pageable) {
-        Specification<Car> spec = buildCarSpecification(filter);
-        return carRepository.findAll(spec, pageable)
+        return facetIndex.search(filter)
+                .map(result -> findPageByIds(result.carIds(), pageable))
+                .orElseGet(() -> carRepository.findAll(buildCarSpecification(filter), pageable))
                 .map(carMapper::toListResponseDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CarFacetSearchResponseDto facets(CarFilterDto filter, Pageable pageable) {
+        CarFacetResult result = facetIndex.search(filter)
+                .orElseGet(() -> facetIndex.search(carRepository.findAll(), filter));
+        Page<CarListResponseDto> page = findPageByIds(result.carIds(), pageable).map(carMapper::toListResponseDto);
+        return new CarFacetSearchResponseDto(page.getTotalElements(), page.getContent(), result.facets());
+    }
+
     private Specification<Car> buildCarSpecification(CarFilterDto filter) {
         return (Root<Car> root, CriteriaQuery<?> query, CriteriaBuilder cb) -> {
             List<Predicate> predicates = new ArrayList<>();
+            if (filter.getBranchId() != null) {
+                predicates.add(cb.equal(root.get("branch").get("id"), filter.getBranchId()));
+            }
             if (filter.getCategory() != null) {
                 predicates.add(cb.equal(root.get("category"), filter.getCategory()));
             }
@@ -156,7 +250,7 @@ public class CarServiceImpl implements CarService {
                 predicates.add(cb.greaterThanOrEqualTo(root.get("seats"), filter.getMinSeats()));
             }
             if (filter.getMaxPrice() != null) {
-                predicates.add(cb.lessThanOrEqualTo(root.get("price"), filter.getMaxPrice()));
+                predicates.add(cb.lessThanOrEqualTo(root.get("dailyPrice"), filter.getMaxPrice()));
             }
             // Note: availableFrom/availableTo filtering would require reservation logic, not just car fields.
             return cb.and(predicates.toArray(new Predicate[0]));
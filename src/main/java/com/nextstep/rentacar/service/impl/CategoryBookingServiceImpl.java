@@ -0,0 +1,217 @@
+package com.nextstep.rentacar.service.impl;
+
+import com.nextstep.rentacar.config.AssignmentProperties;
+import com.nextstep.rentacar.domain.entity.Branch;
+import com.nextstep.rentacar.domain.entity.CategoryBooking;
+import com.nextstep.rentacar.domain.entity.Customer;
+import com.nextstep.rentacar.domain.entity.Reservation;
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.domain.enums.CategoryBookingStatus;
+import com.nextstep.rentacar.dto.request.CategoryBookingRequestDto;
+import com.nextstep.rentacar.dto.request.ReservationRequestDto;
+import com.nextstep.rentacar.dto.response.CategoryAssignmentReportDto;
+import com.nextstep.rentacar.dto.response.CategoryBookingResponseDto;
+import com.nextstep.rentacar.dto.response.ReservationResponseDto;
+import com.nextstep.rentacar.mapper.CategoryBookingMapper;
+import com.nextstep.rentacar.repository.BranchRepository;
+import com.nextstep.rentacar.repository.CategoryBookingRepository;
+import com.nextstep.rentacar.repository.CustomerRepository;
+import com.nextstep.rentacar.repository.ReservationRepository;
+import com.nextstep.rentacar.service.CategoryBookingService;
+import com.nextstep.rentacar.service.ReservationHoldService;
+import com.nextstep.rentacar.service.ReservationService;
+import com.nextstep.rentacar.service.assignment.CarAssignmentOptimizer;
+import com.nextstep.rentacar.service.assignment.CarAssignmentOptimizer.Demand;
+import com.nextstep.rentacar.service.assignment.CarAssignmentOptimizer.Plan;
+import com.nextstep.rentacar.service.assignment.CategoryCapacity;
+import com.nextstep.rentacar.service.availability.ReservationSlot;
+import com.nextstep.rentacar.service.booking.BookingCoordinator;
+import com.nextstep.rentacar.service.support.RetryOnOptimisticLock;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CategoryBookingServiceImpl implements CategoryBookingService {
+
+    private final CategoryBookingRepository categoryBookingRepository;
+    private final CustomerRepository customerRepository;
+    private final BranchRepository branchRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationService reservationService;
+    private final ReservationHoldService holdService;
+    private final CategoryCapacity categoryCapacity;
+    private final BookingCoordinator bookingCoordinator;
+    private final CategoryBookingMapper categoryBookingMapper;
+    private final AssignmentProperties assignmentProperties;
+
+    @Override
+    public CategoryBookingResponseDto book(CategoryBookingRequestDto request) {
+        if (request.getStartDate() == null || request.getEndDate() == null
+                || !request.getEndDate().isAfter(request.getStartDate())) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+        if (ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) > Reservation.MAX_RENTAL_DAYS) {
+            throw new IllegalArgumentException("Reservation must not exceed " + Reservation.MAX_RENTAL_DAYS + " days");
+        }
+        Customer customer = customerRepository.findById(request.getCustomerId())
+                .orElseThrow(() -> new EntityNotFoundException("Customer not found: " + request.getCustomerId()));
+        Branch pickup = branchRepository.findById(request.getPickupBranchId())
+                .orElseThrow(() -> new EntityNotFoundException("Pickup branch not found: " + request.getPickupBranchId()));
+        Branch dropoff = branchRepository.findById(request.getDropoffBranchId())
+                .orElseThrow(() -> new EntityNotFoundException("Dropoff branch not found: " + request.getDropoffBranchId()));
+
+        CarCategory category = request.getCategory();
+        List<Long> pool = categoryCapacity.pool(pickup.getId(), category);
+        if (pool.isEmpty()) {
+            throw new IllegalStateException("No " + category + " cars at branch " + pickup.getId());
+        }
+        // Locking the whole pool serializes capacity checks with per-car bookings of the same cars
+        CategoryBooking saved = bookingCoordinator.withCarLocks(pool, () -> {
+            categoryCapacity.ensureSpareCar(pickup.getId(), category, request.getStartDate(), request.getEndDate());
+            CategoryBooking booking = new CategoryBooking();
+            booking.setCustomer(customer);
+            booking.setPickupBranch(pickup);
+            booking.setDropoffBranch(dropoff);
+            booking.setCategory(category);
+            booking.setStartDate(request.getStartDate());
+            booking.setEndDate(request.getEndDate());
+            booking.setNotes(request.getNotes());
+            CategoryBooking inserted = categoryBookingRepository.saveAndFlush(booking);
+            // Day counts alone miss fragmentation: make sure every overlapping booking still fits on a single car
+            List<CategoryBooking> pending = categoryBookingRepository.findPendingOverlapping(pickup.getId(), category,
+                    request.getStartDate(), request.getEndDate());
+            if (!plan(pool, pending).unplaced().isEmpty()) {
+                throw new IllegalStateException("No single " + category + " car can cover the selected dates");
+            }
+            return inserted;
+        });
+        return categoryBookingMapper.toResponseDto(saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CategoryBookingResponseDto getById(Long id) {
+        return categoryBookingMapper.toResponseDto(findBooking(id));
+    }
+
+    @Override
+    @RetryOnOptimisticLock
+    public void cancel(Long id) {
+        CategoryBooking booking = findBooking(id);
+        if (booking.getStatus() == CategoryBookingStatus.ASSIGNED) {
+            reservationService.cancel(booking.getReservation().getId());
+        }
+        booking.cancel();
+        categoryBookingRepository.save(booking);
+    }
+
+    @Override
+    public List<CategoryAssignmentReportDto> assign(Long branchId, LocalDate through) {
+        if (!branchRepository.existsById(branchId)) {
+            throw new EntityNotFoundException("Branch not found: " + branchId);
+        }
+        LocalDate due = through != null ? through : LocalDate.now().plusDays(assignmentProperties.getLeadDays());
+        Map<CarCategory, List<CategoryBooking>> byCategory = new EnumMap<>(CarCategory.class);
+        for (CategoryBooking booking : categoryBookingRepository.findPendingByBranch(branchId)) {
+            byCategory.computeIfAbsent(booking.getCategory(), c -> new ArrayList<>()).add(booking);
+        }
+        Map<CarCategory, List<Long>> pools = new EnumMap<>(CarCategory.class);
+        List<Long> allCars = new ArrayList<>();
+        byCategory.keySet().forEach(category -> {
+            List<Long> pool = categoryCapacity.pool(branchId, category);
+            pools.put(category, pool);
+            allCars.addAll(pool);
+        });
+        // Car locks are held until commit, so every pool is locked up front in one ordered pass
+        return bookingCoordinator.withCarLocks(allCars, () -> {
+            List<CategoryAssignmentReportDto> reports = new ArrayList<>(byCategory.size());
+            byCategory.forEach((category, bookings) ->
+                    reports.add(assignPool(branchId, category, pools.get(category), bookings, due)));
+            return reports;
+        });
+    }
+
+    private CategoryAssignmentReportDto assignPool(Long branchId,
+                                                   CarCategory category,
+                                                   List<Long> pool,
+                                                   List<CategoryBooking> bookings,
+                                                   LocalDate through) {
+        List<Demand> demands = bookings.stream().map(CategoryBookingServiceImpl::toDemand).toList();
+        List<ReservationSlot> booked = bookedSlots(pool, demands);
+        Plan plan = CarAssignmentOptimizer.firstFitDecreasing(pool, booked, demands);
+        Plan baseline = CarAssignmentOptimizer.firstFitInArrivalOrder(pool, booked, demands);
+
+        int assigned = 0;
+        int deferred = 0;
+        for (CategoryBooking booking : bookings) {
+            Long carId = plan.carByDemand().get(booking.getId());
+            if (carId == null) {
+                continue;
+            }
+            if (booking.getStartDate().isAfter(through)
+                    || holdService.hasConflictingHold(carId, booking.getStartDate(), booking.getEndDate(), null)) {
+                deferred++;
+                continue;
+            }
+            ReservationResponseDto reservation = reservationService.createForCategoryBooking(new ReservationRequestDto(
+                    booking.getCustomer().getId(), carId, booking.getStartDate(), booking.getEndDate(),
+                    booking.getPickupBranch().getId(), booking.getDropoffBranch().getId(), booking.getNotes()));
+            // No foreign key on partitioned Postgres (V12), so the link is checked here
+            booking.assign(reservationRepository.findById(reservation.getId())
+                    .orElseThrow(() -> new EntityNotFoundException("Reservation not found: " + reservation.getId())));
+            categoryBookingRepository.save(booking);
+            assigned++;
+        }
+        if (!plan.unplaced().isEmpty()) {
+            log.warn("{} pending {} bookings at branch {} fit on no car: {}", plan.unplaced().size(), category,
+                    branchId, plan.unplaced());
+        }
+        LocalDate windowStart = demands.stream().map(Demand::startDate).min(LocalDate::compareTo).orElseThrow();
+        LocalDate windowEnd = demands.stream().map(Demand::endDate).max(LocalDate::compareTo).orElseThrow();
+        CategoryAssignmentReportDto report = new CategoryAssignmentReportDto(branchId, category, windowStart, windowEnd,
+                pool.size(), bookings.size(), assigned, deferred, plan.unplaced().size(),
+                CarAssignmentOptimizer.utilization(pool, booked, demands), plan.utilization(), plan.orphanDays(),
+                baseline.unplaced().size(), baseline.utilization(), baseline.orphanDays(),
+                plan.utilization() - baseline.utilization());
+        log.info("Assigned {} {} bookings at branch {}: utilization {} (first-fit {}), orphan days {} (first-fit {})",
+                assigned, category, branchId, report.getUtilizationAfter(), report.getBaselineUtilization(),
+                report.getOrphanDays(), report.getBaselineOrphanDays());
+        return report;
+    }
+
+    private Plan plan(List<Long> pool, List<CategoryBooking> bookings) {
+        List<Demand> demands = bookings.stream().map(CategoryBookingServiceImpl::toDemand).toList();
+        return CarAssignmentOptimizer.firstFitDecreasing(pool, bookedSlots(pool, demands), demands);
+    }
+
+    private List<ReservationSlot> bookedSlots(List<Long> pool, List<Demand> demands) {
+        if (pool.isEmpty() || demands.isEmpty()) {
+            return List.of();
+        }
+        LocalDate from = demands.stream().map(Demand::startDate).min(LocalDate::compareTo).orElseThrow();
+        LocalDate to = demands.stream().map(Demand::endDate).max(LocalDate::compareTo).orElseThrow();
+        return reservationRepository.findActiveSlots(pool, from, to);
+    }
+
+    private CategoryBooking findBooking(Long id) {
+        return categoryBookingRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Category booking not found: " + id));
+    }
+
+    private static Demand toDemand(CategoryBooking booking) {
+        return new Demand(booking.getId(), booking.getStartDate(), booking.getEndDate());
+    }
+}
@@ -5,11 +5,20 @@ import com.nextstep.rentacar.domain.entity.Maintenance;
 import com.nextstep.rentacar.domain.enums.CarStatus;
 import com.nextstep.rentacar.domain.enums.MaintenanceStatus;
 import com.nextstep.rentacar.domain.enums.MaintenanceType;
+import com.nextstep.rentacar.domain.enums.OutboxEventType;
+import com.nextstep.rentacar.domain.event.MaintenanceEvent;
+import com.nextstep.rentacar.dto.response.CursorPageDto;
 import com.nextstep.rentacar.repository.CarRepository;
 import com.nextstep.rentacar.repository.MaintenanceRepository;
 import com.nextstep.rentacar.service.MaintenanceService;
+import com.nextstep.rentacar.service.availability.FleetAvailabilityEngine;
+import com.nextstep.rentacar.service.cache.ReferenceDataCache;
+import com.nextstep.rentacar.service.outbox.OutboxWriter;
+import com.nextstep.rentacar.service.support.KeysetCursor;
+import com.nextstep.rentacar.service.support.RetryOnOptimisticLock;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -25,6 +34,9 @@ public class MaintenanceServiceImpl implements MaintenanceService {
 
     private final MaintenanceRepository maintenanceRepository;
     private final CarRepository carRepository;
+    private final FleetAvailabilityEngine fleetAvailability;
+    private final ReferenceDataCache referenceCache;
+    private final OutboxWriter outbox;
 
     @Override
     public Maintenance schedule(Long carId, MaintenanceType type, String description, LocalDate scheduledDate) {
@@ -36,10 +48,11 @@ public class MaintenanceServiceImpl implements MaintenanceService {
         maintenance.setDescription(description);
         maintenance.setScheduledDate(scheduledDate);
         maintenance.setStatus(MaintenanceStatus.SCHEDULED);
-        return maintenanceRepository.save(maintenance);
+        return publish(OutboxEventType.MAINTENANCE_SCHEDULED, maintenanceRepository.save(maintenance));
     }
 
     @Override
+    @RetryOnOptimisticLock
     public Maintenance start(Long maintenanceId) {
         Maintenance maintenance = maintenanceRepository.findById(maintenanceId)
                 .orElseThrow(() -> new EntityNotFoundException("Maintenance not found: " + maintenanceId));
@@ -48,10 +61,13 @@ public class MaintenanceServiceImpl implements MaintenanceService {
         Car car = maintenance.getCar();
         car.setStatus(CarStatus.MAINTENANCE);
         carRepository.save(car);
-        return maintenanceRepository.save(maintenance);
+        fleetAvailability.recordCar(car);
+        referenceCache.evictCar(car.getId());
+        return publish(OutboxEventType.MAINTENANCE_STARTED, maintenanceRepository.save(maintenance));
     }
 
     @Override
+    @RetryOnOptimisticLock
     public Maintenance complete(Long maintenanceId) {
         Maintenance maintenance = maintenanceRepository.findById(maintenanceId)
                 .orElseThrow(() -> new EntityNotFoundException("Maintenance not found: " + maintenanceId));
@@ -61,11 +77,14 @@ public class MaintenanceServiceImpl implements MaintenanceService {
         if (Boolean.FALSE.equals(car.getDeleted())) {
             car.setStatus(CarStatus.AVAILABLE);
             carRepository.save(car);
+            fleetAvailability.recordCar(car);
+            referenceCache.evictCar(car.getId());
         }
-        return maintenanceRepository.save(maintenance);
+        return publish(OutboxEventType.MAINTENANCE_COMPLETED, maintenanceRepository.save(maintenance));
     }
 
     @Override
+    @RetryOnOptimisticLock
     public Maintenance cancel(Long maintenanceId) {
         Maintenance maintenance = maintenanceRepository.findById(maintenanceId)
                 .orElseThrow(() -> new EntityNotFoundException("Maintenance not found: " + maintenanceId));
@@ -75,8 +94,10 @@ public class MaintenanceServiceImpl implements MaintenanceService {
         if (maintenance.getStatus() == MaintenanceStatus.CANCELLED && Boolean.FALSE.equals(car.getDeleted())) {
             car.setStatus(CarStatus.AVAILABLE);
             carRepository.save(car);
+            fleetAvailability.recordCar(car);
+            referenceCache.evictCar(car.getId());
         }
-        return maintenanceRepository.save(maintenance);
+        return publish(OutboxEventType.MAINTENANCE_CANCELLED, maintenanceRepository.save(maintenance));
     }
 
     @Override
@@ -85,9 +106,35 @@ public class MaintenanceServiceImpl implements MaintenanceService {
         return maintenanceRepository.findWithFilters(carId, employeeId, status, maintenanceType, branchId, startDate, endDate, pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<Maintenance> scrollByFilters(Long carId, Long employeeId, MaintenanceStatus status, MaintenanceType maintenanceType, Long branchId, LocalDate startDate, LocalDate endDate, String cursor, Integer size, boolean includeTotal) {
+        if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("Invalid date range: endDate must be on/after startDate");
+        }
+        int pageSize = KeysetCursor.resolveSize(size);
+        LocalDate from = startDate != null ? startDate : KeysetCursor.MIN_DATE;
+        LocalDate to = endDate != null ? endDate : KeysetCursor.MAX_DATE;
+        KeysetCursor position = cursor != null ? KeysetCursor.decode(cursor) : null;
+        LocalDate afterDate = position != null ? position.dateKey() : to;
+        long afterId = position != null ? position.id() : Long.MAX_VALUE;
+
+        List<Maintenance> rows = maintenanceRepository.findPageAfter(carId, employeeId, status, maintenanceType, branchId,
+                from, afterDate, afterId, Limit.of(pageSize + 1));
+        Long total = includeTotal
+                ? maintenanceRepository.countInWindow(carId, employeeId, status, maintenanceType, branchId, from, to)
+                : null;
+        return KeysetCursor.page(rows, pageSize, m -> KeysetCursor.of(m.getScheduledDate(), m.getId()), m -> m, total);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Maintenance> findScheduledForDate(LocalDate date) {
         return maintenanceRepository.findScheduledForDate(date);
     }
+
+    private Maintenance publish(OutboxEventType type, Maintenance maintenance) {
+        outbox.append(type, maintenance.getId(), MaintenanceEvent.of(maintenance));
+        return maintenance;
+    }
 }
@@ -0,0 +1,44 @@
+package com.nextstep.rentacar.service.impl;
+
+import com.nextstep.rentacar.dto.response.OutboxRelayResultDto;
+import com.nextstep.rentacar.dto.response.OutboxStatisticsDto;
+import com.nextstep.rentacar.repository.OutboxEventRepository;
+import com.nextstep.rentacar.service.OutboxService;
+import com.nextstep.rentacar.service.outbox.OutboxRelay;
+import com.nextstep.rentacar.service.outbox.ReservationStatisticsProjection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxServiceImpl implements OutboxService {
+
+    private final OutboxRelay relay;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ReservationStatisticsProjection statistics;
+
+    @Override
+    public OutboxRelayResultDto relayPending() {
+        return new OutboxRelayResultDto(relay.drain());
+    }
+
+    @Override
+    public OutboxRelayResultDto replay() {
+        return new OutboxRelayResultDto(relay.replay());
+    }
+
+    @Override
+    @Transactional
+    public OutboxRelayResultDto requeueParked() {
+        return new OutboxRelayResultDto(outboxEventRepository.requeueParked());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OutboxStatisticsDto statistics() {
+        return new OutboxStatisticsDto(statistics.eventCounts(), statistics.confirmedValue(),
+                outboxEventRepository.countByPublishedAtIsNullAndParkedAtIsNull(),
+                outboxEventRepository.countByParkedAtIsNotNull());
+    }
+}
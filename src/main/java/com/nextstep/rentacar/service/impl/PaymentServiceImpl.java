@@ -0,0 +1,56 @@
+package com.nextstep.rentacar.service.impl;
+
+import com.nextstep.rentacar.domain.entity.Payment;
+import com.nextstep.rentacar.domain.enums.PaymentMethod;
+import com.nextstep.rentacar.domain.enums.PaymentStatus;
+import com.nextstep.rentacar.dto.response.CursorPageDto;
+import com.nextstep.rentacar.dto.response.PaymentResponseDto;
+import com.nextstep.rentacar.mapper.PaymentMapper;
+import com.nextstep.rentacar.repository.PaymentRepository;
+import com.nextstep.rentacar.service.PaymentService;
+import com.nextstep.rentacar.service.support.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PaymentServiceImpl implements PaymentService {
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentMapper paymentMapper;
+
+    @Override
+    public CursorPageDto<PaymentResponseDto> scrollWithFilters(Long reservationId,
+                                                               PaymentStatus status,
+                                                               PaymentMethod paymentMethod,
+                                                               Long customerId,
+                                                               OffsetDateTime startDate,
+                                                               OffsetDateTime endDate,
+                                                               String cursor,
+                                                               Integer size,
+                                                               boolean includeTotal) {
+        if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("Invalid date range: endDate must be on/after startDate");
+        }
+        int pageSize = KeysetCursor.resolveSize(size);
+        OffsetDateTime from = startDate != null ? startDate : KeysetCursor.MIN_TIMESTAMP;
+        OffsetDateTime to = endDate != null ? endDate : KeysetCursor.MAX_TIMESTAMP;
+        KeysetCursor position = cursor != null ? KeysetCursor.decode(cursor) : null;
+        OffsetDateTime afterDate = position != null ? position.timestampKey() : to;
+        long afterId = position != null ? position.id() : Long.MAX_VALUE;
+
+        List<Payment> rows = paymentRepository.findPageAfter(reservationId, status, paymentMethod, customerId,
+                from, afterDate, afterId, Limit.of(pageSize + 1));
+        Long total = includeTotal
+                ? paymentRepository.countInWindow(reservationId, status, paymentMethod, customerId, from, to)
+                : null;
+        return KeysetCursor.page(rows, pageSize, p -> KeysetCursor.of(p.getPaymentDate(), p.getId()),
+                paymentMapper::toResponseDto, total);
+    }
+}
@@ -0,0 +1,99 @@
+package com.nextstep.rentacar.service.impl;
+
+import com.nextstep.rentacar.domain.entity.Branch;
+import com.nextstep.rentacar.domain.entity.RatePlan;
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.dto.request.RatePlanRequestDto;
+import com.nextstep.rentacar.dto.response.CarQuoteDto;
+import com.nextstep.rentacar.dto.response.QuoteResponseDto;
+import com.nextstep.rentacar.dto.response.RatePlanResponseDto;
+import com.nextstep.rentacar.mapper.RatePlanMapper;
+import com.nextstep.rentacar.repository.BranchRepository;
+import com.nextstep.rentacar.repository.CarRepository;
+import com.nextstep.rentacar.repository.RatePlanRepository;
+import com.nextstep.rentacar.service.PricingService;
+import com.nextstep.rentacar.service.availability.CarProfile;
+import com.nextstep.rentacar.service.availability.FleetAvailabilityEngine;
+import com.nextstep.rentacar.service.pricing.PricingEngine;
+import com.nextstep.rentacar.service.search.AvailabilitySearchCache;
+import com.nextstep.rentacar.service.search.SearchKey;
+import com.nextstep.rentacar.service.support.TransactionHooks;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PricingServiceImpl implements PricingService {
+
+    private final PricingEngine pricingEngine;
+    private final FleetAvailabilityEngine fleetAvailability;
+    private final CarRepository carRepository;
+    private final BranchRepository branchRepository;
+    private final RatePlanRepository ratePlanRepository;
+    private final RatePlanMapper ratePlanMapper;
+    private final AvailabilitySearchCache searchCache;
+
+    @Override
+    @Transactional(readOnly = true)
+    public QuoteResponseDto quote(Long branchId, LocalDate startDate, LocalDate endDate, CarCategory category) {
+        if (startDate == null || endDate == null || !endDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+        return searchCache.quote(SearchKey.of(branchId, startDate, endDate, category, null, null, null, null),
+                () -> computeQuote(branchId, startDate, endDate, category));
+    }
+
+    private QuoteResponseDto computeQuote(Long branchId, LocalDate startDate, LocalDate endDate, CarCategory category) {
+        List<CarProfile> cars = fleetAvailability
+                .findAvailableProfiles(branchId, startDate, endDate, category, null, null, null, null)
+                .orElseGet(() -> carRepository.findAvailableCarsWithFilters(branchId, startDate, endDate,
+                                category, null, null, null, null, Pageable.unpaged())
+                        .map(CarProfile::of)
+                        .getContent());
+
+        List<CarQuoteDto> quotes = new ArrayList<>(cars.size());
+        for (CarProfile car : cars) {
+            long totalMinor = pricingEngine.quoteMinor(car.dailyPriceMinor(), branchId, car.category(), startDate, endDate);
+            quotes.add(new CarQuoteDto(car.carId(), car.category(),
+                    PricingEngine.toMajorUnits(car.dailyPriceMinor()), PricingEngine.toMajorUnits(totalMinor)));
+        }
+        quotes.sort(Comparator.comparing(CarQuoteDto::getTotalPrice).thenComparing(CarQuoteDto::getCarId));
+        return new QuoteResponseDto(branchId, category, startDate, endDate,
+                PricingEngine.rentalDays(startDate, endDate), pricingEngine.currency(), quotes);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RatePlanResponseDto> listRatePlans() {
+        return ratePlanRepository.findAll().stream().map(ratePlanMapper::toResponseDto).toList();
+    }
+
+    @Override
+    public List<RatePlanResponseDto> publishRatePlans(List<RatePlanRequestDto> requests) {
+        List<RatePlan> plans = new ArrayList<>(requests.size());
+        for (RatePlanRequestDto request : requests) {
+            RatePlan plan = ratePlanMapper.toEntity(request);
+            if (request.getBranchId() != null) {
+                Branch branch = branchRepository.findById(request.getBranchId())
+                        .orElseThrow(() -> new EntityNotFoundException("Branch not found: " + request.getBranchId()));
+                plan.setBranch(branch);
+            }
+            plans.add(plan);
+        }
+        ratePlanRepository.deleteAllPlans();
+        List<RatePlan> saved = ratePlanRepository.saveAll(plans);
+        pricingEngine.publish(saved);
+        searchCache.invalidateQuotes();
+        TransactionHooks.afterRollback(searchCache::invalidateQuotes);
+        return saved.stream().map(ratePlanMapper::toResponseDto).toList();
+    }
+}
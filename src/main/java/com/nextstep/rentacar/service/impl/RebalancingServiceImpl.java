@@ -0,0 +1,140 @@
+package com.nextstep.rentacar.service.impl;
+
+import com.nextstep.rentacar.config.RebalancingProperties;
+import com.nextstep.rentacar.domain.entity.Branch;
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.dto.response.InventoryProjectionDto;
+import com.nextstep.rentacar.dto.response.RebalancingPlanDto;
+import com.nextstep.rentacar.dto.response.RebalancingShortageDto;
+import com.nextstep.rentacar.dto.response.RebalancingTransferDto;
+import com.nextstep.rentacar.repository.BranchRepository;
+import com.nextstep.rentacar.repository.CarRepository;
+import com.nextstep.rentacar.repository.CategoryBookingRepository;
+import com.nextstep.rentacar.repository.ReservationRepository;
+import com.nextstep.rentacar.service.RebalancingService;
+import com.nextstep.rentacar.service.rebalancing.FleetProjection;
+import com.nextstep.rentacar.service.rebalancing.RebalancingPlanner;
+import com.nextstep.rentacar.service.rebalancing.RebalancingPlanner.Plan;
+import com.nextstep.rentacar.service.rebalancing.RebalancingPlanner.Shortage;
+import com.nextstep.rentacar.service.rebalancing.RebalancingPlanner.Transfer;
+import com.nextstep.rentacar.service.rebalancing.ReservationFlow;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RebalancingServiceImpl implements RebalancingService {
+
+    private static final int MAX_DAYS = 366;
+
+    private final BranchRepository branchRepository;
+    private final CarRepository carRepository;
+    private final ReservationRepository reservationRepository;
+    private final CategoryBookingRepository categoryBookingRepository;
+    private final RebalancingProperties properties;
+
+    @Override
+    public List<InventoryProjectionDto> projectInventory(LocalDate from, Integer days, Long branchId, CarCategory category) {
+        Snapshot snapshot = load(from, days);
+        FleetProjection projection = snapshot.projection();
+        int onlyBranch = -1;
+        if (branchId != null) {
+            onlyBranch = projection.branchIndex(branchId);
+            if (onlyBranch < 0) {
+                throw new EntityNotFoundException("Branch not found: " + branchId);
+            }
+        }
+        List<InventoryProjectionDto> result = new ArrayList<>();
+        for (int branch = 0; branch < projection.branchCount(); branch++) {
+            if (onlyBranch >= 0 && branch != onlyBranch) {
+                continue;
+            }
+            for (CarCategory pool : CarCategory.values()) {
+                if ((category != null && pool != category) || !projection.isUsed(branch, pool)) {
+                    continue;
+                }
+                int shortageDay = projection.firstDayBelow(branch, pool, properties.getSafetyStock());
+                result.add(new InventoryProjectionDto(projection.branchId(branch), snapshot.names()[branch], pool,
+                        projection.startDate(), Arrays.stream(projection.series(branch, pool)).boxed().toList(),
+                        projection.minimum(branch, pool), dayOf(projection, shortageDay)));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public RebalancingPlanDto plan(LocalDate from, Integer days) {
+        long started = System.nanoTime();
+        Snapshot snapshot = load(from, days);
+        FleetProjection projection = snapshot.projection();
+        Plan plan = RebalancingPlanner.plan(projection, snapshot.latitude(), snapshot.longitude(),
+                properties.getSafetyStock(), properties.getMaxTransferKm());
+
+        String[] names = snapshot.names();
+        List<RebalancingTransferDto> transfers = new ArrayList<>(plan.transfers().size());
+        int carsMoved = 0;
+        double totalKm = 0;
+        for (Transfer transfer : plan.transfers()) {
+            transfers.add(new RebalancingTransferDto(transfer.category(),
+                    projection.branchId(transfer.fromBranch()), names[transfer.fromBranch()],
+                    projection.branchId(transfer.toBranch()), names[transfer.toBranch()],
+                    transfer.cars(), transfer.distanceKm(), dayOf(projection, transfer.neededByDay())));
+            carsMoved += transfer.cars();
+            totalKm += transfer.cars() * transfer.distanceKm();
+        }
+        List<RebalancingShortageDto> shortages = new ArrayList<>(plan.shortages().size());
+        for (Shortage shortage : plan.shortages()) {
+            shortages.add(new RebalancingShortageDto(shortage.category(), projection.branchId(shortage.branch()),
+                    names[shortage.branch()], shortage.missingCars(), dayOf(projection, shortage.firstShortageDay())));
+        }
+        log.debug("Rebalancing plan over {} flows and {} branches computed in {} ms", snapshot.flows(),
+                projection.branchCount(), (System.nanoTime() - started) / 1_000_000);
+        return new RebalancingPlanDto(projection.startDate(), projection.days(), properties.getSafetyStock(),
+                snapshot.flows(), transfers, carsMoved, totalKm, shortages);
+    }
+
+    private Snapshot load(LocalDate from, Integer days) {
+        LocalDate start = from != null ? from : LocalDate.now();
+        int horizon = days != null ? days : properties.getHorizonDays();
+        if (horizon < 1 || horizon > MAX_DAYS) {
+            throw new IllegalArgumentException("Projection horizon must be between 1 and " + MAX_DAYS + " days");
+        }
+        LocalDate end = start.plusDays(horizon - 1);
+        List<Branch> branches = branchRepository.findAll();
+        int n = branches.size();
+        List<Long> ids = new ArrayList<>(n);
+        String[] names = new String[n];
+        Double[] latitude = new Double[n];
+        Double[] longitude = new Double[n];
+        for (int i = 0; i < n; i++) {
+            Branch branch = branches.get(i);
+            ids.add(branch.getId());
+            names[i] = branch.getName();
+            latitude[i] = branch.getLatitude();
+            longitude[i] = branch.getLongitude();
+        }
+        List<ReservationFlow> flows = new ArrayList<>(reservationRepository.findActiveFlows(start, end));
+        flows.addAll(categoryBookingRepository.findPendingFlows(start, end));
+        FleetProjection projection = FleetProjection.build(start, horizon, ids,
+                carRepository.countRentableByBranchAndCategory(), flows);
+        return new Snapshot(projection, names, latitude, longitude, flows.size());
+    }
+
+    private static LocalDate dayOf(FleetProjection projection, int day) {
+        return day >= 0 ? projection.startDate().plusDays(day) : null;
+    }
+
+    private record Snapshot(FleetProjection projection, String[] names, Double[] latitude, Double[] longitude,
+                            int flows) {
+    }
+}
@@ -0,0 +1,158 @@
+package com.nextstep.rentacar.service.impl;
+
+import com.nextstep.rentacar.config.BookingProperties;
+import com.nextstep.rentacar.dto.response.ReservationHoldResponseDto;
+import com.nextstep.rentacar.repository.CarRepository;
+import com.nextstep.rentacar.repository.ReservationRepository;
+import com.nextstep.rentacar.service.ReservationHoldService;
+import com.nextstep.rentacar.service.booking.BookingCoordinator;
+import com.nextstep.rentacar.service.support.ReadFromPrimary;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds live only in memory: placing one costs a single overlap check, and expiry is handled by a
+ * sweeper draining a {@link DelayQueue}, so abandoned checkouts never touch the reservations table.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationHoldServiceImpl implements ReservationHoldService {
+
+    private final CarRepository carRepository;
+    private final ReservationRepository reservationRepository;
+    private final BookingCoordinator bookingCoordinator;
+    private final BookingProperties bookingProperties;
+
+    private final Clock clock = Clock.systemUTC();
+    private final Map<String, Hold> holdsByToken = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Hold>> holdsByCar = new ConcurrentHashMap<>();
+    private final DelayQueue<Hold> expiries = new DelayQueue<>();
+
+    @Override
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public ReservationHoldResponseDto place(Long carId, LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || !endDate.isAfter(startDate)) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+        if (!carRepository.existsById(carId)) {
+            throw new EntityNotFoundException("Car not found: " + carId);
+        }
+        Hold hold = bookingCoordinator.withCarLock(carId, () -> {
+            if (hasConflictingHold(carId, startDate, endDate, null)
+                    || reservationRepository.existsOverlappingReservation(carId, startDate, endDate, null)) {
+                throw new IllegalStateException("Car is not available for the selected dates");
+            }
+            Hold placed = new Hold(UUID.randomUUID().toString(), carId, startDate, endDate,
+                    clock.instant().plus(bookingProperties.getHoldTtl()));
+            holdsByToken.put(placed.token, placed);
+            holdsByCar.computeIfAbsent(carId, id -> ConcurrentHashMap.newKeySet()).add(placed);
+            expiries.add(placed);
+            return placed;
+        });
+        return new ReservationHoldResponseDto(hold.token, hold.carId, hold.startDate, hold.endDate,
+                OffsetDateTime.ofInstant(hold.expiresAt, ZoneOffset.UTC));
+    }
+
+    @Override
+    public void release(String token) {
+        Hold hold = holdsByToken.remove(token);
+        if (hold != null) {
+            Set<Hold> carHolds = holdsByCar.get(hold.carId);
+            if (carHolds != null) {
+                carHolds.remove(hold);
+            }
+            expiries.remove(hold);
+        }
+    }
+
+    @Override
+    public void verify(String token, Long carId, LocalDate startDate, LocalDate endDate) {
+        Hold hold = holdsByToken.get(token);
+        if (hold == null || isExpired(hold)) {
+            throw new IllegalStateException("Hold has expired or does not exist");
+        }
+        if (!hold.carId.equals(carId) || !hold.startDate.equals(startDate) || !hold.endDate.equals(endDate)) {
+            throw new IllegalArgumentException("Hold does not match the requested car and dates");
+        }
+    }
+
+    @Override
+    public boolean hasConflictingHold(Long carId, LocalDate startDate, LocalDate endDate, String ownToken) {
+        Set<Hold> carHolds = holdsByCar.get(carId);
+        if (carHolds == null) {
+            return false;
+        }
+        for (Hold hold : carHolds) {
+            if (!hold.token.equals(ownToken) && !isExpired(hold)
+                    && !hold.startDate.isAfter(endDate) && !hold.endDate.isBefore(startDate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drops expired holds. Only holds whose deadline has passed are dequeued, so a sweep is O(expired).
+     */
+    @Scheduled(fixedDelayString = "${app.booking.hold-sweep-interval-ms:1000}")
+    public void sweepExpired() {
+        List<Hold> expired = new ArrayList<>();
+        expiries.drainTo(expired);
+        expired.forEach(hold -> release(hold.token));
+        if (!expired.isEmpty()) {
+            log.debug("Released {} expired reservation holds", expired.size());
+        }
+    }
+
+    private boolean isExpired(Hold hold) {
+        return !clock.instant().isBefore(hold.expiresAt);
+    }
+
+    private static final class Hold implements Delayed {
+
+        private final String token;
+        private final Long carId;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final Instant expiresAt;
+
+        private Hold(String token, Long carId, LocalDate startDate, LocalDate endDate, Instant expiresAt) {
+            this.token = token;
+            this.carId = carId;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.expiresAt = expiresAt;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(expiresAt.toEpochMilli() - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return expiresAt.compareTo(((Hold) other).expiresAt);
+        }
+    }
+}
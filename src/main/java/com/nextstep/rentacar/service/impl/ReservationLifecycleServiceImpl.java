@@ -0,0 +1,152 @@
+package com.nextstep.rentacar.service.impl;
+
+import com.nextstep.rentacar.config.LifecycleProperties;
+import com.nextstep.rentacar.domain.entity.Reservation;
+import com.nextstep.rentacar.domain.enums.LifecycleTransition;
+import com.nextstep.rentacar.domain.enums.OutboxEventType;
+import com.nextstep.rentacar.domain.enums.ReservationStatus;
+import com.nextstep.rentacar.domain.event.ReservationEvent;
+import com.nextstep.rentacar.dto.response.BulkTransitionResultDto;
+import com.nextstep.rentacar.repository.ReservationRepository;
+import com.nextstep.rentacar.service.ReservationLifecycleService;
+import com.nextstep.rentacar.service.availability.ReservationAvailabilityIndex;
+import com.nextstep.rentacar.service.lifecycle.LifecycleCandidate;
+import com.nextstep.rentacar.service.outbox.OutboxWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.LongFunction;
+
+@Slf4j
+@Service
+public class ReservationLifecycleServiceImpl implements ReservationLifecycleService {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationAvailabilityIndex availabilityIndex;
+    private final OutboxWriter outbox;
+    private final LifecycleProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReservationLifecycleServiceImpl(ReservationRepository reservationRepository,
+                                           ReservationAvailabilityIndex availabilityIndex,
+                                           OutboxWriter outbox,
+                                           LifecycleProperties properties,
+                                           PlatformTransactionManager transactionManager) {
+        this.reservationRepository = reservationRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.outbox = outbox;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public BulkTransitionResultDto confirmPaid() {
+        Limit limit = chunk();
+        return run(LifecycleTransition.CONFIRM_PAID, ReservationStatus.CONFIRMED,
+                OutboxEventType.RESERVATION_CONFIRMED,
+                afterId -> reservationRepository.findConfirmable(afterId, limit),
+                reservationRepository::confirmPaid);
+    }
+
+    @Override
+    public BulkTransitionResultDto completeEndingOn(LocalDate date) {
+        LocalDate endDate = date != null ? date : LocalDate.now();
+        LocalDate earliestStart = Reservation.earliestOverlappingStart(endDate);
+        Limit limit = chunk();
+        return run(LifecycleTransition.COMPLETE_ENDED, ReservationStatus.COMPLETED,
+                OutboxEventType.RESERVATION_COMPLETED,
+                afterId -> reservationRepository.findCompletable(endDate, earliestStart, afterId, limit),
+                (candidates, now) -> reservationRepository.completeEndingOn(candidates, endDate, now));
+    }
+
+    @Override
+    public BulkTransitionResultDto expireStale(OffsetDateTime createdBefore) {
+        OffsetDateTime cutoff = createdBefore != null
+                ? createdBefore
+                : OffsetDateTime.now(ZoneOffset.UTC).minus(properties.getPendingTtl());
+        LocalDate today = LocalDate.now();
+        Limit limit = chunk();
+        return run(LifecycleTransition.EXPIRE_STALE, ReservationStatus.CANCELLED,
+                OutboxEventType.RESERVATION_CANCELLED,
+                afterId -> reservationRepository.findStale(cutoff, today, afterId, limit),
+                (candidates, now) -> reservationRepository.expireStale(candidates, cutoff, today, now));
+    }
+
+    /**
+     * Walks the eligible rows in id order, one chunk per transaction: select candidates, update each one still at its
+     * selected version with the eligibility predicate repeated, then write events and index changes for the rows that
+     * update changed.
+     */
+    private BulkTransitionResultDto run(LifecycleTransition transition,
+                                        ReservationStatus target,
+                                        OutboxEventType eventType,
+                                        LongFunction<List<LifecycleCandidate>> select,
+                                        BiFunction<List<LifecycleCandidate>, OffsetDateTime, List<LifecycleCandidate>> update) {
+        long started = System.nanoTime();
+        int selected = 0;
+        int transitioned = 0;
+        int chunks = 0;
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            ChunkResult chunk = transactionTemplate.execute(status -> applyChunk(target, eventType,
+                    select.apply(from), update));
+            if (chunk == null || chunk.selected() == 0) {
+                break;
+            }
+            chunks++;
+            selected += chunk.selected();
+            transitioned += chunk.transitioned();
+            afterId = chunk.lastId();
+            if (chunk.selected() < properties.getChunkSize()) {
+                break;
+            }
+        }
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        if (selected > 0) {
+            log.info("{}: {} of {} reservations moved to {} in {} chunks, {} ms", transition, transitioned, selected,
+                    target, chunks, elapsedMs);
+        }
+        return new BulkTransitionResultDto(transition, selected, transitioned, selected - transitioned, chunks, elapsedMs);
+    }
+
+    private ChunkResult applyChunk(ReservationStatus target,
+                                   OutboxEventType eventType,
+                                   List<LifecycleCandidate> candidates,
+                                   BiFunction<List<LifecycleCandidate>, OffsetDateTime, List<LifecycleCandidate>> update) {
+        if (candidates.isEmpty()) {
+            return new ChunkResult(0, 0, 0);
+        }
+        List<LifecycleCandidate> changed = update.apply(candidates, OffsetDateTime.now(ZoneOffset.UTC));
+
+        Map<Long, ReservationEvent> events = new LinkedHashMap<>(changed.size() * 2);
+        List<Long> changedIds = new ArrayList<>(changed.size());
+        for (LifecycleCandidate candidate : changed) {
+            events.put(candidate.id(), candidate.toEvent(target));
+            changedIds.add(candidate.id());
+        }
+        outbox.appendAll(eventType, events);
+        if (target != ReservationStatus.CONFIRMED) {
+            availabilityIndex.recordInactive(changedIds);
+        }
+        return new ChunkResult(candidates.size(), changed.size(), candidates.get(candidates.size() - 1).id());
+    }
+
+    private Limit chunk() {
+        return Limit.of(Math.max(1, properties.getChunkSize()));
+    }
+
+    private record ChunkResult(int selected, int transitioned, long lastId) {
+    }
+}
@@ -0,0 +1,137 @@
+package com.nextstep.rentacar.service.impl;
+
+import com.nextstep.rentacar.config.ReservationSearchProperties;
+import com.nextstep.rentacar.domain.entity.ReservationSearchEntry;
+import com.nextstep.rentacar.dto.request.ReservationSearchFilterDto;
+import com.nextstep.rentacar.dto.response.ReservationSearchRebuildResultDto;
+import com.nextstep.rentacar.dto.response.ReservationSearchResultDto;
+import com.nextstep.rentacar.mapper.ReservationSearchMapper;
+import com.nextstep.rentacar.repository.ReservationSearchRepository;
+import com.nextstep.rentacar.service.ReservationSearchService;
+import com.nextstep.rentacar.service.search.ReservationSearchProjector;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class ReservationSearchServiceImpl implements ReservationSearchService {
+
+    /**
+     * Result columns a search may sort by; each is a plain column of the read model.
+     */
+    private static final Set<String> SORTABLE = Set.of(
+            "reservationId", "customerName", "customerEmail", "carName", "carCategory", "licensePlate",
+            "pickupBranchName", "dropoffBranchName", "status", "startDate", "endDate", "totalPrice", "reservedAt");
+
+    private final ReservationSearchRepository searchRepository;
+    private final ReservationSearchProjector projector;
+    private final ReservationSearchMapper searchMapper;
+    private final ReservationSearchProperties properties;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ReservationSearchResultDto> search(ReservationSearchFilterDto filter, Pageable pageable) {
+        if (filter.getFrom() != null && filter.getTo() != null && filter.getTo().isBefore(filter.getFrom())) {
+            throw new IllegalArgumentException("Invalid date range: to must be on/after from");
+        }
+        if (filter.getMinPrice() != null && filter.getMaxPrice() != null
+                && filter.getMaxPrice().compareTo(filter.getMinPrice()) < 0) {
+            throw new IllegalArgumentException("Invalid price range: maxPrice must be at least minPrice");
+        }
+        return searchRepository.findAll(buildSearchSpecification(filter), resolvePage(pageable))
+                .map(searchMapper::toResultDto);
+    }
+
+    @Override
+    public ReservationSearchRebuildResultDto rebuild() {
+        return new ReservationSearchRebuildResultDto(projector.rebuild());
+    }
+
+    /**
+     * Caps the page size, rejects sorts on unknown properties and appends the reservation id so pages are stable
+     * under ties. Unsorted searches list the latest start dates first.
+     */
+    private Pageable resolvePage(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            pageable = PageRequest.of(0, properties.getMaxPageSize());
+        }
+        if (pageable.getPageSize() > properties.getMaxPageSize()) {
+            throw new IllegalArgumentException("Page size must not exceed " + properties.getMaxPageSize());
+        }
+        Sort sort = pageable.getSort().isUnsorted() ? Sort.by(Sort.Direction.DESC, "startDate") : pageable.getSort();
+        for (Sort.Order order : sort) {
+            if (!SORTABLE.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Cannot sort reservation search by '" + order.getProperty()
+                        + "'; sortable: " + SORTABLE);
+            }
+        }
+        if (sort.getOrderFor("reservationId") == null) {
+            sort = sort.and(Sort.by(Sort.Direction.DESC, "reservationId"));
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+
+    /**
+     * Emits only the predicates that are present. Every filter is a column of the single read-model table, so no
+     * combination needs a join or an OR across associations.
+     */
+    private Specification<ReservationSearchEntry> buildSearchSpecification(ReservationSearchFilterDto filter) {
+        return (Root<ReservationSearchEntry> root, CriteriaQuery<?> query, CriteriaBuilder cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getQ() != null && !filter.getQ().isBlank()) {
+                String needle = filter.getQ().trim().toLowerCase(Locale.ROOT)
+                        .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+                predicates.add(cb.like(root.get("searchText"), "%" + needle + "%", '\\'));
+            }
+            if (filter.getCustomerId() != null) {
+                predicates.add(cb.equal(root.get("customerId"), filter.getCustomerId()));
+            }
+            if (filter.getCustomerEmail() != null && !filter.getCustomerEmail().isBlank()) {
+                predicates.add(cb.equal(root.get("customerEmail"), filter.getCustomerEmail().trim()));
+            }
+            if (filter.getCarId() != null) {
+                predicates.add(cb.equal(root.get("carId"), filter.getCarId()));
+            }
+            if (filter.getCarCategory() != null) {
+                predicates.add(cb.equal(root.get("carCategory"), filter.getCarCategory()));
+            }
+            if (filter.getPickupBranchId() != null) {
+                predicates.add(cb.equal(root.get("pickupBranchId"), filter.getPickupBranchId()));
+            }
+            if (filter.getDropoffBranchId() != null) {
+                predicates.add(cb.equal(root.get("dropoffBranchId"), filter.getDropoffBranchId()));
+            }
+            if (filter.getStatus() != null && !filter.getStatus().isEmpty()) {
+                predicates.add(root.get("status").in(filter.getStatus()));
+            }
+            if (filter.getTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("startDate"), filter.getTo()));
+            }
+            if (filter.getFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("endDate"), filter.getFrom()));
+            }
+            if (filter.getMinPrice() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("totalPrice"), filter.getMinPrice()));
+            }
+            if (filter.getMaxPrice() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("totalPrice"), filter.getMaxPrice()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
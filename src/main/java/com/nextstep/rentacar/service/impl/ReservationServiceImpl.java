@@ -1,43 +1,98 @@
 package com.nextstep.rentacar.service.impl;
 
+import com.nextstep.rentacar.config.BookingProperties;
 import com.nextstep.rentacar.domain.entity.Branch;
 import com.nextstep.rentacar.domain.entity.Car;
 import com.nextstep.rentacar.domain.entity.Customer;
 import com.nextstep.rentacar.domain.entity.Reservation;
+import com.nextstep.rentacar.domain.enums.OutboxEventType;
 import com.nextstep.rentacar.domain.enums.ReservationStatus;
+import com.nextstep.rentacar.domain.event.ReservationEvent;
 import com.nextstep.rentacar.dto.request.ReservationRequestDto;
+import com.nextstep.rentacar.dto.response.BatchReservationItemResultDto;
+import com.nextstep.rentacar.dto.response.BatchReservationResponseDto;
+import com.nextstep.rentacar.dto.response.CursorPageDto;
 import com.nextstep.rentacar.dto.response.ReservationResponseDto;
 import com.nextstep.rentacar.mapper.ReservationMapper;
 import com.nextstep.rentacar.repository.BranchRepository;
 import com.nextstep.rentacar.repository.CarRepository;
 import com.nextstep.rentacar.repository.CustomerRepository;
 import com.nextstep.rentacar.repository.ReservationRepository;
+import com.nextstep.rentacar.service.ReservationHoldService;
 import com.nextstep.rentacar.service.ReservationService;
+import com.nextstep.rentacar.service.assignment.CategoryCapacity;
+import com.nextstep.rentacar.service.availability.ReservationAvailabilityIndex;
+import com.nextstep.rentacar.service.availability.ReservationSlot;
+import com.nextstep.rentacar.service.booking.BookingCoordinator;
+import com.nextstep.rentacar.service.outbox.OutboxWriter;
+import com.nextstep.rentacar.service.pricing.PricingEngine;
+import com.nextstep.rentacar.service.support.KeysetCursor;
+import com.nextstep.rentacar.service.support.RetryOnOptimisticLock;
+import com.nextstep.rentacar.service.support.TransactionHooks;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ReservationServiceImpl implements ReservationService {
 
+    /** Name (or, on partitioned tables, name suffix of the per-partition copies) of the overlap constraint */
+    private static final String OVERLAP_CONSTRAINT = "_no_overlap";
+    private static final String EXCLUSION_VIOLATION_STATE = "23P01";
+
     private final ReservationRepository reservationRepository;
     private final CustomerRepository customerRepository;
     private final CarRepository carRepository;
     private final BranchRepository branchRepository;
     private final ReservationMapper reservationMapper;
+    private final ReservationAvailabilityIndex availabilityIndex;
+    private final BookingCoordinator bookingCoordinator;
+    private final BookingProperties bookingProperties;
+    private final ReservationHoldService holdService;
+    private final PricingEngine pricingEngine;
+    private final OutboxWriter outbox;
+    private final CategoryCapacity categoryCapacity;
 
     @Override
     public ReservationResponseDto create(ReservationRequestDto request) {
+        return createReservation(request, true);
+    }
+
+    @Override
+    public ReservationResponseDto createForCategoryBooking(ReservationRequestDto request) {
+        return createReservation(request, false);
+    }
+
+    private ReservationResponseDto createReservation(ReservationRequestDto request, boolean checkCategoryCapacity) {
         validateDateRange(request.getStartDate(), request.getEndDate());
 
         Customer customer = customerRepository.findById(request.getCustomerId())
@@ -49,8 +104,6 @@ public class ReservationServiceImpl implements ReservationService {
         Branch dropoff = branchRepository.findById(request.getDropoffBranchId())
                 .orElseThrow(() -> new EntityNotFoundException("Dropoff branch not found: " + request.getDropoffBranchId()));
 
-        ensureCarAvailable(car.getId(), request.getStartDate(), request.getEndDate(), null);
-
         Reservation reservation = reservationMapper.toEntity(request);
         reservation.setCustomer(customer);
         reservation.setCar(car);
@@ -62,15 +115,137 @@ public class ReservationServiceImpl implements ReservationService {
         if (days <= 0) {
             throw new IllegalArgumentException("Reservation must be at least 1 day");
         }
-        BigDecimal totalPrice = car.getDailyPrice().multiply(BigDecimal.valueOf(days));
-        reservation.setTotalPrice(totalPrice);
-        reservation.setCurrency("USD");
+        reservation.setTotalPrice(pricingEngine.quote(car.getDailyPrice(), pickup.getId(), car.getCategory(),
+                request.getStartDate(), request.getEndDate()));
+        reservation.setCurrency(pricingEngine.currency());
 
-        Reservation saved = reservationRepository.save(reservation);
+        String holdToken = request.getHoldToken();
+        if (holdToken != null) {
+            holdService.verify(holdToken, car.getId(), request.getStartDate(), request.getEndDate());
+        }
+
+        Reservation saved = bookingCoordinator.withCarLock(car.getId(), () -> {
+            ensureCarAvailable(car.getId(), request.getStartDate(), request.getEndDate(), null, holdToken);
+            if (checkCategoryCapacity) {
+                categoryCapacity.ensureCarBookable(car, request.getStartDate(), request.getEndDate(), null);
+            }
+            Reservation inserted = saveChecked(reservation);
+            availabilityIndex.record(inserted);
+            return inserted;
+        });
+        publish(OutboxEventType.RESERVATION_CREATED, saved);
+        if (holdToken != null) {
+            TransactionHooks.afterCommit(() -> holdService.release(holdToken));
+        }
         return reservationMapper.toResponseDto(saved);
     }
 
     @Override
+    public BatchReservationResponseDto createBatch(List<ReservationRequestDto> requests) {
+        BatchReservationItemResultDto[] results = new BatchReservationItemResultDto[requests.size()];
+
+        // Resolve all referenced entities with one query per type
+        Map<Long, Customer> customers = byId(customerRepository.findAllById(collectIds(requests, ReservationRequestDto::getCustomerId)), Customer::getId);
+        Map<Long, Car> cars = byId(carRepository.findAllById(collectIds(requests, ReservationRequestDto::getCarId)), Car::getId);
+        Set<Long> branchIds = collectIds(requests, ReservationRequestDto::getPickupBranchId);
+        branchIds.addAll(collectIds(requests, ReservationRequestDto::getDropoffBranchId));
+        Map<Long, Branch> branches = byId(branchRepository.findAllById(branchIds), Branch::getId);
+
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ReservationRequestDto request = requests.get(i);
+            try {
+                validateDateRange(request.getStartDate(), request.getEndDate());
+                requireResolved(customers, request.getCustomerId(), "Customer");
+                requireResolved(cars, request.getCarId(), "Car");
+                requireResolved(branches, request.getPickupBranchId(), "Pickup branch");
+                requireResolved(branches, request.getDropoffBranchId(), "Dropoff branch");
+                candidates.add(i);
+            } catch (IllegalArgumentException | EntityNotFoundException ex) {
+                results[i] = BatchReservationItemResultDto.rejected(i, ex.getMessage());
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            Set<Long> carIds = new TreeSet<>();
+            candidates.forEach(i -> carIds.add(requests.get(i).getCarId()));
+            bookingCoordinator.withCarLocks(carIds, () -> {
+                insertBatch(requests, candidates, carIds, customers, cars, branches, results);
+                return null;
+            });
+        }
+
+        List<BatchReservationItemResultDto> resultList = Arrays.asList(results);
+        int created = (int) resultList.stream().filter(BatchReservationItemResultDto::isCreated).count();
+        return new BatchReservationResponseDto(created, resultList.size() - created, resultList);
+    }
+
+    /**
+     * Checks all candidates against existing bookings and against each other (first come, first served),
+     * then inserts the accepted ones in one JDBC batch. Caller holds the locks of all involved cars.
+     */
+    private void insertBatch(List<ReservationRequestDto> requests,
+                             List<Integer> candidates,
+                             Set<Long> carIds,
+                             Map<Long, Customer> customers,
+                             Map<Long, Car> cars,
+                             Map<Long, Branch> branches,
+                             BatchReservationItemResultDto[] results) {
+        LocalDate windowStart = candidates.stream().map(i -> requests.get(i).getStartDate()).min(LocalDate::compareTo).orElseThrow();
+        LocalDate windowEnd = candidates.stream().map(i -> requests.get(i).getEndDate()).max(LocalDate::compareTo).orElseThrow();
+        Map<Long, List<ReservationSlot>> booked = new HashMap<>();
+        for (ReservationSlot slot : reservationRepository.findActiveSlots(carIds, windowStart, windowEnd)) {
+            booked.computeIfAbsent(slot.carId(), id -> new ArrayList<>()).add(slot);
+        }
+
+        List<Integer> accepted = new ArrayList<>();
+        List<Reservation> toInsert = new ArrayList<>();
+        for (int i : candidates) {
+            ReservationRequestDto request = requests.get(i);
+            Long carId = request.getCarId();
+            List<ReservationSlot> carSlots = booked.computeIfAbsent(carId, id -> new ArrayList<>());
+            // carSlots come from the database, so the (node-local) availability index is not consulted
+            boolean conflict = holdService.hasConflictingHold(carId, request.getStartDate(), request.getEndDate(), null)
+                    || carSlots.stream().anyMatch(s -> s.overlaps(request.getStartDate(), request.getEndDate()));
+            if (conflict) {
+                results[i] = BatchReservationItemResultDto.rejected(i, "Car is not available for the selected dates");
+                continue;
+            }
+            Car car = cars.get(carId);
+            try {
+                categoryCapacity.ensureCarBookable(car, request.getStartDate(), request.getEndDate(), null);
+            } catch (IllegalStateException ex) {
+                results[i] = BatchReservationItemResultDto.rejected(i, ex.getMessage());
+                continue;
+            }
+            carSlots.add(new ReservationSlot(null, carId, request.getStartDate(), request.getEndDate()));
+
+            Reservation reservation = reservationMapper.toEntity(request);
+            reservation.setCustomer(customers.get(request.getCustomerId()));
+            reservation.setCar(car);
+            reservation.setPickupBranch(branches.get(request.getPickupBranchId()));
+            reservation.setDropoffBranch(branches.get(request.getDropoffBranchId()));
+            reservation.setStatus(ReservationStatus.PENDING);
+            reservation.setTotalPrice(pricingEngine.quote(car.getDailyPrice(), request.getPickupBranchId(),
+                    car.getCategory(), request.getStartDate(), request.getEndDate()));
+            reservation.setCurrency(pricingEngine.currency());
+            accepted.add(i);
+            toInsert.add(reservation);
+        }
+
+        List<Long> ids = reservationRepository.insertAll(toInsert);
+        Map<Long, Reservation> inserted = byId(reservationRepository.findAllById(ids), Reservation::getId);
+        for (int k = 0; k < ids.size(); k++) {
+            Reservation saved = inserted.get(ids.get(k));
+            availabilityIndex.record(saved);
+            publish(OutboxEventType.RESERVATION_CREATED, saved);
+            int i = accepted.get(k);
+            results[i] = BatchReservationItemResultDto.created(i, reservationMapper.toResponseDto(saved));
+        }
+    }
+
+    @Override
+    @RetryOnOptimisticLock
     public ReservationResponseDto update(Long id, ReservationRequestDto request) {
         validateDateRange(request.getStartDate(), request.getEndDate());
         Reservation reservation = reservationRepository.findById(id)
@@ -105,17 +280,24 @@ public class ReservationServiceImpl implements ReservationService {
             reservation.setDropoffBranch(dropoff);
         }
 
-        // Ensure no overlaps (excluding this reservation)
-        ensureCarAvailable(reservation.getCar().getId(), request.getStartDate(), request.getEndDate(), reservation.getId());
-
         long days = ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate());
         if (days <= 0) {
             throw new IllegalArgumentException("Reservation must be at least 1 day");
         }
-        BigDecimal totalPrice = reservation.getCar().getDailyPrice().multiply(BigDecimal.valueOf(days));
-        reservation.setTotalPrice(totalPrice);
+        Car car = reservation.getCar();
+        reservation.setTotalPrice(pricingEngine.quote(car.getDailyPrice(), reservation.getPickupBranch().getId(),
+                car.getCategory(), request.getStartDate(), request.getEndDate()));
 
-        Reservation saved = reservationRepository.save(reservation);
+        Long carId = reservation.getCar().getId();
+        Reservation saved = bookingCoordinator.withCarLock(carId, () -> {
+            // Ensure no overlaps (excluding this reservation)
+            ensureCarAvailable(carId, request.getStartDate(), request.getEndDate(), reservation.getId(), null);
+            categoryCapacity.ensureCarBookable(car, request.getStartDate(), request.getEndDate(), reservation.getId());
+            Reservation updated = saveChecked(reservation);
+            availabilityIndex.record(updated);
+            return updated;
+        });
+        publish(OutboxEventType.RESERVATION_UPDATED, saved);
         return reservationMapper.toResponseDto(saved);
     }
 
@@ -128,27 +310,36 @@ public class ReservationServiceImpl implements ReservationService {
     }
 
     @Override
+    @RetryOnOptimisticLock
     public void cancel(Long id) {
         Reservation reservation = reservationRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Reservation not found: " + id));
         reservation.cancel();
         reservationRepository.save(reservation);
+        availabilityIndex.record(reservation);
+        publish(OutboxEventType.RESERVATION_CANCELLED, reservation);
     }
 
     @Override
+    @RetryOnOptimisticLock
     public void confirm(Long id) {
         Reservation reservation = reservationRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Reservation not found: " + id));
         reservation.confirm();
         reservationRepository.save(reservation);
+        availabilityIndex.record(reservation);
+        publish(OutboxEventType.RESERVATION_CONFIRMED, reservation);
     }
 
     @Override
+    @RetryOnOptimisticLock
     public void complete(Long id) {
         Reservation reservation = reservationRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Reservation not found: " + id));
         reservation.complete();
         reservationRepository.save(reservation);
+        availabilityIndex.record(reservation);
+        publish(OutboxEventType.RESERVATION_COMPLETED, reservation);
     }
 
     @Override
@@ -175,12 +366,89 @@ public class ReservationServiceImpl implements ReservationService {
         if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
             throw new IllegalArgumentException("Invalid date range: endDate must be on/after startDate");
         }
-        if (startDate == null) startDate = LocalDate.now().minusYears(50); // broad default
-        if (endDate == null) endDate = LocalDate.now().plusYears(50);
-        return reservationRepository.findReservationsInDateRange(customerId, carId, status, branchId, startDate, endDate, pageable)
+        Pageable ordered = pageable.isPaged() && pageable.getSort().isUnsorted()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "startDate"))
+                : pageable;
+        return reservationRepository.findAll(buildReservationSpecification(customerId, carId, status, branchId, startDate, endDate), ordered)
                 .map(reservationMapper::toResponseDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<ReservationResponseDto> scrollWithFilters(Long customerId,
+                                                                   Long carId,
+                                                                   ReservationStatus status,
+                                                                   Long branchId,
+                                                                   LocalDate startDate,
+                                                                   LocalDate endDate,
+                                                                   String cursor,
+                                                                   Integer size,
+                                                                   boolean includeTotal) {
+        if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("Invalid date range: endDate must be on/after startDate");
+        }
+        int pageSize = KeysetCursor.resolveSize(size);
+        Specification<Reservation> filters = buildReservationSpecification(customerId, carId, status, branchId, startDate, endDate);
+        Specification<Reservation> page = filters;
+        if (cursor != null) {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            LocalDate afterDate = position.dateKey();
+            Long afterId = position.id();
+            page = filters.and((root, query, cb) -> cb.or(
+                    cb.lessThan(root.get("startDate"), afterDate),
+                    cb.and(cb.equal(root.get("startDate"), afterDate), cb.lessThan(root.get("id"), afterId))));
+        }
+        List<Reservation> rows = reservationRepository.findBy(page, q -> q
+                .project(ReservationRepository.RESPONSE_GRAPH)
+                .sortBy(Sort.by(Sort.Direction.DESC, "startDate", "id"))
+                .limit(pageSize + 1)
+                .all());
+        Long total = includeTotal ? reservationRepository.count(filters) : null;
+        return KeysetCursor.page(rows, pageSize, r -> KeysetCursor.of(r.getStartDate(), r.getId()),
+                reservationMapper::toResponseDto, total);
+    }
+
+    /**
+     * Emits only the predicates that are present, so each combination keeps a plain, sargable WHERE clause
+     * (customer_id, car_id + start_date, or start_date/end_date + status) instead of "(:p IS NULL OR ...)".
+     * The date bounds select reservations overlapping the requested window. When the status filter is PENDING or
+     * CONFIRMED the lower bound on start_date implied by {@link Reservation#MAX_RENTAL_DAYS} is added for partition
+     * pruning; history rows may be longer, so other statuses go without it.
+     */
+    private Specification<Reservation> buildReservationSpecification(Long customerId,
+                                                                      Long carId,
+                                                                      ReservationStatus status,
+                                                                      Long branchId,
+                                                                      LocalDate startDate,
+                                                                      LocalDate endDate) {
+        return (Root<Reservation> root, CriteriaQuery<?> query, CriteriaBuilder cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (customerId != null) {
+                predicates.add(cb.equal(root.get("customer").get("id"), customerId));
+            }
+            if (carId != null) {
+                predicates.add(cb.equal(root.get("car").get("id"), carId));
+            }
+            if (endDate != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("startDate"), endDate));
+            }
+            if (startDate != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("endDate"), startDate));
+                if (status == ReservationStatus.PENDING || status == ReservationStatus.CONFIRMED) {
+                    predicates.add(cb.greaterThanOrEqualTo(root.get("startDate"),
+                            Reservation.earliestOverlappingStart(startDate)));
+                }
+            }
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (branchId != null) {
+                predicates.add(cb.equal(root.get("pickupBranch").get("id"), branchId));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
     private void validateDateRange(LocalDate start, LocalDate end) {
         if (start == null || end == null) {
             throw new IllegalArgumentException("Start and end dates are required");
@@ -188,13 +456,68 @@ public class ReservationServiceImpl implements ReservationService {
         if (!end.isAfter(start)) {
             throw new IllegalArgumentException("End date must be after start date");
         }
+        // A product rule on every profile, not a Postgres detail: the overlap queries rely on it everywhere
+        if (ChronoUnit.DAYS.between(start, end) > Reservation.MAX_RENTAL_DAYS) {
+            throw new IllegalArgumentException("Reservation must not exceed " + Reservation.MAX_RENTAL_DAYS + " days");
+        }
     }
 
-    private void ensureCarAvailable(Long carId, LocalDate start, LocalDate end, Long excludeReservationId) {
-        List<Reservation> overlaps = reservationRepository.findOverlappingReservations(carId, start, end);
-        boolean conflict = overlaps.stream().anyMatch(r -> excludeReservationId == null || !r.getId().equals(excludeReservationId));
-        if (conflict) {
+    private void ensureCarAvailable(Long carId, LocalDate start, LocalDate end, Long excludeReservationId, String holdToken) {
+        if (holdService.hasConflictingHold(carId, start, end, holdToken)) {
             throw new IllegalStateException("Car is not available for the selected dates");
         }
+        // A hold token is no shortcut: holds live on the node that placed them, so another node may have booked the
+        // interval since. Only the database (constraint or query under the car lock) sees every node's bookings.
+        // An index hit may be stale for the same reason, so it only forces the query instead of rejecting.
+        if (bookingProperties.isDatabaseExclusion()
+                && !availabilityIndex.hasConflict(carId, start, end, excludeReservationId)) {
+            // The reservations_no_overlap constraint rejects the insert; see saveChecked
+            return;
+        }
+        if (reservationRepository.existsOverlappingReservation(carId, start, end, excludeReservationId)) {
+            throw new IllegalStateException("Car is not available for the selected dates");
+        }
+    }
+
+    private void publish(OutboxEventType type, Reservation reservation) {
+        outbox.append(type, reservation.getId(), ReservationEvent.of(reservation));
+    }
+
+    private Reservation saveChecked(Reservation reservation) {
+        try {
+            return reservationRepository.saveAndFlush(reservation);
+        } catch (DataIntegrityViolationException ex) {
+            if (isOverlapViolation(ex)) {
+                throw new IllegalStateException("Car is not available for the selected dates", ex);
+            }
+            throw ex;
+        }
+    }
+
+    private boolean isOverlapViolation(Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof SQLException sql && EXCLUSION_VIOLATION_STATE.equals(sql.getSQLState())) {
+                return true;
+            }
+            if (t instanceof ConstraintViolationException cve && cve.getConstraintName() != null
+                    && cve.getConstraintName().toLowerCase().endsWith(OVERLAP_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<Long> collectIds(List<ReservationRequestDto> requests, Function<ReservationRequestDto, Long> getter) {
+        return requests.stream().map(getter).filter(Objects::nonNull).collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private static <T> Map<Long, T> byId(List<T> entities, Function<T, Long> idGetter) {
+        return entities.stream().collect(Collectors.toMap(idGetter, Function.identity()));
+    }
+
+    private static void requireResolved(Map<Long, ?> resolved, Long id, String label) {
+        if (id == null || !resolved.containsKey(id)) {
+            throw new EntityNotFoundException(label + " not found: " + id);
+        }
     }
 }
@@ -0,0 +1,90 @@
+package com.nextstep.rentacar.service.impl;
+
+import com.nextstep.rentacar.domain.entity.Branch;
+import com.nextstep.rentacar.domain.entity.Customer;
+import com.nextstep.rentacar.domain.entity.WaitlistEntry;
+import com.nextstep.rentacar.domain.enums.WaitlistStatus;
+import com.nextstep.rentacar.dto.request.WaitlistRequestDto;
+import com.nextstep.rentacar.dto.response.WaitlistEntryResponseDto;
+import com.nextstep.rentacar.mapper.WaitlistMapper;
+import com.nextstep.rentacar.repository.BranchRepository;
+import com.nextstep.rentacar.repository.CustomerRepository;
+import com.nextstep.rentacar.repository.WaitlistEntryRepository;
+import com.nextstep.rentacar.service.ReservationHoldService;
+import com.nextstep.rentacar.service.WaitlistService;
+import com.nextstep.rentacar.service.support.RetryOnOptimisticLock;
+import com.nextstep.rentacar.service.support.TransactionHooks;
+import com.nextstep.rentacar.service.waitlist.WaitlistIndex;
+import com.nextstep.rentacar.service.waitlist.WaitlistMatcher;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class WaitlistServiceImpl implements WaitlistService {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final CustomerRepository customerRepository;
+    private final BranchRepository branchRepository;
+    private final WaitlistMapper waitlistMapper;
+    private final WaitlistIndex waitlistIndex;
+    private final WaitlistMatcher waitlistMatcher;
+    private final ReservationHoldService holdService;
+
+    @Override
+    public WaitlistEntryResponseDto join(WaitlistRequestDto request) {
+        if (!request.getEndDate().isAfter(request.getStartDate())) {
+            throw new IllegalArgumentException("End date must be after start date");
+        }
+        Customer customer = customerRepository.findById(request.getCustomerId())
+                .orElseThrow(() -> new EntityNotFoundException("Customer not found: " + request.getCustomerId()));
+        Branch branch = branchRepository.findById(request.getBranchId())
+                .orElseThrow(() -> new EntityNotFoundException("Branch not found: " + request.getBranchId()));
+        WaitlistEntry saved = waitlistEntryRepository.save(new WaitlistEntry(customer, branch, request.getCategory(),
+                request.getStartDate(), request.getEndDate(), request.getPriority()));
+        waitlistIndex.record(saved);
+        return waitlistMapper.toResponseDto(saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public WaitlistEntryResponseDto getById(Long id) {
+        return waitlistMapper.toResponseDto(findEntry(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<WaitlistEntryResponseDto> listByCustomer(Long customerId, Pageable pageable) {
+        return waitlistEntryRepository.findByCustomerIdOrderByIdDesc(customerId, pageable).map(waitlistMapper::toResponseDto);
+    }
+
+    @Override
+    @RetryOnOptimisticLock
+    public void cancel(Long id) {
+        WaitlistEntry entry = findEntry(id);
+        boolean offered = entry.getStatus() == WaitlistStatus.OFFERED;
+        entry.cancel();
+        waitlistEntryRepository.save(entry);
+        waitlistIndex.record(entry);
+        if (offered) {
+            Long carId = entry.getOfferedCar().getId();
+            LocalDate start = entry.getStartDate();
+            LocalDate end = entry.getEndDate();
+            String token = entry.getHoldToken();
+            waitlistMatcher.carFreed(carId, start, end);
+            TransactionHooks.afterCommit(() -> holdService.release(token));
+        }
+    }
+
+    private WaitlistEntry findEntry(Long id) {
+        return waitlistEntryRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Waitlist entry not found: " + id));
+    }
+}
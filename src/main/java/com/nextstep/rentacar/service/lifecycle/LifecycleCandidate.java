@@ -0,0 +1,27 @@
+package com.nextstep.rentacar.service.lifecycle;
+
+import com.nextstep.rentacar.domain.enums.ReservationStatus;
+import com.nextstep.rentacar.domain.event.ReservationEvent;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * The columns of a reservation a bulk transition needs: the version it was selected at, which the update requires
+ * the row to still have, and the event payload fields.
+ */
+public record LifecycleCandidate(Long id,
+                                 Long version,
+                                 Long customerId,
+                                 Long carId,
+                                 Long pickupBranchId,
+                                 LocalDate startDate,
+                                 LocalDate endDate,
+                                 BigDecimal totalPrice,
+                                 String currency) {
+
+    public ReservationEvent toEvent(ReservationStatus status) {
+        return new ReservationEvent(id, customerId, carId, pickupBranchId, startDate, endDate, status, totalPrice,
+                currency);
+    }
+}
@@ -0,0 +1,52 @@
+package com.nextstep.rentacar.service.lifecycle;
+
+import com.nextstep.rentacar.config.LifecycleProperties;
+import com.nextstep.rentacar.service.ReservationLifecycleService;
+import com.nextstep.rentacar.service.support.ClusterJobLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+/**
+ * Nightly reservation housekeeping. Completion runs late in the evening because a reservation can only be
+ * completed up to its end date. Each transition runs on one node at a time under a {@link ClusterJobLock}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationLifecycleJob {
+
+    private final ReservationLifecycleService lifecycleService;
+    private final LifecycleProperties properties;
+    private final ClusterJobLock clusterJobLock;
+
+    @Scheduled(cron = "${app.lifecycle.confirm-cron:0 0 1 * * *}")
+    public void confirmPaid() {
+        run("Confirming paid reservations", lifecycleService::confirmPaid);
+    }
+
+    @Scheduled(cron = "${app.lifecycle.expire-cron:0 15 1 * * *}")
+    public void expireStale() {
+        run("Expiring stale reservations", () -> lifecycleService.expireStale(null));
+    }
+
+    @Scheduled(cron = "${app.lifecycle.complete-cron:0 45 23 * * *}")
+    public void completeEnded() {
+        run("Completing reservations", () -> lifecycleService.completeEndingOn(LocalDate.now()));
+    }
+
+    private void run(String description, Supplier<?> transition) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            clusterJobLock.runExclusively(description, transition::get);
+        } catch (RuntimeException e) {
+            log.error("{} failed", description, e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.nextstep.rentacar.service.outbox;
+
+import com.nextstep.rentacar.domain.event.MaintenanceEvent;
+import com.nextstep.rentacar.domain.event.ReservationEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Customer and fleet notifications for lifecycle events. There is no delivery channel yet, so notifications are
+ * written to the log; a mail or push sender plugs in here without touching the request path.
+ */
+@Slf4j
+@Component
+public class LifecycleNotificationListener implements OutboxListener {
+
+    @Override
+    public void onEvents(List<OutboxMessage> events) {
+        for (OutboxMessage event : events) {
+            switch (event.type()) {
+                case RESERVATION_CONFIRMED, RESERVATION_CANCELLED -> {
+                    ReservationEvent reservation = (ReservationEvent) event.payload();
+                    log.info("Notify customer {}: reservation {} is {}", reservation.customerId(),
+                            reservation.reservationId(), reservation.status());
+                }
+                case MAINTENANCE_STARTED, MAINTENANCE_COMPLETED -> {
+                    MaintenanceEvent maintenance = (MaintenanceEvent) event.payload();
+                    log.info("Notify fleet: car {} maintenance {} is {}", maintenance.carId(),
+                            maintenance.maintenanceId(), maintenance.status());
+                }
+                default -> {
+                }
+            }
+        }
+    }
+}
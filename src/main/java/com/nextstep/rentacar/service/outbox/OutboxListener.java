@@ -0,0 +1,36 @@
+package com.nextstep.rentacar.service.outbox;
+
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * In-process consumer of outbox events. Batches arrive in event id order from the relay thread, never from the
+ * request that produced them. Each listener runs in its own transaction and its deliveries are recorded under
+ * {@link #name()}, so a failing listener gets the events again without the others seeing them twice. After a failed
+ * batch the relay retries that listener one event at a time to find the event it fails on, so a listener that throws
+ * part way through a batch must tolerate the events before the failure arriving again. During replay a failing
+ * listener is logged and skipped.
+ */
+public interface OutboxListener {
+
+    void onEvents(List<OutboxMessage> events);
+
+    /**
+     * Key of this listener's delivery state; renaming it makes the listener receive unpublished events again.
+     */
+    default String name() {
+        return ClassUtils.getUserClass(this).getSimpleName();
+    }
+
+    /**
+     * Listeners holding derived state return true: they are {@link #reset()} and fed every retained published event
+     * on startup and on demand. Listeners with external side effects (notifications) must not be replayed.
+     */
+    default boolean replayable() {
+        return false;
+    }
+
+    default void reset() {
+    }
+}
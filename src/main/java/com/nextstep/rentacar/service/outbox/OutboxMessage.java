@@ -0,0 +1,12 @@
+package com.nextstep.rentacar.service.outbox;
+
+import com.nextstep.rentacar.domain.enums.OutboxEventType;
+
+import java.time.OffsetDateTime;
+
+/**
+ * An outbox event as delivered to listeners, with the payload already deserialized to
+ * {@link OutboxEventType#getPayloadType()}.
+ */
+public record OutboxMessage(Long id, OutboxEventType type, Long aggregateId, Record payload, OffsetDateTime occurredAt) {
+}
@@ -0,0 +1,261 @@
+package com.nextstep.rentacar.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nextstep.rentacar.config.OutboxProperties;
+import com.nextstep.rentacar.domain.entity.OutboxEvent;
+import com.nextstep.rentacar.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the outbox in batches and hands each batch to the {@link OutboxListener}s.
+ * <p>
+ * Every listener gets the batch in its own transaction, which also records the (event, listener) deliveries, so a
+ * crash before commit redelivers to that listener only (at-least-once) and a failing listener does not make the
+ * others see the batch twice. An event is marked published once every listener has it. A failed batch is retried one
+ * event at a time to pin down the failing event; its attempts are counted and after {@code max-attempts} it is parked,
+ * so one poison event cannot hold a listener back forever. Unpublished rows are selected rather than "ids above the
+ * last one seen", so an event whose transaction commits after a later id has been relayed is still picked up. Replay
+ * feeds already published events to the replayable listeners only; it runs on startup so in-memory projections
+ * survive restarts.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxListener> listeners;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter relayed;
+    private final Counter listenerFailures;
+    private final Lock lock = new ReentrantLock();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       List<OutboxListener> listeners,
+                       ObjectMapper objectMapper,
+                       OutboxProperties properties,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.listeners = listeners;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.relayed = Counter.builder("outbox.relayed")
+                .description("Outbox events delivered to in-process listeners")
+                .register(meterRegistry);
+        this.listenerFailures = Counter.builder("outbox.listener.failures")
+                .description("Batches an outbox listener failed to process")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long replayed = replay();
+        log.info("Replayed {} outbox events into {} projections", replayed,
+                listeners.stream().filter(OutboxListener::replayable).count());
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay-interval-ms:500}")
+    public void relayScheduled() {
+        if (properties.isRelayEnabled()) {
+            drain();
+        }
+    }
+
+    /**
+     * Delivers every unpublished event, batch by batch, and stops early at a batch a listener is behind on. Returns the
+     * number of events published.
+     */
+    public long drain() {
+        lock.lock();
+        try {
+            long total = 0;
+            int batch;
+            do {
+                batch = relayBatch();
+                total += batch;
+            } while (batch == properties.getBatchSize());
+            return total;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Resets the replayable listeners and feeds them every retained published event. Returns the number of events.
+     */
+    public long replay() {
+        List<OutboxListener> projections = listeners.stream().filter(OutboxListener::replayable).toList();
+        if (projections.isEmpty()) {
+            return 0;
+        }
+        lock.lock();
+        try {
+            projections.forEach(OutboxListener::reset);
+            long total = 0;
+            long afterId = 0;
+            List<OutboxEvent> batch;
+            do {
+                long from = afterId;
+                batch = transactionTemplate.execute(status -> outboxEventRepository
+                        .findByPublishedAtIsNotNullAndIdGreaterThanOrderByIdAsc(from, Limit.of(properties.getBatchSize())));
+                if (!batch.isEmpty()) {
+                    dispatch(projections, batch.stream().map(this::toMessage).toList());
+                    afterId = batch.get(batch.size() - 1).getId();
+                    total += batch.size();
+                }
+            } while (batch.size() == properties.getBatchSize());
+            return total;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes published events older than the retention window.
+     */
+    @Scheduled(cron = "${app.outbox.cleanup-cron:0 30 3 * * *}")
+    public void purge() {
+        OffsetDateTime cutoff = OffsetDateTime.now(ZoneOffset.UTC).minus(properties.getRetention());
+        Integer removed = transactionTemplate.execute(status -> {
+            outboxEventRepository.deleteDeliveriesPublishedBefore(cutoff);
+            return outboxEventRepository.deletePublishedBefore(cutoff);
+        });
+        log.info("Purged {} published outbox events older than {}", removed, cutoff);
+    }
+
+    private int relayBatch() {
+        List<OutboxMessage> messages = transactionTemplate.execute(status -> readPending());
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        Set<Long> behind = new HashSet<>();
+        for (OutboxListener listener : listeners) {
+            behind.addAll(deliver(listener, messages));
+        }
+        List<Long> complete = messages.stream().map(OutboxMessage::id).filter(id -> !behind.contains(id)).toList();
+        if (!complete.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxEventRepository.markPublished(complete, OffsetDateTime.now(ZoneOffset.UTC)));
+            relayed.increment(complete.size());
+        }
+        return complete.size();
+    }
+
+    /**
+     * Reads the next unpublished, unparked events. A payload that cannot be read will never be, so it is parked now.
+     */
+    private List<OutboxMessage> readPending() {
+        List<OutboxMessage> messages = new ArrayList<>();
+        for (OutboxEvent event : outboxEventRepository
+                .findByPublishedAtIsNullAndParkedAtIsNullOrderByIdAsc(Limit.of(properties.getBatchSize()))) {
+            try {
+                messages.add(toMessage(event));
+            } catch (IllegalStateException e) {
+                log.error("Parking outbox event {}", event.getId(), e);
+                outboxEventRepository.park(event.getId(), describe(e), OffsetDateTime.now(ZoneOffset.UTC));
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * Hands the listener the events it has not processed yet. Returns the ids it is still behind on.
+     */
+    private Set<Long> deliver(OutboxListener listener, List<OutboxMessage> messages) {
+        String name = listener.name();
+        List<Long> ids = messages.stream().map(OutboxMessage::id).toList();
+        Set<Long> delivered = new HashSet<>(transactionTemplate.execute(status ->
+                outboxEventRepository.findDeliveredEventIds(name, ids)));
+        List<OutboxMessage> pending = messages.stream().filter(m -> !delivered.contains(m.id())).toList();
+        if (pending.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            apply(listener, pending);
+            return Set.of();
+        } catch (RuntimeException e) {
+            listenerFailures.increment();
+            log.error("Outbox listener {} failed on events {}..{}; retrying them one by one", name,
+                    pending.get(0).id(), pending.get(pending.size() - 1).id(), e);
+        }
+        // Stop at the first failure: the listener must not see later events before the one it failed on
+        for (int i = 0; i < pending.size(); i++) {
+            OutboxMessage message = pending.get(i);
+            try {
+                apply(listener, List.of(message));
+            } catch (RuntimeException e) {
+                recordFailure(name, message, e);
+                return pending.subList(i, pending.size()).stream().map(OutboxMessage::id).collect(Collectors.toSet());
+            }
+        }
+        return Set.of();
+    }
+
+    private void apply(OutboxListener listener, List<OutboxMessage> messages) {
+        transactionTemplate.executeWithoutResult(status -> {
+            listener.onEvents(messages);
+            outboxEventRepository.insertDeliveries(listener.name(), messages.stream().map(OutboxMessage::id).toList());
+        });
+    }
+
+    private void recordFailure(String listener, OutboxMessage message, RuntimeException e) {
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.recordFailure(message.id(),
+                describe(e), properties.getMaxAttempts(), OffsetDateTime.now(ZoneOffset.UTC)));
+        log.warn("Outbox listener {} failed on event {}; it is parked after {} attempts", listener, message.id(),
+                properties.getMaxAttempts(), e);
+    }
+
+    private static String describe(Exception e) {
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        return error.length() > 500 ? error.substring(0, 500) : error;
+    }
+
+    /**
+     * Replay failures are counted and logged, then replay carries on so that one broken projection does not keep the
+     * others empty.
+     */
+    private void dispatch(List<OutboxListener> targets, List<OutboxMessage> messages) {
+        for (OutboxListener listener : targets) {
+            try {
+                listener.onEvents(messages);
+            } catch (RuntimeException e) {
+                listenerFailures.increment();
+                log.error("Outbox listener {} failed on events {}..{}", listener.name(),
+                        messages.get(0).id(), messages.get(messages.size() - 1).id(), e);
+            }
+        }
+    }
+
+    private OutboxMessage toMessage(OutboxEvent event) {
+        try {
+            Record payload = objectMapper.readValue(event.getPayload(), event.getEventType().getPayloadType());
+            return new OutboxMessage(event.getId(), event.getEventType(), event.getAggregateId(), payload,
+                    event.getCreatedAt());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt payload in outbox event " + event.getId(), e);
+        }
+    }
+}
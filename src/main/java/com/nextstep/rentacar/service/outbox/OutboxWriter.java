@@ -0,0 +1,61 @@
+package com.nextstep.rentacar.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nextstep.rentacar.domain.entity.OutboxEvent;
+import com.nextstep.rentacar.domain.enums.OutboxEventType;
+import com.nextstep.rentacar.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Appends events to the outbox. Requires the caller's transaction, so an event exists if and only if the state
+ * change it describes was committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType type, Long aggregateId, Record payload) {
+        if (!type.getPayloadType().isInstance(payload)) {
+            throw new IllegalArgumentException("Payload of " + type + " must be " + type.getPayloadType().getSimpleName());
+        }
+        OutboxEvent event = new OutboxEvent(type.getAggregateType(), aggregateId, type, serialize(payload), null, 0, null, null);
+        outboxEventRepository.save(event);
+    }
+
+    /**
+     * Appends one event per aggregate with a single JDBC batch, for bulk state changes.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(OutboxEventType type, Map<Long, ? extends Record> payloadsByAggregate) {
+        List<OutboxEvent> events = new ArrayList<>(payloadsByAggregate.size());
+        payloadsByAggregate.forEach((aggregateId, payload) -> {
+            if (!type.getPayloadType().isInstance(payload)) {
+                throw new IllegalArgumentException("Payload of " + type + " must be " + type.getPayloadType().getSimpleName());
+            }
+            events.add(new OutboxEvent(type.getAggregateType(), aggregateId, type, serialize(payload), null, 0, null, null));
+        });
+        // Pending entity inserts go first so the relay keeps seeing events in the order they were appended
+        outboxEventRepository.flush();
+        outboxEventRepository.insertAll(events);
+    }
+
+    private String serialize(Record payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize outbox payload " + payload.getClass().getSimpleName(), e);
+        }
+    }
+}
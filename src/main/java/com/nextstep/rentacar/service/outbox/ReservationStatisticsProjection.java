@@ -0,0 +1,72 @@
+package com.nextstep.rentacar.service.outbox;
+
+import com.nextstep.rentacar.domain.enums.OutboxEventType;
+import com.nextstep.rentacar.domain.event.ReservationEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lifecycle counters derived from the outbox: events per type and the value of confirmed reservations
+ * (minor units). Held in memory and rebuilt by replay, exported as {@code reservations.lifecycle.events} and
+ * {@code reservations.confirmed.value} gauges.
+ */
+@Component
+public class ReservationStatisticsProjection implements OutboxListener {
+
+    private final Map<OutboxEventType, AtomicLong> eventCounts = new EnumMap<>(OutboxEventType.class);
+    private final AtomicLong confirmedValueMinor = new AtomicLong();
+
+    public ReservationStatisticsProjection(MeterRegistry meterRegistry) {
+        for (OutboxEventType type : OutboxEventType.values()) {
+            AtomicLong count = new AtomicLong();
+            eventCounts.put(type, count);
+            Gauge.builder("reservations.lifecycle.events", count, AtomicLong::get)
+                    .tag("type", type.name())
+                    .description("Lifecycle events relayed from the outbox")
+                    .register(meterRegistry);
+        }
+        Gauge.builder("reservations.confirmed.value", confirmedValueMinor, value -> value.get() / 100.0)
+                .description("Total price of confirmed reservations")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onEvents(List<OutboxMessage> events) {
+        for (OutboxMessage event : events) {
+            eventCounts.get(event.type()).incrementAndGet();
+            if (event.type() == OutboxEventType.RESERVATION_CONFIRMED
+                    && event.payload() instanceof ReservationEvent reservation
+                    && reservation.totalPrice() != null) {
+                confirmedValueMinor.addAndGet(reservation.totalPrice().movePointRight(2).longValue());
+            }
+        }
+    }
+
+    @Override
+    public boolean replayable() {
+        return true;
+    }
+
+    @Override
+    public void reset() {
+        eventCounts.values().forEach(count -> count.set(0));
+        confirmedValueMinor.set(0);
+    }
+
+    public Map<OutboxEventType, Long> eventCounts() {
+        Map<OutboxEventType, Long> snapshot = new EnumMap<>(OutboxEventType.class);
+        eventCounts.forEach((type, count) -> snapshot.put(type, count.get()));
+        return snapshot;
+    }
+
+    public BigDecimal confirmedValue() {
+        return BigDecimal.valueOf(confirmedValueMinor.get(), 2);
+    }
+}
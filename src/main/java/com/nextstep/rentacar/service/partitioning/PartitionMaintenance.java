@@ -0,0 +1,135 @@
+package com.nextstep.rentacar.service.partitioning;
+
+import com.nextstep.rentacar.config.PartitioningProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly partitions of the Postgres reservations and payments tables ahead of time and moves partitions
+ * past the retention window into the archive schema.
+ * <p>
+ * Every partition is created or archived in its own transaction. A new month whose rows already landed in the
+ * default partition (bookings made further ahead than the partitions reached) is created by detaching the default
+ * partition, moving those rows into the new partition and attaching the default partition again. New reservation
+ * partitions get the same {@code <partition>_no_overlap} exclusion constraint V12 put on the existing ones. Databases
+ * whose tables are not partitioned, such as the H2 test profile, are left alone.
+ */
+@Slf4j
+@Component
+public class PartitionMaintenance {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final String OVERLAP_EXCLUSION = "EXCLUDE USING gist (car_id WITH =, "
+            + "daterange(start_date, end_date, '[]') WITH &&) WHERE (status IN ('PENDING', 'CONFIRMED'))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitioningProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private volatile Boolean partitioned;
+
+    public PartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                PartitioningProperties properties,
+                                PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * True when the database is Postgres and reservations is a partitioned table.
+     */
+    public boolean isPartitioned() {
+        Boolean known = partitioned;
+        if (known == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            known = "PostgreSQL".equalsIgnoreCase(product) && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))",
+                    Boolean.class, PartitionedTable.RESERVATIONS.table()));
+            partitioned = known;
+        }
+        return known;
+    }
+
+    /**
+     * Creates the partitions up to {@code monthsAhead} months after {@code today} and archives those older than the
+     * retention. Returns the executed plans; empty when the database is not partitioned.
+     */
+    public List<PartitionPlan> maintain(LocalDate today) {
+        if (!isPartitioned()) {
+            return List.of();
+        }
+        String archiveSchema = properties.getArchiveSchema();
+        if (!IDENTIFIER.matcher(archiveSchema).matches()) {
+            throw new IllegalStateException("Invalid archive schema name: " + archiveSchema);
+        }
+        List<PartitionPlan> plans = new ArrayList<>();
+        for (PartitionedTable table : PartitionedTable.values()) {
+            PartitionPlan plan = PartitionPlan.of(table, attachedMonths(table), YearMonth.from(today),
+                    properties.getMonthsAhead(), PartitionPlan.keepFrom(table, today, properties.getRetentionMonths()));
+            plan.create().forEach(month -> transactionTemplate.executeWithoutResult(status -> create(table, month)));
+            plan.archive().forEach(month ->
+                    transactionTemplate.executeWithoutResult(status -> archive(table, month, archiveSchema)));
+            plans.add(plan);
+        }
+        return plans;
+    }
+
+    private List<YearMonth> attachedMonths(PartitionedTable table) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass(?)
+                """, String.class, table.table());
+        return partitions.stream().map(table::monthOf).flatMap(Optional::stream).toList();
+    }
+
+    private void create(PartitionedTable table, YearMonth month) {
+        String partition = table.partitionName(month);
+        String bounds = "FOR VALUES FROM (" + table.lowerBound(month) + ") TO ("
+                + table.lowerBound(month.plusMonths(1)) + ")";
+        String range = table.keyColumn() + " >= " + table.lowerBound(month)
+                + " AND " + table.keyColumn() + " < " + table.lowerBound(month.plusMonths(1));
+        Boolean spilled = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + table.defaultPartition() + " WHERE " + range + ")", Boolean.class);
+        if (!Boolean.TRUE.equals(spilled)) {
+            jdbcTemplate.execute("CREATE TABLE " + partition + " PARTITION OF " + table.table() + " " + bounds);
+            addOverlapConstraint(table, partition);
+        } else {
+            jdbcTemplate.execute("ALTER TABLE " + table.table() + " DETACH PARTITION " + table.defaultPartition());
+            jdbcTemplate.execute("CREATE TABLE " + partition + " PARTITION OF " + table.table() + " " + bounds);
+            addOverlapConstraint(table, partition);
+            int moved = jdbcTemplate.update("INSERT INTO " + table.table()
+                    + " SELECT * FROM " + table.defaultPartition() + " WHERE " + range);
+            jdbcTemplate.update("DELETE FROM " + table.defaultPartition() + " WHERE " + range);
+            jdbcTemplate.execute("ALTER TABLE " + table.table() + " ATTACH PARTITION " + table.defaultPartition()
+                    + " DEFAULT");
+            log.info("Moved {} rows from {} into {}", moved, table.defaultPartition(), partition);
+        }
+        log.info("Created partition {}", partition);
+    }
+
+    private void addOverlapConstraint(PartitionedTable table, String partition) {
+        if (table == PartitionedTable.RESERVATIONS) {
+            jdbcTemplate.execute("ALTER TABLE " + partition + " ADD CONSTRAINT " + partition + "_no_overlap "
+                    + OVERLAP_EXCLUSION);
+        }
+    }
+
+    private void archive(PartitionedTable table, YearMonth month, String archiveSchema) {
+        String partition = table.partitionName(month);
+        jdbcTemplate.execute("ALTER TABLE " + table.table() + " DETACH PARTITION " + partition);
+        jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+        log.info("Archived partition {} to schema {}", partition, archiveSchema);
+    }
+}
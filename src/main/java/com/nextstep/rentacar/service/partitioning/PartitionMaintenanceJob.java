@@ -0,0 +1,51 @@
+package com.nextstep.rentacar.service.partitioning;
+
+import com.nextstep.rentacar.config.PartitioningProperties;
+import com.nextstep.rentacar.service.support.ClusterJobLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Runs partition maintenance at startup, so a node that was down over a month boundary catches up before taking
+ * bookings, and every night afterwards. The DDL runs on one node at a time under a {@link ClusterJobLock}; nodes
+ * starting while another holds it skip their run and rely on that one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartitionMaintenanceJob {
+
+    private final PartitionMaintenance partitionMaintenance;
+    private final PartitioningProperties properties;
+    private final ClusterJobLock clusterJobLock;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${app.partitioning.cron:0 0 3 * * *}")
+    public void maintain() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            clusterJobLock.runExclusively("Partition maintenance", () -> {
+                for (PartitionPlan plan : partitionMaintenance.maintain(LocalDate.now())) {
+                    if (!plan.isEmpty()) {
+                        log.info("{} partitions: created {}, archived {}", plan.table().table(), plan.create(),
+                                plan.archive());
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("Partition maintenance failed", e);
+        }
+    }
+}
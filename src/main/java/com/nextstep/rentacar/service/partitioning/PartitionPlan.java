@@ -0,0 +1,63 @@
+package com.nextstep.rentacar.service.partitioning;
+
+import com.nextstep.rentacar.domain.entity.Reservation;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Monthly partitions to create and to archive for one table, given the partitions that are attached today.
+ */
+public record PartitionPlan(PartitionedTable table, List<YearMonth> create, List<YearMonth> archive) {
+
+    /**
+     * Plans the current month plus {@code monthsAhead} months and archives every attached month before
+     * {@code keepFrom}, oldest first.
+     */
+    public static PartitionPlan of(PartitionedTable table,
+                                   Collection<YearMonth> attached,
+                                   YearMonth current,
+                                   int monthsAhead,
+                                   YearMonth keepFrom) {
+        if (monthsAhead < 0) {
+            throw new IllegalArgumentException("Months ahead must not be negative");
+        }
+        Set<YearMonth> existing = new TreeSet<>(attached);
+        List<YearMonth> create = new ArrayList<>();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (!existing.contains(month)) {
+                create.add(month);
+            }
+        }
+        List<YearMonth> archive = existing.stream().filter(month -> month.isBefore(keepFrom)).toList();
+        return new PartitionPlan(table, create, archive);
+    }
+
+    /**
+     * Oldest month kept attached. Reservations additionally keep every month that can still hold a rental
+     * running today, whatever the retention, so availability queries never lose an active reservation.
+     */
+    public static YearMonth keepFrom(PartitionedTable table, LocalDate today, int retentionMonths) {
+        if (retentionMonths < 1) {
+            throw new IllegalArgumentException("Retention must be at least one month");
+        }
+        YearMonth keepFrom = YearMonth.from(today).minusMonths(retentionMonths);
+        if (table == PartitionedTable.RESERVATIONS) {
+            YearMonth oldestActive = YearMonth.from(Reservation.earliestOverlappingStart(today));
+            if (oldestActive.isBefore(keepFrom)) {
+                keepFrom = oldestActive;
+            }
+        }
+        return keepFrom;
+    }
+
+    public boolean isEmpty() {
+        return create.isEmpty() && archive.isEmpty();
+    }
+}
@@ -0,0 +1,66 @@
+package com.nextstep.rentacar.service.partitioning;
+
+import java.time.YearMonth;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tables range-partitioned by month on Postgres (see V12__partition_reservations_and_payments.sql).
+ * Partitions are named {@code <table>_pYYYYMM} and cover {@code [first of month, first of next month)}.
+ */
+public enum PartitionedTable {
+
+    RESERVATIONS("reservations", "start_date", false),
+    PAYMENTS("payments", "payment_date", true);
+
+    private final String table;
+    private final String keyColumn;
+    private final boolean timestampKey;
+    private final Pattern partitionName;
+
+    PartitionedTable(String table, String keyColumn, boolean timestampKey) {
+        this.table = table;
+        this.keyColumn = keyColumn;
+        this.timestampKey = timestampKey;
+        this.partitionName = Pattern.compile(Pattern.quote(table) + "_p(\\d{4})(\\d{2})");
+    }
+
+    public String table() {
+        return table;
+    }
+
+    public String keyColumn() {
+        return keyColumn;
+    }
+
+    public String defaultPartition() {
+        return table + "_default";
+    }
+
+    public String partitionName(YearMonth month) {
+        return String.format("%s_p%04d%02d", table, month.getYear(), month.getMonthValue());
+    }
+
+    /**
+     * Month covered by a partition of this table, or empty for the default partition and foreign names.
+     */
+    public Optional<YearMonth> monthOf(String partition) {
+        Matcher matcher = partitionName.matcher(partition);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        int month = Integer.parseInt(matcher.group(2));
+        return month >= 1 && month <= 12
+                ? Optional.of(YearMonth.of(Integer.parseInt(matcher.group(1)), month))
+                : Optional.empty();
+    }
+
+    /**
+     * SQL literal of the inclusive lower bound of the month; timestamp keys are bounded at midnight UTC.
+     */
+    public String lowerBound(YearMonth month) {
+        String date = month.atDay(1).toString();
+        return timestampKey ? "'" + date + " 00:00:00+00'" : "'" + date + "'";
+    }
+}
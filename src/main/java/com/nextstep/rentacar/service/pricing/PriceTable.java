@@ -0,0 +1,143 @@
+package com.nextstep.rentacar.service.pricing;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Immutable, compiled form of a set of rate rules.
+ * <p>
+ * Rates are resolved ahead of time into one flat {@code int[]} of basis points indexed by
+ * (branch slot, category, day of a leap year, length tier). Branches without their own rules share slot 0.
+ * A quote is a primitive loop summing one array entry per rental day, followed by a single rounding of
+ * {@code dailyMinor * sum / 10000}; no per-day objects are created.
+ */
+public final class PriceTable {
+
+    public static final int BASE_RATE_BPS = 10_000;
+
+    static final int DAYS_PER_YEAR = 366;
+    private static final int CATEGORIES = CarCategory.values().length;
+    private static final int[] LEAP_MONTH_OFFSET = {0, 31, 60, 91, 121, 152, 182, 213, 244, 274, 305, 335};
+
+    public static final PriceTable FLAT = compile(List.of());
+
+    private final int[] tierStarts;
+    private final Map<Long, Integer> slotByBranch;
+    private final int[] rates;
+    private final int ruleCount;
+
+    private PriceTable(int[] tierStarts, Map<Long, Integer> slotByBranch, int[] rates, int ruleCount) {
+        this.tierStarts = tierStarts;
+        this.slotByBranch = slotByBranch;
+        this.rates = rates;
+        this.ruleCount = ruleCount;
+    }
+
+    public static PriceTable compile(List<RateRule> rules) {
+        TreeSet<Integer> bounds = new TreeSet<>();
+        bounds.add(1);
+        Map<Long, Integer> slots = new HashMap<>();
+        for (RateRule rule : rules) {
+            bounds.add(rule.minDays());
+            if (rule.maxDays() != null) {
+                bounds.add(rule.maxDays() + 1);
+            }
+            if (rule.branchId() != null) {
+                slots.putIfAbsent(rule.branchId(), slots.size() + 1);
+            }
+        }
+        int[] tierStarts = bounds.stream().mapToInt(Integer::intValue).toArray();
+        int tiers = tierStarts.length;
+        int slotCount = slots.size() + 1;
+        int[] rates = new int[slotCount * CATEGORIES * DAYS_PER_YEAR * tiers];
+        Arrays.fill(rates, BASE_RATE_BPS);
+
+        List<RateRule> ordered = rules.stream()
+                .sorted(Comparator.comparingInt(RateRule::specificity)
+                        .thenComparingInt(RateRule::priority)
+                        .thenComparingLong(RateRule::id))
+                .toList();
+        for (RateRule rule : ordered) {
+            int firstSlot = rule.branchId() != null ? slots.get(rule.branchId()) : 0;
+            int lastSlot = rule.branchId() != null ? firstSlot : slotCount - 1;
+            int firstCategory = rule.category() != null ? rule.category().ordinal() : 0;
+            int lastCategory = rule.category() != null ? firstCategory : CATEGORIES - 1;
+            int seasonFrom = rule.seasonStart() != null ? dayIndex(rule.seasonStart()) : 0;
+            int seasonTo = rule.seasonEnd() != null ? dayIndex(rule.seasonEnd()) : DAYS_PER_YEAR - 1;
+            for (int slot = firstSlot; slot <= lastSlot; slot++) {
+                for (int category = firstCategory; category <= lastCategory; category++) {
+                    int base = (slot * CATEGORIES + category) * DAYS_PER_YEAR;
+                    for (int day = 0; day < DAYS_PER_YEAR; day++) {
+                        boolean inSeason = seasonFrom <= seasonTo
+                                ? day >= seasonFrom && day <= seasonTo
+                                : day >= seasonFrom || day <= seasonTo;
+                        if (!inSeason) {
+                            continue;
+                        }
+                        for (int tier = 0; tier < tiers; tier++) {
+                            int length = tierStarts[tier];
+                            if (length >= rule.minDays() && (rule.maxDays() == null || length <= rule.maxDays())) {
+                                rates[(base + day) * tiers + tier] = rule.rateBps();
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return new PriceTable(tierStarts, Map.copyOf(slots), rates, rules.size());
+    }
+
+    /**
+     * Total price in minor units for renting from {@code start} for {@code days} days.
+     */
+    public long totalMinor(long dailyMinor, Long branchId, CarCategory category, LocalDate start, int days) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("Reservation must be at least 1 day");
+        }
+        int tiers = tierStarts.length;
+        int tier = tierOf(days);
+        Integer slot = branchId != null ? slotByBranch.get(branchId) : null;
+        int base = ((slot != null ? slot : 0) * CATEGORIES + category.ordinal()) * DAYS_PER_YEAR;
+
+        int year = start.getYear();
+        int month = start.getMonthValue();
+        int day = start.getDayOfMonth();
+        int monthLength = Month.of(month).length(Year.isLeap(year));
+        long bpsSum = 0;
+        for (int i = 0; i < days; i++) {
+            bpsSum += rates[(base + LEAP_MONTH_OFFSET[month - 1] + day - 1) * tiers + tier];
+            if (++day > monthLength) {
+                day = 1;
+                if (++month > 12) {
+                    month = 1;
+                    year++;
+                }
+                monthLength = Month.of(month).length(Year.isLeap(year));
+            }
+        }
+        return (Math.multiplyExact(dailyMinor, bpsSum) + BASE_RATE_BPS / 2) / BASE_RATE_BPS;
+    }
+
+    public int ruleCount() {
+        return ruleCount;
+    }
+
+    private int tierOf(int days) {
+        int index = Arrays.binarySearch(tierStarts, days);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private static int dayIndex(MonthDay monthDay) {
+        return LEAP_MONTH_OFFSET[monthDay.getMonthValue() - 1] + monthDay.getDayOfMonth() - 1;
+    }
+}
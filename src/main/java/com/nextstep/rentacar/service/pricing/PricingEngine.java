@@ -0,0 +1,81 @@
+package com.nextstep.rentacar.service.pricing;
+
+import com.nextstep.rentacar.config.PricingProperties;
+import com.nextstep.rentacar.domain.entity.RatePlan;
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.repository.RatePlanRepository;
+import com.nextstep.rentacar.service.availability.CarProfile;
+import com.nextstep.rentacar.service.support.ReadFromPrimary;
+import com.nextstep.rentacar.service.support.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Prices rentals from the currently published {@link PriceTable}. Readers take a single volatile read of the
+ * table reference; publishing compiles a new table and swaps the reference, so quotes never observe a
+ * partially applied set of rates.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PricingEngine {
+
+    private final RatePlanRepository ratePlanRepository;
+    private final PricingProperties properties;
+
+    private volatile PriceTable table = PriceTable.FLAT;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        install(ratePlanRepository.findAll());
+    }
+
+    /**
+     * Compiles and installs the given plans, restoring the previous table if the surrounding transaction rolls back.
+     */
+    public void publish(List<RatePlan> plans) {
+        PriceTable previous = install(plans);
+        TransactionHooks.afterRollback(() -> table = previous);
+    }
+
+    public long quoteMinor(long dailyPriceMinor, Long branchId, CarCategory category, LocalDate startDate, LocalDate endDate) {
+        return table.totalMinor(dailyPriceMinor, branchId, category, startDate, rentalDays(startDate, endDate));
+    }
+
+    public BigDecimal quote(BigDecimal dailyPrice, Long branchId, CarCategory category, LocalDate startDate, LocalDate endDate) {
+        long dailyMinor = CarProfile.toMinorUnits(dailyPrice, RoundingMode.HALF_UP);
+        return toMajorUnits(quoteMinor(dailyMinor, branchId, category, startDate, endDate));
+    }
+
+    public String currency() {
+        return properties.getCurrency();
+    }
+
+    public static int rentalDays(LocalDate startDate, LocalDate endDate) {
+        return Math.toIntExact(ChronoUnit.DAYS.between(startDate, endDate));
+    }
+
+    public static BigDecimal toMajorUnits(long minor) {
+        return BigDecimal.valueOf(minor, 2);
+    }
+
+    private PriceTable install(List<RatePlan> plans) {
+        PriceTable compiled = PriceTable.compile(plans.stream().map(RateRule::of).toList());
+        PriceTable previous = table;
+        table = compiled;
+        log.info("Published price table compiled from {} rate plans", compiled.ruleCount());
+        return previous;
+    }
+}
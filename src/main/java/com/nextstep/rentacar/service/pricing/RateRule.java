@@ -0,0 +1,51 @@
+package com.nextstep.rentacar.service.pricing;
+
+import com.nextstep.rentacar.domain.entity.RatePlan;
+import com.nextstep.rentacar.domain.enums.CarCategory;
+
+import java.time.MonthDay;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Persistence-free view of a {@link RatePlan} used while compiling a {@link PriceTable}.
+ */
+public record RateRule(long id,
+                       Long branchId,
+                       CarCategory category,
+                       MonthDay seasonStart,
+                       MonthDay seasonEnd,
+                       int minDays,
+                       Integer maxDays,
+                       int rateBps,
+                       int priority) {
+
+    public static RateRule of(RatePlan plan) {
+        return new RateRule(plan.getId() != null ? plan.getId() : 0L,
+                plan.getBranch() != null ? plan.getBranch().getId() : null,
+                plan.getCategory(),
+                parseSeasonBound(plan.getSeasonStart()),
+                parseSeasonBound(plan.getSeasonEnd()),
+                plan.getMinDays(),
+                plan.getMaxDays(),
+                plan.getRateBps(),
+                plan.getPriority());
+    }
+
+    static MonthDay parseSeasonBound(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return MonthDay.parse("--" + value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid season bound (expected MM-DD): " + value);
+        }
+    }
+
+    /**
+     * More specific rules override broader ones: branch, then category, then season.
+     */
+    int specificity() {
+        return (branchId != null ? 4 : 0) + (category != null ? 2 : 0) + (seasonStart != null ? 1 : 0);
+    }
+}
@@ -0,0 +1,9 @@
+package com.nextstep.rentacar.service.rebalancing;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+
+/**
+ * Number of rentable cars of a category whose home is the branch.
+ */
+public record FleetCount(Long branchId, CarCategory category, long cars) {
+}
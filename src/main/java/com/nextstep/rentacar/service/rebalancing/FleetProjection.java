@@ -0,0 +1,161 @@
+package com.nextstep.rentacar.service.rebalancing;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cars on hand per branch, category and day, derived from the fleet's home branches and the pickup and drop-off
+ * flows of active reservations.
+ * <p>
+ * Idle cars are at their home branch. A pickup removes a car from the pickup branch from its start date on and a
+ * drop-off adds it to the drop-off branch from the day after its end date, so one-way rentals drain one branch and
+ * fill another. Rentals that started before the window remove their car from day zero. Everything is accumulated in
+ * a single difference array and prefix-summed, so building is linear in the number of flows plus the grid size.
+ */
+public final class FleetProjection {
+
+    private static final CarCategory[] CATEGORIES = CarCategory.values();
+
+    private final LocalDate startDate;
+    private final int days;
+    private final Long[] branchIds;
+    private final Map<Long, Integer> indexByBranch;
+    // [(branch * CATEGORIES.length + category) * days + day]
+    private final int[] inventory;
+    private final boolean[] used;
+
+    private FleetProjection(LocalDate startDate, List<Long> branchIds, int days) {
+        this.startDate = startDate;
+        this.days = days;
+        this.branchIds = branchIds.toArray(Long[]::new);
+        this.indexByBranch = new HashMap<>(branchIds.size() * 2);
+        for (int i = 0; i < this.branchIds.length; i++) {
+            indexByBranch.put(this.branchIds[i], i);
+        }
+        this.inventory = new int[this.branchIds.length * CATEGORIES.length * days];
+        this.used = new boolean[this.branchIds.length * CATEGORIES.length];
+    }
+
+    /**
+     * Projects {@code days} days starting at {@code startDate}. Counts and flows referencing branches outside
+     * {@code branchIds} are ignored.
+     */
+    public static FleetProjection build(LocalDate startDate,
+                                        int days,
+                                        List<Long> branchIds,
+                                        List<FleetCount> fleet,
+                                        List<ReservationFlow> flows) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("Projection horizon must be at least one day");
+        }
+        FleetProjection projection = new FleetProjection(startDate, branchIds, days);
+        int stride = days + 1;
+        int[] delta = new int[projection.used.length * stride];
+        for (FleetCount count : fleet) {
+            int pool = projection.pool(count.branchId(), count.category());
+            if (pool >= 0) {
+                delta[pool * stride] += (int) count.cars();
+                projection.used[pool] = true;
+            }
+        }
+        for (ReservationFlow flow : flows) {
+            long start = Math.max(0, ChronoUnit.DAYS.between(startDate, flow.startDate()));
+            long returned = ChronoUnit.DAYS.between(startDate, flow.endDate()) + 1;
+            if (start >= days || returned <= 0) {
+                continue;
+            }
+            int pickup = projection.pool(flow.pickupBranchId(), flow.category());
+            if (pickup >= 0) {
+                delta[pickup * stride + (int) start]--;
+                projection.used[pickup] = true;
+            }
+            int dropoff = projection.pool(flow.dropoffBranchId(), flow.category());
+            if (dropoff >= 0 && returned < days) {
+                delta[dropoff * stride + (int) returned]++;
+                projection.used[dropoff] = true;
+            }
+        }
+        for (int pool = 0; pool < projection.used.length; pool++) {
+            int running = 0;
+            for (int day = 0; day < days; day++) {
+                running += delta[pool * stride + day];
+                projection.inventory[pool * days + day] = running;
+            }
+        }
+        return projection;
+    }
+
+    public LocalDate startDate() {
+        return startDate;
+    }
+
+    public int days() {
+        return days;
+    }
+
+    public int branchCount() {
+        return branchIds.length;
+    }
+
+    public Long branchId(int branch) {
+        return branchIds[branch];
+    }
+
+    /**
+     * Index of the branch in this projection, or -1 when it is unknown.
+     */
+    public int branchIndex(Long branchId) {
+        Integer index = indexByBranch.get(branchId);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Whether any car or reservation of the category touches the branch within the window.
+     */
+    public boolean isUsed(int branch, CarCategory category) {
+        return used[branch * CATEGORIES.length + category.ordinal()];
+    }
+
+    public int inventory(int branch, CarCategory category, int day) {
+        return inventory[(branch * CATEGORIES.length + category.ordinal()) * days + day];
+    }
+
+    public int[] series(int branch, CarCategory category) {
+        int from = (branch * CATEGORIES.length + category.ordinal()) * days;
+        int[] series = new int[days];
+        System.arraycopy(inventory, from, series, 0, days);
+        return series;
+    }
+
+    public int minimum(int branch, CarCategory category) {
+        int from = (branch * CATEGORIES.length + category.ordinal()) * days;
+        int minimum = Integer.MAX_VALUE;
+        for (int day = 0; day < days; day++) {
+            minimum = Math.min(minimum, inventory[from + day]);
+        }
+        return minimum;
+    }
+
+    /**
+     * First day on which fewer than {@code level} cars are on hand, or -1.
+     */
+    public int firstDayBelow(int branch, CarCategory category, int level) {
+        int from = (branch * CATEGORIES.length + category.ordinal()) * days;
+        for (int day = 0; day < days; day++) {
+            if (inventory[from + day] < level) {
+                return day;
+            }
+        }
+        return -1;
+    }
+
+    private int pool(Long branchId, CarCategory category) {
+        Integer branch = branchId != null ? indexByBranch.get(branchId) : null;
+        return branch == null || category == null ? -1 : branch * CATEGORIES.length + category.ordinal();
+    }
+}
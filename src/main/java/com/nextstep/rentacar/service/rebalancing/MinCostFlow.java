@@ -0,0 +1,116 @@
+package com.nextstep.rentacar.service.rebalancing;
+
+import java.util.Arrays;
+
+/**
+ * Minimum-cost maximum-flow over a residual graph held in primitive arrays, solved by successive shortest paths
+ * (SPFA, which tolerates the negative costs of residual back edges). Graphs here are branch-sized, so the simple
+ * solver is plenty.
+ */
+final class MinCostFlow {
+
+    private static final long UNREACHABLE = Long.MAX_VALUE;
+
+    private final int nodes;
+    private final int[] head;
+    private int[] next;
+    private int[] target;
+    private int[] residual;
+    private long[] cost;
+    private int edges;
+
+    MinCostFlow(int nodes, int expectedEdges) {
+        this.nodes = nodes;
+        this.head = new int[nodes];
+        Arrays.fill(head, -1);
+        int capacity = Math.max(4, expectedEdges * 2);
+        this.next = new int[capacity];
+        this.target = new int[capacity];
+        this.residual = new int[capacity];
+        this.cost = new long[capacity];
+    }
+
+    /**
+     * Adds an edge and its residual twin. Returns the edge handle for {@link #flow(int)}.
+     */
+    int addEdge(int from, int to, int capacity, long unitCost) {
+        if (edges + 2 > target.length) {
+            int grown = target.length * 2;
+            next = Arrays.copyOf(next, grown);
+            target = Arrays.copyOf(target, grown);
+            residual = Arrays.copyOf(residual, grown);
+            cost = Arrays.copyOf(cost, grown);
+        }
+        int edge = edges;
+        link(from, to, capacity, unitCost);
+        link(to, from, 0, -unitCost);
+        return edge;
+    }
+
+    /**
+     * Units currently routed over the edge.
+     */
+    int flow(int edge) {
+        return residual[edge ^ 1];
+    }
+
+    /**
+     * Pushes as much flow as possible from {@code source} to {@code sink} at minimum total cost.
+     * Returns {flow, cost}.
+     */
+    long[] solve(int source, int sink) {
+        long[] distance = new long[nodes];
+        int[] via = new int[nodes];
+        boolean[] queued = new boolean[nodes];
+        int[] queue = new int[nodes + 1];
+        long totalFlow = 0;
+        long totalCost = 0;
+        while (true) {
+            Arrays.fill(distance, UNREACHABLE);
+            Arrays.fill(via, -1);
+            distance[source] = 0;
+            int headAt = 0;
+            int tailAt = 0;
+            queue[tailAt++] = source;
+            queued[source] = true;
+            while (headAt != tailAt) {
+                int node = queue[headAt];
+                headAt = (headAt + 1) % queue.length;
+                queued[node] = false;
+                for (int edge = head[node]; edge >= 0; edge = next[edge]) {
+                    int to = target[edge];
+                    if (residual[edge] > 0 && distance[node] + cost[edge] < distance[to]) {
+                        distance[to] = distance[node] + cost[edge];
+                        via[to] = edge;
+                        if (!queued[to]) {
+                            queued[to] = true;
+                            queue[tailAt] = to;
+                            tailAt = (tailAt + 1) % queue.length;
+                        }
+                    }
+                }
+            }
+            if (distance[sink] == UNREACHABLE) {
+                return new long[]{totalFlow, totalCost};
+            }
+            int push = Integer.MAX_VALUE;
+            for (int node = sink; node != source; node = target[via[node] ^ 1]) {
+                push = Math.min(push, residual[via[node]]);
+            }
+            for (int node = sink; node != source; node = target[via[node] ^ 1]) {
+                residual[via[node]] -= push;
+                residual[via[node] ^ 1] += push;
+            }
+            totalFlow += push;
+            totalCost += push * distance[sink];
+        }
+    }
+
+    private void link(int from, int to, int capacity, long unitCost) {
+        target[edges] = to;
+        residual[edges] = capacity;
+        cost[edges] = unitCost;
+        next[edges] = head[from];
+        head[from] = edges++;
+    }
+}
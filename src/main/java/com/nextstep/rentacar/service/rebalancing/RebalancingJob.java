@@ -0,0 +1,47 @@
+package com.nextstep.rentacar.service.rebalancing;
+
+import com.nextstep.rentacar.config.RebalancingProperties;
+import com.nextstep.rentacar.dto.response.RebalancingPlanDto;
+import com.nextstep.rentacar.dto.response.RebalancingShortageDto;
+import com.nextstep.rentacar.dto.response.RebalancingTransferDto;
+import com.nextstep.rentacar.service.RebalancingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Plans the day's transfers every morning and logs them for the operations team.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RebalancingJob {
+
+    private final RebalancingService rebalancingService;
+    private final RebalancingProperties properties;
+
+    @Scheduled(cron = "${app.rebalancing.cron:0 30 5 * * *}")
+    public void planTransfers() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            RebalancingPlanDto plan = rebalancingService.plan(null, null);
+            log.info("Rebalancing plan from {} over {} days: {} cars in {} transfers, {} km, {} shortages left",
+                    plan.getStartDate(), plan.getHorizonDays(), plan.getCarsMoved(), plan.getTransfers().size(),
+                    Math.round(plan.getTotalDistanceKm()), plan.getShortages().size());
+            for (RebalancingTransferDto transfer : plan.getTransfers()) {
+                log.info("Move {} {} from {} to {} ({} km) by {}", transfer.getCars(), transfer.getCategory(),
+                        transfer.getFromBranchName(), transfer.getToBranchName(),
+                        Math.round(transfer.getDistanceKm()), transfer.getNeededBy());
+            }
+            for (RebalancingShortageDto shortage : plan.getShortages()) {
+                log.warn("{} short of {} {} cars from {} with no spare car in range", shortage.getBranchName(),
+                        shortage.getMissingCars(), shortage.getCategory(), shortage.getFirstShortageDate());
+            }
+        } catch (RuntimeException e) {
+            log.error("Rebalancing plan failed", e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.nextstep.rentacar.service.rebalancing;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.service.search.NearbyBranchTable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Proposes car transfers that keep every branch at its safety stock over a {@link FleetProjection}.
+ * <p>
+ * Per category, a branch can spare as many cars as its lowest projected inventory exceeds the safety stock (moving
+ * them today leaves every later day covered) and needs as many as its lowest inventory falls short. Spare cars are
+ * routed to short branches by a min-cost flow whose arc costs are great-circle distances; branches without
+ * coordinates or further apart than the limit are not connected. Whatever the flow cannot cover is reported as a
+ * shortage.
+ */
+public final class RebalancingPlanner {
+
+    private RebalancingPlanner() {
+    }
+
+    /**
+     * @param latitude  per projection branch index, {@code null} entries for branches without coordinates
+     * @param longitude per projection branch index, {@code null} entries for branches without coordinates
+     */
+    public static Plan plan(FleetProjection projection,
+                            Double[] latitude,
+                            Double[] longitude,
+                            int safetyStock,
+                            double maxTransferKm) {
+        List<Transfer> transfers = new ArrayList<>();
+        List<Shortage> shortages = new ArrayList<>();
+        int branches = projection.branchCount();
+        int[] suppliers = new int[branches];
+        int[] supply = new int[branches];
+        int[] consumers = new int[branches];
+        int[] demand = new int[branches];
+        int[] neededBy = new int[branches];
+        for (CarCategory category : CarCategory.values()) {
+            int supplierCount = 0;
+            int consumerCount = 0;
+            for (int branch = 0; branch < branches; branch++) {
+                if (!projection.isUsed(branch, category)) {
+                    continue;
+                }
+                int minimum = projection.minimum(branch, category);
+                if (minimum > safetyStock) {
+                    suppliers[supplierCount] = branch;
+                    supply[supplierCount++] = minimum - safetyStock;
+                } else if (minimum < safetyStock) {
+                    consumers[consumerCount] = branch;
+                    neededBy[consumerCount] = projection.firstDayBelow(branch, category, safetyStock);
+                    demand[consumerCount++] = safetyStock - minimum;
+                }
+            }
+            if (consumerCount == 0) {
+                continue;
+            }
+            // Nodes: 0 source, 1 sink, then suppliers, then consumers
+            int source = 0;
+            int sink = 1;
+            MinCostFlow network = new MinCostFlow(2 + supplierCount + consumerCount,
+                    supplierCount * consumerCount + supplierCount + consumerCount);
+            for (int s = 0; s < supplierCount; s++) {
+                network.addEdge(source, 2 + s, supply[s], 0);
+            }
+            int[] inbound = new int[consumerCount];
+            for (int c = 0; c < consumerCount; c++) {
+                inbound[c] = network.addEdge(2 + supplierCount + c, sink, demand[c], 0);
+            }
+            int[] arcs = new int[supplierCount * consumerCount];
+            double[] arcKm = new double[supplierCount * consumerCount];
+            for (int s = 0; s < supplierCount; s++) {
+                for (int c = 0; c < consumerCount; c++) {
+                    int arc = s * consumerCount + c;
+                    double km = distanceKm(latitude, longitude, suppliers[s], consumers[c]);
+                    if (Double.isNaN(km) || km > maxTransferKm) {
+                        arcs[arc] = -1;
+                        continue;
+                    }
+                    arcKm[arc] = km;
+                    // Whole metres keep the costs integral
+                    arcs[arc] = network.addEdge(2 + s, 2 + supplierCount + c, demand[c], Math.round(km * 1000));
+                }
+            }
+            network.solve(source, sink);
+            for (int s = 0; s < supplierCount; s++) {
+                for (int c = 0; c < consumerCount; c++) {
+                    int arc = s * consumerCount + c;
+                    int cars = arcs[arc] >= 0 ? network.flow(arcs[arc]) : 0;
+                    if (cars > 0) {
+                        transfers.add(new Transfer(category, suppliers[s], consumers[c], cars, arcKm[arc], neededBy[c]));
+                    }
+                }
+            }
+            for (int c = 0; c < consumerCount; c++) {
+                int missing = demand[c] - network.flow(inbound[c]);
+                if (missing > 0) {
+                    shortages.add(new Shortage(category, consumers[c], missing, neededBy[c]));
+                }
+            }
+        }
+        return new Plan(transfers, shortages);
+    }
+
+    private static double distanceKm(Double[] latitude, Double[] longitude, int from, int to) {
+        if (latitude[from] == null || longitude[from] == null || latitude[to] == null || longitude[to] == null) {
+            return Double.NaN;
+        }
+        return NearbyBranchTable.distanceKm(latitude[from], longitude[from], latitude[to], longitude[to]);
+    }
+
+    /**
+     * Branches are projection indexes; days are offsets from the projection start.
+     */
+    public record Transfer(CarCategory category, int fromBranch, int toBranch, int cars, double distanceKm,
+                           int neededByDay) {
+    }
+
+    public record Shortage(CarCategory category, int branch, int missingCars, int firstShortageDay) {
+    }
+
+    public record Plan(List<Transfer> transfers, List<Shortage> shortages) {
+    }
+}
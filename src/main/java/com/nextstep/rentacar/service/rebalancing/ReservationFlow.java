@@ -0,0 +1,16 @@
+package com.nextstep.rentacar.service.rebalancing;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+
+import java.time.LocalDate;
+
+/**
+ * A car of {@code category} leaving {@code pickupBranchId} on {@code startDate} and arriving at
+ * {@code dropoffBranchId} after {@code endDate}. Both dates are inclusive.
+ */
+public record ReservationFlow(Long pickupBranchId,
+                              Long dropoffBranchId,
+                              CarCategory category,
+                              LocalDate startDate,
+                              LocalDate endDate) {
+}
@@ -0,0 +1,95 @@
+package com.nextstep.rentacar.service.search;
+
+import com.nextstep.rentacar.config.SearchCacheProperties;
+import com.nextstep.rentacar.dto.response.QuoteResponseDto;
+import com.nextstep.rentacar.service.availability.FleetAvailabilityEngine;
+import com.nextstep.rentacar.service.support.TransactionHooks;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived caches in front of availability searches and quotes, which aggregators issue with the same
+ * (branch, dates, filters) tuples over and over.
+ * <p>
+ * Entries are dropped when {@link FleetAvailabilityEngine} reports a change to their branch and dates, and again
+ * once the reporting transaction commits: the engine hears of a change before its rows are committed, and a search
+ * that reads the database (in particular a replica) in between would otherwise cache the old result for the full
+ * TTL. Every reservation, car and maintenance mutation (and its rollback) flows through the engine, so the TTL only
+ * bounds staleness for data the engine does not see, which includes every change made on other nodes. Rate plan
+ * changes clear all quotes.
+ * <p>
+ * Besides the standard {@code cache.*} Caffeine meters, {@code cache.coalesced}, {@code cache.invalidations}
+ * and {@code cache.hit.ratio} are exported per cache.
+ */
+@Component
+public class AvailabilitySearchCache {
+
+    static final String AVAILABILITY_CACHE = "availability-search";
+    static final String QUOTE_CACHE = "quotes";
+
+    private final boolean enabled;
+    private final CoalescingCache<List<Long>> availableCarIds;
+    private final CoalescingCache<QuoteResponseDto> quotes;
+
+    public AvailabilitySearchCache(SearchCacheProperties properties,
+                                   FleetAvailabilityEngine fleetAvailability,
+                                   MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.availableCarIds = new CoalescingCache<>(properties.getMaxEntries(), properties.getTtl());
+        this.quotes = new CoalescingCache<>(properties.getMaxEntries(), properties.getTtl());
+        bindMetrics(meterRegistry, AVAILABILITY_CACHE, availableCarIds);
+        bindMetrics(meterRegistry, QUOTE_CACHE, quotes);
+        fleetAvailability.addListener(this::availabilityChanged);
+    }
+
+    /**
+     * Available car ids (ascending) for the search, or {@code null} when the loader could not answer.
+     */
+    public List<Long> availableCarIds(SearchKey key, Supplier<List<Long>> loader) {
+        return enabled ? availableCarIds.get(key, loader) : loader.get();
+    }
+
+    public QuoteResponseDto quote(SearchKey key, Supplier<QuoteResponseDto> loader) {
+        return enabled ? quotes.get(key, loader) : loader.get();
+    }
+
+    public void invalidate(Long branchId, LocalDate start, LocalDate end) {
+        availableCarIds.invalidate(branchId, start, end);
+        quotes.invalidate(branchId, start, end);
+    }
+
+    private void availabilityChanged(Long branchId, LocalDate start, LocalDate end) {
+        invalidate(branchId, start, end);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionHooks.afterCommit(() -> invalidate(branchId, start, end));
+        }
+    }
+
+    public void invalidateQuotes() {
+        quotes.invalidateAll();
+    }
+
+    private static void bindMetrics(MeterRegistry registry, String name, CoalescingCache<?> cache) {
+        CaffeineCacheMetrics.monitor(registry, cache.entries(), name);
+        FunctionCounter.builder("cache.coalesced", cache, CoalescingCache::coalescedCount)
+                .tag("cache", name)
+                .description("Misses served by joining an identical in-flight computation")
+                .register(registry);
+        FunctionCounter.builder("cache.invalidations", cache, CoalescingCache::invalidationCount)
+                .tag("cache", name)
+                .description("Branch or date-range invalidations applied to the cache")
+                .register(registry);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.entries().stats().hitRate())
+                .tag("cache", name)
+                .description("Fraction of lookups answered from the cache")
+                .register(registry);
+    }
+}
@@ -0,0 +1,416 @@
+package com.nextstep.rentacar.service.search;
+
+import com.nextstep.rentacar.config.CarFacetProperties;
+import com.nextstep.rentacar.domain.entity.Car;
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.domain.enums.FuelType;
+import com.nextstep.rentacar.domain.enums.TransmissionType;
+import com.nextstep.rentacar.dto.request.CarFilterDto;
+import com.nextstep.rentacar.repository.CarRepository;
+import com.nextstep.rentacar.service.availability.CarProfile;
+import com.nextstep.rentacar.service.cache.ReferenceDataCache;
+import com.nextstep.rentacar.service.cache.ReferenceLoader;
+import com.nextstep.rentacar.service.support.ReadFromPrimary;
+import com.nextstep.rentacar.service.support.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongFunction;
+
+/**
+ * Inverted index over the non-deleted fleet for faceted car listing.
+ * <p>
+ * Every car gets a dense slot number, and each branch, category, transmission, fuel type, seats bucket and daily
+ * price bucket keeps a bitmap over the slots. A search ANDs the selected bitmaps; the seats and price buckets only
+ * narrow down to whole buckets, and the single bucket straddling {@code minSeats}/{@code maxPrice} is refined
+ * against primitive arrays. Facet counts are computed with every filter applied except the facet's own, so the
+ * counts say what picking another value would return.
+ * <p>
+ * Cars are recorded by the car service as they change (undone if the transaction rolls back). Changes committed on
+ * other nodes arrive as car cache invalidations through {@link ReferenceDataCache}: the named cars are reloaded
+ * from the primary, and a dropped car cache rebuilds the index. The nightly rebuild catches anything else.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CarFacetIndex {
+
+    public static final String CATEGORY = "category";
+    public static final String TRANSMISSION = "transmission";
+    public static final String FUEL_TYPE = "fuelType";
+    public static final String SEATS = "seats";
+    public static final String DAILY_PRICE = "dailyPrice";
+
+    private final CarRepository carRepository;
+    private final CarFacetProperties properties;
+    private final ReferenceDataCache referenceCache;
+    private final ReferenceLoader referenceLoader;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Bitmaps bitmaps;
+    private volatile boolean ready;
+
+    @PostConstruct
+    void registerListener() {
+        referenceCache.addCommittedListener(this::onCommitted);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${app.car-facets.rebuild-cron:0 10 0 * * *}")
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        install(carRepository.findAll());
+    }
+
+    private void install(List<Car> cars) {
+        lock.writeLock().lock();
+        try {
+            bitmaps = build(cars);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Car facet index built for {} cars", cars.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Matching ids and facet counts, or empty until the index has been built.
+     */
+    public Optional<CarFacetResult> search(CarFilterDto filter) {
+        lock.readLock().lock();
+        try {
+            return ready ? Optional.of(bitmaps.search(filter)) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Answers a search from the given cars with a throwaway index, for callers that cannot wait for the warm-up.
+     */
+    public CarFacetResult search(List<Car> cars, CarFilterDto filter) {
+        return build(cars).search(filter);
+    }
+
+    /**
+     * Synchronizes the index with the persisted state of a car (deleted cars drop out), undoing on rollback.
+     */
+    public void recordCar(Car car) {
+        Entry current = Entry.of(car);
+        Entry previous = apply(current);
+        TransactionHooks.afterRollback(() -> apply(previous != null ? previous : current.removed()));
+    }
+
+    /**
+     * Catches up with cars changed on another node; runs on the coherence listener thread, outside any transaction.
+     */
+    private void onCommitted(String cache, Collection<String> keys) {
+        if (!ReferenceDataCache.CARS.equals(cache) || !ready) {
+            return;
+        }
+        if (keys == null) {
+            install(referenceLoader.load(carRepository::findAll));
+            return;
+        }
+        for (String key : keys) {
+            referenceLoader.load(() -> carRepository.findByIdIncludingDeleted(Long.valueOf(key)))
+                    .ifPresent(car -> apply(Entry.of(car)));
+        }
+    }
+
+    private Entry apply(Entry entry) {
+        lock.writeLock().lock();
+        try {
+            return bitmaps != null ? bitmaps.upsert(entry) : null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Bitmaps build(List<Car> cars) {
+        Bitmaps next = new Bitmaps(
+                RangeBuckets.of(properties.getSeatBuckets().stream().mapToLong(Integer::longValue).toArray(),
+                        bound -> Long.toString(bound), true),
+                RangeBuckets.of(properties.getPriceBuckets().stream()
+                                .mapToLong(price -> CarProfile.toMinorUnits(price, RoundingMode.CEILING)).toArray(),
+                        minor -> BigDecimal.valueOf(minor, 2).stripTrailingZeros().toPlainString(), false));
+        for (Car car : cars) {
+            next.upsert(Entry.of(car));
+        }
+        return next;
+    }
+
+    /**
+     * Indexed attributes of a car; {@code live} is false once it is soft-deleted.
+     */
+    private record Entry(CarProfile profile, boolean live) {
+
+        static Entry of(Car car) {
+            return new Entry(CarProfile.of(car), !Boolean.TRUE.equals(car.getDeleted()));
+        }
+
+        Entry removed() {
+            return new Entry(profile, false);
+        }
+    }
+
+    /**
+     * Ascending boundaries splitting a numeric attribute into buckets: below the first, between consecutive
+     * boundaries (lower inclusive, upper exclusive) and from the last upwards.
+     */
+    private static final class RangeBuckets {
+
+        private final long[] bounds;
+        private final String[] labels;
+
+        private RangeBuckets(long[] bounds, String[] labels) {
+            this.bounds = bounds;
+            this.labels = labels;
+        }
+
+        /**
+         * {@code discrete} labels integer buckets by their last value ("3-4") rather than their upper bound ("50-100").
+         */
+        static RangeBuckets of(long[] bounds, LongFunction<String> format, boolean discrete) {
+            for (int i = 1; i < bounds.length; i++) {
+                if (bounds[i] <= bounds[i - 1]) {
+                    throw new IllegalStateException("Facet bucket boundaries must be strictly ascending: "
+                            + Arrays.toString(bounds));
+                }
+            }
+            if (bounds.length == 0) {
+                return new RangeBuckets(bounds, new String[]{"all"});
+            }
+            String[] labels = new String[bounds.length + 1];
+            labels[0] = "<" + format.apply(bounds[0]);
+            labels[bounds.length] = format.apply(bounds[bounds.length - 1]) + "+";
+            for (int i = 1; i < bounds.length; i++) {
+                long last = discrete ? bounds[i] - 1 : bounds[i];
+                labels[i] = discrete && last == bounds[i - 1]
+                        ? format.apply(last)
+                        : format.apply(bounds[i - 1]) + "-" + format.apply(last);
+            }
+            return new RangeBuckets(bounds, labels);
+        }
+
+        int count() {
+            return labels.length;
+        }
+
+        int bucketOf(long value) {
+            int found = Arrays.binarySearch(bounds, value);
+            return found >= 0 ? found + 1 : -found - 1;
+        }
+
+        String label(int bucket) {
+            return labels[bucket];
+        }
+    }
+
+    /**
+     * Mutable bitmap state. Guarded by the index lock (or confined to one thread while being built).
+     */
+    private static final class Bitmaps {
+
+        private final RangeBuckets seatBuckets;
+        private final RangeBuckets priceBuckets;
+        private final Map<Long, Integer> slotByCar = new HashMap<>();
+        private final List<Entry> entries = new ArrayList<>();
+        private final BitSet live = new BitSet();
+        private final Map<Long, BitSet> byBranch = new HashMap<>();
+        private final Map<CarCategory, BitSet> byCategory = new EnumMap<>(CarCategory.class);
+        private final Map<TransmissionType, BitSet> byTransmission = new EnumMap<>(TransmissionType.class);
+        private final Map<FuelType, BitSet> byFuelType = new EnumMap<>(FuelType.class);
+        private final BitSet[] bySeats;
+        private final BitSet[] byPrice;
+        private int[] seats = new int[64];
+        private long[] priceMinor = new long[64];
+
+        Bitmaps(RangeBuckets seatBuckets, RangeBuckets priceBuckets) {
+            this.seatBuckets = seatBuckets;
+            this.priceBuckets = priceBuckets;
+            for (CarCategory c : CarCategory.values()) byCategory.put(c, new BitSet());
+            for (TransmissionType t : TransmissionType.values()) byTransmission.put(t, new BitSet());
+            for (FuelType f : FuelType.values()) byFuelType.put(f, new BitSet());
+            this.bySeats = newBitSets(seatBuckets.count());
+            this.byPrice = newBitSets(priceBuckets.count());
+        }
+
+        /**
+         * Returns the entry previously recorded for the car, if any.
+         */
+        Entry upsert(Entry entry) {
+            CarProfile profile = entry.profile();
+            Integer existing = slotByCar.get(profile.carId());
+            Entry previous = null;
+            int slot;
+            if (existing != null) {
+                slot = existing;
+                previous = entries.get(slot);
+                clear(slot, previous.profile());
+                entries.set(slot, entry);
+            } else {
+                slot = entries.size();
+                entries.add(entry);
+                slotByCar.put(profile.carId(), slot);
+                if (slot >= seats.length) {
+                    seats = Arrays.copyOf(seats, seats.length * 2);
+                    priceMinor = Arrays.copyOf(priceMinor, priceMinor.length * 2);
+                }
+            }
+            seats[slot] = profile.seats();
+            priceMinor[slot] = profile.dailyPriceMinor();
+            byBranch.computeIfAbsent(profile.branchId(), id -> new BitSet()).set(slot);
+            byCategory.get(profile.category()).set(slot);
+            byTransmission.get(profile.transmission()).set(slot);
+            byFuelType.get(profile.fuelType()).set(slot);
+            bySeats[seatBuckets.bucketOf(profile.seats())].set(slot);
+            byPrice[priceBuckets.bucketOf(profile.dailyPriceMinor())].set(slot);
+            live.set(slot, entry.live());
+            return previous;
+        }
+
+        private void clear(int slot, CarProfile profile) {
+            BitSet branch = byBranch.get(profile.branchId());
+            if (branch != null) {
+                branch.clear(slot);
+            }
+            byCategory.get(profile.category()).clear(slot);
+            byTransmission.get(profile.transmission()).clear(slot);
+            byFuelType.get(profile.fuelType()).clear(slot);
+            bySeats[seatBuckets.bucketOf(profile.seats())].clear(slot);
+            byPrice[priceBuckets.bucketOf(profile.dailyPriceMinor())].clear(slot);
+            live.clear(slot);
+        }
+
+        CarFacetResult search(CarFilterDto filter) {
+            BitSet base = (BitSet) live.clone();
+            if (filter.getBranchId() != null) {
+                base.and(byBranch.getOrDefault(filter.getBranchId(), new BitSet()));
+            }
+            Map<String, BitSet> selected = new LinkedHashMap<>();
+            if (filter.getCategory() != null) selected.put(CATEGORY, byCategory.get(filter.getCategory()));
+            if (filter.getTransmission() != null) selected.put(TRANSMISSION, byTransmission.get(filter.getTransmission()));
+            if (filter.getFuelType() != null) selected.put(FUEL_TYPE, byFuelType.get(filter.getFuelType()));
+            if (filter.getMinSeats() != null) selected.put(SEATS, seatsAtLeast(filter.getMinSeats()));
+            if (filter.getMaxPrice() != null) {
+                selected.put(DAILY_PRICE, priceAtMost(CarProfile.toMinorUnits(filter.getMaxPrice(), RoundingMode.FLOOR)));
+            }
+
+            Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+            facets.put(CATEGORY, counts(matchingExcept(base, selected, CATEGORY), byCategory));
+            facets.put(TRANSMISSION, counts(matchingExcept(base, selected, TRANSMISSION), byTransmission));
+            facets.put(FUEL_TYPE, counts(matchingExcept(base, selected, FUEL_TYPE), byFuelType));
+            facets.put(SEATS, counts(matchingExcept(base, selected, SEATS), bySeats, seatBuckets));
+            facets.put(DAILY_PRICE, counts(matchingExcept(base, selected, DAILY_PRICE), byPrice, priceBuckets));
+
+            BitSet matching = matchingExcept(base, selected, null);
+            long[] ids = new long[matching.cardinality()];
+            int i = 0;
+            for (int slot = matching.nextSetBit(0); slot >= 0; slot = matching.nextSetBit(slot + 1)) {
+                ids[i++] = entries.get(slot).profile().carId();
+            }
+            Arrays.sort(ids);
+            return new CarFacetResult(Arrays.stream(ids).boxed().toList(), facets);
+        }
+
+        private BitSet seatsAtLeast(int minSeats) {
+            int boundary = seatBuckets.bucketOf(minSeats);
+            BitSet result = new BitSet();
+            for (int bucket = boundary + 1; bucket < bySeats.length; bucket++) {
+                result.or(bySeats[bucket]);
+            }
+            BitSet straddling = bySeats[boundary];
+            for (int slot = straddling.nextSetBit(0); slot >= 0; slot = straddling.nextSetBit(slot + 1)) {
+                if (seats[slot] >= minSeats) {
+                    result.set(slot);
+                }
+            }
+            return result;
+        }
+
+        private BitSet priceAtMost(long maxPriceMinor) {
+            int boundary = priceBuckets.bucketOf(maxPriceMinor);
+            BitSet result = new BitSet();
+            for (int bucket = 0; bucket < boundary; bucket++) {
+                result.or(byPrice[bucket]);
+            }
+            BitSet straddling = byPrice[boundary];
+            for (int slot = straddling.nextSetBit(0); slot >= 0; slot = straddling.nextSetBit(slot + 1)) {
+                if (priceMinor[slot] <= maxPriceMinor) {
+                    result.set(slot);
+                }
+            }
+            return result;
+        }
+
+        private static BitSet matchingExcept(BitSet base, Map<String, BitSet> selected, String facet) {
+            BitSet result = (BitSet) base.clone();
+            selected.forEach((name, bits) -> {
+                if (!name.equals(facet)) {
+                    result.and(bits);
+                }
+            });
+            return result;
+        }
+
+        private static <E extends Enum<E>> Map<String, Long> counts(BitSet matching, Map<E, BitSet> byValue) {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            byValue.forEach((value, bits) -> counts.put(value.name(), intersectionSize(matching, bits)));
+            return counts;
+        }
+
+        private static Map<String, Long> counts(BitSet matching, BitSet[] byBucket, RangeBuckets buckets) {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            for (int bucket = 0; bucket < byBucket.length; bucket++) {
+                counts.put(buckets.label(bucket), intersectionSize(matching, byBucket[bucket]));
+            }
+            return counts;
+        }
+
+        private static long intersectionSize(BitSet a, BitSet b) {
+            BitSet both = (BitSet) a.clone();
+            both.and(b);
+            return both.cardinality();
+        }
+
+        private static BitSet[] newBitSets(int count) {
+            BitSet[] sets = new BitSet[count];
+            for (int i = 0; i < count; i++) {
+                sets[i] = new BitSet();
+            }
+            return sets;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.nextstep.rentacar.service.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ids (ascending) of the cars matching a filter, and per facet the number of cars each value would match.
+ */
+public record CarFacetResult(List<Long> carIds, Map<String, Map<String, Long>> facets) {
+}
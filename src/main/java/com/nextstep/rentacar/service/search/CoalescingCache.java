@@ -0,0 +1,135 @@
+package com.nextstep.rentacar.service.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Size- and TTL-bounded result cache that collapses concurrent identical misses into one computation.
+ * <p>
+ * Invalidation bumps a generation counter for the affected branch before dropping matching entries. A load that
+ * started under an older generation neither populates the cache nor lets later callers join it, so a search running
+ * concurrently with a booking can never resurrect the pre-booking result.
+ * {@code null} results are handed back but not cached.
+ */
+public final class CoalescingCache<V> {
+
+    private final Cache<SearchKey, V> entries;
+    private final ConcurrentMap<SearchKey, Load<V>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, AtomicLong> branchGenerations = new ConcurrentHashMap<>();
+    private final AtomicLong globalGeneration = new AtomicLong();
+    private final AtomicLong unscopedGeneration = new AtomicLong();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public CoalescingCache(long maxEntries, Duration ttl) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public V get(SearchKey key, Supplier<V> loader) {
+        V cached = entries.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        Generation generation = generationOf(key);
+        Load<V> load = new Load<>(generation, new CompletableFuture<>());
+        Load<V> leader = inFlight.putIfAbsent(key, load);
+        if (leader != null) {
+            if (leader.generation.equals(generation)) {
+                coalesced.increment();
+                return await(leader.result);
+            }
+            // The running load predates an invalidation: compute privately rather than join a stale result
+            return loader.get();
+        }
+        try {
+            V value = loader.get();
+            if (value != null && generation.equals(generationOf(key))) {
+                entries.put(key, value);
+                if (!generation.equals(generationOf(key))) {
+                    entries.invalidate(key);
+                }
+            }
+            load.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            load.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    /**
+     * Drops every entry whose search can be affected by a change to the branch (any if {@code null})
+     * over the inclusive date range (any if {@code null}).
+     */
+    public void invalidate(Long branchId, LocalDate start, LocalDate end) {
+        if (branchId == null) {
+            globalGeneration.incrementAndGet();
+        } else {
+            branchGenerations.computeIfAbsent(branchId, id -> new AtomicLong()).incrementAndGet();
+            unscopedGeneration.incrementAndGet();
+        }
+        invalidations.increment();
+        entries.asMap().keySet().removeIf(key -> key.affectedBy(branchId, start, end));
+    }
+
+    public void invalidateAll() {
+        globalGeneration.incrementAndGet();
+        invalidations.increment();
+        entries.invalidateAll();
+    }
+
+    public Cache<SearchKey, V> entries() {
+        return entries;
+    }
+
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    public long invalidationCount() {
+        return invalidations.sum();
+    }
+
+    private Generation generationOf(SearchKey key) {
+        long scoped = key.branchId() == null
+                ? unscopedGeneration.get()
+                : branchGenerations.computeIfAbsent(key.branchId(), id -> new AtomicLong()).get();
+        return new Generation(globalGeneration.get(), scoped);
+    }
+
+    private static <V> V await(CompletableFuture<V> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private record Generation(long global, long scoped) {
+    }
+
+    private record Load<V>(Generation generation, CompletableFuture<V> result) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.nextstep.rentacar.service.search;
+
+import com.nextstep.rentacar.config.AlternativesProperties;
+import com.nextstep.rentacar.domain.entity.Branch;
+import com.nextstep.rentacar.domain.entity.NearbyBranch;
+import com.nextstep.rentacar.repository.BranchRepository;
+import com.nextstep.rentacar.repository.NearbyBranchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maintains the nearest-branches table. Branches change rarely, so the table is recomputed in full from the
+ * coordinates (great-circle distance over primitive arrays, keeping the k closest per branch) and lookups at search
+ * time are a single indexed query.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NearbyBranchTable {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private final BranchRepository branchRepository;
+    private final NearbyBranchRepository nearbyBranchRepository;
+    private final AlternativesProperties properties;
+
+    @Transactional(readOnly = true)
+    public List<NearbyBranchView> nearest(Long branchId) {
+        if (properties.getNearbyBranches() <= 0) {
+            return List.of();
+        }
+        return nearbyBranchRepository.findNearest(branchId, Limit.of(properties.getNearbyBranches()));
+    }
+
+    /**
+     * Drops the rows that reference a branch about to be deleted.
+     */
+    @Transactional
+    public void removeBranch(Long branchId) {
+        nearbyBranchRepository.deleteInvolving(branchId);
+    }
+
+    @Transactional
+    public void rebuild() {
+        List<Branch> branches = branchRepository.findByLatitudeIsNotNullAndLongitudeIsNotNull();
+        int n = branches.size();
+        double[] lat = new double[n];
+        double[] lon = new double[n];
+        for (int i = 0; i < n; i++) {
+            lat[i] = Math.toRadians(branches.get(i).getLatitude());
+            lon[i] = Math.toRadians(branches.get(i).getLongitude());
+        }
+        int k = Math.max(0, properties.getNearbyBranches());
+        double maxDistance = properties.getMaxDistanceKm();
+        int[] nearest = new int[k];
+        double[] distances = new double[k];
+        List<NearbyBranch> rows = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            int found = 0;
+            for (int j = 0; j < n; j++) {
+                if (j == i) {
+                    continue;
+                }
+                double distance = haversine(lat[i], lon[i], lat[j], lon[j]);
+                if (distance > maxDistance || (found == k && (k == 0 || distance >= distances[k - 1]))) {
+                    continue;
+                }
+                // Insertion into the sorted top-k arrays
+                int at = found < k ? found++ : k - 1;
+                while (at > 0 && distances[at - 1] > distance) {
+                    distances[at] = distances[at - 1];
+                    nearest[at] = nearest[at - 1];
+                    at--;
+                }
+                distances[at] = distance;
+                nearest[at] = j;
+            }
+            for (int rank = 0; rank < found; rank++) {
+                rows.add(new NearbyBranch(branches.get(i), branches.get(nearest[rank]), distances[rank], rank + 1));
+            }
+        }
+        nearbyBranchRepository.deleteAllRows();
+        nearbyBranchRepository.saveAll(rows);
+        log.debug("Nearest-branches table rebuilt: {} rows for {} located branches", rows.size(), n);
+    }
+
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        return haversine(Math.toRadians(latitude1), Math.toRadians(longitude1),
+                Math.toRadians(latitude2), Math.toRadians(longitude2));
+    }
+
+    private static double haversine(double lat1, double lon1, double lat2, double lon2) {
+        double sinLat = Math.sin((lat2 - lat1) / 2);
+        double sinLon = Math.sin((lon2 - lon1) / 2);
+        double a = sinLat * sinLat + Math.cos(lat1) * Math.cos(lat2) * sinLon * sinLon;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,7 @@
+package com.nextstep.rentacar.service.search;
+
+/**
+ * A row of the nearest-branches table as seen from the origin branch.
+ */
+public record NearbyBranchView(Long branchId, String name, double distanceKm) {
+}
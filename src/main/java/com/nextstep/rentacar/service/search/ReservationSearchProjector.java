@@ -0,0 +1,129 @@
+package com.nextstep.rentacar.service.search;
+
+import com.nextstep.rentacar.config.ReservationSearchProperties;
+import com.nextstep.rentacar.domain.entity.Reservation;
+import com.nextstep.rentacar.domain.entity.ReservationSearchEntry;
+import com.nextstep.rentacar.domain.event.ReservationEvent;
+import com.nextstep.rentacar.repository.ReservationRepository;
+import com.nextstep.rentacar.repository.ReservationSearchRepository;
+import com.nextstep.rentacar.service.outbox.OutboxListener;
+import com.nextstep.rentacar.service.outbox.OutboxMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the {@code reservation_search} read model in step with reservation writes.
+ * <p>
+ * Events only say which reservations changed: each batch reloads their current state (with customer, car and
+ * branches in one query) and overwrites the rows. Redelivered or out-of-order events therefore converge on the
+ * same rows, which is why the projector is not replayable. Customer, car and branch edits emit no events; the
+ * nightly {@link #rebuild()} picks them up.
+ */
+@Slf4j
+@Component
+public class ReservationSearchProjector implements OutboxListener {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationSearchRepository searchRepository;
+    private final ReservationSearchProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReservationSearchProjector(ReservationRepository reservationRepository,
+                                      ReservationSearchRepository searchRepository,
+                                      ReservationSearchProperties properties,
+                                      PlatformTransactionManager transactionManager) {
+        this.reservationRepository = reservationRepository;
+        this.searchRepository = searchRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void onEvents(List<OutboxMessage> events) {
+        Set<Long> changed = events.stream()
+                .filter(event -> event.payload() instanceof ReservationEvent)
+                .map(OutboxMessage::aggregateId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        List<Long> ids = new ArrayList<>(changed);
+        for (int from = 0; from < ids.size(); from += properties.getBatchSize()) {
+            project(ids.subList(from, Math.min(from + properties.getBatchSize(), ids.size())));
+        }
+    }
+
+    /**
+     * Reprojects the given reservations from the source tables; rows of reservations that no longer exist are removed.
+     * Joins the caller's transaction (the relay batch) when there is one.
+     */
+    public void project(Collection<Long> reservationIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Reservation> reservations = reservationRepository.findForSearchProjection(reservationIds);
+            upsert(reservations, OffsetDateTime.now(ZoneOffset.UTC));
+            Set<Long> missing = new HashSet<>(reservationIds);
+            reservations.forEach(reservation -> missing.remove(reservation.getId()));
+            if (!missing.isEmpty()) {
+                searchRepository.deleteAllByIdInBatch(missing);
+            }
+        });
+    }
+
+    /**
+     * Reprojects every reservation in id order, one batch per transaction, then drops rows the walk did not reach.
+     * Returns the number of rows written.
+     */
+    public long rebuild() {
+        // Truncated so rows written by this rebuild never compare below it after the column's rounding
+        OffsetDateTime startedAt = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MILLIS);
+        long total = 0;
+        long afterId = 0;
+        List<Reservation> batch;
+        do {
+            long from = afterId;
+            batch = transactionTemplate.execute(status -> {
+                List<Reservation> reservations = reservationRepository
+                        .findForSearchProjectionAfter(from, Limit.of(properties.getBatchSize()));
+                upsert(reservations, OffsetDateTime.now(ZoneOffset.UTC));
+                return reservations;
+            });
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).getId();
+                total += batch.size();
+            }
+        } while (batch.size() == properties.getBatchSize());
+        Integer removed = transactionTemplate.execute(status -> searchRepository.deleteProjectedBefore(startedAt));
+        log.info("Rebuilt reservation search: {} rows projected, {} stale rows removed", total, removed);
+        return total;
+    }
+
+    private void upsert(List<Reservation> reservations, OffsetDateTime now) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+        Map<Long, ReservationSearchEntry> existing = searchRepository
+                .findAllById(reservations.stream().map(Reservation::getId).toList()).stream()
+                .collect(Collectors.toMap(ReservationSearchEntry::getReservationId, Function.identity()));
+        List<ReservationSearchEntry> rows = new ArrayList<>(reservations.size());
+        for (Reservation reservation : reservations) {
+            ReservationSearchEntry row = existing.computeIfAbsent(reservation.getId(), ReservationSearchEntry::new);
+            row.project(reservation, now);
+            rows.add(row);
+        }
+        // Flushed here: the relay clears the persistence context when it marks the batch published
+        searchRepository.saveAllAndFlush(rows);
+    }
+}
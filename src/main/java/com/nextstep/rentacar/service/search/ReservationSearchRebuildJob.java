@@ -0,0 +1,43 @@
+package com.nextstep.rentacar.service.search;
+
+import com.nextstep.rentacar.config.ReservationSearchProperties;
+import com.nextstep.rentacar.repository.ReservationSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the search read model on first start (it is created empty by the migration) and rebuilds it every night,
+ * which is how customer, car and branch edits reach existing rows.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationSearchRebuildJob {
+
+    private final ReservationSearchProjector projector;
+    private final ReservationSearchRepository searchRepository;
+    private final ReservationSearchProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (properties.isRebuildEnabled() && searchRepository.count() == 0) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${app.reservation-search.rebuild-cron:0 30 2 * * *}")
+    public void rebuild() {
+        if (!properties.isRebuildEnabled()) {
+            return;
+        }
+        try {
+            projector.rebuild();
+        } catch (RuntimeException e) {
+            log.error("Reservation search rebuild failed", e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.nextstep.rentacar.service.search;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.domain.enums.FuelType;
+import com.nextstep.rentacar.domain.enums.TransmissionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Normalized availability filter tuple. Equal searches produce equal keys regardless of how the price was written
+ * ({@code 50}, {@code 50.0} and {@code 50.00} are the same filter).
+ */
+public record SearchKey(Long branchId,
+                        LocalDate startDate,
+                        LocalDate endDate,
+                        CarCategory category,
+                        TransmissionType transmission,
+                        FuelType fuelType,
+                        Integer minSeats,
+                        BigDecimal maxPrice) {
+
+    public static SearchKey of(Long branchId,
+                               LocalDate startDate,
+                               LocalDate endDate,
+                               CarCategory category,
+                               TransmissionType transmission,
+                               FuelType fuelType,
+                               Integer minSeats,
+                               BigDecimal maxPrice) {
+        Integer seats = minSeats != null && minSeats <= 0 ? null : minSeats;
+        BigDecimal price = maxPrice != null ? maxPrice.stripTrailingZeros() : null;
+        return new SearchKey(branchId, startDate, endDate, category, transmission, fuelType, seats, price);
+    }
+
+    /**
+     * Whether a change to the given branch (any branch if {@code null}) over the inclusive date range
+     * (any date if {@code null}) can alter the result of this search.
+     */
+    boolean affectedBy(Long changedBranchId, LocalDate start, LocalDate end) {
+        if (changedBranchId != null && branchId != null && !Objects.equals(branchId, changedBranchId)) {
+            return false;
+        }
+        return start == null || end == null || (!startDate.isAfter(end) && !endDate.isBefore(start));
+    }
+}
@@ -0,0 +1,64 @@
+package com.nextstep.rentacar.service.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Runs scheduled jobs on at most one node at a time.
+ * <p>
+ * On Postgres the job holds a session-level {@code pg_try_advisory_lock} on a connection of its own for as long as it
+ * runs; a node that does not get the lock skips that run, and a node that dies releases it with its connection.
+ * Other databases (the single-node H2 test profile) run the job unguarded.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterJobLock {
+
+    /** Namespace for the two-key advisory lock form, so job locks never clash with the booking car locks. */
+    static final int JOB_LOCK_NAMESPACE = 0x4A4F4253;
+
+    private final DataSource dataSource;
+
+    /**
+     * Runs the job unless another node is running it. Returns false when the run was skipped.
+     */
+    public boolean runExclusively(String job, Runnable work) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+                work.run();
+                return true;
+            }
+            if (!advisory(connection, "SELECT pg_try_advisory_lock(?, ?)", job)) {
+                log.info("Skipping {}: running on another node", job);
+                return false;
+            }
+            try {
+                work.run();
+                return true;
+            } finally {
+                advisory(connection, "SELECT pg_advisory_unlock(?, ?)", job);
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Could not take the cluster lock for " + job, e);
+        }
+    }
+
+    private static boolean advisory(Connection connection, String sql, String job) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, JOB_LOCK_NAMESPACE);
+            statement.setInt(2, job.hashCode());
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+}
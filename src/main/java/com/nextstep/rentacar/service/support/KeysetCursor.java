@@ -0,0 +1,98 @@
+package com.nextstep.rentacar.service.support;
+
+import com.nextstep.rentacar.dto.response.CursorPageDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Position of the last row of a keyset page: the value of the ordering column plus the id tie-breaker.
+ * Clients only see it as an opaque URL-safe token.
+ * <p>
+ * Listings seek with {@code (key < :afterKey OR (key = :afterKey AND id < :afterId))} ordered by
+ * {@code key DESC, id DESC}; the first page uses the {@code MAX_*} sentinels, so every page is the same
+ * bounded index range scan and no OFFSET is ever needed.
+ */
+public record KeysetCursor(String key, long id) {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    public static final LocalDate MIN_DATE = LocalDate.of(1, 1, 1);
+    public static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+    public static final OffsetDateTime MIN_TIMESTAMP = OffsetDateTime.of(1, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    public static final OffsetDateTime MAX_TIMESTAMP = OffsetDateTime.of(9999, 12, 31, 23, 59, 59, 0, ZoneOffset.UTC);
+
+    public static KeysetCursor of(LocalDate key, Long id) {
+        return new KeysetCursor(key.toString(), id);
+    }
+
+    public static KeysetCursor of(OffsetDateTime key, Long id) {
+        return new KeysetCursor(key.toString(), id);
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((key + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new KeysetCursor(raw.substring(0, separator), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public LocalDate dateKey() {
+        try {
+            return LocalDate.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public OffsetDateTime timestampKey() {
+        try {
+            return OffsetDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public static int resolveSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_SIZE);
+        }
+        return size;
+    }
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code size + 1}; the extra row only signals that
+     * another page exists.
+     */
+    public static <E, D> CursorPageDto<D> page(List<E> rows,
+                                              int size,
+                                              Function<E, KeysetCursor> cursorOf,
+                                              Function<E, D> mapper,
+                                              Long totalCount) {
+        boolean hasMore = rows.size() > size;
+        List<E> content = hasMore ? rows.subList(0, size) : rows;
+        String next = hasMore ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorPageDto<>(content.stream().map(mapper).toList(), next, totalCount);
+    }
+}
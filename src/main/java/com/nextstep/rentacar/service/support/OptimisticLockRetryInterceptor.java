@@ -0,0 +1,59 @@
+package com.nextstep.rentacar.service.support;
+
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Implements {@link RetryOnOptimisticLock}. Must be ordered before the transaction interceptor.
+ */
+@Slf4j
+public class OptimisticLockRetryInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // Joining an outer transaction: a retry could not see fresh state
+            return invocation.proceed();
+        }
+        RetryOnOptimisticLock settings = findSettings(invocation);
+        int maxAttempts = Math.max(1, settings.maxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return invocation.proceed();
+            } catch (OptimisticLockingFailureException | OptimisticLockException ex) {
+                if (attempt >= maxAttempts) {
+                    throw ex;
+                }
+                log.debug("Optimistic lock conflict in {} (attempt {}/{}), retrying",
+                        invocation.getMethod().getName(), attempt, maxAttempts);
+                backoff(settings.backoffMillis(), attempt);
+            }
+        }
+    }
+
+    private RetryOnOptimisticLock findSettings(MethodInvocation invocation) {
+        Method method = invocation.getMethod();
+        Class<?> targetClass = invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis()) : method.getDeclaringClass();
+        Method specific = AopUtils.getMostSpecificMethod(method, targetClass);
+        RetryOnOptimisticLock settings = AnnotatedElementUtils.findMergedAnnotation(specific, RetryOnOptimisticLock.class);
+        if (settings == null) {
+            settings = AnnotatedElementUtils.findMergedAnnotation(targetClass, RetryOnOptimisticLock.class);
+        }
+        return settings;
+    }
+
+    private void backoff(long baseMillis, int attempt) throws InterruptedException {
+        long delay = baseMillis << (attempt - 1);
+        long jittered = (long) (delay * ThreadLocalRandom.current().nextDouble(0.5, 1.5));
+        Thread.sleep(Math.max(1, jittered));
+    }
+}
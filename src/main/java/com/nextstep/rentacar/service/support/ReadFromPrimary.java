@@ -0,0 +1,17 @@
+package com.nextstep.rentacar.service.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Keeps a read-only transaction on the primary database when read replicas are enabled. For reads that must see
+ * every committed write, such as booking checks and warming in-memory indexes.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ReadFromPrimary {
+}
@@ -0,0 +1,34 @@
+package com.nextstep.rentacar.service.support;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Implements {@link ReadFromPrimary} by flagging the calling thread for the replica routing data source.
+ */
+public class ReadFromPrimaryInterceptor implements MethodInterceptor {
+
+    private static final ThreadLocal<Integer> DEPTH = ThreadLocal.withInitial(() -> 0);
+
+    /**
+     * True while a {@link ReadFromPrimary} method is running on this thread.
+     */
+    public static boolean isActive() {
+        return DEPTH.get() > 0;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        int depth = DEPTH.get();
+        DEPTH.set(depth + 1);
+        try {
+            return invocation.proceed();
+        } finally {
+            if (depth == 0) {
+                DEPTH.remove();
+            } else {
+                DEPTH.set(depth);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.nextstep.rentacar.service.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Re-runs a transactional service method when it fails with an optimistic locking conflict.
+ * The retry wraps the transaction, so every attempt starts from freshly loaded state.
+ * Calls that join an outer transaction are not retried.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface RetryOnOptimisticLock {
+
+    /**
+     * Total number of attempts, including the first one.
+     */
+    int maxAttempts() default 3;
+
+    /**
+     * Base backoff before the second attempt; doubles on every further attempt, with +/-50% jitter.
+     */
+    long backoffMillis() default 20;
+}
@@ -0,0 +1,35 @@
+package com.nextstep.rentacar.service.waitlist;
+
+import com.nextstep.rentacar.domain.entity.WaitlistEntry;
+import com.nextstep.rentacar.domain.enums.CarCategory;
+
+import java.time.LocalDate;
+
+/**
+ * Immutable snapshot of a WAITING waitlist entry as held by {@link WaitlistIndex}.
+ */
+public record WaitingRequest(Long entryId,
+                             Long customerId,
+                             Long branchId,
+                             CarCategory category,
+                             LocalDate startDate,
+                             LocalDate endDate,
+                             int priority) {
+
+    public static WaitingRequest of(WaitlistEntry entry) {
+        return new WaitingRequest(entry.getId(),
+                entry.getCustomer().getId(),
+                entry.getBranch().getId(),
+                entry.getCategory(),
+                entry.getStartDate(),
+                entry.getEndDate(),
+                entry.getPriority());
+    }
+
+    /**
+     * True if this request overlaps the inclusive range.
+     */
+    public boolean overlaps(LocalDate start, LocalDate end) {
+        return !startDate.isAfter(end) && !endDate.isBefore(start);
+    }
+}
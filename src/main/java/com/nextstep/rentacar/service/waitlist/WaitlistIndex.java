@@ -0,0 +1,155 @@
+package com.nextstep.rentacar.service.waitlist;
+
+import com.nextstep.rentacar.domain.entity.WaitlistEntry;
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.domain.enums.WaitlistStatus;
+import com.nextstep.rentacar.repository.WaitlistEntryRepository;
+import com.nextstep.rentacar.service.support.ReadFromPrimary;
+import com.nextstep.rentacar.service.support.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory interval index of WAITING waitlist entries per (branch, category).
+ * <p>
+ * A freed car only concerns the requests of its own branch and category whose dates overlap the freed interval,
+ * so a match is an O(log n + k) range scan instead of a table query per cancellation. Changes are applied as soon
+ * as the service records them and undone if the surrounding transaction rolls back.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitlistIndex {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+
+    private final ConcurrentMap<Bucket.Key, Bucket> buckets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, WaitingRequest> requestsById = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        List<WaitlistEntry> waiting = waitlistEntryRepository.findByStatus(WaitlistStatus.WAITING);
+        waiting.forEach(entry -> put(WaitingRequest.of(entry)));
+        log.info("Waitlist index warmed with {} waiting requests", waiting.size());
+    }
+
+    /**
+     * Synchronizes the index with the persisted state of an entry. Entries that are no longer WAITING are removed.
+     */
+    public void record(WaitlistEntry entry) {
+        Long id = entry.getId();
+        WaitingRequest previous = requestsById.get(id);
+        if (entry.isWaiting()) {
+            put(WaitingRequest.of(entry));
+        } else {
+            remove(id);
+        }
+        TransactionHooks.afterRollback(() -> {
+            if (previous != null) {
+                put(previous);
+            } else {
+                remove(id);
+            }
+        });
+    }
+
+    /**
+     * Waiting requests at the branch for the category that overlap the inclusive range, in offer order.
+     * {@code null} bounds leave that side of the range open.
+     */
+    public List<WaitingRequest> candidates(Long branchId, CarCategory category, LocalDate start, LocalDate end,
+                                           Comparator<WaitingRequest> order) {
+        Bucket bucket = buckets.get(new Bucket.Key(branchId, category));
+        if (bucket == null) {
+            return List.of();
+        }
+        List<WaitingRequest> matches = bucket.overlapping(start != null ? start : LocalDate.MIN,
+                end != null ? end : LocalDate.MAX);
+        matches.sort(order);
+        return matches;
+    }
+
+    public int size() {
+        return requestsById.size();
+    }
+
+    void put(WaitingRequest request) {
+        WaitingRequest previous = requestsById.put(request.entryId(), request);
+        if (previous != null) {
+            bucketOf(previous).remove(previous);
+        }
+        bucketOf(request).add(request);
+    }
+
+    void remove(Long entryId) {
+        WaitingRequest previous = requestsById.remove(entryId);
+        if (previous != null) {
+            bucketOf(previous).remove(previous);
+        }
+    }
+
+    private Bucket bucketOf(WaitingRequest request) {
+        return buckets.computeIfAbsent(new Bucket.Key(request.branchId(), request.category()), key -> new Bucket());
+    }
+
+    /**
+     * Requests of one (branch, category) ordered by start date. The longest indexed interval bounds how far back a
+     * lookup has to scan.
+     */
+    private static final class Bucket {
+
+        private record Key(Long branchId, CarCategory category) {
+        }
+
+        private final NavigableMap<LocalDate, List<WaitingRequest>> byStart = new TreeMap<>();
+        private long longestDays;
+
+        synchronized void add(WaitingRequest request) {
+            byStart.computeIfAbsent(request.startDate(), d -> new ArrayList<>(1)).add(request);
+            longestDays = Math.max(longestDays, ChronoUnit.DAYS.between(request.startDate(), request.endDate()));
+        }
+
+        synchronized void remove(WaitingRequest request) {
+            List<WaitingRequest> requests = byStart.get(request.startDate());
+            if (requests != null) {
+                requests.removeIf(r -> r.entryId().equals(request.entryId()));
+                if (requests.isEmpty()) {
+                    byStart.remove(request.startDate());
+                }
+            }
+        }
+
+        synchronized List<WaitingRequest> overlapping(LocalDate start, LocalDate end) {
+            List<WaitingRequest> result = new ArrayList<>();
+            LocalDate earliestStart = start.equals(LocalDate.MIN) ? start : start.minusDays(longestDays);
+            for (Map.Entry<LocalDate, List<WaitingRequest>> entry : byStart.headMap(end, true).descendingMap().entrySet()) {
+                if (entry.getKey().isBefore(earliestStart)) {
+                    break;
+                }
+                for (WaitingRequest request : entry.getValue()) {
+                    if (request.overlaps(start, end)) {
+                        result.add(request);
+                    }
+                }
+            }
+            return result;
+        }
+    }
+}
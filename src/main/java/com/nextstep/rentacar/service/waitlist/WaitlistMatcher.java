@@ -0,0 +1,301 @@
+package com.nextstep.rentacar.service.waitlist;
+
+import com.nextstep.rentacar.config.WaitlistProperties;
+import com.nextstep.rentacar.domain.entity.Car;
+import com.nextstep.rentacar.domain.entity.WaitlistEntry;
+import com.nextstep.rentacar.domain.entity.WaitlistSignal;
+import com.nextstep.rentacar.domain.enums.CarStatus;
+import com.nextstep.rentacar.domain.enums.WaitlistSignalType;
+import com.nextstep.rentacar.domain.enums.WaitlistStatus;
+import com.nextstep.rentacar.domain.event.CarEvent;
+import com.nextstep.rentacar.domain.event.ReservationEvent;
+import com.nextstep.rentacar.dto.response.ReservationHoldResponseDto;
+import com.nextstep.rentacar.repository.CarRepository;
+import com.nextstep.rentacar.repository.WaitlistEntryRepository;
+import com.nextstep.rentacar.repository.WaitlistSignalRepository;
+import com.nextstep.rentacar.service.ReservationHoldService;
+import com.nextstep.rentacar.service.outbox.OutboxListener;
+import com.nextstep.rentacar.service.outbox.OutboxMessage;
+import com.nextstep.rentacar.service.support.ClusterJobLock;
+import com.nextstep.rentacar.service.support.TransactionHooks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Offers freed cars to waiting customers.
+ * <p>
+ * Cancellations and cars joining a branch arrive through the outbox relay and are only queued here, so neither the
+ * cancel request nor the relay transaction pays for matching. The queue is the waitlist_signals table: signals are
+ * written with the relay's delivery of their event (or with the change that freed the car) and deleted by the
+ * matching transaction that handles them, so a restart loses nothing and a failed batch is matched again. A worker,
+ * one node at a time under a {@link ClusterJobLock}, drains the queue in batches: each freed interval is looked up in
+ * the {@link WaitlistIndex} and overlapping requests are tried in the configured order, each successful attempt
+ * placing a checkout hold for the customer. A failed batch is retried one signal at a time; a signal that keeps
+ * failing is left behind after {@code max-attempts}. Reservations created by offered customers mark their entries
+ * fulfilled; offers that lapse free the car for the next request in line.
+ */
+@Slf4j
+@Component
+public class WaitlistMatcher implements OutboxListener {
+
+    private final WaitlistIndex index;
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final WaitlistSignalRepository signalRepository;
+    private final CarRepository carRepository;
+    private final ReservationHoldService holdService;
+    private final WaitlistProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterJobLock clusterJobLock;
+    private final Counter offers;
+    private final Lock lock = new ReentrantLock();
+
+    public WaitlistMatcher(WaitlistIndex index,
+                           WaitlistEntryRepository waitlistEntryRepository,
+                           WaitlistSignalRepository signalRepository,
+                           CarRepository carRepository,
+                           ReservationHoldService holdService,
+                           WaitlistProperties properties,
+                           PlatformTransactionManager transactionManager,
+                           ClusterJobLock clusterJobLock,
+                           MeterRegistry meterRegistry) {
+        this.index = index;
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.signalRepository = signalRepository;
+        this.carRepository = carRepository;
+        this.holdService = holdService;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clusterJobLock = clusterJobLock;
+        this.offers = Counter.builder("waitlist.offers")
+                .description("Freed cars offered to waiting customers")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues the signals in the relay's delivery transaction, so they are stored exactly when the delivery is.
+     */
+    @Override
+    public void onEvents(List<OutboxMessage> events) {
+        List<WaitlistSignal> signals = new ArrayList<>();
+        for (OutboxMessage event : events) {
+            switch (event.type()) {
+                case RESERVATION_CANCELLED -> {
+                    ReservationEvent reservation = (ReservationEvent) event.payload();
+                    signals.add(WaitlistSignal.freed(reservation.carId(), reservation.startDate(), reservation.endDate()));
+                }
+                case RESERVATION_CREATED -> {
+                    ReservationEvent reservation = (ReservationEvent) event.payload();
+                    signals.add(WaitlistSignal.booked(reservation.customerId(), reservation.carId(),
+                            reservation.startDate(), reservation.endDate()));
+                }
+                case CAR_ADDED -> signals.add(WaitlistSignal.freed(((CarEvent) event.payload()).carId(), null, null));
+                default -> {
+                }
+            }
+        }
+        signalRepository.saveAll(signals);
+    }
+
+    /**
+     * Queues a car that became free over the inclusive range ({@code null} bounds: every date), in the caller's
+     * transaction when there is one.
+     */
+    public void carFreed(Long carId, LocalDate start, LocalDate end) {
+        signalRepository.save(WaitlistSignal.freed(carId, start, end));
+    }
+
+    @Scheduled(fixedDelayString = "${app.waitlist.match-interval-ms:1000}")
+    public void matchScheduled() {
+        if (properties.isAsyncMatching()) {
+            clusterJobLock.runExclusively("Waitlist matching", () -> {
+                expireOffers();
+                matchPending();
+            });
+        }
+    }
+
+    /**
+     * Drains the queued signals batch by batch and stops at the first batch with a failure, leaving it to the next
+     * run. Returns the number of offers made.
+     */
+    public int matchPending() {
+        lock.lock();
+        try {
+            int offered = 0;
+            while (true) {
+                List<WaitlistSignal> batch = transactionTemplate.execute(status -> signalRepository
+                        .findByAttemptsLessThanOrderByIdAsc(properties.getMaxAttempts(),
+                                Limit.of(properties.getBatchSize())));
+                if (batch == null || batch.isEmpty()) {
+                    return offered;
+                }
+                try {
+                    offered += consume(batch);
+                } catch (RuntimeException e) {
+                    log.error("Waitlist matching failed for {} signals; retrying them one by one", batch.size(), e);
+                    return offered + retryOneByOne(batch);
+                }
+                if (batch.size() < properties.getBatchSize()) {
+                    return offered;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int retryOneByOne(List<WaitlistSignal> batch) {
+        int offered = 0;
+        for (WaitlistSignal signal : batch) {
+            try {
+                offered += consume(List.of(signal));
+            } catch (RuntimeException e) {
+                transactionTemplate.executeWithoutResult(status -> signalRepository.recordFailure(signal.getId()));
+                log.error("Waitlist matching failed for signal {} (attempt {} of {})", signal,
+                        signal.getAttempts() + 1, properties.getMaxAttempts(), e);
+            }
+        }
+        return offered;
+    }
+
+    /**
+     * Matches the signals and deletes them in one transaction.
+     */
+    private int consume(List<WaitlistSignal> signals) {
+        Integer offered = transactionTemplate.execute(status -> {
+            Set<Signal> distinct = new LinkedHashSet<>();
+            for (WaitlistSignal signal : signals) {
+                distinct.add(signal.getSignalType() == WaitlistSignalType.BOOKED
+                        ? new Booked(signal.getCustomerId(), signal.getCarId(), signal.getStartDate(), signal.getEndDate())
+                        : new Freed(signal.getCarId(), signal.getStartDate(), signal.getEndDate()));
+            }
+            int made = matchBatch(distinct);
+            signalRepository.deleteAllByIdInBatch(signals.stream().map(WaitlistSignal::getId).toList());
+            return made;
+        });
+        return offered == null ? 0 : offered;
+    }
+
+    /**
+     * Expires lapsed offers and queues their cars for the next waiting request. Returns the number expired.
+     */
+    public int expireOffers() {
+        Integer expired = transactionTemplate.execute(status -> {
+            List<WaitlistEntry> lapsed = waitlistEntryRepository.findByStatusAndOfferExpiresAtBefore(
+                    WaitlistStatus.OFFERED, OffsetDateTime.now(ZoneOffset.UTC));
+            for (WaitlistEntry entry : lapsed) {
+                entry.expire();
+                Long carId = entry.getOfferedCar().getId();
+                LocalDate start = entry.getStartDate();
+                LocalDate end = entry.getEndDate();
+                String token = entry.getHoldToken();
+                carFreed(carId, start, end);
+                TransactionHooks.afterCommit(() -> holdService.release(token));
+            }
+            return lapsed.size();
+        });
+        return expired == null ? 0 : expired;
+    }
+
+    private int matchBatch(Set<Signal> batch) {
+        List<Freed> freed = new ArrayList<>();
+        for (Signal signal : batch) {
+            if (signal instanceof Booked booked) {
+                fulfil(booked);
+            } else {
+                freed.add((Freed) signal);
+            }
+        }
+        if (freed.isEmpty() || index.size() == 0) {
+            return 0;
+        }
+        Map<Long, Car> cars = carRepository.findAllById(freed.stream().map(Freed::carId).distinct().toList()).stream()
+                .collect(Collectors.toMap(Car::getId, Function.identity()));
+        Comparator<WaitingRequest> order = offerOrder();
+        LocalDate today = LocalDate.now();
+        int offered = 0;
+        for (Freed signal : freed) {
+            Car car = cars.get(signal.carId());
+            if (car == null || car.getStatus() != CarStatus.AVAILABLE || Boolean.TRUE.equals(car.getDeleted())) {
+                continue;
+            }
+            for (WaitingRequest request : index.candidates(car.getBranch().getId(), car.getCategory(),
+                    signal.start(), signal.end(), order)) {
+                if (request.startDate().isBefore(today)) {
+                    continue;
+                }
+                if (offer(car, request)) {
+                    offered++;
+                }
+            }
+        }
+        return offered;
+    }
+
+    private boolean offer(Car car, WaitingRequest request) {
+        ReservationHoldResponseDto hold;
+        try {
+            // Runs the full availability check, including holds placed earlier in this batch
+            hold = holdService.place(car.getId(), request.startDate(), request.endDate());
+        } catch (IllegalStateException notAvailable) {
+            return false;
+        }
+        WaitlistEntry entry = waitlistEntryRepository.findById(request.entryId()).orElse(null);
+        if (entry == null || !entry.isWaiting()) {
+            holdService.release(hold.getToken());
+            return false;
+        }
+        entry.offer(car, hold.getToken(), hold.getExpiresAt());
+        waitlistEntryRepository.save(entry);
+        index.record(entry);
+        TransactionHooks.afterRollback(() -> holdService.release(hold.getToken()));
+        offers.increment();
+        log.info("Notify customer {}: car {} is held for waitlist entry {} until {}", request.customerId(),
+                car.getId(), entry.getId(), hold.getExpiresAt());
+        return true;
+    }
+
+    private void fulfil(Booked booked) {
+        for (WaitlistEntry entry : waitlistEntryRepository.findByCustomerIdAndOfferedCarIdAndStartDateAndEndDateAndStatus(
+                booked.customerId(), booked.carId(), booked.start(), booked.end(), WaitlistStatus.OFFERED)) {
+            entry.fulfil();
+            waitlistEntryRepository.save(entry);
+        }
+    }
+
+    private Comparator<WaitingRequest> offerOrder() {
+        Comparator<WaitingRequest> fifo = Comparator.comparing(WaitingRequest::entryId);
+        return properties.getOrdering() == WaitlistProperties.Ordering.PRIORITY
+                ? Comparator.comparingInt(WaitingRequest::priority).reversed().thenComparing(fifo)
+                : fifo;
+    }
+
+    private sealed interface Signal permits Freed, Booked {
+    }
+
+    private record Freed(Long carId, LocalDate start, LocalDate end) implements Signal {
+    }
+
+    private record Booked(Long customerId, Long carId, LocalDate start, LocalDate end) implements Signal {
+    }
+}
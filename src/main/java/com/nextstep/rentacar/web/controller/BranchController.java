@@ -1,11 +1,15 @@
 package com.nextstep.rentacar.web.controller;
 
+import com.nextstep.rentacar.domain.enums.CarCategory;
 import com.nextstep.rentacar.dto.request.BranchRequestDto;
+import com.nextstep.rentacar.dto.response.AvailabilityCalendarResponseDto;
 import com.nextstep.rentacar.dto.response.BranchResponseDto;
+import com.nextstep.rentacar.service.AvailabilityCalendarService;
 import com.nextstep.rentacar.service.BranchService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -16,6 +20,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -24,9 +29,11 @@ import java.util.List;
 public class BranchController {
 
     private final BranchService branchService;
+    private final AvailabilityCalendarService calendarService;
 
-    public BranchController(BranchService branchService) {
+    public BranchController(BranchService branchService, AvailabilityCalendarService calendarService) {
         this.branchService = branchService;
+        this.calendarService = calendarService;
     }
 
     @PostMapping
@@ -77,4 +84,14 @@ public class BranchController {
     public ResponseEntity<List<BranchResponseDto>> byCountry(@RequestParam String country) {
         return ResponseEntity.ok(branchService.findByCountry(country));
     }
+
+    @GetMapping("/{id}/calendar")
+    @Operation(summary = "Per-day count of free cars at a branch, optionally for one category, as run-length encoded ranges")
+    public ResponseEntity<AvailabilityCalendarResponseDto> calendar(
+            @PathVariable Long id,
+            @RequestParam(required = false) CarCategory category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(calendarService.branchCalendar(id, category, from, to));
+    }
 }
@@ -5,10 +5,17 @@ import com.nextstep.rentacar.domain.enums.FuelType;
 import com.nextstep.rentacar.domain.enums.TransmissionType;
 import com.nextstep.rentacar.dto.request.CarFilterDto;
 import com.nextstep.rentacar.dto.request.CarRequestDto;
+import com.nextstep.rentacar.dto.response.AvailabilityCalendarResponseDto;
+import com.nextstep.rentacar.dto.response.AvailabilitySearchResponseDto;
+import com.nextstep.rentacar.dto.response.CarFacetSearchResponseDto;
 import com.nextstep.rentacar.dto.response.CarListResponseDto;
 import com.nextstep.rentacar.dto.response.CarResponseDto;
+import com.nextstep.rentacar.service.AvailabilityCalendarService;
+import com.nextstep.rentacar.service.AvailabilitySearchService;
 import com.nextstep.rentacar.service.CarService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -31,9 +38,15 @@ import java.time.LocalDate;
 public class CarController {
 
     private final CarService carService;
+    private final AvailabilityCalendarService calendarService;
+    private final AvailabilitySearchService searchService;
 
-    public CarController(CarService carService) {
+    public CarController(CarService carService,
+                         AvailabilityCalendarService calendarService,
+                         AvailabilitySearchService searchService) {
         this.carService = carService;
+        this.calendarService = calendarService;
+        this.searchService = searchService;
     }
 
     @PostMapping
@@ -91,6 +104,19 @@ public class CarController {
         return ResponseEntity.ok(carService.list(filter, pageable));
     }
 
+    @GetMapping("/facets")
+    @Operation(
+        summary = "List cars with facet counts",
+        description = "Returns a page of cars matching the filter (branchId, category, transmission, fuelType, minSeats, maxPrice) " +
+                      "and, per facet, how many cars each category, transmission, fuel type, seats range and daily price range would match " +
+                      "with the other filters kept."
+    )
+    public ResponseEntity<CarFacetSearchResponseDto> facets(
+            @ParameterObject CarFilterDto filter,
+            @ParameterObject Pageable pageable) {
+        return ResponseEntity.ok(carService.facets(filter, pageable));
+    }
+
     @GetMapping("/deleted")
     @Operation(summary = "List deleted cars with pagination and sorting")
     public ResponseEntity<Page<CarListResponseDto>> listDeleted(@ParameterObject Pageable pageable) {
@@ -123,4 +149,41 @@ public class CarController {
                 carService.findAvailable(branchId, startDate, endDate, category, transmission, fuelType, minSeats, maxPrice, pageable)
         );
     }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search available cars; when none match, suggest nearby branches, upgrades or shifted dates",
+            description = "Returns the first page of matching cars. If there are none, alternatives are evaluated in " +
+                          "parallel and returned best first, replacing follow-up searches by the client.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = AvailabilitySearchResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(schema = @Schema(implementation = org.springframework.http.ProblemDetail.class))),
+            @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(implementation = org.springframework.http.ProblemDetail.class)))
+    })
+    public ResponseEntity<AvailabilitySearchResponseDto> search(
+            @RequestParam Long branchId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) CarCategory category,
+            @RequestParam(required = false) TransmissionType transmission,
+            @RequestParam(required = false) FuelType fuelType,
+            @RequestParam(required = false) Integer minSeats,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(searchService.searchWithAlternatives(branchId, startDate, endDate,
+                category, transmission, fuelType, minSeats, maxPrice, size));
+    }
+
+    @GetMapping("/{id}/calendar")
+    @Operation(summary = "Per-day availability of a car as run-length encoded ranges (defaults to the next 3 months)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(schema = @Schema(implementation = org.springframework.http.ProblemDetail.class))),
+            @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(implementation = org.springframework.http.ProblemDetail.class)))
+    })
+    public ResponseEntity<AvailabilityCalendarResponseDto> calendar(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(calendarService.carCalendar(id, from, to));
+    }
 }
@@ -0,0 +1,61 @@
+package com.nextstep.rentacar.web.controller;
+
+import com.nextstep.rentacar.dto.request.CategoryBookingRequestDto;
+import com.nextstep.rentacar.dto.response.CategoryAssignmentReportDto;
+import com.nextstep.rentacar.dto.response.CategoryBookingResponseDto;
+import com.nextstep.rentacar.service.CategoryBookingService;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/category-bookings")
+@Validated
+public class CategoryBookingController {
+
+    private final CategoryBookingService categoryBookingService;
+
+    public CategoryBookingController(CategoryBookingService categoryBookingService) {
+        this.categoryBookingService = categoryBookingService;
+    }
+
+    @PostMapping
+    @Operation(summary = "Book any car of a category at a branch", description = "Capacity is reserved now; the car is assigned close to pickup.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Booked", content = @Content(schema = @Schema(implementation = CategoryBookingResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Validation/Bad Request", content = @Content(schema = @Schema(implementation = org.springframework.http.ProblemDetail.class))),
+            @ApiResponse(responseCode = "409", description = "No capacity left", content = @Content(schema = @Schema(implementation = org.springframework.http.ProblemDetail.class)))
+    })
+    public ResponseEntity<CategoryBookingResponseDto> book(@Valid @RequestBody CategoryBookingRequestDto request) {
+        return ResponseEntity.ok(categoryBookingService.book(request));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<CategoryBookingResponseDto> getById(@PathVariable Long id) {
+        return ResponseEntity.ok(categoryBookingService.getById(id));
+    }
+
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<CategoryBookingResponseDto> cancel(@PathVariable Long id) {
+        categoryBookingService.cancel(id);
+        return ResponseEntity.ok(categoryBookingService.getById(id));
+    }
+
+    @PostMapping("/assign")
+    @Operation(summary = "Assign cars to a branch's category bookings now", description = "Binds pending bookings picking up on or before the given date (default: the configured lead time) and reports utilization against first-fit assignment.")
+    public ResponseEntity<List<CategoryAssignmentReportDto>> assign(
+            @RequestParam Long branchId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate through) {
+        return ResponseEntity.ok(categoryBookingService.assign(branchId, through));
+    }
+}
@@ -4,6 +4,7 @@ import com.nextstep.rentacar.domain.entity.Maintenance;
 import com.nextstep.rentacar.domain.enums.MaintenanceStatus;
 import com.nextstep.rentacar.domain.enums.MaintenanceType;
 import com.nextstep.rentacar.dto.request.MaintenanceScheduleRequestDto;
+import com.nextstep.rentacar.dto.response.CursorPageDto;
 import com.nextstep.rentacar.service.MaintenanceService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
@@ -73,6 +74,23 @@ public class MaintenanceController {
         return ResponseEntity.ok(maintenanceService.listByFilters(carId, employeeId, status, maintenanceType, branchId, startDate, endDate, pageable));
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "List maintenance records newest first using an opaque continuation cursor")
+    public ResponseEntity<CursorPageDto<Maintenance>> scroll(
+            @RequestParam(required = false) Long carId,
+            @RequestParam(required = false) Long employeeId,
+            @RequestParam(required = false) MaintenanceStatus status,
+            @RequestParam(required = false) MaintenanceType maintenanceType,
+            @RequestParam(required = false) Long branchId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(maintenanceService.scrollByFilters(carId, employeeId, status, maintenanceType, branchId,
+                startDate, endDate, cursor, size, includeTotal));
+    }
+
     @GetMapping("/scheduled")
     public ResponseEntity<List<Maintenance>> scheduledForDate(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
         return ResponseEntity.ok(maintenanceService.findScheduledForDate(date));
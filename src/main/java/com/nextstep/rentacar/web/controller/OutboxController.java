@@ -0,0 +1,45 @@
+package com.nextstep.rentacar.web.controller;
+
+import com.nextstep.rentacar.dto.response.OutboxRelayResultDto;
+import com.nextstep.rentacar.dto.response.OutboxStatisticsDto;
+import com.nextstep.rentacar.service.OutboxService;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/outbox")
+@Validated
+public class OutboxController {
+
+    private final OutboxService outboxService;
+
+    public OutboxController(OutboxService outboxService) {
+        this.outboxService = outboxService;
+    }
+
+    @GetMapping("/statistics")
+    @Operation(summary = "Lifecycle statistics projected from relayed outbox events")
+    public ResponseEntity<OutboxStatisticsDto> statistics() {
+        return ResponseEntity.ok(outboxService.statistics());
+    }
+
+    @PostMapping("/relay")
+    @Operation(summary = "Relay pending outbox events immediately")
+    public ResponseEntity<OutboxRelayResultDto> relay() {
+        return ResponseEntity.ok(outboxService.relayPending());
+    }
+
+    @PostMapping("/replay")
+    @Operation(summary = "Rebuild the outbox projections from retained published events")
+    public ResponseEntity<OutboxRelayResultDto> replay() {
+        return ResponseEntity.ok(outboxService.replay());
+    }
+
+    @PostMapping("/parked/requeue")
+    @Operation(summary = "Return parked outbox events to the relay with a fresh attempt budget")
+    public ResponseEntity<OutboxRelayResultDto> requeueParked() {
+        return ResponseEntity.ok(outboxService.requeueParked());
+    }
+}
@@ -0,0 +1,42 @@
+package com.nextstep.rentacar.web.controller;
+
+import com.nextstep.rentacar.domain.enums.PaymentMethod;
+import com.nextstep.rentacar.domain.enums.PaymentStatus;
+import com.nextstep.rentacar.dto.response.CursorPageDto;
+import com.nextstep.rentacar.dto.response.PaymentResponseDto;
+import com.nextstep.rentacar.service.PaymentService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import io.swagger.v3.oas.annotations.Operation;
+
+import java.time.OffsetDateTime;
+
+@RestController
+@RequestMapping("/api/payments")
+@Validated
+public class PaymentController {
+
+    private final PaymentService paymentService;
+
+    public PaymentController(PaymentService paymentService) {
+        this.paymentService = paymentService;
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "List payments newest first using an opaque continuation cursor")
+    public ResponseEntity<CursorPageDto<PaymentResponseDto>> scroll(
+            @RequestParam(required = false) Long reservationId,
+            @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(required = false) PaymentMethod paymentMethod,
+            @RequestParam(required = false) Long customerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(paymentService.scrollWithFilters(reservationId, status, paymentMethod, customerId,
+                startDate, endDate, cursor, size, includeTotal));
+    }
+}
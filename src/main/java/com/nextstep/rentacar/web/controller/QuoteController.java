@@ -0,0 +1,42 @@
+package com.nextstep.rentacar.web.controller;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.dto.response.QuoteResponseDto;
+import com.nextstep.rentacar.service.PricingService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/quotes")
+@Validated
+public class QuoteController {
+
+    private final PricingService pricingService;
+
+    public QuoteController(PricingService pricingService) {
+        this.pricingService = pricingService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Price all cars available at a branch for a date range, cheapest first")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(schema = @Schema(implementation = org.springframework.http.ProblemDetail.class)))
+    })
+    public ResponseEntity<QuoteResponseDto> quote(
+            @RequestParam Long branchId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) CarCategory category) {
+        return ResponseEntity.ok(pricingService.quote(branchId, startDate, endDate, category));
+    }
+}
@@ -0,0 +1,45 @@
+package com.nextstep.rentacar.web.controller;
+
+import com.nextstep.rentacar.dto.request.RatePlanPublishRequestDto;
+import com.nextstep.rentacar.dto.response.RatePlanResponseDto;
+import com.nextstep.rentacar.service.PricingService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/rate-plans")
+@Validated
+public class RatePlanController {
+
+    private final PricingService pricingService;
+
+    public RatePlanController(PricingService pricingService) {
+        this.pricingService = pricingService;
+    }
+
+    @GetMapping
+    @Operation(summary = "List the published rate plans")
+    public ResponseEntity<List<RatePlanResponseDto>> list() {
+        return ResponseEntity.ok(pricingService.listRatePlans());
+    }
+
+    @PutMapping
+    @Operation(summary = "Replace and publish the full set of rate plans")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Published"),
+            @ApiResponse(responseCode = "400", description = "Validation/Bad Request", content = @Content(schema = @Schema(implementation = org.springframework.http.ProblemDetail.class))),
+            @ApiResponse(responseCode = "404", description = "Branch not found", content = @Content(schema = @Schema(implementation = org.springframework.http.ProblemDetail.class)))
+    })
+    public ResponseEntity<List<RatePlanResponseDto>> publish(@Valid @RequestBody RatePlanPublishRequestDto request) {
+        return ResponseEntity.ok(pricingService.publishRatePlans(request.getPlans()));
+    }
+}
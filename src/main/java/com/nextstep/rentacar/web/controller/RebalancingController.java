@@ -0,0 +1,46 @@
+package com.nextstep.rentacar.web.controller;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.dto.response.InventoryProjectionDto;
+import com.nextstep.rentacar.dto.response.RebalancingPlanDto;
+import com.nextstep.rentacar.service.RebalancingService;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/rebalancing")
+@Validated
+public class RebalancingController {
+
+    private final RebalancingService rebalancingService;
+
+    public RebalancingController(RebalancingService rebalancingService) {
+        this.rebalancingService = rebalancingService;
+    }
+
+    @GetMapping("/inventory")
+    @Operation(summary = "Projected cars on hand per branch, category and day", description = "Derived from home branches and the pickup/drop-off flows of active reservations and pending category bookings.")
+    public ResponseEntity<List<InventoryProjectionDto>> inventory(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @Min(1) @Max(366) Integer days,
+            @RequestParam(required = false) Long branchId,
+            @RequestParam(required = false) CarCategory category) {
+        return ResponseEntity.ok(rebalancingService.projectInventory(from, days, branchId, category));
+    }
+
+    @GetMapping("/plan")
+    @Operation(summary = "Propose branch transfers for one-way imbalances", description = "Minimum-distance transfers that keep every branch at its safety stock; uncovered shortages are listed separately.")
+    public ResponseEntity<RebalancingPlanDto> plan(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @Min(1) @Max(366) Integer days) {
+        return ResponseEntity.ok(rebalancingService.plan(from, days));
+    }
+}
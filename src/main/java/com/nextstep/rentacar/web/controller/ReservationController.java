@@ -1,8 +1,14 @@
 package com.nextstep.rentacar.web.controller;
 
 import com.nextstep.rentacar.domain.enums.ReservationStatus;
+import com.nextstep.rentacar.dto.request.BatchReservationRequestDto;
+import com.nextstep.rentacar.dto.request.ReservationHoldRequestDto;
 import com.nextstep.rentacar.dto.request.ReservationRequestDto;
+import com.nextstep.rentacar.dto.response.BatchReservationResponseDto;
+import com.nextstep.rentacar.dto.response.CursorPageDto;
+import com.nextstep.rentacar.dto.response.ReservationHoldResponseDto;
 import com.nextstep.rentacar.dto.response.ReservationResponseDto;
+import com.nextstep.rentacar.service.ReservationHoldService;
 import com.nextstep.rentacar.service.ReservationService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
@@ -26,9 +32,11 @@ import java.time.LocalDate;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final ReservationHoldService holdService;
 
-    public ReservationController(ReservationService reservationService) {
+    public ReservationController(ReservationService reservationService, ReservationHoldService holdService) {
         this.reservationService = reservationService;
+        this.holdService = holdService;
     }
 
     @PostMapping
@@ -42,6 +50,32 @@ public class ReservationController {
         return ResponseEntity.ok(reservationService.create(request));
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Create many reservations at once", description = "Each item is checked and created independently; the response reports the outcome per item in request order.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Processed", content = @Content(schema = @Schema(implementation = BatchReservationResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Validation/Bad Request", content = @Content(schema = @Schema(implementation = org.springframework.http.ProblemDetail.class)))
+    })
+    public ResponseEntity<BatchReservationResponseDto> createBatch(@Valid @RequestBody BatchReservationRequestDto request) {
+        return ResponseEntity.ok(reservationService.createBatch(request.getReservations()));
+    }
+
+    @PostMapping("/holds")
+    @Operation(summary = "Hold a car for a date range during checkout", description = "Returns a token to pass as holdToken when creating the reservation. Holds expire automatically.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Held", content = @Content(schema = @Schema(implementation = ReservationHoldResponseDto.class))),
+            @ApiResponse(responseCode = "409", description = "Conflict", content = @Content(schema = @Schema(implementation = org.springframework.http.ProblemDetail.class)))
+    })
+    public ResponseEntity<ReservationHoldResponseDto> placeHold(@Valid @RequestBody ReservationHoldRequestDto request) {
+        return ResponseEntity.ok(holdService.place(request.getCarId(), request.getStartDate(), request.getEndDate()));
+    }
+
+    @DeleteMapping("/holds/{token}")
+    public ResponseEntity<Void> releaseHold(@PathVariable String token) {
+        holdService.release(token);
+        return ResponseEntity.noContent().build();
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ReservationResponseDto> update(@PathVariable Long id, @Valid @RequestBody ReservationRequestDto request) {
         return ResponseEntity.ok(reservationService.update(id, request));
@@ -87,4 +121,20 @@ public class ReservationController {
             @ParameterObject Pageable pageable) {
         return ResponseEntity.ok(reservationService.listWithFilters(customerId, carId, status, branchId, startDate, endDate, pageable));
     }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "List reservations newest first using an opaque continuation cursor; deep pages cost the same as the first")
+    public ResponseEntity<CursorPageDto<ReservationResponseDto>> scroll(
+            @RequestParam(required = false) Long customerId,
+            @RequestParam(required = false) Long carId,
+            @RequestParam(required = false) ReservationStatus status,
+            @RequestParam(required = false) Long branchId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(reservationService.scrollWithFilters(customerId, carId, status, branchId,
+                startDate, endDate, cursor, size, includeTotal));
+    }
 }
@@ -0,0 +1,44 @@
+package com.nextstep.rentacar.web.controller;
+
+import com.nextstep.rentacar.dto.response.BulkTransitionResultDto;
+import com.nextstep.rentacar.service.ReservationLifecycleService;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+@RestController
+@RequestMapping("/api/admin/reservation-lifecycle")
+@Validated
+public class ReservationLifecycleController {
+
+    private final ReservationLifecycleService lifecycleService;
+
+    public ReservationLifecycleController(ReservationLifecycleService lifecycleService) {
+        this.lifecycleService = lifecycleService;
+    }
+
+    @PostMapping("/confirm-paid")
+    @Operation(summary = "Confirm every PENDING reservation whose captured payments cover the total price")
+    public ResponseEntity<BulkTransitionResultDto> confirmPaid() {
+        return ResponseEntity.ok(lifecycleService.confirmPaid());
+    }
+
+    @PostMapping("/complete")
+    @Operation(summary = "Complete every CONFIRMED reservation ending on the date (default: today)")
+    public ResponseEntity<BulkTransitionResultDto> complete(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(lifecycleService.completeEndingOn(date));
+    }
+
+    @PostMapping("/expire")
+    @Operation(summary = "Cancel unpaid PENDING reservations", description = "Created before the cutoff (default: the configured pending TTL ago) or past their start date.")
+    public ResponseEntity<BulkTransitionResultDto> expire(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime createdBefore) {
+        return ResponseEntity.ok(lifecycleService.expireStale(createdBefore));
+    }
+}
@@ -0,0 +1,39 @@
+package com.nextstep.rentacar.web.controller;
+
+import com.nextstep.rentacar.dto.request.ReservationSearchFilterDto;
+import com.nextstep.rentacar.dto.response.ReservationSearchRebuildResultDto;
+import com.nextstep.rentacar.dto.response.ReservationSearchResultDto;
+import com.nextstep.rentacar.service.ReservationSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/reservation-search")
+@Validated
+public class ReservationSearchController {
+
+    private final ReservationSearchService reservationSearchService;
+
+    public ReservationSearchController(ReservationSearchService reservationSearchService) {
+        this.reservationSearchService = reservationSearchService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Search reservations by any combination of filters and sort", description = "Served from the denormalized search read model, which trails reservation writes by the outbox relay interval.")
+    public ResponseEntity<Page<ReservationSearchResultDto>> search(
+            @ParameterObject ReservationSearchFilterDto filter,
+            @ParameterObject Pageable pageable) {
+        return ResponseEntity.ok(reservationSearchService.search(filter, pageable));
+    }
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "Rebuild the search read model from the reservation, customer, car and branch tables")
+    public ResponseEntity<ReservationSearchRebuildResultDto> rebuild() {
+        return ResponseEntity.ok(reservationSearchService.rebuild());
+    }
+}
@@ -0,0 +1,63 @@
+package com.nextstep.rentacar.web.controller;
+
+import com.nextstep.rentacar.dto.request.WaitlistRequestDto;
+import com.nextstep.rentacar.dto.response.WaitlistEntryResponseDto;
+import com.nextstep.rentacar.service.WaitlistService;
+import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springdoc.core.annotations.ParameterObject;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+@RestController
+@RequestMapping("/api/waitlist")
+@Validated
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    public WaitlistController(WaitlistService waitlistService) {
+        this.waitlistService = waitlistService;
+    }
+
+    @PostMapping
+    @Operation(summary = "Wait for a car of a category at a branch", description = "When a matching car frees up the entry is offered a checkout hold; poll the entry for the hold token.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Joined", content = @Content(schema = @Schema(implementation = WaitlistEntryResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Validation/Bad Request", content = @Content(schema = @Schema(implementation = org.springframework.http.ProblemDetail.class))),
+            @ApiResponse(responseCode = "404", description = "Customer or branch not found", content = @Content(schema = @Schema(implementation = org.springframework.http.ProblemDetail.class)))
+    })
+    public ResponseEntity<WaitlistEntryResponseDto> join(@Valid @RequestBody WaitlistRequestDto request) {
+        return ResponseEntity.ok(waitlistService.join(request));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<WaitlistEntryResponseDto> getById(@PathVariable Long id) {
+        return ResponseEntity.ok(waitlistService.getById(id));
+    }
+
+    @GetMapping
+    @Operation(summary = "List a customer's waitlist entries, newest first")
+    public ResponseEntity<Page<WaitlistEntryResponseDto>> listByCustomer(@RequestParam Long customerId,
+                                                                         @ParameterObject Pageable pageable) {
+        return ResponseEntity.ok(waitlistService.listByCustomer(customerId, pageable));
+    }
+
+    @PostMapping("/{id}/cancel")
+    @Operation(summary = "Leave the waitlist")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Cancelled", content = @Content(schema = @Schema(implementation = WaitlistEntryResponseDto.class))),
+            @ApiResponse(responseCode = "409", description = "Conflict", content = @Content(schema = @Schema(implementation = org.springframework.http.ProblemDetail.class)))
+    })
+    public ResponseEntity<WaitlistEntryResponseDto> cancel(@PathVariable Long id) {
+        waitlistService.cancel(id);
+        return ResponseEntity.ok(waitlistService.getById(id));
+    }
+}
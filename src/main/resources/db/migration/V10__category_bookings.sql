@@ -0,0 +1,26 @@
+-- Category-level bookings: capacity is reserved per (pickup branch, category) and day at booking time,
+-- the concrete car is assigned close to pickup by the assignment job, which links the created reservation.
+CREATE TABLE category_bookings (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    customer_id BIGINT NOT NULL,
+    pickup_branch_id BIGINT NOT NULL,
+    dropoff_branch_id BIGINT NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    reservation_id BIGINT UNIQUE,
+    notes TEXT,
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (customer_id) REFERENCES customers(id),
+    FOREIGN KEY (pickup_branch_id) REFERENCES branches(id),
+    FOREIGN KEY (dropoff_branch_id) REFERENCES branches(id),
+    FOREIGN KEY (reservation_id) REFERENCES reservations(id),
+    CHECK (end_date > start_date),
+    CHECK (status IN ('PENDING', 'ASSIGNED', 'CANCELLED')),
+    CHECK (category IN ('ECONOMY', 'COMPACT', 'INTERMEDIATE', 'STANDARD', 'FULL_SIZE', 'PREMIUM', 'LUXURY', 'SUV', 'VAN'))
+);
+
+CREATE INDEX idx_category_bookings_pool ON category_bookings (pickup_branch_id, category, status, start_date);
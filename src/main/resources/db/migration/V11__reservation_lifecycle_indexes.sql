@@ -0,0 +1,3 @@
+-- Bulk lifecycle transitions complete CONFIRMED reservations by end date. The PENDING walks (confirm, expire) use a
+-- partial index on Postgres (V12); a plain (status, id) index would also be picked for dated status listings.
+CREATE INDEX idx_reservations_end_status ON reservations(end_date, status);
@@ -0,0 +1,33 @@
+-- Denormalized read model for back-office reservation search: one row per reservation carrying the customer, car and
+-- branch attributes that are otherwise joined in. Maintained asynchronously from the outbox and rebuilt nightly;
+-- deliberately without foreign keys so it can be rebuilt or lag behind without blocking writes.
+CREATE TABLE reservation_search (
+    reservation_id BIGINT PRIMARY KEY,
+    customer_id BIGINT NOT NULL,
+    customer_name VARCHAR(201) NOT NULL,
+    customer_email VARCHAR(255) NOT NULL,
+    car_id BIGINT NOT NULL,
+    car_name VARCHAR(120) NOT NULL,
+    car_category VARCHAR(50) NOT NULL,
+    license_plate VARCHAR(20),
+    pickup_branch_id BIGINT NOT NULL,
+    pickup_branch_name VARCHAR(255) NOT NULL,
+    dropoff_branch_id BIGINT NOT NULL,
+    dropoff_branch_name VARCHAR(255) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    total_price DECIMAL(10,2) NOT NULL,
+    currency VARCHAR(3),
+    search_text TEXT NOT NULL,
+    reserved_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    projected_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_reservation_search_start ON reservation_search(start_date, reservation_id);
+CREATE INDEX idx_reservation_search_status_start ON reservation_search(status, start_date);
+CREATE INDEX idx_reservation_search_customer ON reservation_search(customer_id, start_date);
+CREATE INDEX idx_reservation_search_car ON reservation_search(car_id, start_date);
+CREATE INDEX idx_reservation_search_pickup ON reservation_search(pickup_branch_id, start_date);
+CREATE INDEX idx_reservation_search_dropoff ON reservation_search(dropoff_branch_id, start_date);
+CREATE INDEX idx_reservation_search_email ON reservation_search(customer_email);
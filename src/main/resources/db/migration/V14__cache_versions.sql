@@ -0,0 +1,13 @@
+-- Per-cache invalidation counters for cluster cache coherence. Each committed invalidation bumps its cache's
+-- version and carries it in the NOTIFY payload; a node that missed notifications drops caches whose version moved.
+CREATE TABLE cache_versions (
+    cache_name VARCHAR(50) PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO cache_versions (cache_name, version) VALUES
+    ('cars', 0),
+    ('branches', 0),
+    ('branches-by-city', 0),
+    ('branches-by-country', 0),
+    ('roles', 0);
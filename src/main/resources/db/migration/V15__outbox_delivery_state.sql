@@ -0,0 +1,17 @@
+-- Per-listener delivery state for the outbox relay. A listener that fails no longer makes the others see the batch
+-- again: each (event, listener) pair is recorded once delivered, and an event is published once every listener has it.
+-- Events that keep failing are parked after app.outbox.max-attempts so they stop blocking the listener behind them.
+ALTER TABLE outbox_events ADD COLUMN attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE outbox_events ADD COLUMN last_error VARCHAR(500);
+ALTER TABLE outbox_events ADD COLUMN parked_at TIMESTAMP WITH TIME ZONE;
+
+CREATE TABLE outbox_deliveries (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_id BIGINT NOT NULL REFERENCES outbox_events (id) ON DELETE CASCADE,
+    listener VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_outbox_deliveries_event_listener UNIQUE (event_id, listener)
+);
+
+CREATE INDEX idx_outbox_events_parked ON outbox_events (parked_at);
@@ -0,0 +1,18 @@
+-- Waitlist matching queue: cars that became free and bookings made by offered customers. A signal is written in the
+-- transaction that produced it (for outbox events, the relay's delivery to the matcher) and deleted in the matching
+-- transaction that consumed it, so neither a restart nor a failed batch loses it. Signals that keep failing stay
+-- behind with their attempt count for inspection.
+CREATE TABLE waitlist_signals (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    signal_type VARCHAR(10) NOT NULL,
+    car_id BIGINT NOT NULL,
+    customer_id BIGINT,
+    start_date DATE,
+    end_date DATE,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    CHECK (signal_type IN ('FREED', 'BOOKED'))
+);
+
+CREATE INDEX idx_waitlist_signals_attempts ON waitlist_signals (attempts, id);
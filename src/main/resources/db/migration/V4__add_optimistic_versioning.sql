@@ -0,0 +1,4 @@
+-- Optimistic locking for the mutable aggregates (cars, reservations, maintenance)
+ALTER TABLE cars ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE reservations ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE maintenance ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
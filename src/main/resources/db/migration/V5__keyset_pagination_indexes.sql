@@ -0,0 +1,5 @@
+-- Composite indexes matching the (key, id) ordering of keyset listings, so each page is a
+-- bounded backward index range scan regardless of how deep the client has paged.
+CREATE INDEX idx_reservations_start_id ON reservations(start_date, id);
+CREATE INDEX idx_maintenance_scheduled_id ON maintenance(scheduled_date, id);
+CREATE INDEX idx_payments_date_id ON payments(payment_date, id);
@@ -0,0 +1,22 @@
+-- Rate plans: price adjustments by branch, category, recurring season and rental-length tier.
+-- Null scope columns mean "any"; seasons are inclusive MM-DD bounds and may wrap the year end.
+CREATE TABLE rate_plans (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    category VARCHAR(50),
+    branch_id BIGINT,
+    season_start VARCHAR(5),
+    season_end VARCHAR(5),
+    min_days INTEGER NOT NULL DEFAULT 1,
+    max_days INTEGER,
+    rate_bps INTEGER NOT NULL,
+    priority INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (branch_id) REFERENCES branches(id) ON DELETE CASCADE,
+    CHECK (min_days >= 1),
+    CHECK (max_days IS NULL OR max_days >= min_days),
+    CHECK (rate_bps > 0),
+    CHECK ((season_start IS NULL AND season_end IS NULL) OR (season_start IS NOT NULL AND season_end IS NOT NULL)),
+    CHECK (category IS NULL OR category IN ('ECONOMY', 'COMPACT', 'INTERMEDIATE', 'STANDARD', 'FULL_SIZE', 'PREMIUM', 'LUXURY', 'SUV', 'VAN'))
+);
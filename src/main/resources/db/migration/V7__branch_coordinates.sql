@@ -0,0 +1,21 @@
+-- Branch coordinates (WGS84 degrees) and the precomputed nearest-branches table used for alternative suggestions.
+-- nearby_branches is rebuilt by the application whenever branches change; rows rank neighbours by distance.
+ALTER TABLE branches ADD COLUMN latitude DOUBLE PRECISION;
+ALTER TABLE branches ADD COLUMN longitude DOUBLE PRECISION;
+
+CREATE TABLE nearby_branches (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    branch_id BIGINT NOT NULL,
+    nearby_branch_id BIGINT NOT NULL,
+    distance_km DOUBLE PRECISION NOT NULL,
+    proximity_rank INTEGER NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (branch_id) REFERENCES branches(id) ON DELETE CASCADE,
+    FOREIGN KEY (nearby_branch_id) REFERENCES branches(id) ON DELETE CASCADE,
+    CONSTRAINT uk_nearby_branches_pair UNIQUE (branch_id, nearby_branch_id),
+    CHECK (branch_id <> nearby_branch_id),
+    CHECK (distance_km >= 0)
+);
+
+CREATE INDEX idx_nearby_branches_rank ON nearby_branches (branch_id, proximity_rank);
@@ -0,0 +1,26 @@
+-- Waitlist: customers waiting for a car of a category at a branch over an inclusive date range.
+-- WAITING entries are matched in memory against freed cars; an offer carries a checkout hold until it expires.
+CREATE TABLE waitlist_entries (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    customer_id BIGINT NOT NULL,
+    branch_id BIGINT NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    priority INTEGER NOT NULL DEFAULT 0,
+    status VARCHAR(20) NOT NULL DEFAULT 'WAITING',
+    offered_car_id BIGINT,
+    hold_token VARCHAR(36),
+    offer_expires_at TIMESTAMP WITH TIME ZONE,
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (customer_id) REFERENCES customers(id) ON DELETE CASCADE,
+    FOREIGN KEY (branch_id) REFERENCES branches(id) ON DELETE CASCADE,
+    FOREIGN KEY (offered_car_id) REFERENCES cars(id),
+    CHECK (end_date > start_date),
+    CHECK (status IN ('WAITING', 'OFFERED', 'FULFILLED', 'EXPIRED', 'CANCELLED'))
+);
+
+CREATE INDEX idx_waitlist_entries_status ON waitlist_entries (status, offer_expires_at);
+CREATE INDEX idx_waitlist_entries_customer ON waitlist_entries (customer_id);
@@ -0,0 +1,90 @@
+package com.nextstep.rentacar.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", mock(DataSource.class));
+        replicas.put("replica-2", mock(DataSource.class));
+        routing = new ReplicaRoutingDataSource(mock(DataSource.class), replicas,
+                new ReadYourWritesTracker(WINDOW, nanos::get));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Read-write work uses the primary, read-only transactions rotate over healthy replicas")
+    void routesReadOnlyTransactionsToHealthyReplicas() {
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        // Until the lag monitor has vouched for a replica, reads stay on the primary
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+        routing.markHealthy("replica-1", true);
+        routing.markHealthy("replica-2", true);
+        assertThat(List.of(routing.determineCurrentLookupKey(), routing.determineCurrentLookupKey()))
+                .containsExactlyInAnyOrder("replica-1", "replica-2");
+
+        routing.markHealthy("replica-1", false);
+        assertThat(List.of(routing.determineCurrentLookupKey(), routing.determineCurrentLookupKey()))
+                .containsOnly("replica-2");
+    }
+
+    @Test
+    @DisplayName("A user's reads stay on the primary for the stickiness window after their write commits")
+    void keepsReadsOnPrimaryAfterOwnWrite() {
+        routing.markHealthy("replica-1", true);
+        authenticate("alice");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+        authenticate("bob");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+
+        authenticate("alice");
+        nanos.addAndGet(WINDOW.toNanos() + 1);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                username, "n/a", List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+}
@@ -0,0 +1,98 @@
+package com.nextstep.rentacar.repository;
+
+import com.nextstep.rentacar.domain.enums.ReservationStatus;
+import com.nextstep.rentacar.service.ReservationService;
+import com.nextstep.rentacar.testutil.QueryCountAssertions;
+import com.nextstep.rentacar.testutil.SqlCapture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs EXPLAIN on the SQL that reservation listing actually emits for the common filter combinations
+ * and asserts that each one is served by an index rather than a table scan.
+ */
+@SpringBootTest(properties = QueryCountAssertions.INSPECTOR_PROPERTY)
+@ActiveProfiles("test")
+class ReservationQueryPlanTest {
+
+    @Autowired private ReservationService reservationService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private final LocalDate from = LocalDate.now();
+    private final LocalDate to = LocalDate.now().plusDays(30);
+
+    @BeforeEach
+    void reset() {
+        SqlCapture.clear();
+    }
+
+    @Test
+    @DisplayName("Customer filter uses idx_reservations_customer")
+    void customerFilterUsesCustomerIndex() {
+        reservationService.listWithFilters(1L, null, null, null, null, null, PageRequest.of(0, 20));
+        assertThat(explainLastListing()).containsIgnoringCase("idx_reservations_customer");
+    }
+
+    @Test
+    @DisplayName("Car and date window use idx_reservations_car_dates")
+    void carAndDatesUseCarDatesIndex() {
+        reservationService.listWithFilters(null, 1L, null, null, from, to, PageRequest.of(0, 20));
+        assertThat(explainLastListing()).containsIgnoringCase("idx_reservations_car_dates");
+    }
+
+    @Test
+    @DisplayName("Date window and status use a start_date-leading index")
+    void datesAndStatusUseDatesIndex() {
+        reservationService.listWithFilters(null, null, ReservationStatus.CONFIRMED, null, from, to, PageRequest.of(0, 20));
+        assertThat(explainLastListing()).containsAnyOf("IDX_RESERVATIONS_DATES_STATUS", "IDX_RESERVATIONS_START_ID",
+                "idx_reservations_dates_status", "idx_reservations_start_id");
+    }
+
+    @Test
+    @DisplayName("Absent filters are not rendered into the WHERE clause")
+    void absentFiltersAreOmitted() {
+        reservationService.listWithFilters(1L, null, null, null, null, null, PageRequest.of(0, 20));
+        assertThat(lastListingSql()).doesNotContainIgnoringCase("is null");
+    }
+
+    private String lastListingSql() {
+        return SqlCapture.statements().stream()
+                .filter(sql -> sql.toLowerCase().contains("from reservations"))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("No reservation query was captured"));
+    }
+
+    private String explainLastListing() {
+        String sql = lastListingSql();
+        String plan = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameters = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameters; i++) {
+                    statement.setObject(i, null);
+                }
+                StringBuilder text = new StringBuilder();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        text.append(rs.getString(1)).append('\n');
+                    }
+                }
+                return text.toString();
+            }
+        });
+        assertThat(plan).as("plan for %s", sql).doesNotContainIgnoringCase("tableScan");
+        return plan;
+    }
+}
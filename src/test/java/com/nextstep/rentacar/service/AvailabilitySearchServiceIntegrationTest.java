@@ -0,0 +1,115 @@
+package com.nextstep.rentacar.service;
+
+import com.nextstep.rentacar.domain.enums.AlternativeType;
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.dto.request.ReservationRequestDto;
+import com.nextstep.rentacar.dto.response.AlternativeSuggestionDto;
+import com.nextstep.rentacar.dto.response.AvailabilitySearchResponseDto;
+import com.nextstep.rentacar.service.search.NearbyBranchTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.nextstep.rentacar.testutil.builders.BranchTestDataBuilder.aBranch;
+import static com.nextstep.rentacar.testutil.builders.CarTestDataBuilder.aCar;
+import static com.nextstep.rentacar.testutil.builders.CustomerTestDataBuilder.aCustomer;
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AvailabilitySearchServiceIntegrationTest {
+
+    @Autowired private AvailabilitySearchService searchService;
+    @Autowired private BranchService branchService;
+    @Autowired private CarService carService;
+    @Autowired private CustomerService customerService;
+    @Autowired private ReservationService reservationService;
+    @Autowired private NearbyBranchTable nearbyBranchTable;
+
+    private final LocalDate day = LocalDate.now().plusDays(30);
+
+    private Long central;
+    private Long eastside;
+    private Long farAway;
+
+    @BeforeEach
+    void setUp() {
+        central = branchService.create(aBranch().withName("Mitte").withCity("Berlin").at(52.5200, 13.4050).build()).getId();
+        eastside = branchService.create(aBranch().withName("Friedrichshain").withCity("Berlin").at(52.5150, 13.4550).build()).getId();
+        farAway = branchService.create(aBranch().withName("Zentrum").withCity("Munich").at(48.1372, 11.5756).build()).getId();
+
+        Long booked = carService.create(aCar().withBranchId(central).withCategory(CarCategory.COMPACT)
+                .withDailyPrice("40.00").build()).getId();
+        carService.create(aCar().withBranchId(central).withCategory(CarCategory.INTERMEDIATE)
+                .withDailyPrice("55.00").build());
+        carService.create(aCar().withBranchId(eastside).withCategory(CarCategory.COMPACT)
+                .withDailyPrice("42.00").build());
+        carService.create(aCar().withBranchId(farAway).withCategory(CarCategory.COMPACT)
+                .withDailyPrice("30.00").build());
+
+        Long customerId = customerService.create(aCustomer().build()).getId();
+        reservationService.create(new ReservationRequestDto(customerId, booked, day, day.plusDays(2),
+                central, central, "Blocks the only compact car at the central branch"));
+    }
+
+    @Test
+    @DisplayName("Nearest-branches table ranks located branches by great-circle distance within the limit")
+    void nearestBranchesAreRankedByDistance() {
+        assertThat(NearbyBranchTable.distanceKm(52.5200, 13.4050, 48.1372, 11.5756)).isBetween(500.0, 510.0);
+
+        assertThat(nearbyBranchTable.nearest(central))
+                .singleElement()
+                .satisfies(nearby -> {
+                    assertThat(nearby.branchId()).isEqualTo(eastside);
+                    assertThat(nearby.distanceKm()).isBetween(3.0, 4.0);
+                });
+    }
+
+    @Test
+    @DisplayName("Matching cars are returned directly without alternatives")
+    void returnsMatchesWithoutAlternatives() {
+        AvailabilitySearchResponseDto result = searchService.searchWithAlternatives(central,
+                day.plusDays(10), day.plusDays(12), CarCategory.COMPACT, null, null, null, null, 20);
+
+        assertThat(result.getTotalAvailable()).isEqualTo(1);
+        assertThat(result.getCars()).hasSize(1);
+        assertThat(result.getAlternatives()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("An empty search is answered with ranked nearby-branch, upgrade and shifted-date alternatives")
+    void suggestsRankedAlternatives() {
+        AvailabilitySearchResponseDto result = searchService.searchWithAlternatives(central,
+                day.plusDays(1), day.plusDays(2), CarCategory.COMPACT, null, null, null, null, 20);
+
+        assertThat(result.getTotalAvailable()).isZero();
+        List<AlternativeSuggestionDto> alternatives = result.getAlternatives();
+        assertThat(alternatives).extracting(AlternativeSuggestionDto::getType).startsWith(
+                AlternativeType.NEARBY_BRANCH, AlternativeType.UPGRADE, AlternativeType.SHIFTED_DATES);
+
+        AlternativeSuggestionDto nearby = alternatives.get(0);
+        assertThat(nearby.getBranchId()).isEqualTo(eastside);
+        assertThat(nearby.getCategory()).isEqualTo(CarCategory.COMPACT);
+        assertThat(nearby.getLowestDailyPrice()).isEqualByComparingTo("42.00");
+
+        AlternativeSuggestionDto upgrade = alternatives.get(1);
+        assertThat(upgrade.getBranchId()).isEqualTo(central);
+        assertThat(upgrade.getCategory()).isEqualTo(CarCategory.INTERMEDIATE);
+
+        // The booking covers day..day+2: only shifts of -3, +2 and +3 days clear it, the smallest shift ranks first
+        assertThat(alternatives.get(2).getDayShift()).isEqualTo(2);
+        assertThat(alternatives.get(2).getStartDate()).isEqualTo(day.plusDays(3));
+        assertThat(alternatives).filteredOn(a -> a.getType() == AlternativeType.SHIFTED_DATES)
+                .extracting(AlternativeSuggestionDto::getDayShift)
+                .containsExactlyInAnyOrder(-3, 2, 3);
+        assertThat(alternatives).extracting(AlternativeSuggestionDto::getBranchId).doesNotContain(farAway);
+    }
+}
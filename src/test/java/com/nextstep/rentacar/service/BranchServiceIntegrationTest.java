@@ -56,4 +56,19 @@ class BranchServiceIntegrationTest {
         assertThatThrownBy(() -> branchService.getById(b1.getId()))
                 .isInstanceOf(jakarta.persistence.EntityNotFoundException.class);
     }
+
+    @Test
+    @DisplayName("Cached branch lookups reflect updates made through the service")
+    void cachedLookupsSeeUpdates() {
+        BranchResponseDto branch = branchService.create(sample("Harbourside"));
+        assertThat(branchService.getById(branch.getId()).getName()).isEqualTo("Harbourside");
+        assertThat(branchService.findByCity("Star City")).extracting(BranchResponseDto::getName).contains("Harbourside");
+
+        branchService.update(branch.getId(), sample("Quayside"));
+
+        assertThat(branchService.getById(branch.getId()).getName()).isEqualTo("Quayside");
+        assertThat(branchService.findByCity("Star City")).extracting(BranchResponseDto::getName)
+                .contains("Quayside")
+                .doesNotContain("Harbourside");
+    }
 }
@@ -0,0 +1,149 @@
+package com.nextstep.rentacar.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nextstep.rentacar.config.CacheCoherenceProperties;
+import com.nextstep.rentacar.config.ReferenceCacheProperties;
+import com.nextstep.rentacar.domain.entity.Car;
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.domain.enums.CarStatus;
+import com.nextstep.rentacar.domain.enums.FuelType;
+import com.nextstep.rentacar.domain.enums.TransmissionType;
+import com.nextstep.rentacar.dto.request.BranchRequestDto;
+import com.nextstep.rentacar.dto.request.CarFilterDto;
+import com.nextstep.rentacar.dto.request.CarRequestDto;
+import com.nextstep.rentacar.dto.response.BranchResponseDto;
+import com.nextstep.rentacar.repository.CacheVersionRepository;
+import com.nextstep.rentacar.repository.CarRepository;
+import com.nextstep.rentacar.service.cache.CacheCoherenceBus;
+import com.nextstep.rentacar.service.cache.InMemoryInvalidationChannel;
+import com.nextstep.rentacar.service.cache.ReferenceDataCache;
+import com.nextstep.rentacar.service.cache.ReferenceLoader;
+import com.nextstep.rentacar.service.search.CarFacetIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs a second node (its own reference cache and bus on a peer channel) next to the application context. Not
+ * transactional: invalidations only travel when the writing transaction commits.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CacheCoherenceIntegrationTest {
+
+    @Autowired private BranchService branchService;
+    @Autowired private ReferenceCacheProperties referenceCacheProperties;
+    @Autowired private CacheCoherenceProperties cacheCoherenceProperties;
+    @Autowired private ReferenceLoader referenceLoader;
+    @Autowired private CacheVersionRepository cacheVersionRepository;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private InMemoryInvalidationChannel channel;
+    @Autowired private CarService carService;
+    @Autowired private CarRepository carRepository;
+    @Autowired private CarFacetIndex facetIndex;
+
+    private InMemoryInvalidationChannel otherChannel;
+    private ReferenceDataCache otherNode;
+    private CacheCoherenceBus otherBus;
+    private Long branchId;
+
+    @BeforeEach
+    void setUp() {
+        otherChannel = channel.peer();
+        otherNode = new ReferenceDataCache(referenceCacheProperties, referenceLoader, new SimpleMeterRegistry());
+        otherBus = new CacheCoherenceBus(otherNode, otherChannel, cacheVersionRepository, objectMapper,
+                cacheCoherenceProperties, transactionManager);
+        otherBus.start();
+        branchId = branchService.create(sample("Lighthouse")).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        otherBus.stop();
+        branchService.delete(branchId);
+    }
+
+    private BranchRequestDto sample(String name) {
+        return new BranchRequestDto(
+                name, "1 Beacon Rd", "Coherence Bay", "USA", "+15550009999", "beacon@example.com", "24/7", true
+        );
+    }
+
+    @Test
+    @DisplayName("A committed branch update evicts the branch from the other node's cache")
+    void committedUpdateReachesOtherNode() {
+        AtomicInteger loads = new AtomicInteger();
+        BranchResponseDto cached = branchService.getById(branchId);
+        otherNode.branch(branchId, () -> countLoad(loads, cached));
+        otherNode.branch(branchId, () -> countLoad(loads, cached));
+        assertThat(loads).hasValue(1);
+
+        branchService.update(branchId, sample("Lantern"));
+
+        otherNode.branch(branchId, () -> countLoad(loads, cached));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("A node that missed invalidations while disconnected drops the affected caches on reconnect")
+    void reconnectResynchronizes() {
+        AtomicInteger loads = new AtomicInteger();
+        BranchResponseDto cached = branchService.getById(branchId);
+        otherNode.branch(branchId, () -> countLoad(loads, cached));
+
+        otherChannel.disconnect();
+        branchService.update(branchId, sample("Lantern"));
+        otherNode.branch(branchId, () -> countLoad(loads, cached));
+        assertThat(loads).as("notification lost while disconnected").hasValue(1);
+
+        otherChannel.connect();
+        otherNode.branch(branchId, () -> countLoad(loads, cached));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("A car changed on another node is reloaded into this node's facet index")
+    void remoteCarChangeReachesFacetIndex() {
+        Long carId = carService.create(new CarRequestDto("WDBRF61JX1F765432", "Skoda", "Octavia", 2022,
+                CarCategory.COMPACT, TransmissionType.MANUAL, FuelType.DIESEL, 5, 12000, CarStatus.AVAILABLE,
+                new BigDecimal("45.00"), branchId, "Grey", "COH-001", "POL-COH1")).getId();
+        try {
+            CarFilterDto filter = new CarFilterDto();
+            filter.setBranchId(branchId);
+            filter.setCategory(CarCategory.SUV);
+            assertThat(facetIndex.search(filter).orElseThrow().carIds()).isEmpty();
+
+            // The other node writes the row and evicts its own cache; this node's services never see the change
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                Car car = carRepository.findById(carId).orElseThrow();
+                car.setCategory(CarCategory.SUV);
+                carRepository.save(car);
+                otherNode.evictCar(carId);
+            });
+
+            assertThat(facetIndex.search(filter).orElseThrow().carIds()).containsExactly(carId);
+        } finally {
+            carService.delete(carId);
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    carRepository.findByIdIncludingDeleted(carId).ifPresent(carRepository::delete));
+        }
+    }
+
+    private static BranchResponseDto countLoad(AtomicInteger loads, BranchResponseDto value) {
+        loads.incrementAndGet();
+        return value;
+    }
+}
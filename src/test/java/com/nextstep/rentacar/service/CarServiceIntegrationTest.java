@@ -2,12 +2,15 @@ package com.nextstep.rentacar.service;
 
 import com.nextstep.rentacar.domain.enums.*;
 import com.nextstep.rentacar.dto.request.BranchRequestDto;
+import com.nextstep.rentacar.dto.request.CarFilterDto;
 import com.nextstep.rentacar.dto.request.CarRequestDto;
 import com.nextstep.rentacar.dto.request.CustomerRequestDto;
 import com.nextstep.rentacar.dto.request.ReservationRequestDto;
+import com.nextstep.rentacar.dto.response.CarFacetSearchResponseDto;
 import com.nextstep.rentacar.dto.response.CarListResponseDto;
 import com.nextstep.rentacar.dto.response.CarResponseDto;
 import com.nextstep.rentacar.dto.response.ReservationResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -42,6 +45,8 @@ class CarServiceIntegrationTest {
     private ReservationService reservationService;
     @Autowired
     private EntityManager entityManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     private Long branchId;
 
@@ -173,4 +178,84 @@ class CarServiceIntegrationTest {
         CarResponseDto afterRestore = carService.getById(created.getId());
         assertThat(afterRestore.getStatus()).isEqualTo(CarStatus.AVAILABLE);
     }
+
+    @Test
+    @DisplayName("Repeated availability searches are cached until a booking changes the branch")
+    void availabilitySearchCacheIsInvalidatedByBookings() {
+        CarResponseDto car = carService.create(sampleCarRequest("2T1BURHE5JC000002"));
+        LocalDate start = LocalDate.now().plusDays(20);
+        LocalDate end = LocalDate.now().plusDays(22);
+        double hitsBefore = searchCacheHits();
+
+        assertThat(carService.findAvailable(branchId, start, end, null, null, null, null, null,
+                PageRequest.of(0, 10)).getTotalElements()).isEqualTo(1);
+        assertThat(carService.findAvailable(branchId, start, end, null, null, null, null, new BigDecimal("1000.00"),
+                PageRequest.of(0, 10)).getTotalElements()).isEqualTo(1);
+        assertThat(carService.findAvailable(branchId, start, end, null, null, null, null, new BigDecimal("1000"),
+                PageRequest.of(0, 10)).getTotalElements()).isEqualTo(1);
+        assertThat(searchCacheHits() - hitsBefore).isEqualTo(1.0);
+
+        Long customerId = customerService.create(sampleCustomer()).getId();
+        ReservationResponseDto reservation = reservationService.create(new ReservationRequestDto(
+                customerId, car.getId(), start.minusDays(1), start, branchId, branchId, "Blocks the cached range"));
+        assertThat(carService.findAvailable(branchId, start, end, null, null, null, null, null,
+                PageRequest.of(0, 10)).getTotalElements()).isZero();
+
+        reservationService.cancel(reservation.getId());
+        assertThat(carService.findAvailable(branchId, start, end, null, null, null, null, null,
+                PageRequest.of(0, 10)).getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Faceted listing counts each facet with the other filters and follows car changes")
+    void facetedListingFollowsCarChanges() {
+        CarRequestDto compact = sampleCarRequest("3VWFE21C04M000003");
+        compact.setLicensePlate("FAC-001");
+        CarRequestDto suv = sampleCarRequest("5YJ3E1EA7KF000004");
+        suv.setLicensePlate("FAC-002");
+        suv.setCategory(CarCategory.SUV);
+        suv.setSeats(7);
+        suv.setDailyPrice(new BigDecimal("120.00"));
+        Long compactId = carService.create(compact).getId();
+        Long suvId = carService.create(suv).getId();
+
+        CarFilterDto filter = new CarFilterDto();
+        filter.setBranchId(branchId);
+        filter.setCategory(CarCategory.SUV);
+        CarFacetSearchResponseDto result = carService.facets(filter, PageRequest.of(0, 10));
+        assertThat(result.getTotalMatching()).isEqualTo(1);
+        assertThat(result.getCars()).extracting(CarListResponseDto::getId).containsExactly(suvId);
+        // The category facet ignores the category filter, the others apply it
+        assertThat(result.getFacets().get("category"))
+                .containsEntry("COMPACT", 1L)
+                .containsEntry("SUV", 1L);
+        assertThat(result.getFacets().get("seats")).containsEntry("6-7", 1L).containsEntry("5", 0L);
+        assertThat(result.getFacets().get("dailyPrice")).containsEntry("100-150", 1L).containsEntry("<50", 0L);
+
+        filter.setCategory(null);
+        filter.setMinSeats(6);
+        filter.setMaxPrice(new BigDecimal("120"));
+        assertThat(carService.list(filter, PageRequest.of(0, 10)))
+                .extracting(CarListResponseDto::getId).containsExactly(suvId);
+
+        suv.setDailyPrice(new BigDecimal("120.01"));
+        carService.update(suvId, suv);
+        assertThat(carService.list(filter, PageRequest.of(0, 10))).isEmpty();
+
+        filter.setMinSeats(null);
+        filter.setMaxPrice(null);
+        carService.delete(compactId);
+        assertThat(carService.list(filter, PageRequest.of(0, 10)))
+                .extracting(CarListResponseDto::getId).containsExactly(suvId);
+        carService.restore(compactId);
+        assertThat(carService.facets(filter, PageRequest.of(0, 10)).getTotalMatching()).isEqualTo(2);
+    }
+
+    private double searchCacheHits() {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "availability-search")
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+    }
 }
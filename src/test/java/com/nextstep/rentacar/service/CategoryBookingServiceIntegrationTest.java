@@ -0,0 +1,142 @@
+package com.nextstep.rentacar.service;
+
+import com.nextstep.rentacar.domain.enums.*;
+import com.nextstep.rentacar.dto.request.BranchRequestDto;
+import com.nextstep.rentacar.dto.request.CarRequestDto;
+import com.nextstep.rentacar.dto.request.CategoryBookingRequestDto;
+import com.nextstep.rentacar.dto.request.CustomerRequestDto;
+import com.nextstep.rentacar.dto.request.ReservationRequestDto;
+import com.nextstep.rentacar.dto.response.CategoryAssignmentReportDto;
+import com.nextstep.rentacar.dto.response.CategoryBookingResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class CategoryBookingServiceIntegrationTest {
+
+    @Autowired private CategoryBookingService categoryBookingService;
+    @Autowired private ReservationService reservationService;
+    @Autowired private BranchService branchService;
+    @Autowired private CarService carService;
+    @Autowired private CustomerService customerService;
+
+    private final LocalDate start = LocalDate.now().plusDays(10);
+    private final LocalDate end = start.plusDays(3);
+
+    private Long branchId;
+    private Long carA;
+    private Long carB;
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        branchId = branchService.create(new BranchRequestDto(
+                "Harbour", "9 Dock Rd", "Gotham", "USA", "+1555000333", "harbour@example.com", "24/7", true
+        )).getId();
+        carA = addCar("CB-001");
+        carB = addCar("CB-002");
+        customerId = customerService.create(new CustomerRequestDto(
+                "Category", "Booker", "category.booker@example.com", "+15550004444", "L4444444",
+                LocalDate.now().minusYears(30), "7 Quay", "Gotham", "USA", LocalDate.now().plusYears(2)
+        )).getId();
+    }
+
+    @Test
+    @DisplayName("Category bookings are accepted while a car is spare and claim it from per-car bookings")
+    void bookingsClaimCategoryCapacity() {
+        CategoryBookingResponseDto first = book(start, end);
+        book(start.plusDays(1), end.plusDays(1));
+        assertThat(first.getStatus()).isEqualTo(CategoryBookingStatus.PENDING);
+        assertThat(first.getReservationId()).isNull();
+
+        assertThatThrownBy(() -> book(start, end))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("No COMPACT car left");
+        assertThatThrownBy(() -> reservationService.create(new ReservationRequestDto(
+                customerId, carA, start.plusDays(1), start.plusDays(2), branchId, branchId, "Per car")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("held for pending COMPACT bookings");
+    }
+
+    @Test
+    @DisplayName("Assignment binds due bookings to distinct cars and defers the later ones")
+    void assignmentBindsDueBookings() {
+        CategoryBookingResponseDto first = book(start, end);
+        CategoryBookingResponseDto second = book(start, end);
+        CategoryBookingResponseDto later = book(start.plusDays(20), end.plusDays(20));
+
+        List<CategoryAssignmentReportDto> reports = categoryBookingService.assign(branchId, start);
+
+        assertThat(reports).singleElement().satisfies(report -> {
+            assertThat(report.getCategory()).isEqualTo(CarCategory.COMPACT);
+            assertThat(report.getCars()).isEqualTo(2);
+            assertThat(report.getPendingBookings()).isEqualTo(3);
+            assertThat(report.getAssigned()).isEqualTo(2);
+            assertThat(report.getDeferred()).isEqualTo(1);
+            assertThat(report.getUnplaced()).isZero();
+        });
+        CategoryBookingResponseDto assignedFirst = categoryBookingService.getById(first.getId());
+        CategoryBookingResponseDto assignedSecond = categoryBookingService.getById(second.getId());
+        assertThat(assignedFirst.getStatus()).isEqualTo(CategoryBookingStatus.ASSIGNED);
+        assertThat(assignedSecond.getStatus()).isEqualTo(CategoryBookingStatus.ASSIGNED);
+        assertThat(List.of(assignedFirst.getCarId(), assignedSecond.getCarId())).containsExactlyInAnyOrder(carA, carB);
+        assertThat(reservationService.getById(assignedFirst.getReservationId()).getStatus())
+                .isEqualTo(ReservationStatus.PENDING);
+        assertThat(categoryBookingService.getById(later.getId()).getStatus()).isEqualTo(CategoryBookingStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Cancelling an assigned booking cancels its reservation")
+    void cancelReleasesReservation() {
+        CategoryBookingResponseDto booking = book(start, end);
+        categoryBookingService.assign(branchId, start);
+        Long reservationId = categoryBookingService.getById(booking.getId()).getReservationId();
+
+        categoryBookingService.cancel(booking.getId());
+
+        assertThat(categoryBookingService.getById(booking.getId()).getStatus())
+                .isEqualTo(CategoryBookingStatus.CANCELLED);
+        assertThat(reservationService.getById(reservationId).getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        assertThatThrownBy(() -> categoryBookingService.cancel(booking.getId()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("A booking is rejected when each day has a spare car but no single car is free throughout")
+    void fragmentedCapacityIsRejected() {
+        reservationService.create(new ReservationRequestDto(
+                customerId, carA, start.plusDays(5), start.plusDays(6), branchId, branchId, "Late"));
+        reservationService.create(new ReservationRequestDto(
+                customerId, carB, start.plusDays(1), start.plusDays(2), branchId, branchId, "Early"));
+
+        assertThatThrownBy(() -> book(start.plusDays(1), start.plusDays(6)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("No single COMPACT car");
+    }
+
+    private CategoryBookingResponseDto book(LocalDate from, LocalDate to) {
+        return categoryBookingService.book(new CategoryBookingRequestDto(
+                customerId, CarCategory.COMPACT, from, to, branchId, branchId, null));
+    }
+
+    private Long addCar(String plate) {
+        return carService.create(new CarRequestDto(
+                "WAUZZZ8K" + plate.replace("-", "") + "0000", "Skoda", "Octavia", 2023, CarCategory.COMPACT,
+                TransmissionType.MANUAL, FuelType.DIESEL, 5, 8000, CarStatus.AVAILABLE, new BigDecimal("45.00"),
+                branchId, "Grey", plate, "POL-" + plate
+        )).getId();
+    }
+}
@@ -0,0 +1,88 @@
+package com.nextstep.rentacar.service;
+
+import com.nextstep.rentacar.dto.request.CarFilterDto;
+import com.nextstep.rentacar.dto.request.ReservationRequestDto;
+import com.nextstep.rentacar.testutil.QueryCountAssertions;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static com.nextstep.rentacar.testutil.QueryCountAssertions.assertMaxSelects;
+import static com.nextstep.rentacar.testutil.builders.BranchTestDataBuilder.aBranch;
+import static com.nextstep.rentacar.testutil.builders.CarTestDataBuilder.aCar;
+import static com.nextstep.rentacar.testutil.builders.CustomerTestDataBuilder.aCustomer;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Guards the fetch plans of listing endpoints: a page must be served by one SELECT no matter how many
+ * rows and associations it contains. The persistence context is cleared first so nothing is served from cache.
+ */
+@SpringBootTest(properties = QueryCountAssertions.INSPECTOR_PROPERTY)
+@ActiveProfiles("test")
+@Transactional
+class ListingQueryCountTest {
+
+    private static final int ROWS = 6;
+
+    @Autowired private ReservationService reservationService;
+    @Autowired private CarService carService;
+    @Autowired private BranchService branchService;
+    @Autowired private CustomerService customerService;
+    @Autowired private EntityManager entityManager;
+
+    private Long pickupBranchId;
+
+    @BeforeEach
+    void setUp() {
+        pickupBranchId = branchService.create(aBranch().withName("Pickup").withCity("Pickup City").build()).getId();
+        Long dropoffBranchId = branchService.create(aBranch().withName("Dropoff").withCity("Dropoff City").build()).getId();
+        LocalDate start = LocalDate.now().plusDays(5);
+        for (int i = 0; i < ROWS; i++) {
+            Long branchId = i % 2 == 0 ? pickupBranchId : dropoffBranchId;
+            Long carId = carService.create(aCar()
+                    .withLicensePlate("QC-" + i)
+                    .withBranchId(branchId)
+                    .build()).getId();
+            Long customerId = customerService.create(aCustomer()
+                    .withEmail("count" + i + "@example.com")
+                    .withDriverLicenseNo("QC" + i)
+                    .build()).getId();
+            reservationService.create(new ReservationRequestDto(customerId, carId, start, start.plusDays(3),
+                    pickupBranchId, dropoffBranchId, null));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Reservation listings load customer, car, branches in the page query")
+    void reservationListingsAvoidNPlusOne() {
+        var page = assertMaxSelects(1, () ->
+                reservationService.listWithFilters(null, null, null, pickupBranchId, null, null, PageRequest.of(0, 20)));
+        assertThat(page.getContent()).hasSize(ROWS)
+                .allSatisfy(r -> assertThat(r.getCar().getBranchName()).isNotNull());
+
+        var scrolled = assertMaxSelects(1, () ->
+                reservationService.scrollWithFilters(null, null, null, pickupBranchId, null, null, null, 20, false));
+        assertThat(scrolled.getContent()).hasSize(ROWS);
+    }
+
+    @Test
+    @DisplayName("Car listings load the branch name in the page query")
+    void carListingsAvoidNPlusOne() {
+        var page = assertMaxSelects(1, () -> carService.list(new CarFilterDto(), PageRequest.of(0, 20)));
+        assertThat(page.getContent()).hasSizeGreaterThanOrEqualTo(ROWS)
+                .allSatisfy(c -> assertThat(c.getBranchName()).isNotNull());
+
+        var byBranch = assertMaxSelects(1, () -> carService.listByBranch(pickupBranchId, PageRequest.of(0, 20)));
+        assertThat(byBranch.getContent()).hasSize(ROWS / 2);
+    }
+}
@@ -0,0 +1,134 @@
+package com.nextstep.rentacar.service;
+
+import com.nextstep.rentacar.domain.entity.OutboxEvent;
+import com.nextstep.rentacar.domain.enums.*;
+import com.nextstep.rentacar.domain.event.MaintenanceEvent;
+import com.nextstep.rentacar.dto.request.BranchRequestDto;
+import com.nextstep.rentacar.dto.request.CarRequestDto;
+import com.nextstep.rentacar.dto.request.CustomerRequestDto;
+import com.nextstep.rentacar.dto.request.ReservationRequestDto;
+import com.nextstep.rentacar.dto.response.OutboxStatisticsDto;
+import com.nextstep.rentacar.repository.OutboxEventRepository;
+import com.nextstep.rentacar.service.outbox.OutboxWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class OutboxIntegrationTest {
+
+    @Autowired private OutboxService outboxService;
+    @Autowired private OutboxEventRepository outboxEventRepository;
+    @Autowired private OutboxWriter outboxWriter;
+    @Autowired private ReservationService reservationService;
+    @Autowired private MaintenanceService maintenanceService;
+    @Autowired private BranchService branchService;
+    @Autowired private CarService carService;
+    @Autowired private CustomerService customerService;
+
+    private Long branchId;
+    private Long carId;
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        branchId = branchService.create(new BranchRequestDto(
+                "Harbour", "9 Pier St", "Gotham", "USA", "+1555000111", "harbour@example.com", "24/7", true
+        )).getId();
+        carId = carService.create(new CarRequestDto(
+                "1HGCM82633A004352", "Honda", "Civic", 2022, CarCategory.COMPACT, TransmissionType.AUTOMATIC,
+                FuelType.GASOLINE, 5, 12000, CarStatus.AVAILABLE, new BigDecimal("40.00"), branchId,
+                "Blue", "OUT-001", "POL-OUT-1"
+        )).getId();
+        customerId = customerService.create(new CustomerRequestDto(
+                "Olga", "Outbox", "olga.outbox@example.com", "+15550001122", "O1234567",
+                LocalDate.now().minusYears(28), "3 Quay", "Gotham", "USA", LocalDate.now().plusYears(2)
+        )).getId();
+        // Start from an empty backlog so the relay counts below only cover this test's events
+        outboxService.relayPending();
+    }
+
+    @Test
+    @DisplayName("Lifecycle changes append outbox events in the same transaction, in order")
+    void lifecycleChangesAppendEvents() {
+        Long id = createReservation();
+        reservationService.confirm(id);
+        reservationService.cancel(id);
+
+        List<OutboxEvent> events = outboxEventRepository.findByAggregateTypeAndAggregateIdOrderByIdAsc("Reservation", id);
+        assertThat(events).extracting(OutboxEvent::getEventType).containsExactly(
+                OutboxEventType.RESERVATION_CREATED,
+                OutboxEventType.RESERVATION_CONFIRMED,
+                OutboxEventType.RESERVATION_CANCELLED);
+        assertThat(events).allSatisfy(e -> assertThat(e.getPublishedAt()).isNull());
+        assertThat(events.get(1).getPayload()).contains("\"status\":\"CONFIRMED\"");
+    }
+
+    @Test
+    @DisplayName("Relay delivers pending events once and feeds the statistics projection")
+    void relayFeedsProjection() {
+        OutboxStatisticsDto before = outboxService.statistics();
+        Long id = createReservation();
+        reservationService.confirm(id);
+        var maintenance = maintenanceService.schedule(carId, MaintenanceType.ROUTINE, "Oil", LocalDate.now().plusDays(20));
+        assertThat(outboxService.statistics().getPendingEvents()).isEqualTo(3);
+
+        assertThat(outboxService.relayPending().getEvents()).isEqualTo(3);
+        assertThat(outboxService.relayPending().getEvents()).isZero();
+
+        OutboxStatisticsDto after = outboxService.statistics();
+        assertThat(after.getPendingEvents()).isZero();
+        assertThat(delta(before, after, OutboxEventType.RESERVATION_CREATED)).isEqualTo(1);
+        assertThat(delta(before, after, OutboxEventType.RESERVATION_CONFIRMED)).isEqualTo(1);
+        assertThat(delta(before, after, OutboxEventType.MAINTENANCE_SCHEDULED)).isEqualTo(1);
+        assertThat(after.getConfirmedValue().subtract(before.getConfirmedValue()))
+                .isEqualByComparingTo(reservationService.getById(id).getTotalPrice());
+        assertThat(outboxEventRepository.findByAggregateTypeAndAggregateIdOrderByIdAsc("Maintenance", maintenance.getId()))
+                .singleElement()
+                .satisfies(e -> assertThat(e.getPublishedAt()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("Replay rebuilds the projection from every published event")
+    void replayRebuildsProjection() {
+        Long id = createReservation();
+        reservationService.confirm(id);
+        outboxService.relayPending();
+
+        long published = outboxEventRepository.countByPublishedAtIsNotNull();
+        assertThat(outboxService.replay().getEvents()).isEqualTo(published);
+        long projected = outboxService.statistics().getEventCounts().values().stream().mapToLong(Long::longValue).sum();
+        assertThat(projected).isEqualTo(published);
+    }
+
+    @Test
+    @DisplayName("Writer rejects payloads that do not match the event type")
+    void writerRejectsMismatchedPayload() {
+        MaintenanceEvent payload = new MaintenanceEvent(1L, carId, MaintenanceType.ROUTINE,
+                MaintenanceStatus.SCHEDULED, LocalDate.now());
+        assertThatThrownBy(() -> outboxWriter.append(OutboxEventType.RESERVATION_CREATED, 1L, payload))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Long createReservation() {
+        LocalDate start = LocalDate.now().plusDays(5);
+        return reservationService.create(new ReservationRequestDto(
+                customerId, carId, start, start.plusDays(3), branchId, branchId, "Outbox")).getId();
+    }
+
+    private static long delta(OutboxStatisticsDto before, OutboxStatisticsDto after, OutboxEventType type) {
+        return after.getEventCounts().get(type) - before.getEventCounts().get(type);
+    }
+}
@@ -0,0 +1,112 @@
+package com.nextstep.rentacar.service;
+
+import com.nextstep.rentacar.domain.enums.*;
+import com.nextstep.rentacar.dto.request.BranchRequestDto;
+import com.nextstep.rentacar.dto.request.CarRequestDto;
+import com.nextstep.rentacar.dto.request.CustomerRequestDto;
+import com.nextstep.rentacar.dto.request.ReservationRequestDto;
+import com.nextstep.rentacar.dto.response.InventoryProjectionDto;
+import com.nextstep.rentacar.dto.response.RebalancingPlanDto;
+import com.nextstep.rentacar.dto.response.RebalancingTransferDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RebalancingServiceIntegrationTest {
+
+    @Autowired private RebalancingService rebalancingService;
+    @Autowired private ReservationService reservationService;
+    @Autowired private BranchService branchService;
+    @Autowired private CarService carService;
+    @Autowired private CustomerService customerService;
+
+    private final LocalDate start = LocalDate.now().plusDays(40);
+
+    private Long northId;
+    private Long southId;
+
+    @BeforeEach
+    void setUp() {
+        northId = addBranch("North Station", "north@example.com", 52.5251, 13.3694);
+        southId = addBranch("South Park", "south@example.com", 52.3906, 13.0645);
+        Long firstCar = addCar("RB-001");
+        Long secondCar = addCar("RB-002");
+        Long customerId = customerService.create(new CustomerRequestDto(
+                "One", "Way", "one.way@example.com", "+15550005555", "L5555555",
+                LocalDate.now().minusYears(30), "1 Ring", "Gotham", "USA", LocalDate.now().plusYears(2)
+        )).getId();
+        // A one-way rental leaves North for South, while South has a pickup but no car of its own
+        reservationService.create(new ReservationRequestDto(
+                customerId, firstCar, start.plusDays(1), start.plusDays(2), northId, southId, "One way"));
+        reservationService.create(new ReservationRequestDto(
+                customerId, secondCar, start.plusDays(1), start.plusDays(2), southId, southId, "Pickup at South"));
+    }
+
+    @Test
+    @DisplayName("Inventory follows pickups and one-way drop-offs")
+    void projectsInventory() {
+        List<InventoryProjectionDto> south = rebalancingService.projectInventory(start, 5, southId, null);
+
+        assertThat(south).singleElement().satisfies(pool -> {
+            assertThat(pool.getCategory()).isEqualTo(CarCategory.COMPACT);
+            assertThat(pool.getProjected()).containsExactly(0, -1, -1, 1, 1);
+            assertThat(pool.getMinimum()).isEqualTo(-1);
+            assertThat(pool.getFirstShortageDate()).isEqualTo(start.plusDays(1));
+        });
+        assertThat(rebalancingService.projectInventory(start, 5, northId, CarCategory.COMPACT))
+                .singleElement()
+                .extracting(InventoryProjectionDto::getProjected)
+                .isEqualTo(List.of(2, 1, 1, 1, 1));
+    }
+
+    @Test
+    @DisplayName("A transfer from the spare branch covers the shortage before the pickup")
+    void proposesTransfer() {
+        RebalancingPlanDto plan = rebalancingService.plan(start, 5);
+
+        assertThat(plan.getFlows()).isGreaterThanOrEqualTo(2);
+        List<RebalancingTransferDto> ours = plan.getTransfers().stream()
+                .filter(t -> t.getToBranchId().equals(southId))
+                .toList();
+        assertThat(ours).singleElement().satisfies(transfer -> {
+            assertThat(transfer.getFromBranchId()).isEqualTo(northId);
+            assertThat(transfer.getCars()).isEqualTo(1);
+            assertThat(transfer.getNeededBy()).isEqualTo(start.plusDays(1));
+            assertThat(transfer.getDistanceKm()).isPositive();
+        });
+        assertThat(plan.getShortages()).noneMatch(s -> s.getBranchId().equals(southId));
+    }
+
+    @Test
+    @DisplayName("Horizons outside the supported range are rejected")
+    void rejectsInvalidHorizon() {
+        assertThatThrownBy(() -> rebalancingService.plan(start, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Long addBranch(String name, String email, double latitude, double longitude) {
+        return branchService.create(new BranchRequestDto(
+                name, "1 Main St", "Gotham", "USA", "+1555000444", email, "24/7", true, latitude, longitude
+        )).getId();
+    }
+
+    private Long addCar(String plate) {
+        return carService.create(new CarRequestDto(
+                "WAUZZZ8K" + plate.replace("-", "") + "0000", "Skoda", "Octavia", 2023, CarCategory.COMPACT,
+                TransmissionType.MANUAL, FuelType.DIESEL, 5, 8000, CarStatus.AVAILABLE, new BigDecimal("45.00"),
+                northId, "Grey", plate, "POL-" + plate
+        )).getId();
+    }
+}
@@ -0,0 +1,121 @@
+package com.nextstep.rentacar.service;
+
+import com.nextstep.rentacar.domain.entity.Reservation;
+import com.nextstep.rentacar.domain.enums.*;
+import com.nextstep.rentacar.dto.request.BranchRequestDto;
+import com.nextstep.rentacar.dto.request.CarRequestDto;
+import com.nextstep.rentacar.dto.request.CustomerRequestDto;
+import com.nextstep.rentacar.dto.request.ReservationRequestDto;
+import com.nextstep.rentacar.repository.CarRepository;
+import com.nextstep.rentacar.repository.ReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Concurrent bookings through the real service, repository and transactions. Not transactional: every booking must
+ * commit on its own for the race between the overlap check and the commit to exist.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReservationConcurrencyIntegrationTest {
+
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 5;
+
+    @Autowired private ReservationService reservationService;
+    @Autowired private BranchService branchService;
+    @Autowired private CarService carService;
+    @Autowired private CustomerService customerService;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private CarRepository carRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private Long branchId;
+    private Long carId;
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        branchId = branchService.create(new BranchRequestDto(
+                "Racetrack", "5 Paddock Ln", "Gotham", "USA", "+15550007777", "race@example.com", "24/7", true
+        )).getId();
+        carId = carService.create(new CarRequestDto(
+                "JH4KA7561PC008269", "Mazda", "3", 2023, CarCategory.COMPACT, TransmissionType.MANUAL,
+                FuelType.GASOLINE, 5, 8000, CarStatus.AVAILABLE, new BigDecimal("42.00"), branchId,
+                "Red", "RACE-01", "POL-RACE-1"
+        )).getId();
+        customerId = customerService.create(new CustomerRequestDto(
+                "Rita", "Race", "rita.race@example.com", "+15550007788", "R7654321",
+                LocalDate.now().minusYears(35), "6 Paddock Ln", "Gotham", "USA", LocalDate.now().plusYears(3)
+        )).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            reservationRepository.deleteAll(reservationRepository.findAll().stream()
+                    .filter(r -> r.getCar().getId().equals(carId)).toList());
+            carRepository.findByIdIncludingDeleted(carId).ifPresent(carRepository::delete);
+        });
+        customerService.delete(customerId);
+        branchService.delete(branchId);
+    }
+
+    @Test
+    @DisplayName("Concurrent bookings of one car for overlapping dates commit at most one reservation per interval")
+    void concurrentBookingsNeverDoubleBook() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                LocalDate start = LocalDate.now().plusDays(20 + round * 10L);
+                AtomicInteger created = new AtomicInteger();
+                CountDownLatch go = new CountDownLatch(1);
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    LocalDate from = start.plusDays(i % 3);
+                    futures.add(pool.submit(() -> {
+                        go.await();
+                        try {
+                            reservationService.create(new ReservationRequestDto(
+                                    customerId, carId, from, from.plusDays(3), branchId, branchId, "Race"));
+                            created.incrementAndGet();
+                        } catch (IllegalStateException rejected) {
+                            // Lost the race, as all but one booking should
+                        }
+                        return null;
+                    }));
+                }
+                go.countDown();
+                for (Future<?> future : futures) {
+                    future.get(60, TimeUnit.SECONDS);
+                }
+
+                assertThat(created).as("round %d", round).hasValue(1);
+                List<Reservation> active = reservationRepository.findOverlappingReservations(carId, start, start.plusDays(5));
+                assertThat(active).as("round %d", round).hasSize(1);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
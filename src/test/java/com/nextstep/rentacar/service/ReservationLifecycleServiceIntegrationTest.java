@@ -0,0 +1,194 @@
+package com.nextstep.rentacar.service;
+
+import com.nextstep.rentacar.config.LifecycleProperties;
+import com.nextstep.rentacar.domain.entity.OutboxEvent;
+import com.nextstep.rentacar.domain.entity.Payment;
+import com.nextstep.rentacar.domain.enums.*;
+import com.nextstep.rentacar.dto.request.BranchRequestDto;
+import com.nextstep.rentacar.dto.request.CarRequestDto;
+import com.nextstep.rentacar.dto.request.CustomerRequestDto;
+import com.nextstep.rentacar.dto.request.ReservationRequestDto;
+import com.nextstep.rentacar.dto.response.BulkTransitionResultDto;
+import com.nextstep.rentacar.dto.response.ReservationResponseDto;
+import com.nextstep.rentacar.repository.OutboxEventRepository;
+import com.nextstep.rentacar.repository.PaymentRepository;
+import com.nextstep.rentacar.repository.ReservationRepository;
+import com.nextstep.rentacar.service.lifecycle.LifecycleCandidate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ReservationLifecycleServiceIntegrationTest {
+
+    @Autowired private ReservationLifecycleService lifecycleService;
+    @Autowired private LifecycleProperties lifecycleProperties;
+    @Autowired private ReservationService reservationService;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private PaymentRepository paymentRepository;
+    @Autowired private OutboxEventRepository outboxEventRepository;
+    @Autowired private BranchService branchService;
+    @Autowired private CarService carService;
+    @Autowired private CustomerService customerService;
+
+    private final LocalDate start = LocalDate.now().plusDays(20);
+    private final LocalDate end = start.plusDays(2);
+
+    private Long branchId;
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        branchId = branchService.create(new BranchRequestDto(
+                "Night Shift", "3 Late Ave", "Gotham", "USA", "+1555000666", "night@example.com", "24/7", true
+        )).getId();
+        customerId = customerService.create(new CustomerRequestDto(
+                "Bulk", "Booker", "bulk.booker@example.com", "+15550006666", "B6666666",
+                LocalDate.now().minusYears(35), "8 Row", "Gotham", "USA", LocalDate.now().plusYears(2)
+        )).getId();
+    }
+
+    @Test
+    @DisplayName("Paid PENDING reservations are confirmed chunk by chunk, with one event per changed row")
+    void confirmsPaidReservations() {
+        ReservationResponseDto paid = reserve(addCar("LC-001"));
+        ReservationResponseDto alsoPaid = reserve(addCar("LC-002"));
+        ReservationResponseDto partlyPaid = reserve(addCar("LC-003"));
+        pay(paid, paid.getTotalPrice(), PaymentStatus.CAPTURED);
+        pay(alsoPaid, alsoPaid.getTotalPrice().subtract(BigDecimal.TEN), PaymentStatus.CAPTURED);
+        pay(alsoPaid, BigDecimal.TEN, PaymentStatus.CAPTURED);
+        pay(partlyPaid, BigDecimal.TEN, PaymentStatus.CAPTURED);
+        pay(partlyPaid, partlyPaid.getTotalPrice(), PaymentStatus.AUTHORIZED);
+
+        int chunkSize = lifecycleProperties.getChunkSize();
+        lifecycleProperties.setChunkSize(1);
+        BulkTransitionResultDto result;
+        try {
+            result = lifecycleService.confirmPaid();
+        } finally {
+            lifecycleProperties.setChunkSize(chunkSize);
+        }
+
+        assertThat(result.getTransition()).isEqualTo(LifecycleTransition.CONFIRM_PAID);
+        assertThat(result.getTransitioned()).isGreaterThanOrEqualTo(2);
+        assertThat(result.getChunks()).isGreaterThanOrEqualTo(2);
+        assertThat(result.getSkipped()).isZero();
+        assertThat(status(paid)).isEqualTo(ReservationStatus.CONFIRMED);
+        assertThat(status(alsoPaid)).isEqualTo(ReservationStatus.CONFIRMED);
+        assertThat(status(partlyPaid)).isEqualTo(ReservationStatus.PENDING);
+        assertThat(reservationRepository.findById(paid.getId()).orElseThrow().getVersion()).isEqualTo(1L);
+
+        List<OutboxEvent> events = outboxEventRepository.findByAggregateTypeAndAggregateIdOrderByIdAsc("Reservation", paid.getId());
+        assertThat(events).extracting(OutboxEvent::getEventType)
+                .containsExactly(OutboxEventType.RESERVATION_CREATED, OutboxEventType.RESERVATION_CONFIRMED);
+        assertThat(events.get(1).getPayload()).contains("\"status\":\"CONFIRMED\"");
+
+        // Nothing left to do on a second run
+        assertThat(lifecycleService.confirmPaid().getTransitioned()).isZero();
+    }
+
+    @Test
+    @DisplayName("CONFIRMED reservations ending on the date are completed and free their car")
+    void completesReservationsEndingOnDate() {
+        Long carId = addCar("LC-004");
+        ReservationResponseDto ending = reserve(carId);
+        ReservationResponseDto later = reserve(addCar("LC-005"), start, end.plusDays(1));
+        reservationService.confirm(ending.getId());
+        reservationService.confirm(later.getId());
+
+        BulkTransitionResultDto result = lifecycleService.completeEndingOn(end);
+
+        assertThat(result.getTransitioned()).isGreaterThanOrEqualTo(1);
+        assertThat(status(ending)).isEqualTo(ReservationStatus.COMPLETED);
+        assertThat(status(later)).isEqualTo(ReservationStatus.CONFIRMED);
+        assertThat(outboxEventRepository.findByAggregateTypeAndAggregateIdOrderByIdAsc("Reservation", ending.getId()))
+                .extracting(OutboxEvent::getEventType)
+                .endsWith(OutboxEventType.RESERVATION_COMPLETED);
+        // The completed reservation no longer blocks the car
+        assertThatCode(() -> reserve(carId)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Old unpaid PENDING reservations are cancelled; those with a payment in flight are kept")
+    void expiresStaleReservations() {
+        Long carId = addCar("LC-006");
+        ReservationResponseDto unpaid = reserve(carId);
+        ReservationResponseDto authorized = reserve(addCar("LC-007"));
+        pay(authorized, authorized.getTotalPrice(), PaymentStatus.AUTHORIZED);
+        ReservationResponseDto fresh = reserve(addCar("LC-008"));
+
+        OffsetDateTime cutoff = OffsetDateTime.now(ZoneOffset.UTC).plusMinutes(1);
+        lifecycleService.expireStale(OffsetDateTime.now(ZoneOffset.UTC).minusDays(1));
+        assertThat(status(unpaid)).isEqualTo(ReservationStatus.PENDING);
+        BulkTransitionResultDto result = lifecycleService.expireStale(cutoff);
+
+        assertThat(result.getTransition()).isEqualTo(LifecycleTransition.EXPIRE_STALE);
+        assertThat(status(unpaid)).isEqualTo(ReservationStatus.CANCELLED);
+        assertThat(status(fresh)).isEqualTo(ReservationStatus.CANCELLED);
+        assertThat(status(authorized)).isEqualTo(ReservationStatus.PENDING);
+        assertThatCode(() -> reserve(carId)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("A row changed to the same status after it was selected is not claimed by the bulk update")
+    void concurrentChangeIsNotClaimed() {
+        ReservationResponseDto unpaid = reserve(addCar("LC-009"));
+        OffsetDateTime cutoff = OffsetDateTime.now(ZoneOffset.UTC).plusMinutes(1);
+        LocalDate today = LocalDate.now();
+        List<LifecycleCandidate> candidates = reservationRepository.findStale(cutoff, today, 0, Limit.of(100)).stream()
+                .filter(candidate -> candidate.id().equals(unpaid.getId()))
+                .toList();
+        assertThat(candidates).hasSize(1);
+
+        // The customer cancels between the select and the update, also moving the row to CANCELLED one version on
+        reservationService.cancel(unpaid.getId());
+
+        assertThat(reservationRepository.expireStale(candidates, cutoff, today, OffsetDateTime.now(ZoneOffset.UTC)))
+                .isEmpty();
+    }
+
+    private ReservationResponseDto reserve(Long carId) {
+        return reserve(carId, start, end);
+    }
+
+    private ReservationResponseDto reserve(Long carId, LocalDate from, LocalDate to) {
+        return reservationService.create(new ReservationRequestDto(customerId, carId, from, to, branchId, branchId, null));
+    }
+
+    private void pay(ReservationResponseDto reservation, BigDecimal amount, PaymentStatus status) {
+        Payment payment = new Payment();
+        payment.setReservation(reservationRepository.getReferenceById(reservation.getId()));
+        payment.setAmount(amount);
+        payment.setCurrency(reservation.getCurrency());
+        payment.setStatus(status);
+        payment.setPaymentMethod(PaymentMethod.CREDIT_CARD);
+        paymentRepository.save(payment);
+    }
+
+    private ReservationStatus status(ReservationResponseDto reservation) {
+        return reservationService.getById(reservation.getId()).getStatus();
+    }
+
+    private Long addCar(String plate) {
+        return carService.create(new CarRequestDto(
+                "WAUZZZ8K" + plate.replace("-", "") + "0000", "Skoda", "Octavia", 2023, CarCategory.COMPACT,
+                TransmissionType.MANUAL, FuelType.DIESEL, 5, 8000, CarStatus.AVAILABLE, new BigDecimal("45.00"),
+                branchId, "Grey", plate, "POL-" + plate
+        )).getId();
+    }
+}
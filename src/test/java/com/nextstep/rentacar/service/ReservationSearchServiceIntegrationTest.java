@@ -0,0 +1,170 @@
+package com.nextstep.rentacar.service;
+
+import com.nextstep.rentacar.domain.entity.Branch;
+import com.nextstep.rentacar.domain.entity.Car;
+import com.nextstep.rentacar.domain.entity.Customer;
+import com.nextstep.rentacar.domain.entity.Reservation;
+import com.nextstep.rentacar.domain.enums.*;
+import com.nextstep.rentacar.dto.request.BranchRequestDto;
+import com.nextstep.rentacar.dto.request.CarRequestDto;
+import com.nextstep.rentacar.dto.request.CustomerRequestDto;
+import com.nextstep.rentacar.dto.request.ReservationRequestDto;
+import com.nextstep.rentacar.dto.request.ReservationSearchFilterDto;
+import com.nextstep.rentacar.dto.response.ReservationSearchResultDto;
+import com.nextstep.rentacar.repository.ReservationRepository;
+import com.nextstep.rentacar.service.search.ReservationSearchProjector;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ReservationSearchServiceIntegrationTest {
+
+    @Autowired private ReservationSearchService reservationSearchService;
+    @Autowired private OutboxService outboxService;
+    @Autowired private ReservationService reservationService;
+    @Autowired private BranchService branchService;
+    @Autowired private CarService carService;
+    @Autowired private CustomerService customerService;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private ReservationSearchProjector projector;
+    @Autowired private EntityManager entityManager;
+
+    private Long northId;
+    private Long southId;
+    private Long carId;
+    private Long customerId;
+    private CustomerRequestDto customer;
+
+    @BeforeEach
+    void setUp() {
+        northId = branchService.create(new BranchRequestDto(
+                "Search North", "1 North Rd", "Gotham", "USA", "+1555000211", "north.search@example.com", "24/7", true
+        )).getId();
+        southId = branchService.create(new BranchRequestDto(
+                "Search South", "1 South Rd", "Gotham", "USA", "+1555000212", "south.search@example.com", "24/7", true
+        )).getId();
+        carId = carService.create(new CarRequestDto(
+                "2HGCM82633A004352", "Skoda", "Octavia", 2023, CarCategory.INTERMEDIATE, TransmissionType.AUTOMATIC,
+                FuelType.DIESEL, 5, 8000, CarStatus.AVAILABLE, new BigDecimal("50.00"), northId,
+                "Grey", "SRCH-01", "POL-SRCH-1"
+        )).getId();
+        customer = new CustomerRequestDto(
+                "Sven", "Searcher", "sven.searcher@example.com", "+15550002233", "S1234567",
+                LocalDate.now().minusYears(35), "4 Lane", "Gotham", "USA", LocalDate.now().plusYears(2));
+        customerId = customerService.create(customer).getId();
+    }
+
+    @Test
+    @DisplayName("Relayed reservation events project denormalized rows that every filter combination can search")
+    void searchesProjectedRows() {
+        Long early = reserve(10, northId, southId);
+        Long late = reserve(30, northId, northId);
+        reservationService.confirm(late);
+        assertThat(search(filter(f -> f.setCustomerId(customerId)))).isEmpty();
+
+        outboxService.relayPending();
+
+        assertThat(search(filter(f -> f.setQ("SVEN SEARCH"))))
+                .extracting(ReservationSearchResultDto::getReservationId)
+                .containsExactly(late, early);
+        assertThat(search(filter(f -> f.setQ("srch-01"))))
+                .hasSize(2)
+                .first()
+                .satisfies(row -> {
+                    assertThat(row.getCarName()).isEqualTo("Skoda Octavia 2023");
+                    assertThat(row.getPickupBranchName()).isEqualTo("Search North");
+                    assertThat(row.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+                });
+        assertThat(search(filter(f -> {
+            f.setCustomerId(customerId);
+            f.setDropoffBranchId(southId);
+            f.setStatus(List.of(ReservationStatus.PENDING));
+        }))).extracting(ReservationSearchResultDto::getReservationId).containsExactly(early);
+        assertThat(search(filter(f -> {
+            f.setCarCategory(CarCategory.INTERMEDIATE);
+            f.setPickupBranchId(northId);
+            f.setFrom(LocalDate.now().plusDays(25));
+        }))).extracting(ReservationSearchResultDto::getReservationId).containsExactly(late);
+
+        Page<ReservationSearchResultDto> ascending = reservationSearchService.search(
+                filter(f -> f.setCarId(carId)), PageRequest.of(0, 1, Sort.by("startDate")));
+        assertThat(ascending.getTotalElements()).isEqualTo(2);
+        assertThat(ascending.getContent()).extracting(ReservationSearchResultDto::getReservationId).containsExactly(early);
+    }
+
+    @Test
+    @DisplayName("Rebuild picks up customer edits that emit no reservation events")
+    void rebuildPicksUpRenames() {
+        Long id = reserve(10, northId, northId);
+        outboxService.relayPending();
+
+        customer.setLastName("Renamed");
+        customerService.update(customerId, customer);
+        assertThat(search(filter(f -> f.setQ("renamed")))).isEmpty();
+
+        assertThat(reservationSearchService.rebuild().getRows()).isGreaterThanOrEqualTo(1);
+        assertThat(search(filter(f -> f.setQ("renamed"))))
+                .extracting(ReservationSearchResultDto::getReservationId)
+                .containsExactly(id);
+    }
+
+    @Test
+    @DisplayName("Overlap filters find history rows of any length; the read model is not partitioned")
+    void findsLongHistoryRows() {
+        LocalDate start = LocalDate.now().minusDays(200);
+        LocalDate end = start.plusDays(Reservation.MAX_RENTAL_DAYS + 30L);
+        Branch north = entityManager.getReference(Branch.class, northId);
+        Reservation history = new Reservation(entityManager.getReference(Customer.class, customerId),
+                entityManager.getReference(Car.class, carId), start, end, north, north, new BigDecimal("999.00"));
+        history.setStatus(ReservationStatus.COMPLETED);
+        Long id = reservationRepository.saveAndFlush(history).getId();
+        projector.project(List.of(id));
+
+        assertThat(search(filter(f -> {
+            f.setCarId(carId);
+            f.setFrom(end.minusDays(5));
+        }))).extracting(ReservationSearchResultDto::getReservationId).containsExactly(id);
+    }
+
+    @Test
+    @DisplayName("Sorting is limited to result columns")
+    void rejectsUnknownSort() {
+        assertThatThrownBy(() -> reservationSearchService.search(new ReservationSearchFilterDto(),
+                PageRequest.of(0, 20, Sort.by("searchText"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Long reserve(int daysAhead, Long pickupBranchId, Long dropoffBranchId) {
+        LocalDate start = LocalDate.now().plusDays(daysAhead);
+        return reservationService.create(new ReservationRequestDto(
+                customerId, carId, start, start.plusDays(3), pickupBranchId, dropoffBranchId, "Search")).getId();
+    }
+
+    private List<ReservationSearchResultDto> search(ReservationSearchFilterDto filter) {
+        return reservationSearchService.search(filter, PageRequest.of(0, 50)).getContent();
+    }
+
+    private static ReservationSearchFilterDto filter(Consumer<ReservationSearchFilterDto> setup) {
+        ReservationSearchFilterDto filter = new ReservationSearchFilterDto();
+        setup.accept(filter);
+        return filter;
+    }
+}
@@ -1,11 +1,25 @@
 package com.nextstep.rentacar.service;
 
+import com.nextstep.rentacar.domain.entity.Branch;
+import com.nextstep.rentacar.domain.entity.Car;
+import com.nextstep.rentacar.domain.entity.Customer;
+import com.nextstep.rentacar.domain.entity.Reservation;
 import com.nextstep.rentacar.domain.enums.*;
 import com.nextstep.rentacar.dto.request.BranchRequestDto;
 import com.nextstep.rentacar.dto.request.CarRequestDto;
 import com.nextstep.rentacar.dto.request.CustomerRequestDto;
 import com.nextstep.rentacar.dto.request.ReservationRequestDto;
+import com.nextstep.rentacar.dto.response.AvailabilityCalendarResponseDto;
+import com.nextstep.rentacar.dto.response.AvailabilityRunDto;
+import com.nextstep.rentacar.dto.response.BatchReservationItemResultDto;
+import com.nextstep.rentacar.dto.response.BatchReservationResponseDto;
+import com.nextstep.rentacar.dto.response.CursorPageDto;
+import com.nextstep.rentacar.dto.response.ReservationHoldResponseDto;
 import com.nextstep.rentacar.dto.response.ReservationResponseDto;
+import com.nextstep.rentacar.repository.ReservationRepository;
+import com.nextstep.rentacar.service.availability.ReservationAvailabilityIndex;
+import com.nextstep.rentacar.service.availability.ReservationSlot;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +32,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -30,6 +46,11 @@ class ReservationServiceIntegrationTest {
     @Autowired private BranchService branchService;
     @Autowired private CarService carService;
     @Autowired private CustomerService customerService;
+    @Autowired private ReservationHoldService reservationHoldService;
+    @Autowired private AvailabilityCalendarService calendarService;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private ReservationAvailabilityIndex availabilityIndex;
 
     private Long branchId;
     private Long carId;
@@ -136,4 +157,186 @@ class ReservationServiceIntegrationTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("End date must be after start date");
     }
+
+    @Test
+    @DisplayName("Batch create reports per-item outcomes for overlaps within the batch and unknown cars")
+    void createBatchReportsPerItemOutcome() {
+        LocalDate start = LocalDate.now().plusDays(20);
+        ReservationRequestDto first = new ReservationRequestDto(customerId, carId, start, start.plusDays(3), branchId, branchId, "Group 1");
+        ReservationRequestDto overlapping = new ReservationRequestDto(customerId, carId, start.plusDays(2), start.plusDays(4), branchId, branchId, "Group 2");
+        ReservationRequestDto unknownCar = new ReservationRequestDto(customerId, -1L, start, start.plusDays(1), branchId, branchId, "Group 3");
+        ReservationRequestDto later = new ReservationRequestDto(customerId, carId, start.plusDays(10), start.plusDays(12), branchId, branchId, "Group 4");
+
+        BatchReservationResponseDto result = reservationService.createBatch(List.of(first, overlapping, unknownCar, later));
+
+        assertThat(result.getCreatedCount()).isEqualTo(2);
+        assertThat(result.getRejectedCount()).isEqualTo(2);
+        assertThat(result.getResults()).extracting(BatchReservationItemResultDto::isCreated)
+                .containsExactly(true, false, false, true);
+        assertThat(result.getResults().get(0).getReservation().getTotalPrice()).isEqualByComparingTo(new BigDecimal("298.50"));
+        assertThat(result.getResults().get(1).getError()).contains("not available");
+        assertThat(result.getResults().get(2).getError()).contains("Car not found");
+
+        // Batch-created reservations block later single bookings
+        ReservationRequestDto clash = new ReservationRequestDto(customerId, carId, start.plusDays(11), start.plusDays(13), branchId, branchId, "Clash");
+        assertThatThrownBy(() -> reservationService.create(clash))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not available");
+    }
+
+    @Test
+    @DisplayName("A hold blocks other bookings of the interval and converts into a reservation with its token")
+    void holdBlocksOthersAndConverts() {
+        LocalDate start = LocalDate.now().plusDays(40);
+        LocalDate end = start.plusDays(2);
+        ReservationHoldResponseDto hold = reservationHoldService.place(carId, start, end);
+        assertThat(hold.getToken()).isNotBlank();
+        assertThat(hold.getExpiresAt()).isAfter(OffsetDateTime.now());
+
+        ReservationRequestDto other = new ReservationRequestDto(customerId, carId, start.plusDays(1), end.plusDays(1), branchId, branchId, "Other");
+        assertThatThrownBy(() -> reservationService.create(other))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not available");
+        assertThatThrownBy(() -> reservationHoldService.place(carId, start, end))
+                .isInstanceOf(IllegalStateException.class);
+
+        ReservationRequestDto withHold = new ReservationRequestDto(customerId, carId, start, end, branchId, branchId, "Held", hold.getToken());
+        ReservationResponseDto created = reservationService.create(withHold);
+        assertThat(created.getStatus()).isEqualTo(ReservationStatus.PENDING);
+
+        ReservationRequestDto wrongDates = new ReservationRequestDto(customerId, carId, start, end.plusDays(1), branchId, branchId, "Held", hold.getToken());
+        assertThatThrownBy(() -> reservationService.create(wrongDates))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("A hold token does not skip the overlap query, so a booking made on another node still wins")
+    void holdDoesNotHideBookingsFromOtherNodes() {
+        LocalDate start = LocalDate.now().plusDays(45);
+        LocalDate end = start.plusDays(2);
+        ReservationHoldResponseDto hold = reservationHoldService.place(carId, start, end);
+
+        // Written straight to the database, as another node would: neither this node's holds nor its index see it
+        Branch branch = entityManager.getReference(Branch.class, branchId);
+        reservationRepository.saveAndFlush(new Reservation(entityManager.getReference(Customer.class, customerId),
+                entityManager.getReference(Car.class, carId), start, end, branch, branch, new BigDecimal("199.00")));
+
+        ReservationRequestDto withHold = new ReservationRequestDto(customerId, carId, start, end, branchId, branchId, "Held", hold.getToken());
+        assertThatThrownBy(() -> reservationService.create(withHold))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not available");
+    }
+
+    @Test
+    @DisplayName("A stale availability index entry (cancelled on another node) does not reject a booking the database allows")
+    void staleIndexHitIsConfirmedByTheDatabase() {
+        LocalDate start = LocalDate.now().plusDays(50);
+        LocalDate end = start.plusDays(3);
+        Reservation elsewhere = new Reservation(null, entityManager.getReference(Car.class, carId), start, end,
+                null, null, new BigDecimal("99.50"));
+        elsewhere.setId(-1L);
+        elsewhere.setStatus(ReservationStatus.CONFIRMED);
+        availabilityIndex.record(elsewhere);
+        assertThat(availabilityIndex.hasConflict(carId, start, end, null)).isTrue();
+
+        ReservationResponseDto created = reservationService.create(
+                new ReservationRequestDto(customerId, carId, start, end, branchId, branchId, "Stale index"));
+        assertThat(created.getStatus()).isEqualTo(ReservationStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Calendars encode booked days as runs for the car and free counts for the branch")
+    void calendarsReflectReservations() {
+        LocalDate from = LocalDate.now().plusDays(1);
+        LocalDate start = from.plusDays(3);
+        LocalDate end = from.plusDays(5);
+        reservationService.create(new ReservationRequestDto(customerId, carId, start, end, branchId, branchId, "Calendar"));
+
+        AvailabilityCalendarResponseDto carCalendar = calendarService.carCalendar(carId, from, from.plusDays(9));
+        assertThat(carCalendar.getRuns()).containsExactly(
+                new AvailabilityRunDto(from, start.minusDays(1), 1),
+                new AvailabilityRunDto(start, end, 0),
+                new AvailabilityRunDto(end.plusDays(1), from.plusDays(9), 1)
+        );
+
+        AvailabilityCalendarResponseDto branchCalendar =
+                calendarService.branchCalendar(branchId, CarCategory.LUXURY, from, from.plusDays(9));
+        assertThat(branchCalendar.getFleetSize()).isEqualTo(1);
+        assertThat(branchCalendar.getRuns()).hasSize(3);
+        assertThat(calendarService.branchCalendar(branchId, CarCategory.ECONOMY, from, from.plusDays(9)).getRuns())
+                .containsExactly(new AvailabilityRunDto(from, from.plusDays(9), 0));
+
+        assertThatThrownBy(() -> calendarService.carCalendar(carId, from, from.plusYears(2)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Keyset scroll walks all reservations newest first and counts only on request")
+    void scrollPagesWithContinuationCursor() {
+        LocalDate base = LocalDate.now().plusDays(30);
+        for (int i = 0; i < 5; i++) {
+            reservationService.create(new ReservationRequestDto(customerId, carId,
+                    base.plusDays(i * 3L), base.plusDays(i * 3L + 1), branchId, branchId, "Scroll " + i));
+        }
+
+        CursorPageDto<ReservationResponseDto> first =
+                reservationService.scrollWithFilters(null, carId, null, null, null, null, null, 2, true);
+        assertThat(first.getTotalCount()).isEqualTo(5);
+        assertThat(first.getContent()).extracting(ReservationResponseDto::getStartDate)
+                .containsExactly(base.plusDays(12), base.plusDays(9));
+
+        CursorPageDto<ReservationResponseDto> second =
+                reservationService.scrollWithFilters(null, carId, null, null, null, null, first.getNextCursor(), 2, false);
+        assertThat(second.getTotalCount()).isNull();
+        assertThat(second.getContent()).extracting(ReservationResponseDto::getStartDate)
+                .containsExactly(base.plusDays(6), base.plusDays(3));
+
+        CursorPageDto<ReservationResponseDto> last =
+                reservationService.scrollWithFilters(null, carId, null, null, null, null, second.getNextCursor(), 2, false);
+        assertThat(last.getContent()).extracting(ReservationResponseDto::getStartDate).containsExactly(base);
+        assertThat(last.getNextCursor()).isNull();
+
+        assertThatThrownBy(() -> reservationService.scrollWithFilters(null, carId, null, null, null, null, "not-a-cursor", 2, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Rentals are capped at MAX_RENTAL_DAYS and the longest one is still found by pruned overlap queries")
+    void longestRentalStaysVisibleToOverlapQueries() {
+        LocalDate start = LocalDate.now().plusDays(2);
+        LocalDate end = start.plusDays(Reservation.MAX_RENTAL_DAYS);
+        assertThatThrownBy(() -> reservationService.create(new ReservationRequestDto(
+                customerId, carId, start, end.plusDays(1), branchId, branchId, "Too long")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must not exceed");
+
+        ReservationResponseDto longest = reservationService.create(
+                new ReservationRequestDto(customerId, carId, start, end, branchId, branchId, "Longest"));
+
+        assertThat(reservationRepository.existsOverlappingReservation(carId, end, end.plusDays(3), null)).isTrue();
+        assertThat(reservationRepository.findActiveSlots(List.of(carId), end, end.plusDays(3)))
+                .extracting(ReservationSlot::reservationId)
+                .containsExactly(longest.getId());
+        Page<ReservationResponseDto> listed = reservationService.listWithFilters(null, carId, null, null,
+                end, end.plusDays(3), PageRequest.of(0, 5));
+        assertThat(listed.getContent()).extracting(ReservationResponseDto::getId).containsExactly(longest.getId());
+    }
+
+    @Test
+    @DisplayName("History rows longer than MAX_RENTAL_DAYS are still listed unless the status filter is active-only")
+    void longHistoryRowsAreListed() {
+        LocalDate start = LocalDate.now().minusDays(200);
+        LocalDate end = start.plusDays(Reservation.MAX_RENTAL_DAYS + 30L);
+        Branch branch = entityManager.getReference(Branch.class, branchId);
+        Reservation history = new Reservation(entityManager.getReference(Customer.class, customerId),
+                entityManager.getReference(Car.class, carId), start, end, branch, branch, new BigDecimal("999.00"));
+        history.setStatus(ReservationStatus.COMPLETED);
+        Long id = reservationRepository.saveAndFlush(history).getId();
+
+        LocalDate from = end.minusDays(5);
+        assertThat(reservationService.listWithFilters(null, carId, null, null, from, end, PageRequest.of(0, 5))
+                .getContent()).extracting(ReservationResponseDto::getId).containsExactly(id);
+        assertThat(reservationService.listWithFilters(null, carId, ReservationStatus.COMPLETED, null, from, end,
+                PageRequest.of(0, 5)).getContent()).extracting(ReservationResponseDto::getId).containsExactly(id);
+    }
 }
@@ -0,0 +1,157 @@
+package com.nextstep.rentacar.service;
+
+import com.nextstep.rentacar.config.WaitlistProperties;
+import com.nextstep.rentacar.domain.enums.*;
+import com.nextstep.rentacar.dto.request.BranchRequestDto;
+import com.nextstep.rentacar.dto.request.CarRequestDto;
+import com.nextstep.rentacar.dto.request.CustomerRequestDto;
+import com.nextstep.rentacar.dto.request.ReservationRequestDto;
+import com.nextstep.rentacar.dto.request.WaitlistRequestDto;
+import com.nextstep.rentacar.dto.response.WaitlistEntryResponseDto;
+import com.nextstep.rentacar.repository.WaitlistSignalRepository;
+import com.nextstep.rentacar.service.waitlist.WaitlistMatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class WaitlistServiceIntegrationTest {
+
+    @Autowired private WaitlistService waitlistService;
+    @Autowired private WaitlistMatcher waitlistMatcher;
+    @Autowired private WaitlistProperties waitlistProperties;
+    @Autowired private OutboxService outboxService;
+    @Autowired private WaitlistSignalRepository waitlistSignalRepository;
+    @Autowired private ReservationService reservationService;
+    @Autowired private BranchService branchService;
+    @Autowired private CarService carService;
+    @Autowired private CustomerService customerService;
+
+    private final LocalDate start = LocalDate.now().plusDays(5);
+    private final LocalDate end = start.plusDays(3);
+
+    private Long branchId;
+    private Long carId;
+    private Long bookerId;
+
+    @BeforeEach
+    void setUp() {
+        branchId = branchService.create(new BranchRequestDto(
+                "Old Town", "4 Market Sq", "Gotham", "USA", "+1555000222", "oldtown@example.com", "24/7", true
+        )).getId();
+        carId = addCar("WL-001");
+        bookerId = addCustomer("booker");
+        matchNow();
+    }
+
+    @Test
+    @DisplayName("A cancellation is offered to the first overlapping request; the offer converts into a reservation")
+    void cancellationIsOfferedInFifoOrder() {
+        Long reservationId = reservationService.create(new ReservationRequestDto(
+                bookerId, carId, start, end, branchId, branchId, "Booked first")).getId();
+        WaitlistEntryResponseDto first = join(addCustomer("first"), CarCategory.COMPACT, start.plusDays(1), end, 0);
+        WaitlistEntryResponseDto second = join(addCustomer("second"), CarCategory.COMPACT, start, end, 5);
+        WaitlistEntryResponseDto otherCategory = join(addCustomer("suv"), CarCategory.SUV, start, end, 0);
+
+        reservationService.cancel(reservationId);
+        assertThat(matchNow()).isEqualTo(1);
+
+        WaitlistEntryResponseDto offered = waitlistService.getById(first.getId());
+        assertThat(offered.getStatus()).isEqualTo(WaitlistStatus.OFFERED);
+        assertThat(offered.getOfferedCarId()).isEqualTo(carId);
+        assertThat(offered.getHoldToken()).isNotBlank();
+        assertThat(offered.getOfferExpiresAt()).isNotNull();
+        // The car is held for the first request, so the overlapping second one keeps waiting
+        assertThat(waitlistService.getById(second.getId()).getStatus()).isEqualTo(WaitlistStatus.WAITING);
+        assertThat(waitlistService.getById(otherCategory.getId()).getStatus()).isEqualTo(WaitlistStatus.WAITING);
+
+        reservationService.create(new ReservationRequestDto(offered.getCustomerId(), carId, offered.getStartDate(),
+                offered.getEndDate(), branchId, branchId, "From waitlist", offered.getHoldToken()));
+        matchNow();
+        assertThat(waitlistService.getById(first.getId()).getStatus()).isEqualTo(WaitlistStatus.FULFILLED);
+    }
+
+    @Test
+    @DisplayName("A car added to the branch is offered to waiting requests, highest priority first when configured")
+    void newCarIsOfferedByPriority() {
+        reservationService.create(new ReservationRequestDto(bookerId, carId, start, end, branchId, branchId, "Taken"));
+        WaitlistEntryResponseDto low = join(addCustomer("low"), CarCategory.COMPACT, start, end, 1);
+        WaitlistEntryResponseDto high = join(addCustomer("high"), CarCategory.COMPACT, start, end, 9);
+
+        waitlistProperties.setOrdering(WaitlistProperties.Ordering.PRIORITY);
+        try {
+            Long newCarId = addCar("WL-002");
+            assertThat(matchNow()).isEqualTo(1);
+            assertThat(waitlistService.getById(high.getId()).getOfferedCarId()).isEqualTo(newCarId);
+            assertThat(waitlistService.getById(low.getId()).getStatus()).isEqualTo(WaitlistStatus.WAITING);
+        } finally {
+            waitlistProperties.setOrdering(WaitlistProperties.Ordering.FIFO);
+        }
+    }
+
+    @Test
+    @DisplayName("Cancelled entries are no longer matched")
+    void cancelledEntriesAreSkipped() {
+        Long reservationId = reservationService.create(new ReservationRequestDto(
+                bookerId, carId, start, end, branchId, branchId, "Booked")).getId();
+        WaitlistEntryResponseDto entry = join(addCustomer("leaver"), CarCategory.COMPACT, start, end, 0);
+        waitlistService.cancel(entry.getId());
+
+        reservationService.cancel(reservationId);
+        assertThat(matchNow()).isZero();
+        assertThat(waitlistService.getById(entry.getId()).getStatus()).isEqualTo(WaitlistStatus.CANCELLED);
+        assertThatThrownBy(() -> waitlistService.cancel(entry.getId())).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Relayed events are queued as stored signals until a matching pass consumes them")
+    void signalsArePersistedUntilMatched() {
+        Long reservationId = reservationService.create(new ReservationRequestDto(
+                bookerId, carId, start, end, branchId, branchId, "Booked")).getId();
+        WaitlistEntryResponseDto entry = join(addCustomer("stored"), CarCategory.COMPACT, start, end, 0);
+        reservationService.cancel(reservationId);
+
+        outboxService.relayPending();
+        assertThat(waitlistSignalRepository.count()).isPositive();
+
+        assertThat(waitlistMatcher.matchPending()).isEqualTo(1);
+        assertThat(waitlistSignalRepository.count()).isZero();
+        assertThat(waitlistService.getById(entry.getId()).getStatus()).isEqualTo(WaitlistStatus.OFFERED);
+    }
+
+    private int matchNow() {
+        outboxService.relayPending();
+        return waitlistMatcher.matchPending();
+    }
+
+    private WaitlistEntryResponseDto join(Long customerId, CarCategory category, LocalDate from, LocalDate to, int priority) {
+        return waitlistService.join(new WaitlistRequestDto(customerId, branchId, category, from, to, priority));
+    }
+
+    private Long addCar(String plate) {
+        return carService.create(new CarRequestDto(
+                "WAUZZZ8K" + plate.replace("-", "") + "0000", "Skoda", "Octavia", 2023, CarCategory.COMPACT,
+                TransmissionType.MANUAL, FuelType.DIESEL, 5, 8000, CarStatus.AVAILABLE, new BigDecimal("45.00"),
+                branchId, "Grey", plate, "POL-" + plate
+        )).getId();
+    }
+
+    private Long addCustomer(String name) {
+        return customerService.create(new CustomerRequestDto(
+                "Wait", name, name + "@waitlist.example.com", "+1555" + Math.abs(name.hashCode() % 10_000_000),
+                "L" + Math.abs(name.hashCode()), LocalDate.now().minusYears(30), "5 Lane", "Gotham", "USA",
+                LocalDate.now().plusYears(2)
+        )).getId();
+    }
+}
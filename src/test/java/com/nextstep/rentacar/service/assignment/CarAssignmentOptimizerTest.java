@@ -0,0 +1,74 @@
+package com.nextstep.rentacar.service.assignment;
+
+import com.nextstep.rentacar.service.assignment.CarAssignmentOptimizer.Demand;
+import com.nextstep.rentacar.service.assignment.CarAssignmentOptimizer.Plan;
+import com.nextstep.rentacar.service.availability.ReservationSlot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CarAssignmentOptimizerTest {
+
+    private static final LocalDate BASE = LocalDate.of(2030, 3, 1);
+    private static final Long CAR_A = 1L;
+    private static final Long CAR_B = 2L;
+
+    private static Demand demand(long id, int fromDay, int toDay) {
+        return new Demand(id, BASE.plusDays(fromDay), BASE.plusDays(toDay));
+    }
+
+    private static ReservationSlot booked(Long carId, int fromDay, int toDay) {
+        return new ReservationSlot(null, carId, BASE.plusDays(fromDay), BASE.plusDays(toDay));
+    }
+
+    @Test
+    @DisplayName("Longest bookings go first, so a short early booking cannot strand a long one")
+    void placesLongBookingsFirst() {
+        List<ReservationSlot> fixed = List.of(booked(CAR_A, 0, 1), booked(CAR_B, 8, 9));
+        List<Demand> demands = List.of(demand(1, 3, 5), demand(2, 2, 9));
+
+        Plan baseline = CarAssignmentOptimizer.firstFitInArrivalOrder(List.of(CAR_A, CAR_B), fixed, demands);
+        assertThat(baseline.unplaced()).containsExactly(2L);
+
+        Plan plan = CarAssignmentOptimizer.firstFitDecreasing(List.of(CAR_A, CAR_B), fixed, demands);
+        assertThat(plan.unplaced()).isEmpty();
+        assertThat(plan.carByDemand()).containsEntry(2L, CAR_A).containsEntry(1L, CAR_B);
+        assertThat(plan.utilization()).isGreaterThan(baseline.utilization());
+    }
+
+    @Test
+    @DisplayName("Bookings are packed against existing ones instead of leaving unsellable one-day holes")
+    void avoidsOrphanDays() {
+        List<ReservationSlot> fixed = List.of(booked(CAR_A, 4, 5));
+        List<Demand> demands = List.of(demand(1, 0, 2), demand(2, 0, 3), demand(3, 6, 9));
+
+        Plan baseline = CarAssignmentOptimizer.firstFitInArrivalOrder(List.of(CAR_A, CAR_B), fixed, demands);
+        assertThat(baseline.unplaced()).isEmpty();
+        assertThat(baseline.orphanDays()).isEqualTo(1);
+
+        Plan plan = CarAssignmentOptimizer.firstFitDecreasing(List.of(CAR_A, CAR_B), fixed, demands);
+        assertThat(plan.unplaced()).isEmpty();
+        assertThat(plan.orphanDays()).isZero();
+        assertThat(plan.carByDemand()).containsEntry(2L, CAR_A).containsEntry(3L, CAR_A).containsEntry(1L, CAR_B);
+    }
+
+    @Test
+    @DisplayName("Utilization is the booked share of all car-days in the window")
+    void reportsUtilization() {
+        List<Demand> demands = List.of(demand(1, 0, 4));
+        assertThat(CarAssignmentOptimizer.utilization(List.of(CAR_A, CAR_B), List.of(booked(CAR_B, 0, 4)), demands))
+                .isEqualTo(0.5);
+
+        Plan plan = CarAssignmentOptimizer.firstFitDecreasing(List.of(CAR_A, CAR_B), List.of(booked(CAR_B, 0, 4)), demands);
+        assertThat(plan.carByDemand()).containsEntry(1L, CAR_A);
+        assertThat(plan.utilization()).isEqualTo(1.0);
+
+        Plan none = CarAssignmentOptimizer.firstFitDecreasing(List.of(), List.of(), demands);
+        assertThat(none.unplaced()).containsExactly(1L);
+        assertThat(none.utilization()).isZero();
+    }
+}
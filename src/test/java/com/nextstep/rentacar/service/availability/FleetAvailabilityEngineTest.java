@@ -0,0 +1,163 @@
+package com.nextstep.rentacar.service.availability;
+
+import com.nextstep.rentacar.config.AvailabilityProperties;
+import com.nextstep.rentacar.config.BookingProperties;
+import com.nextstep.rentacar.config.SearchCacheProperties;
+import com.nextstep.rentacar.domain.entity.Branch;
+import com.nextstep.rentacar.domain.entity.Car;
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.domain.enums.CarStatus;
+import com.nextstep.rentacar.domain.enums.FuelType;
+import com.nextstep.rentacar.domain.enums.TransmissionType;
+import com.nextstep.rentacar.repository.CarRepository;
+import com.nextstep.rentacar.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FleetAvailabilityEngineTest {
+
+    private static final long BRANCH = 1L;
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private final List<Car> fleet = new ArrayList<>();
+    private ReservationRepository reservationRepository;
+    private ReservationAvailabilityIndex index;
+    private AvailabilityProperties properties;
+    private FleetAvailabilityEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        fleet.add(car(1L, TransmissionType.AUTOMATIC, FuelType.GASOLINE, 5, "50.00"));
+        fleet.add(car(2L, TransmissionType.MANUAL, FuelType.DIESEL, 7, "80.00"));
+        fleet.add(car(3L, TransmissionType.AUTOMATIC, FuelType.ELECTRIC, 2, "120.00"));
+        CarRepository carRepository = mock(CarRepository.class);
+        when(carRepository.findAll()).thenAnswer(invocation -> List.copyOf(fleet));
+        reservationRepository = mock(ReservationRepository.class);
+        when(reservationRepository.findActiveReservations()).thenReturn(List.of());
+        index = new ReservationAvailabilityIndex(reservationRepository, new BookingProperties(),
+                new AvailabilityProperties(), new SearchCacheProperties());
+        properties = new AvailabilityProperties();
+        engine = new FleetAvailabilityEngine(carRepository, index, properties);
+        engine.registerListener();
+    }
+
+    private void warmUp() {
+        index.warmUp();
+        engine.warmUp();
+    }
+
+    @Test
+    @DisplayName("Answers only inside the 730-day horizon starting today; outside it the caller must query the database")
+    void horizonEdges() {
+        warmUp();
+        LocalDate lastDay = TODAY.plusDays(properties.getHorizonDays() - 1L);
+
+        assertThat(ids(TODAY, TODAY.plusDays(1))).contains(List.of(1L, 2L, 3L));
+        assertThat(ids(lastDay.minusDays(1), lastDay)).contains(List.of(1L, 2L, 3L));
+        assertThat(ids(lastDay.minusDays(1), lastDay.plusDays(1))).isEmpty();
+        assertThat(ids(TODAY.minusDays(1), TODAY.plusDays(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Booked days of the last horizon day are marked like any other")
+    void bookingOnLastHorizonDay() {
+        warmUp();
+        LocalDate lastDay = TODAY.plusDays(properties.getHorizonDays() - 1L);
+        index.put(new ReservationSlot(10L, 2L, lastDay.minusDays(3), lastDay));
+
+        assertThat(ids(lastDay, lastDay)).contains(List.of(1L, 3L));
+        assertThat(ids(lastDay.minusDays(10), lastDay.minusDays(4))).contains(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("Seats, fuel and transmission filters intersect their bitmaps")
+    void attributeFilters() {
+        warmUp();
+        LocalDate start = TODAY.plusDays(5);
+        LocalDate end = TODAY.plusDays(8);
+
+        assertThat(engine.findAvailableCarIds(BRANCH, start, end, null, TransmissionType.AUTOMATIC, null, null, null))
+                .contains(List.of(1L, 3L));
+        assertThat(engine.findAvailableCarIds(BRANCH, start, end, null, null, FuelType.DIESEL, null, null))
+                .contains(List.of(2L));
+        assertThat(engine.findAvailableCarIds(BRANCH, start, end, null, null, null, 5, null))
+                .contains(List.of(1L, 2L));
+        assertThat(engine.findAvailableCarIds(BRANCH, start, end, null, TransmissionType.AUTOMATIC, FuelType.ELECTRIC, 3, null))
+                .contains(List.of());
+        assertThat(engine.findAvailableCarIds(BRANCH, start, end, null, null, null, null, new BigDecimal("80.00")))
+                .contains(List.of(1L, 2L));
+        assertThat(engine.findAvailableCarIds(2L, start, end, null, null, null, null, null)).contains(List.of());
+    }
+
+    @Test
+    @DisplayName("Reservations block every day of their inclusive range and free them again when removed")
+    void bookedDays() {
+        warmUp();
+        index.put(new ReservationSlot(10L, 1L, TODAY.plusDays(10), TODAY.plusDays(12)));
+
+        assertThat(ids(TODAY.plusDays(12), TODAY.plusDays(14))).contains(List.of(2L, 3L));
+        assertThat(ids(TODAY.plusDays(7), TODAY.plusDays(10))).contains(List.of(2L, 3L));
+        assertThat(ids(TODAY.plusDays(13), TODAY.plusDays(14))).contains(List.of(1L, 2L, 3L));
+
+        index.remove(10L);
+        assertThat(ids(TODAY.plusDays(10), TODAY.plusDays(12))).contains(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("Rebuild reloads the fleet and re-marks indexed reservations")
+    void rebuild() {
+        warmUp();
+        index.put(new ReservationSlot(10L, 2L, TODAY.plusDays(3), TODAY.plusDays(4)));
+        fleet.removeIf(car -> car.getId() == 3L);
+        fleet.add(car(4L, TransmissionType.MANUAL, FuelType.HYBRID, 5, "60.00"));
+
+        engine.rebuild();
+
+        assertThat(ids(TODAY.plusDays(3), TODAY.plusDays(4))).contains(List.of(1L, 4L));
+        assertThat(ids(TODAY.plusDays(5), TODAY.plusDays(6))).contains(List.of(1L, 2L, 4L));
+    }
+
+    @Test
+    @DisplayName("Falls back (empty) until both the grid and the reservation index are warm, and when in-memory search is off")
+    void fallsBackWhenNotAuthoritative() {
+        assertThat(ids(TODAY.plusDays(1), TODAY.plusDays(2))).isEmpty();
+
+        engine.warmUp();
+        assertThat(ids(TODAY.plusDays(1), TODAY.plusDays(2))).as("index not warmed").isEmpty();
+
+        index.warmUp();
+        assertThat(ids(TODAY.plusDays(1), TODAY.plusDays(2))).isPresent();
+
+        properties.setInMemory(false);
+        assertThat(ids(TODAY.plusDays(1), TODAY.plusDays(2))).isEmpty();
+    }
+
+    private Optional<List<Long>> ids(LocalDate start, LocalDate end) {
+        return engine.findAvailableCarIds(BRANCH, start, end, null, null, null, null, null);
+    }
+
+    private static Car car(long id, TransmissionType transmission, FuelType fuelType, int seats, String dailyPrice) {
+        Branch branch = new Branch();
+        branch.setId(BRANCH);
+        Car car = new Car();
+        car.setId(id);
+        car.setBranch(branch);
+        car.setCategory(CarCategory.COMPACT);
+        car.setTransmission(transmission);
+        car.setFuelType(fuelType);
+        car.setSeats(seats);
+        car.setDailyPrice(new BigDecimal(dailyPrice));
+        car.setStatus(CarStatus.AVAILABLE);
+        return car;
+    }
+}
@@ -0,0 +1,100 @@
+package com.nextstep.rentacar.service.availability;
+
+import com.nextstep.rentacar.config.AvailabilityProperties;
+import com.nextstep.rentacar.config.BookingProperties;
+import com.nextstep.rentacar.config.SearchCacheProperties;
+import com.nextstep.rentacar.domain.entity.Car;
+import com.nextstep.rentacar.domain.entity.Reservation;
+import com.nextstep.rentacar.domain.enums.ReservationStatus;
+import com.nextstep.rentacar.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReservationAvailabilityIndexTest {
+
+    private static final LocalDate BASE = LocalDate.of(2030, 1, 1);
+
+    private ReservationRepository reservationRepository;
+    private ReservationAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        when(reservationRepository.findActiveReservations()).thenReturn(List.of());
+        index = new ReservationAvailabilityIndex(reservationRepository, new BookingProperties(),
+                new AvailabilityProperties(), new SearchCacheProperties());
+        index.warmUp();
+    }
+
+    @Test
+    @DisplayName("Detects overlaps with inclusive bounds and ignores the excluded reservation")
+    void detectsOverlaps() {
+        index.put(new ReservationSlot(1L, 10L, BASE.plusDays(5), BASE.plusDays(10)));
+
+        assertThat(index.hasConflict(10L, BASE.plusDays(10), BASE.plusDays(12), null)).isTrue();
+        assertThat(index.hasConflict(10L, BASE.plusDays(1), BASE.plusDays(5), null)).isTrue();
+        assertThat(index.hasConflict(10L, BASE.plusDays(6), BASE.plusDays(7), null)).isTrue();
+        assertThat(index.hasConflict(10L, BASE.plusDays(11), BASE.plusDays(12), null)).isFalse();
+        assertThat(index.hasConflict(10L, BASE.plusDays(6), BASE.plusDays(7), 1L)).isFalse();
+        assertThat(index.hasConflict(11L, BASE.plusDays(6), BASE.plusDays(7), null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Moving or removing a reservation frees its previous interval")
+    void moveAndRemove() {
+        index.put(new ReservationSlot(1L, 10L, BASE.plusDays(5), BASE.plusDays(10)));
+        index.put(new ReservationSlot(1L, 20L, BASE.plusDays(5), BASE.plusDays(10)));
+
+        assertThat(index.hasConflict(10L, BASE.plusDays(6), BASE.plusDays(7), null)).isFalse();
+        assertThat(index.hasConflict(20L, BASE.plusDays(6), BASE.plusDays(7), null)).isTrue();
+
+        index.remove(1L);
+        assertThat(index.hasConflict(20L, BASE.plusDays(6), BASE.plusDays(7), null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Long reservations starting well before the queried range are still found")
+    void longIntervalsAreFound() {
+        index.put(new ReservationSlot(1L, 10L, BASE, BASE.plusDays(60)));
+        index.put(new ReservationSlot(2L, 10L, BASE.plusDays(70), BASE.plusDays(72)));
+
+        assertThat(index.hasConflict(10L, BASE.plusDays(50), BASE.plusDays(51), null)).isTrue();
+        assertThat(index.slotsForCar(10L, BASE.plusDays(50), BASE.plusDays(71)))
+                .extracting(ReservationSlot::reservationId)
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Without a mode that reads it the index is neither warmed nor maintained")
+    void disabledWithoutReader() {
+        AvailabilityProperties availability = new AvailabilityProperties();
+        availability.setInMemory(false);
+        SearchCacheProperties searchCache = new SearchCacheProperties();
+        searchCache.setEnabled(false);
+        ReservationRepository repository = mock(ReservationRepository.class);
+        ReservationAvailabilityIndex unused = new ReservationAvailabilityIndex(repository, new BookingProperties(),
+                availability, searchCache);
+        unused.warmUp();
+
+        Car car = new Car();
+        car.setId(10L);
+        Reservation reservation = new Reservation();
+        reservation.setId(1L);
+        reservation.setCar(car);
+        reservation.setStartDate(BASE.plusDays(5));
+        reservation.setEndDate(BASE.plusDays(10));
+        reservation.setStatus(ReservationStatus.CONFIRMED);
+        unused.record(reservation);
+
+        assertThat(unused.isReady()).isFalse();
+        assertThat(unused.hasConflict(10L, BASE.plusDays(6), BASE.plusDays(7), null)).isFalse();
+        verify(repository, never()).findActiveReservations();
+    }
+}
@@ -0,0 +1,73 @@
+package com.nextstep.rentacar.service.booking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StripedBookingCoordinatorTest {
+
+    @Test
+    @DisplayName("Inside a transaction the stripe stays locked until the transaction completes")
+    void stripeHeldUntilTransactionCompletes() throws Exception {
+        StripedBookingCoordinator coordinator = new StripedBookingCoordinator(16, 50);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            coordinator.withCarLock(7L, () -> null);
+
+            assertThatThrownBy(() -> CompletableFuture.supplyAsync(() -> coordinator.withCarLock(7L, () -> "booked")).join())
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("busy");
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(CompletableFuture.supplyAsync(() -> coordinator.withCarLock(7L, () -> "booked")).get(5, TimeUnit.SECONDS))
+                .isEqualTo("booked");
+    }
+
+    @Test
+    @DisplayName("Multi-car locks follow stripe order, so car sets whose id order inverts the stripe order never deadlock")
+    void multiCarLocksFollowStripeOrder() throws Exception {
+        // Two stripes: cars 1 and 3 share stripe 1, car 2 is on stripe 0, so {1, 2} and {2, 3} invert in id order
+        StripedBookingCoordinator coordinator = new StripedBookingCoordinator(2, 200);
+        assertThat(coordinator.lockOrder(1L)).isEqualTo(coordinator.lockOrder(3L)).isNotEqualTo(coordinator.lockOrder(2L));
+
+        AtomicInteger busy = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        for (List<Long> cars : List.of(List.of(1L, 2L), List.of(2L, 3L))) {
+            pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < 200; i++) {
+                    try {
+                        coordinator.withCarLocks(cars, () -> {
+                            Thread.yield();
+                            return null;
+                        });
+                    } catch (IllegalStateException e) {
+                        busy.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+        assertThat(busy).hasValue(0);
+    }
+}
@@ -0,0 +1,76 @@
+package com.nextstep.rentacar.service.cache;
+
+import com.nextstep.rentacar.config.ReferenceCacheProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReferenceCacheTest {
+
+    private final ReferenceCache<Long, String> cache =
+            new ReferenceCache<>("test", Long::valueOf, new ReferenceCacheProperties.Limits(100, Duration.ofMinutes(1)));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Hits skip the loader, missing values are not cached and invalidation forces a reload")
+    void cachesUntilInvalidated() {
+        AtomicInteger loads = new AtomicInteger();
+        assertThat(cache.get(1L, () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(cache.get(1L, () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(cache.get(2L, () -> null)).isNull();
+        assertThat(cache.get(2L, () -> "found")).isEqualTo("found");
+
+        cache.invalidate(1L);
+        assertThat(cache.get(1L, () -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+        assertThat(cache.entries().stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A load that races an invalidation returns its value but does not cache it")
+    void loadRacingInvalidationIsNotCached() {
+        assertThat(cache.get(1L, () -> {
+            cache.invalidate(1L);
+            return "stale";
+        })).isEqualTo("stale");
+        assertThat(cache.get(1L, () -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("Invalidation is repeated after commit and values loaded in a rolled back transaction are dropped")
+    void followsTransactionOutcome() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidate(1L);
+        // A concurrent reader caches the still-committed value before the writer commits
+        cache.get(1L, () -> "old");
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(cache.get(1L, () -> "new")).isEqualTo("new");
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.get(2L, () -> "uncommitted");
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(cache.get(2L, () -> "committed")).isEqualTo("committed");
+    }
+
+    private static void complete(int status) {
+        for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                sync.afterCommit();
+            }
+            sync.afterCompletion(status);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
@@ -0,0 +1,130 @@
+package com.nextstep.rentacar.service.impl;
+
+import com.nextstep.rentacar.config.BookingProperties;
+import com.nextstep.rentacar.domain.entity.Branch;
+import com.nextstep.rentacar.domain.entity.Car;
+import com.nextstep.rentacar.domain.entity.Customer;
+import com.nextstep.rentacar.domain.entity.Reservation;
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.dto.request.ReservationRequestDto;
+import com.nextstep.rentacar.mapper.ReservationMapper;
+import com.nextstep.rentacar.repository.BranchRepository;
+import com.nextstep.rentacar.repository.CarRepository;
+import com.nextstep.rentacar.repository.CustomerRepository;
+import com.nextstep.rentacar.repository.ReservationRepository;
+import com.nextstep.rentacar.service.ReservationHoldService;
+import com.nextstep.rentacar.service.assignment.CategoryCapacity;
+import com.nextstep.rentacar.service.availability.ReservationAvailabilityIndex;
+import com.nextstep.rentacar.service.booking.BookingCoordinator;
+import com.nextstep.rentacar.service.outbox.OutboxWriter;
+import com.nextstep.rentacar.service.pricing.PricingEngine;
+import com.nextstep.rentacar.web.exception.GlobalExceptionHandler;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * How constraint violations raised by the insert itself are reported; the repositories and collaborators are mocks.
+ */
+class ReservationServiceImplTest {
+
+    private static final LocalDate START = LocalDate.now().plusDays(10);
+    private static final LocalDate END = START.plusDays(3);
+
+    private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+    private final BookingProperties bookingProperties = new BookingProperties();
+    private ReservationServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        CustomerRepository customerRepository = mock(CustomerRepository.class);
+        CarRepository carRepository = mock(CarRepository.class);
+        BranchRepository branchRepository = mock(BranchRepository.class);
+        ReservationMapper reservationMapper = mock(ReservationMapper.class);
+        BookingCoordinator bookingCoordinator = mock(BookingCoordinator.class);
+        PricingEngine pricingEngine = mock(PricingEngine.class);
+
+        Branch branch = new Branch();
+        branch.setId(3L);
+        Car car = new Car();
+        car.setId(2L);
+        car.setBranch(branch);
+        car.setCategory(CarCategory.COMPACT);
+        car.setDailyPrice(new BigDecimal("40.00"));
+        Customer customer = new Customer();
+        customer.setId(1L);
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        when(carRepository.findById(2L)).thenReturn(Optional.of(car));
+        when(branchRepository.findById(3L)).thenReturn(Optional.of(branch));
+        when(reservationMapper.toEntity(any(ReservationRequestDto.class))).thenAnswer(invocation -> new Reservation());
+        when(pricingEngine.quote(any(), any(), any(), any(), any())).thenReturn(new BigDecimal("120.00"));
+        when(pricingEngine.currency()).thenReturn("USD");
+        when(bookingCoordinator.withCarLock(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        // The constraint is the only overlap check, so the insert is what fails
+        bookingProperties.setDatabaseExclusion(true);
+
+        service = new ReservationServiceImpl(reservationRepository, customerRepository, carRepository,
+                branchRepository, reservationMapper, mock(ReservationAvailabilityIndex.class), bookingCoordinator,
+                bookingProperties, mock(ReservationHoldService.class), pricingEngine, mock(OutboxWriter.class),
+                mock(CategoryCapacity.class));
+    }
+
+    @Test
+    @DisplayName("An exclusion violation (SQLSTATE 23P01) on insert is a conflict answered with 409")
+    void exclusionViolationIsConflict() {
+        SQLException sql = new SQLException("conflicting key value violates exclusion constraint", "23P01");
+        when(reservationRepository.saveAndFlush(any(Reservation.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", sql));
+
+        IllegalStateException ex = catchThrowableOfType(IllegalStateException.class, () -> service.create(request()));
+        assertThat(ex).hasMessageContaining("not available").hasRootCause(sql);
+
+        ResponseEntity<ProblemDetail> response = new GlobalExceptionHandler()
+                .handleConflict(ex, new MockHttpServletRequest("POST", "/api/reservations"));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    @DisplayName("A violation of a per-partition overlap constraint is recognised by name")
+    void partitionConstraintIsConflict() {
+        ConstraintViolationException cve = new ConstraintViolationException("exclusion violation",
+                new SQLException("violation"), "reservations_p203001_no_overlap");
+        when(reservationRepository.saveAndFlush(any(Reservation.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", cve));
+
+        assertThatThrownBy(() -> service.create(request()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not available");
+    }
+
+    @Test
+    @DisplayName("Other integrity violations are not reported as overlaps")
+    void otherViolationsPropagate() {
+        DataIntegrityViolationException fk = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("insert violates foreign key constraint", "23503"));
+        when(reservationRepository.saveAndFlush(any(Reservation.class))).thenThrow(fk);
+
+        assertThatThrownBy(() -> service.create(request())).isSameAs(fk);
+    }
+
+    private static ReservationRequestDto request() {
+        return new ReservationRequestDto(1L, 2L, START, END, 3L, 3L, "Unit");
+    }
+}
@@ -0,0 +1,126 @@
+package com.nextstep.rentacar.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nextstep.rentacar.config.OutboxProperties;
+import com.nextstep.rentacar.domain.entity.OutboxEvent;
+import com.nextstep.rentacar.domain.enums.OutboxEventType;
+import com.nextstep.rentacar.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private final OutboxEventRepository repository = mock(OutboxEventRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final OutboxListener healthy = mock(OutboxListener.class);
+    private final OutboxListener failing = mock(OutboxListener.class);
+
+    private final Map<String, Set<Long>> deliveries = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(healthy.name()).thenReturn("healthy");
+        when(failing.name()).thenReturn("failing");
+        // Delivery state as the database would keep it
+        when(repository.findDeliveredEventIds(anyString(), anyCollection())).thenAnswer(invocation -> List.copyOf(
+                deliveries.getOrDefault(invocation.<String>getArgument(0), Set.of())));
+        doAnswer(invocation -> deliveries.computeIfAbsent(invocation.getArgument(0), name -> new HashSet<>())
+                .addAll(invocation.getArgument(1)))
+                .when(repository).insertDeliveries(anyString(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("A failing listener gets the batch again on the next run; the healthy one does not see it twice")
+    void failingListenerDoesNotRedeliverToOthers() {
+        when(repository.findByPublishedAtIsNullAndParkedAtIsNullOrderByIdAsc(any(Limit.class)))
+                .thenReturn(List.of(event(1L), event(2L)));
+        doThrow(new IllegalStateException("projection down")).when(failing).onEvents(anyList());
+        OutboxRelay relay = relay(List.of(healthy, failing));
+
+        assertThat(relay.drain()).isZero();
+        assertThat(relay.drain()).isZero();
+
+        verify(healthy, times(1)).onEvents(anyList());
+        verify(repository, never()).markPublished(anyCollection(), any());
+        verify(repository, times(2)).recordFailure(eq(1L), contains("projection down"), eq(10), any());
+        verify(repository, never()).recordFailure(eq(2L), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("A failed batch is retried event by event, so the events before the failing one are published")
+    void failedBatchIsolatesFailingEvent() {
+        when(repository.findByPublishedAtIsNullAndParkedAtIsNullOrderByIdAsc(any(Limit.class)))
+                .thenReturn(List.of(event(1L), event(2L), event(3L)));
+        doAnswer(invocation -> {
+            List<OutboxMessage> events = invocation.getArgument(0);
+            if (events.stream().anyMatch(event -> event.id() == 2L)) {
+                throw new IllegalStateException("poison");
+            }
+            return null;
+        }).when(failing).onEvents(anyList());
+
+        assertThat(relay(List.of(healthy, failing)).drain()).isEqualTo(1);
+
+        verify(repository).markPublished(eq(List.of(1L)), any());
+        verify(repository).recordFailure(eq(2L), contains("poison"), eq(10), any());
+        assertThat(deliveries.get("failing")).containsExactly(1L);
+        assertThat(deliveries.get("healthy")).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("An unreadable payload is parked instead of blocking the outbox")
+    void corruptPayloadIsParked() {
+        OutboxEvent corrupt = event(1L);
+        corrupt.setPayload("{not json");
+        when(repository.findByPublishedAtIsNullAndParkedAtIsNullOrderByIdAsc(any(Limit.class)))
+                .thenReturn(List.of(corrupt, event(2L)));
+
+        assertThat(relay(List.of(healthy)).drain()).isEqualTo(1);
+
+        verify(repository).park(eq(1L), any(), any());
+        verify(repository).markPublished(eq(List.of(2L)), any());
+    }
+
+    @Test
+    @DisplayName("Replay skips a failing projection and still feeds the others")
+    void replayCarriesOnPastFailingListener() {
+        when(repository.findByPublishedAtIsNotNullAndIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(event(1L)));
+        when(healthy.replayable()).thenReturn(true);
+        when(failing.replayable()).thenReturn(true);
+        doThrow(new IllegalStateException("projection down")).when(failing).onEvents(anyList());
+        assertThat(relay(List.of(failing, healthy)).replay()).isEqualTo(1);
+        verify(healthy).onEvents(anyList());
+    }
+
+    private OutboxRelay relay(List<OutboxListener> listeners) {
+        return new OutboxRelay(repository, listeners, new ObjectMapper(), new OutboxProperties(), transactionManager,
+                new SimpleMeterRegistry());
+    }
+
+    private static OutboxEvent event(long id) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(id);
+        event.setAggregateType("Reservation");
+        event.setAggregateId(id);
+        event.setEventType(OutboxEventType.RESERVATION_CREATED);
+        event.setPayload("{}");
+        return event;
+    }
+}
@@ -0,0 +1,60 @@
+package com.nextstep.rentacar.service.partitioning;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PartitionPlanTest {
+
+    private static final LocalDate BASE = LocalDate.of(2030, 6, 15);
+    private static final YearMonth CURRENT = YearMonth.from(BASE);
+
+    @Test
+    @DisplayName("Missing months from the current one through the look-ahead are created")
+    void createsMissingMonthsAhead() {
+        PartitionPlan plan = PartitionPlan.of(PartitionedTable.RESERVATIONS,
+                List.of(CURRENT.minusMonths(1), CURRENT, CURRENT.plusMonths(2)), CURRENT, 3, CURRENT.minusMonths(12));
+
+        assertThat(plan.create()).containsExactly(CURRENT.plusMonths(1), CURRENT.plusMonths(3));
+        assertThat(plan.archive()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Attached months before the retention window are archived oldest first")
+    void archivesExpiredMonths() {
+        YearMonth keepFrom = CURRENT.minusMonths(2);
+        PartitionPlan plan = PartitionPlan.of(PartitionedTable.PAYMENTS,
+                List.of(CURRENT, CURRENT.minusMonths(2), CURRENT.minusMonths(5), CURRENT.minusMonths(3)), CURRENT, 0,
+                keepFrom);
+
+        assertThat(plan.create()).isEmpty();
+        assertThat(plan.archive()).containsExactly(CURRENT.minusMonths(5), CURRENT.minusMonths(3));
+    }
+
+    @Test
+    @DisplayName("Reservation months that can still hold a running rental are kept whatever the retention")
+    void keepsMonthsWithActiveRentals() {
+        assertThat(PartitionPlan.keepFrom(PartitionedTable.PAYMENTS, BASE, 1)).isEqualTo(YearMonth.of(2030, 5));
+        // 90 days before June 15 is March 17
+        assertThat(PartitionPlan.keepFrom(PartitionedTable.RESERVATIONS, BASE, 1)).isEqualTo(YearMonth.of(2030, 3));
+        assertThat(PartitionPlan.keepFrom(PartitionedTable.RESERVATIONS, BASE, 24)).isEqualTo(YearMonth.of(2028, 6));
+        assertThatThrownBy(() -> PartitionPlan.keepFrom(PartitionedTable.PAYMENTS, BASE, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Partition names round-trip to their month and bounds match the key type")
+    void namesAndBounds() {
+        assertThat(PartitionedTable.RESERVATIONS.partitionName(CURRENT)).isEqualTo("reservations_p203006");
+        assertThat(PartitionedTable.RESERVATIONS.monthOf("reservations_p203006")).contains(CURRENT);
+        assertThat(PartitionedTable.RESERVATIONS.monthOf("reservations_default")).isEmpty();
+        assertThat(PartitionedTable.RESERVATIONS.monthOf("payments_p203006")).isEmpty();
+        assertThat(PartitionedTable.RESERVATIONS.lowerBound(CURRENT)).isEqualTo("'2030-06-01'");
+        assertThat(PartitionedTable.PAYMENTS.lowerBound(CURRENT.plusMonths(7))).isEqualTo("'2031-01-01 00:00:00+00'");
+    }
+}
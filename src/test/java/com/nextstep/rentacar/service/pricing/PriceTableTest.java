@@ -0,0 +1,77 @@
+package com.nextstep.rentacar.service.pricing;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PriceTableTest {
+
+    private static final long DAILY = 10_000; // 100.00
+    private static final long BRANCH = 7L;
+
+    private static RateRule rule(long id, Long branchId, CarCategory category, String seasonStart, String seasonEnd,
+                                 int minDays, Integer maxDays, int rateBps) {
+        return new RateRule(id, branchId, category,
+                seasonStart != null ? MonthDay.parse("--" + seasonStart) : null,
+                seasonEnd != null ? MonthDay.parse("--" + seasonEnd) : null,
+                minDays, maxDays, rateBps, 0);
+    }
+
+    @Test
+    @DisplayName("Without plans a rental costs the daily price times the number of days")
+    void flatTableChargesBasePrice() {
+        assertThat(PriceTable.FLAT.totalMinor(9_950, null, CarCategory.LUXURY, LocalDate.of(2030, 3, 1), 5))
+                .isEqualTo(49_750);
+    }
+
+    @Test
+    @DisplayName("Seasons wrapping the year end apply only to the days inside them")
+    void seasonalRateAppliesPerDay() {
+        PriceTable table = PriceTable.compile(List.of(rule(1, null, null, "12-30", "01-02", 1, null, 15_000)));
+
+        // Dec 28..Jan 3 (6 days): Dec 30, Dec 31, Jan 1, Jan 2 are in season
+        long total = table.totalMinor(DAILY, null, CarCategory.ECONOMY, LocalDate.of(2030, 12, 28), 6);
+        assertThat(total).isEqualTo(2 * DAILY + 4 * 15_000);
+    }
+
+    @Test
+    @DisplayName("Length tiers select the rate by rental duration")
+    void lengthTierDiscount() {
+        PriceTable table = PriceTable.compile(List.of(rule(1, null, null, null, null, 7, null, 8_000)));
+
+        assertThat(table.totalMinor(DAILY, null, CarCategory.SUV, LocalDate.of(2030, 5, 1), 6)).isEqualTo(6 * DAILY);
+        assertThat(table.totalMinor(DAILY, null, CarCategory.SUV, LocalDate.of(2030, 5, 1), 30)).isEqualTo(30 * 8_000);
+    }
+
+    @Test
+    @DisplayName("Branch and category plans override broader ones; other branches keep the general rate")
+    void specificPlansWin() {
+        PriceTable table = PriceTable.compile(List.of(
+                rule(1, null, null, null, null, 1, null, 11_000),
+                rule(2, null, CarCategory.VAN, null, null, 1, null, 12_000),
+                rule(3, BRANCH, CarCategory.VAN, null, null, 1, null, 9_000)));
+        LocalDate start = LocalDate.of(2030, 8, 10);
+
+        assertThat(table.totalMinor(DAILY, BRANCH, CarCategory.VAN, start, 1)).isEqualTo(9_000);
+        assertThat(table.totalMinor(DAILY, BRANCH, CarCategory.ECONOMY, start, 1)).isEqualTo(11_000);
+        assertThat(table.totalMinor(DAILY, 99L, CarCategory.VAN, start, 1)).isEqualTo(12_000);
+        assertThat(table.totalMinor(DAILY, null, CarCategory.COMPACT, start, 1)).isEqualTo(11_000);
+    }
+
+    @Test
+    @DisplayName("Leap days and non-leap years are walked correctly")
+    void walksCalendarAcrossFebruary() {
+        PriceTable table = PriceTable.compile(List.of(rule(1, null, null, "03-01", "03-01", 1, null, 20_000)));
+
+        assertThat(table.totalMinor(DAILY, null, CarCategory.ECONOMY, LocalDate.of(2031, 2, 27), 3))
+                .isEqualTo(2 * DAILY + 20_000);
+        assertThat(table.totalMinor(DAILY, null, CarCategory.ECONOMY, LocalDate.of(2032, 2, 27), 3))
+                .isEqualTo(3 * DAILY);
+    }
+}
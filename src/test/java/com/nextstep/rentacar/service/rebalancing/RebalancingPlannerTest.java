@@ -0,0 +1,132 @@
+package com.nextstep.rentacar.service.rebalancing;
+
+import com.nextstep.rentacar.domain.enums.CarCategory;
+import com.nextstep.rentacar.service.rebalancing.RebalancingPlanner.Plan;
+import com.nextstep.rentacar.service.rebalancing.RebalancingPlanner.Transfer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RebalancingPlannerTest {
+
+    private static final LocalDate BASE = LocalDate.of(2030, 1, 1);
+    private static final int DAYS = 7;
+    private static final Long BERLIN = 10L;
+    private static final Long POTSDAM = 20L;
+    private static final Long MUNICH = 30L;
+    private static final List<Long> BRANCHES = List.of(BERLIN, POTSDAM, MUNICH);
+    private static final Double[] LATITUDE = {52.5200, 52.3906, 48.1351};
+    private static final Double[] LONGITUDE = {13.4050, 13.0645, 11.5820};
+
+    private static final List<FleetCount> FLEET = List.of(
+            new FleetCount(BERLIN, CarCategory.COMPACT, 2),
+            new FleetCount(MUNICH, CarCategory.COMPACT, 3));
+
+    private static ReservationFlow flow(Long from, Long to, int startDay, int endDay) {
+        return new ReservationFlow(from, to, CarCategory.COMPACT, BASE.plusDays(startDay), BASE.plusDays(endDay));
+    }
+
+    @Test
+    @DisplayName("Pickups drain a branch from their start date and drop-offs fill one from the day after the end date")
+    void projectsOneWayFlows() {
+        List<ReservationFlow> flows = List.of(
+                flow(BERLIN, POTSDAM, 0, 2),
+                flow(POTSDAM, BERLIN, 1, 2),
+                // Started before the window: the car is already gone
+                flow(MUNICH, MUNICH, -3, 1),
+                flow(MUNICH, MUNICH, 10, 12));
+
+        FleetProjection projection = FleetProjection.build(BASE, DAYS, BRANCHES, FLEET, flows);
+
+        assertThat(projection.series(0, CarCategory.COMPACT)).containsExactly(1, 1, 1, 2, 2, 2, 2);
+        assertThat(projection.series(1, CarCategory.COMPACT)).containsExactly(0, -1, -1, 0, 0, 0, 0);
+        assertThat(projection.series(2, CarCategory.COMPACT)).containsExactly(2, 2, 3, 3, 3, 3, 3);
+        assertThat(projection.firstDayBelow(1, CarCategory.COMPACT, 0)).isEqualTo(1);
+        assertThat(projection.isUsed(1, CarCategory.SUV)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Shortages are covered from the nearest branches with cars to spare")
+    void coversShortagesAtMinimumDistance() {
+        List<ReservationFlow> flows = List.of(
+                flow(BERLIN, POTSDAM, 0, 2),
+                flow(POTSDAM, BERLIN, 1, 2),
+                flow(POTSDAM, POTSDAM, 1, 2));
+        FleetProjection projection = FleetProjection.build(BASE, DAYS, BRANCHES, FLEET, flows);
+
+        Plan plan = RebalancingPlanner.plan(projection, LATITUDE, LONGITUDE, 0, 1000);
+
+        assertThat(plan.shortages()).isEmpty();
+        assertThat(plan.transfers()).hasSize(2).allSatisfy(transfer -> {
+            assertThat(transfer.toBranch()).isEqualTo(1);
+            assertThat(transfer.cars()).isEqualTo(1);
+            assertThat(transfer.neededByDay()).isEqualTo(1);
+        });
+        assertThat(plan.transfers()).extracting(Transfer::fromBranch).containsExactlyInAnyOrder(0, 2);
+        Transfer nearest = plan.transfers().stream().filter(t -> t.fromBranch() == 0).findFirst().orElseThrow();
+        assertThat(nearest.distanceKm()).isBetween(20.0, 35.0);
+    }
+
+    @Test
+    @DisplayName("The cheaper supplier wins when one is enough, and out-of-range demand is reported as a shortage")
+    void prefersCheapestSupplierAndReportsUncoveredDemand() {
+        List<ReservationFlow> flows = List.of(flow(POTSDAM, BERLIN, 1, 2));
+        FleetProjection projection = FleetProjection.build(BASE, DAYS, BRANCHES, FLEET, flows);
+
+        Plan plan = RebalancingPlanner.plan(projection, LATITUDE, LONGITUDE, 0, 1000);
+        assertThat(plan.transfers()).singleElement().satisfies(transfer -> {
+            assertThat(transfer.fromBranch()).isEqualTo(0);
+            assertThat(transfer.toBranch()).isEqualTo(1);
+        });
+
+        Plan nearbyOnly = RebalancingPlanner.plan(projection, LATITUDE, LONGITUDE, 0, 10);
+        assertThat(nearbyOnly.transfers()).isEmpty();
+        assertThat(nearbyOnly.shortages()).singleElement().satisfies(shortage -> {
+            assertThat(shortage.branch()).isEqualTo(1);
+            assertThat(shortage.missingCars()).isEqualTo(1);
+            assertThat(shortage.firstShortageDay()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("Tens of thousands of reservations are projected and planned quickly")
+    void handlesLargeVolumes() {
+        int branchCount = 200;
+        List<Long> branches = new ArrayList<>(branchCount);
+        Double[] latitude = new Double[branchCount];
+        Double[] longitude = new Double[branchCount];
+        List<FleetCount> fleet = new ArrayList<>();
+        for (int i = 0; i < branchCount; i++) {
+            branches.add((long) i + 1);
+            latitude[i] = 45.0 + (i % 20) * 0.25;
+            longitude[i] = 5.0 + (i / 20) * 0.25;
+            for (CarCategory category : CarCategory.values()) {
+                fleet.add(new FleetCount((long) i + 1, category, 20));
+            }
+        }
+        List<ReservationFlow> flows = new ArrayList<>();
+        CarCategory[] categories = CarCategory.values();
+        for (int i = 0; i < 50_000; i++) {
+            long pickup = (i * 7919L) % branchCount + 1;
+            // Traffic drifts towards the low-numbered branches
+            long dropoff = (i * 104729L) % (branchCount / 2) + 1;
+            int start = i % 28;
+            flows.add(new ReservationFlow(pickup, dropoff, categories[i % categories.length],
+                    BASE.plusDays(start), BASE.plusDays(start + 2 + i % 5)));
+        }
+
+        long started = System.nanoTime();
+        FleetProjection projection = FleetProjection.build(BASE, 30, branches, fleet, flows);
+        Plan plan = RebalancingPlanner.plan(projection, latitude, longitude, 2, 500);
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        assertThat(plan.transfers()).isNotEmpty();
+        assertThat(plan.transfers()).allSatisfy(transfer -> assertThat(transfer.fromBranch()).isNotEqualTo(transfer.toBranch()));
+        assertThat(elapsedMs).isLessThan(5_000);
+    }
+}
@@ -0,0 +1,58 @@
+package com.nextstep.rentacar.service.search;
+
+import com.nextstep.rentacar.config.SearchCacheProperties;
+import com.nextstep.rentacar.service.availability.FleetAvailabilityEngine;
+import com.nextstep.rentacar.service.availability.FleetChangeListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AvailabilitySearchCacheTest {
+
+    private static final LocalDate BASE = LocalDate.of(2030, 1, 1);
+    private static final SearchKey KEY = SearchKey.of(1L, BASE, BASE.plusDays(3), null, null, null, null, null);
+
+    private AvailabilitySearchCache cache;
+    private FleetChangeListener engineListener;
+
+    @BeforeEach
+    void setUp() {
+        FleetAvailabilityEngine engine = mock(FleetAvailabilityEngine.class);
+        cache = new AvailabilitySearchCache(new SearchCacheProperties(), engine, new SimpleMeterRegistry());
+        ArgumentCaptor<FleetChangeListener> listener = ArgumentCaptor.forClass(FleetChangeListener.class);
+        verify(engine).addListener(listener.capture());
+        engineListener = listener.getValue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("A search cached between a change and its commit is dropped once the change commits")
+    void invalidatesAgainAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        engineListener.availabilityChanged(1L, BASE.plusDays(1), BASE.plusDays(2));
+
+        // Reads the rows the booking has not committed yet
+        assertThat(cache.availableCarIds(KEY, () -> List.of(7L))).containsExactly(7L);
+        assertThat(cache.availableCarIds(KEY, () -> List.of())).containsExactly(7L);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.availableCarIds(KEY, () -> List.of())).isEmpty();
+    }
+}
@@ -0,0 +1,115 @@
+package com.nextstep.rentacar.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CoalescingCacheTest {
+
+    private static final LocalDate BASE = LocalDate.of(2030, 1, 1);
+
+    private final CoalescingCache<String> cache = new CoalescingCache<>(100, Duration.ofMinutes(1));
+
+    private static SearchKey key(long branchId, int fromDay, int toDay) {
+        return SearchKey.of(branchId, BASE.plusDays(fromDay), BASE.plusDays(toDay), null, null, null, null, null);
+    }
+
+    @Test
+    @DisplayName("Concurrent identical misses share a single computation")
+    void coalescesConcurrentMisses() throws Exception {
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> cache.get(key(1, 0, 3), () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "result";
+                })));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (cache.coalescedCount() < callers - 1 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("result");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(cache.coalescedCount()).isEqualTo(callers - 1);
+        assertThat(cache.get(key(1, 0, 3), () -> "recomputed")).isEqualTo("result");
+    }
+
+    @Test
+    @DisplayName("Equivalent filters normalize to the same key")
+    void normalizesKeys() {
+        SearchKey plain = SearchKey.of(1L, BASE, BASE.plusDays(1), null, null, null, null, new BigDecimal("50"));
+        SearchKey scaled = SearchKey.of(1L, BASE, BASE.plusDays(1), null, null, null, 0, new BigDecimal("50.00"));
+
+        assertThat(scaled).isEqualTo(plain);
+    }
+
+    @Test
+    @DisplayName("Invalidation only drops entries of the changed branch whose dates overlap")
+    void invalidatesByBranchAndDates() {
+        cache.get(key(1, 0, 3), () -> "b1-early");
+        cache.get(key(1, 10, 12), () -> "b1-late");
+        cache.get(key(2, 0, 3), () -> "b2-early");
+
+        cache.invalidate(1L, BASE.plusDays(3), BASE.plusDays(5));
+
+        assertThat(cache.get(key(1, 0, 3), () -> "reloaded")).isEqualTo("reloaded");
+        assertThat(cache.get(key(1, 10, 12), () -> "reloaded")).isEqualTo("b1-late");
+        assertThat(cache.get(key(2, 0, 3), () -> "reloaded")).isEqualTo("b2-early");
+    }
+
+    @Test
+    @DisplayName("A load overtaken by an invalidation is returned but not cached")
+    void discardsLoadsOvertakenByInvalidation() {
+        String stale = cache.get(key(1, 0, 3), () -> {
+            cache.invalidate(1L, null, null);
+            return "stale";
+        });
+
+        assertThat(stale).isEqualTo("stale");
+        assertThat(cache.get(key(1, 0, 3), () -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("Null results and failures are not cached")
+    void doesNotCacheNullsOrFailures() {
+        assertThat(cache.get(key(1, 0, 3), () -> null)).isNull();
+        assertThatThrownBy(() -> cache.get(key(1, 0, 3), () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get(key(1, 0, 3), () -> "value")).isEqualTo("value");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.nextstep.rentacar.service.support;
+
+import com.nextstep.rentacar.config.RetryConfig;
+import com.nextstep.rentacar.web.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OptimisticLockRetryInterceptorTest {
+
+    @Test
+    @DisplayName("Retries after an optimistic lock failure and returns the result of the next attempt")
+    void retriesOnce() {
+        Updater updater = proxy(new Updater(1));
+
+        assertThat(updater.update()).isEqualTo("updated");
+        assertThat(updater.attempts()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Gives up after maxAttempts (3) and the failure is answered with 409")
+    void givesUpAfterThreeAttempts() {
+        Updater updater = proxy(new Updater(Integer.MAX_VALUE));
+
+        OptimisticLockingFailureException ex = catchThrowableOfType(OptimisticLockingFailureException.class,
+                updater::update);
+        assertThat(updater.attempts()).isEqualTo(3);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/reservations/1");
+        ResponseEntity<ProblemDetail> response = new GlobalExceptionHandler().handleOptimisticLock(ex, request);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().getProperties()).containsEntry("path", "/api/reservations/1");
+    }
+
+    @Test
+    @DisplayName("Does not retry a call that joins an already active transaction")
+    void noRetryInsideActiveTransaction() {
+        Updater updater = proxy(new Updater(1));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThatThrownBy(updater::update).isInstanceOf(OptimisticLockingFailureException.class);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        assertThat(updater.attempts()).isEqualTo(1);
+    }
+
+    private static Updater proxy(Updater target) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(RetryConfig.optimisticLockRetryAdvisor());
+        return (Updater) factory.getProxy();
+    }
+
+    /**
+     * Fails with an optimistic lock conflict on its first {@code failures} calls.
+     */
+    static class Updater {
+
+        private final int failures;
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        Updater(int failures) {
+            this.failures = failures;
+        }
+
+        @RetryOnOptimisticLock(backoffMillis = 1)
+        public String update() {
+            if (attempts.incrementAndGet() <= failures) {
+                throw new OptimisticLockingFailureException("Row was updated by another transaction");
+            }
+            return "updated";
+        }
+
+        public int attempts() {
+            return attempts.get();
+        }
+    }
+}
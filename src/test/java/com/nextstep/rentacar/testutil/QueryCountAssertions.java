@@ -0,0 +1,31 @@
+package com.nextstep.rentacar.testutil;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fails a test when an action issues more SELECT statements than its fetch plan allows, which is how
+ * N+1 regressions show up. Requires {@link SqlCapture} to be registered as the Hibernate statement inspector.
+ */
+public final class QueryCountAssertions {
+
+    public static final String INSPECTOR_PROPERTY =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.nextstep.rentacar.testutil.SqlCapture";
+
+    private QueryCountAssertions() {
+    }
+
+    public static <T> T assertMaxSelects(int maxSelects, Supplier<T> action) {
+        SqlCapture.clear();
+        T result = action.get();
+        List<String> selects = SqlCapture.statements().stream()
+                .filter(sql -> sql.stripLeading().toLowerCase().startsWith("select"))
+                .toList();
+        assertThat(selects)
+                .as("SELECT statements issued (expected at most %d):%n%s", maxSelects, String.join("\n", selects))
+                .hasSizeLessThanOrEqualTo(maxSelects);
+        return result;
+    }
+}
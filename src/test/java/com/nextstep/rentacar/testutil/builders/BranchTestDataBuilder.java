@@ -16,6 +16,8 @@ public class BranchTestDataBuilder {
     private String email = "branch" + System.currentTimeMillis() % 10000 + "@test.com";
     private String operatingHours = "Mon-Fri 9:00-18:00";
     private Boolean active = true;
+    private Double latitude;
+    private Double longitude;
     
     private BranchTestDataBuilder() {
     }
@@ -96,6 +98,12 @@ public class BranchTestDataBuilder {
         return this;
     }
     
+    public BranchTestDataBuilder at(double latitude, double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        return this;
+    }
+    
     public BranchRequestDto build() {
         return new BranchRequestDto(
             name,
@@ -105,7 +113,9 @@ public class BranchTestDataBuilder {
             phoneNumber,
             email,
             operatingHours,
-            active
+            active,
+            latitude,
+            longitude
         );
     }
 }
@@ -5,6 +5,7 @@ import com.nextstep.rentacar.config.security.JwtAuthenticationFilter;
 import com.nextstep.rentacar.service.auth.JwtService;
 import com.nextstep.rentacar.dto.request.BranchRequestDto;
 import com.nextstep.rentacar.dto.response.BranchResponseDto;
+import com.nextstep.rentacar.service.AvailabilityCalendarService;
 import com.nextstep.rentacar.service.BranchService;
 import com.nextstep.rentacar.service.auth.CustomUserDetailsService;
 import org.junit.jupiter.api.BeforeEach;
@@ -53,6 +54,9 @@ class BranchControllerSliceTest {
     @MockBean
     private BranchService branchService;
 
+    @MockBean
+    private AvailabilityCalendarService calendarService;
+
     @MockBean
     private CustomUserDetailsService userDetailsService;
 